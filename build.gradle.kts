@@ -71,7 +71,7 @@ subprojects {
   }
 
   //region PER-SUBPROJECT-TYPE CONFIGURATION
-  if (name.contains(".sample.")) {
+  if (name.contains(".sample.") || name.contains(".benchmark.")) {
     config {
       publishing.enabled = false
     }
@@ -119,12 +119,13 @@ subprojects {
     }
     //endregion
   }
-  if (name.contains(".service.collect.") || name.contains(".service.misc.")) {
+  if (name.contains(".service.collect.") || name.contains(".service.misc.") || name.contains(".service.metrics.")) {
     dependencies {
       val autoServiceVersion: String by project // https://github.com/google/auto/tree/master/service
 
       compileOnly(group = "com.google.auto.service", name = "auto-service-annotations", version = autoServiceVersion)
       annotationProcessor(group = "com.google.auto.service", name = "auto-service", version = autoServiceVersion)
+      annotationProcessor(project(":pl.tlinkowski.unij.service.processor"))
 
       implementation(project(":pl.tlinkowski.unij.service.api"))
       testImplementation(project(":pl.tlinkowski.unij.test"))
@@ -146,6 +147,7 @@ subprojects {
      * 4) TEMP dir (can be set using System properties through "java.io.tmpdir")
      */
     jvmArgsAppend = listOf("-Djmh.separateClasspathJAR=true") // https://bugs.openjdk.java.net/browse/CODETOOLS-7902106
+    profilers = listOf("gc") // reports allocation rate (bytes/op) next to the time per operation
   }
 
   //region DIRTY FIX FOR https://github.com/tlinkowski/UniJ/issues/55
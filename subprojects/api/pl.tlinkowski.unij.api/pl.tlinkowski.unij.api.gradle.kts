@@ -22,7 +22,7 @@ superpom.useLombok = true
 dependencies {
   val slf4jVersion: String by project // https://www.slf4j.org/
 
-  implementation(project(":pl.tlinkowski.unij.service.api"))
+  api(project(":pl.tlinkowski.unij.service.api")) // exposes UnmodifiableIntList etc.
   implementation(group = "org.slf4j", name = "slf4j-api", version = slf4jVersion)
 
   testImplementation(project(":pl.tlinkowski.unij.test"))
@@ -30,3 +30,53 @@ dependencies {
 
   jmhRuntimeOnly(project(":pl.tlinkowski.unij.bundle.jdk11"))
 }
+
+//region MULTI-RELEASE JAR (JDK 9+ and JDK 11+ variants of some classes; https://openjdk.java.net/jeps/238)
+listOf(9, 11).forEach { javaRelease ->
+  val versionedSourceSet = sourceSets.create("java$javaRelease") {
+    java.setSrcDirs(listOf("src/main/java$javaRelease"))
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+  }
+
+  tasks {
+    named<JavaCompile>(versionedSourceSet.compileJavaTaskName) {
+      sourceCompatibility = "$javaRelease"
+      targetCompatibility = "$javaRelease"
+      options.compilerArgs.addAll(listOf("--release", "$javaRelease"))
+    }
+
+    jar {
+      into("META-INF/versions/$javaRelease") {
+        from(versionedSourceSet.output)
+      }
+    }
+  }
+}
+
+tasks.jar {
+  manifest {
+    attributes("Multi-Release" to "true")
+  }
+}
+//endregion
+
+//region JDK 11+ TESTS (all the tests run again against the versioned classes, which take precedence on the classpath)
+val java11TestSourceSet = sourceSets.create("java11Test") {
+  compileClasspath += sourceSets["java11"].output + sourceSets.test.get().output +
+          sourceSets.test.get().compileClasspath
+  runtimeClasspath = output + sourceSets["java11"].output + sourceSets["java9"].output +
+          sourceSets.test.get().runtimeClasspath
+}
+
+val java11Test by tasks.registering(Test::class) {
+  description = "Runs the tests against the JDK 9+ and JDK 11+ variants of the classes (requires JDK 11+)."
+  group = LifecycleBasePlugin.VERIFICATION_GROUP
+  testClassesDirs = sourceSets.test.get().output.classesDirs + java11TestSourceSet.output.classesDirs
+  classpath = java11TestSourceSet.runtimeClasspath
+  shouldRunAfter(tasks.test)
+}
+
+tasks.check {
+  dependsOn(java11Test)
+}
+//endregion
@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api
+
+import jdk.jfr.Recording
+import jdk.jfr.consumer.RecordedEvent
+import jdk.jfr.consumer.RecordingFile
+import spock.lang.Specification
+
+import java.nio.file.Files
+
+/**
+ * Runs against the JDK 11+ variant of {@link UniJFlightRecorder}.
+ *
+ * @author Tomasz Linkowski
+ */
+class UniJFlightRecorderSpec extends Specification {
+
+  private static final String SERVICE_LOAD = "pl.tlinkowski.unij.ServiceLoad"
+  private static final String FACTORY_CALL = "pl.tlinkowski.unij.FactoryCall"
+
+  //region SERVICE LOAD
+  def "load() records ServiceLoad event"() {
+    given:
+      def recording = startRecording()
+    when:
+      def service = UniJLoader.load(UniJLoaderSpec.DifferentPriorityService)
+      def events = stopRecording(recording, SERVICE_LOAD)
+    then:
+      events.size() == 1
+      with(events[0]) {
+        getClass("serviceClass").name == UniJLoaderSpec.DifferentPriorityService.name
+        getInt("candidateCount") == 2
+        getClass("selectedClass").name == service.class.name
+        getInt("priority") == -10
+        !getBoolean("fromRegistry")
+      }
+  }
+
+  def "load() records ServiceLoad event for implementation selected using the registry"() {
+    given:
+      def recording = startRecording()
+    when:
+      def service = UniJLoader.load(UniJLoaderSpec.RegisteredService)
+      def events = stopRecording(recording, SERVICE_LOAD)
+    then:
+      events.size() == 1
+      with(events[0]) {
+        getClass("selectedClass").name == service.class.name
+        getInt("priority") == -10
+        getBoolean("fromRegistry")
+      }
+  }
+  //endregion
+
+  //region FACTORY CALL
+  def "factory calls are not recorded by default"() {
+    given:
+      def recording = startRecording()
+    when:
+      UniLists.of(1, 2, 3)
+      def events = stopRecording(recording, FACTORY_CALL)
+    then:
+      events.isEmpty()
+  }
+
+  def "factory calls are recorded when FactoryCall event is enabled"() {
+    given:
+      def recording = startRecording(FACTORY_CALL)
+    when:
+      UniLists.of(1, 2, 3)
+      UniSets.copyOf([1, 2])
+      def events = stopRecording(recording, FACTORY_CALL)
+    then:
+      events.size() == 2
+      with(events[0]) {
+        getString("facade") == "UniLists"
+        getString("method") == "of"
+        getInt("elementCount") == 3
+        getClass("binding").name == UniJ.listFactory().class.name
+        getInt("samplingRate") == 1 // the default
+        stackTrace != null
+      }
+      with(events[1]) {
+        getString("facade") == "UniSets"
+        getString("method") == "copyOf"
+        getInt("elementCount") == 2
+        getClass("binding").name == UniJ.setFactory().class.name
+      }
+  }
+  //endregion
+
+  //region HELPERS
+  private static Recording startRecording(String... enabledEventNames) {
+    def recording = new Recording()
+    enabledEventNames.each { recording.enable(it).withStackTrace() }
+    recording.start()
+    recording
+  }
+
+  private static List<RecordedEvent> stopRecording(Recording recording, String eventName) {
+    recording.stop()
+    def file = Files.createTempFile("unij", ".jfr")
+    try {
+      recording.dump(file)
+      RecordingFile.readAllEvents(file).findAll { it.eventType.name == eventName }.sort { it.startTime }
+    } finally {
+      recording.close()
+      Files.delete(file)
+    }
+  }
+  //endregion
+}
@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api
+
+import spock.lang.Specification
+
+import pl.tlinkowski.unij.service.api.UniJService
+
+/**
+ * Runs against the JDK 9+ variant of {@link UniJLoader} (the common cases are covered by {@link UniJLoaderSpec}).
+ *
+ * @author Tomasz Linkowski
+ */
+class UniJLoaderJdk9Spec extends Specification {
+
+  def "load() instantiates only the selected implementation even when it is not registered"() {
+    when:
+      def service = UniJLoader.load(UnregisteredService)
+    then:
+      service instanceof UnregisteredServiceImpl2
+  }
+
+  interface UnregisteredService {
+  }
+
+  @UniJService(priority = 10)
+  static class UnregisteredServiceImpl1 implements UnregisteredService {
+    UnregisteredServiceImpl1() {
+      throw new IllegalStateException("Lower-priority implementation must not be instantiated on JDK 9+")
+    }
+  }
+
+  @UniJService(priority = -10)
+  static class UnregisteredServiceImpl2 implements UnregisteredService {
+  }
+}
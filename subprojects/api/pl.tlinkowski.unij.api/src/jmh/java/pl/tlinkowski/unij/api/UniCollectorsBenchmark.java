@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares collecting using {@link UniCollectors} (with a JDK 11 binding) with direct JDK 11 API calls.
+ *
+ * @author Tomasz Linkowski
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class UniCollectorsBenchmark {
+
+  @Param({
+          "0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10",
+          "11", "12", "13", "14", "15", "16", "17", "18", "19", "20",
+          "1000", "1000000"
+  })
+  public int size;
+
+  private List<Integer> list;
+
+  @Setup
+  public void setup() {
+    list = IntStream.range(0, size).boxed().collect(Collectors.toList());
+  }
+
+  //region toUnmodifiableList()
+  @Benchmark
+  public List<?> collectorsToUnmodifiableList() {
+    return list.stream().collect(Collectors.toUnmodifiableList());
+  }
+
+  @Benchmark
+  public List<?> uniCollectorsToUnmodifiableList() {
+    return list.stream().collect(UniCollectors.toUnmodifiableList());
+  }
+  //endregion
+
+  //region toUnmodifiableSet()
+  @Benchmark
+  public Set<?> collectorsToUnmodifiableSet() {
+    return list.stream().collect(Collectors.toUnmodifiableSet());
+  }
+
+  @Benchmark
+  public Set<?> uniCollectorsToUnmodifiableSet() {
+    return list.stream().collect(UniCollectors.toUnmodifiableSet());
+  }
+  //endregion
+
+  //region toUnmodifiableMap(keyMapper,valueMapper)
+  @Benchmark
+  public Map<?, ?> collectorsToUnmodifiableMap() {
+    return list.stream().collect(Collectors.toUnmodifiableMap(Function.identity(), Function.identity()));
+  }
+
+  @Benchmark
+  public Map<?, ?> uniCollectorsToUnmodifiableMap() {
+    return list.stream().collect(UniCollectors.toUnmodifiableMap(Function.identity(), Function.identity()));
+  }
+  //endregion
+
+  //region toUnmodifiableMap(keyMapper,valueMapper,mergeFunction)
+  @Benchmark
+  public Map<?, ?> collectorsToUnmodifiableMapMerging() {
+    return list.stream().collect(
+            Collectors.toUnmodifiableMap(Function.identity(), Function.identity(), Integer::sum)
+    );
+  }
+
+  @Benchmark
+  public Map<?, ?> uniCollectorsToUnmodifiableMapMerging() {
+    return list.stream().collect(
+            UniCollectors.toUnmodifiableMap(Function.identity(), Function.identity(), Integer::sum)
+    );
+  }
+  //endregion
+}
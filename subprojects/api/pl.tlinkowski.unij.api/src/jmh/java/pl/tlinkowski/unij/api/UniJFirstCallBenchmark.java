@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the latency of the first call to each UniJ facade in a fresh JVM (i.e. including the loading of the
+ * service behind this facade).
+ * <p>
+ * Every benchmark method runs in its own forks, and every fork performs exactly one call, so the results show how
+ * much a given facade costs on startup (each facade loads only the service it needs).
+ *
+ * @author Tomasz Linkowski
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class UniJFirstCallBenchmark {
+
+  @Benchmark
+  public List<?> uniListsOf() {
+    return UniLists.of(1, 2, 3);
+  }
+
+  @Benchmark
+  public Set<?> uniSetsOf() {
+    return UniSets.of(1, 2, 3);
+  }
+
+  @Benchmark
+  public Map<?, ?> uniMapsOf() {
+    return UniMaps.of(1, 1, 2, 2, 3, 3);
+  }
+
+  @Benchmark
+  public Collector<?, ?, ?> uniCollectorsToUnmodifiableList() {
+    return UniCollectors.toUnmodifiableList();
+  }
+
+  @Benchmark
+  public Collector<?, ?, ?> uniCollectorsFlatMapping() {
+    return UniCollectors.flatMapping((Integer i) -> Stream.of(i), Collectors.toList()); // loads only the misc provider
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares creation of maps using {@link UniMaps} (with a JDK 11 binding) with direct JDK 11 API calls.
+ *
+ * @author Tomasz Linkowski
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class UniMapsBenchmark {
+
+  @Param({
+          "0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10",
+          "11", "12", "13", "14", "15", "16", "17", "18", "19", "20",
+          "1000", "1000000"
+  })
+  public int size;
+
+  private Map.Entry<Integer, Integer>[] entries;
+  private Map<Integer, Integer> map;
+
+  @SuppressWarnings("unchecked")
+  @Setup
+  public void setup() {
+    entries = IntStream.range(0, size).mapToObj(i -> Map.entry(i, i)).toArray(Map.Entry[]::new);
+    map = IntStream.range(0, size).boxed()
+            .collect(Collectors.toMap(Function.identity(), Function.identity(), (a, b) -> a, HashMap::new));
+  }
+
+  //region ofEntries
+  @Benchmark
+  public Map<?, ?> mapOfEntries() {
+    return Map.ofEntries(entries);
+  }
+
+  @Benchmark
+  public Map<?, ?> uniMapsOfEntries() {
+    return UniMaps.ofEntries(entries);
+  }
+  //endregion
+
+  //region copyOf
+  @Benchmark
+  public Map<?, ?> mapCopyOf() {
+    return Map.copyOf(map);
+  }
+
+  @Benchmark
+  public Map<?, ?> uniMapsCopyOf() {
+    return UniMaps.copyOf(map);
+  }
+  //endregion
+}
@@ -0,0 +1,166 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares creation of maps using the fixed-arity {@code UniMaps.of} methods (with a JDK 11 binding) with direct JDK 11
+ * API calls (kept apart from {@link UniMapsBenchmark}, which is parameterized by size).
+ *
+ * @author Tomasz Linkowski
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UniMapsOfBenchmark {
+
+  //region of()
+  @Benchmark
+  public Map<?, ?> mapOf() {
+    return Map.of();
+  }
+
+  @Benchmark
+  public Map<?, ?> uniMapsOf() {
+    return UniMaps.of();
+  }
+  //endregion
+
+  //region of(n=1)
+  @Benchmark
+  public Map<?, ?> mapOf1() {
+    return Map.of(1, 1);
+  }
+
+  @Benchmark
+  public Map<?, ?> uniMapsOf1() {
+    return UniMaps.of(1, 1);
+  }
+  //endregion
+
+  //region of(n=2)
+  @Benchmark
+  public Map<?, ?> mapOf2() {
+    return Map.of(1, 1, 2, 2);
+  }
+
+  @Benchmark
+  public Map<?, ?> uniMapsOf2() {
+    return UniMaps.of(1, 1, 2, 2);
+  }
+  //endregion
+
+  //region of(n=3)
+  @Benchmark
+  public Map<?, ?> mapOf3() {
+    return Map.of(1, 1, 2, 2, 3, 3);
+  }
+
+  @Benchmark
+  public Map<?, ?> uniMapsOf3() {
+    return UniMaps.of(1, 1, 2, 2, 3, 3);
+  }
+  //endregion
+
+  //region of(n=4)
+  @Benchmark
+  public Map<?, ?> mapOf4() {
+    return Map.of(1, 1, 2, 2, 3, 3, 4, 4);
+  }
+
+  @Benchmark
+  public Map<?, ?> uniMapsOf4() {
+    return UniMaps.of(1, 1, 2, 2, 3, 3, 4, 4);
+  }
+  //endregion
+
+  //region of(n=5)
+  @Benchmark
+  public Map<?, ?> mapOf5() {
+    return Map.of(1, 1, 2, 2, 3, 3, 4, 4, 5, 5);
+  }
+
+  @Benchmark
+  public Map<?, ?> uniMapsOf5() {
+    return UniMaps.of(1, 1, 2, 2, 3, 3, 4, 4, 5, 5);
+  }
+  //endregion
+
+  //region of(n=6)
+  @Benchmark
+  public Map<?, ?> mapOf6() {
+    return Map.of(1, 1, 2, 2, 3, 3, 4, 4, 5, 5, 6, 6);
+  }
+
+  @Benchmark
+  public Map<?, ?> uniMapsOf6() {
+    return UniMaps.of(1, 1, 2, 2, 3, 3, 4, 4, 5, 5, 6, 6);
+  }
+  //endregion
+
+  //region of(n=7)
+  @Benchmark
+  public Map<?, ?> mapOf7() {
+    return Map.of(1, 1, 2, 2, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7);
+  }
+
+  @Benchmark
+  public Map<?, ?> uniMapsOf7() {
+    return UniMaps.of(1, 1, 2, 2, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7);
+  }
+  //endregion
+
+  //region of(n=8)
+  @Benchmark
+  public Map<?, ?> mapOf8() {
+    return Map.of(1, 1, 2, 2, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7, 8, 8);
+  }
+
+  @Benchmark
+  public Map<?, ?> uniMapsOf8() {
+    return UniMaps.of(1, 1, 2, 2, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7, 8, 8);
+  }
+  //endregion
+
+  //region of(n=9)
+  @Benchmark
+  public Map<?, ?> mapOf9() {
+    return Map.of(1, 1, 2, 2, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7, 8, 8, 9, 9);
+  }
+
+  @Benchmark
+  public Map<?, ?> uniMapsOf9() {
+    return UniMaps.of(1, 1, 2, 2, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7, 8, 8, 9, 9);
+  }
+  //endregion
+
+  //region of(n=10)
+  @Benchmark
+  public Map<?, ?> mapOf10() {
+    return Map.of(1, 1, 2, 2, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7, 8, 8, 9, 9, 10, 10);
+  }
+
+  @Benchmark
+  public Map<?, ?> uniMapsOf10() {
+    return UniMaps.of(1, 1, 2, 2, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7, 8, 8, 9, 9, 10, 10);
+  }
+  //endregion
+}
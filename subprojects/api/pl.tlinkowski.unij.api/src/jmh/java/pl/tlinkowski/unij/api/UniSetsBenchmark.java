@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares creation of sets using {@link UniSets} (with a JDK 11 binding) with direct JDK 11 API calls.
+ *
+ * @author Tomasz Linkowski
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class UniSetsBenchmark {
+
+  @Param({
+          "0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10",
+          "11", "12", "13", "14", "15", "16", "17", "18", "19", "20",
+          "1000", "1000000"
+  })
+  public int size;
+
+  private Integer[] array;
+  private List<Integer> list;
+
+  @Setup
+  public void setup() {
+    array = IntStream.range(0, size).boxed().toArray(Integer[]::new);
+    list = Arrays.asList(array);
+  }
+
+  //region of(...)
+  @Benchmark
+  public Set<?> setOfN() {
+    return Set.of(array);
+  }
+
+  @Benchmark
+  public Set<?> uniSetsOfN() {
+    return UniSets.of(array);
+  }
+  //endregion
+
+  //region copyOf
+  @Benchmark
+  public Set<?> setCopyOf() {
+    return Set.copyOf(list);
+  }
+
+  @Benchmark
+  public Set<?> uniSetsCopyOf() {
+    return UniSets.copyOf(list);
+  }
+  //endregion
+}
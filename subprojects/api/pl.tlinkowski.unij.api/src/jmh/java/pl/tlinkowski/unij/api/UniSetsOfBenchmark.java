@@ -0,0 +1,166 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares creation of sets using the fixed-arity {@code UniSets.of} methods (with a JDK 11 binding) with direct JDK 11
+ * API calls (kept apart from {@link UniSetsBenchmark}, which is parameterized by size).
+ *
+ * @author Tomasz Linkowski
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UniSetsOfBenchmark {
+
+  //region of()
+  @Benchmark
+  public Set<?> setOf() {
+    return Set.of();
+  }
+
+  @Benchmark
+  public Set<?> uniSetsOf() {
+    return UniSets.of();
+  }
+  //endregion
+
+  //region of(n=1)
+  @Benchmark
+  public Set<?> setOf1() {
+    return Set.of(1);
+  }
+
+  @Benchmark
+  public Set<?> uniSetsOf1() {
+    return UniSets.of(1);
+  }
+  //endregion
+
+  //region of(n=2)
+  @Benchmark
+  public Set<?> setOf2() {
+    return Set.of(1, 2);
+  }
+
+  @Benchmark
+  public Set<?> uniSetsOf2() {
+    return UniSets.of(1, 2);
+  }
+  //endregion
+
+  //region of(n=3)
+  @Benchmark
+  public Set<?> setOf3() {
+    return Set.of(1, 2, 3);
+  }
+
+  @Benchmark
+  public Set<?> uniSetsOf3() {
+    return UniSets.of(1, 2, 3);
+  }
+  //endregion
+
+  //region of(n=4)
+  @Benchmark
+  public Set<?> setOf4() {
+    return Set.of(1, 2, 3, 4);
+  }
+
+  @Benchmark
+  public Set<?> uniSetsOf4() {
+    return UniSets.of(1, 2, 3, 4);
+  }
+  //endregion
+
+  //region of(n=5)
+  @Benchmark
+  public Set<?> setOf5() {
+    return Set.of(1, 2, 3, 4, 5);
+  }
+
+  @Benchmark
+  public Set<?> uniSetsOf5() {
+    return UniSets.of(1, 2, 3, 4, 5);
+  }
+  //endregion
+
+  //region of(n=6)
+  @Benchmark
+  public Set<?> setOf6() {
+    return Set.of(1, 2, 3, 4, 5, 6);
+  }
+
+  @Benchmark
+  public Set<?> uniSetsOf6() {
+    return UniSets.of(1, 2, 3, 4, 5, 6);
+  }
+  //endregion
+
+  //region of(n=7)
+  @Benchmark
+  public Set<?> setOf7() {
+    return Set.of(1, 2, 3, 4, 5, 6, 7);
+  }
+
+  @Benchmark
+  public Set<?> uniSetsOf7() {
+    return UniSets.of(1, 2, 3, 4, 5, 6, 7);
+  }
+  //endregion
+
+  //region of(n=8)
+  @Benchmark
+  public Set<?> setOf8() {
+    return Set.of(1, 2, 3, 4, 5, 6, 7, 8);
+  }
+
+  @Benchmark
+  public Set<?> uniSetsOf8() {
+    return UniSets.of(1, 2, 3, 4, 5, 6, 7, 8);
+  }
+  //endregion
+
+  //region of(n=9)
+  @Benchmark
+  public Set<?> setOf9() {
+    return Set.of(1, 2, 3, 4, 5, 6, 7, 8, 9);
+  }
+
+  @Benchmark
+  public Set<?> uniSetsOf9() {
+    return UniSets.of(1, 2, 3, 4, 5, 6, 7, 8, 9);
+  }
+  //endregion
+
+  //region of(n=10)
+  @Benchmark
+  public Set<?> setOf10() {
+    return Set.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+  }
+
+  @Benchmark
+  public Set<?> uniSetsOf10() {
+    return UniSets.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+  }
+  //endregion
+}
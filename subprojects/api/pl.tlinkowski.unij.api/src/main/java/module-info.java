@@ -17,24 +17,34 @@
  */
 import pl.tlinkowski.unij.api.*;
 import pl.tlinkowski.unij.service.api.collect.*;
+import pl.tlinkowski.unij.service.api.metrics.MetricsSink;
 import pl.tlinkowski.unij.service.api.misc.MiscellaneousApiProvider;
 
 /**
  * UniJ API for the end users.
  * <p>
  * The API consists of the following static utility classes: {@link UniLists}, {@link UniSets}, {@link UniMaps}, {@link
- * UniCollectors}.
+ * UniCollectors} (plus the primitive-specialized {@link UniIntLists}, {@link UniLongLists}, {@link UniDoubleLists}).
  *
  * @author Tomasz Linkowski
  * @uses UnmodifiableListFactory
  * @uses UnmodifiableSetFactory
  * @uses UnmodifiableMapFactory
+ * @uses UnmodifiableSortedSetFactory
+ * @uses UnmodifiableSortedMapFactory
+ * @uses UnmodifiableIntListFactory
+ * @uses UnmodifiableLongListFactory
+ * @uses UnmodifiableDoubleListFactory
+ * @uses UnmodifiableLongObjectMapFactory
+ * @uses UnmodifiableObjectIntMapFactory
+ * @uses PersistentCollectionFactory
  * @uses MiscellaneousApiProvider
+ * @uses MetricsSink
  */
 module pl.tlinkowski.unij.api {
   exports pl.tlinkowski.unij.api;
 
-  requires pl.tlinkowski.unij.service.api;
+  requires transitive pl.tlinkowski.unij.service.api; // for UnmodifiableIntList etc.
   requires org.slf4j;
 
   requires static pl.tlinkowski.annotation.basic;
@@ -43,5 +53,14 @@ module pl.tlinkowski.unij.api {
   uses UnmodifiableListFactory;
   uses UnmodifiableSetFactory;
   uses UnmodifiableMapFactory;
+  uses UnmodifiableSortedSetFactory;
+  uses UnmodifiableSortedMapFactory;
+  uses UnmodifiableIntListFactory;
+  uses UnmodifiableLongListFactory;
+  uses UnmodifiableDoubleListFactory;
+  uses UnmodifiableLongObjectMapFactory;
+  uses UnmodifiableObjectIntMapFactory;
+  uses PersistentCollectionFactory;
   uses MiscellaneousApiProvider;
+  uses MetricsSink;
 }
@@ -0,0 +1,54 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import pl.tlinkowski.unij.service.api.collect.PersistentCollectionFactory;
+
+/**
+ * {@link PersistentCollectionFactory} used when no other implementation is present at runtime (delegates to the
+ * highest-priority list, set and map factories).
+ *
+ * @author Tomasz Linkowski
+ */
+enum DelegatingPersistentCollectionFactory implements PersistentCollectionFactory {
+  INSTANCE;
+
+  @Override
+  public <E> List<E> with(List<? extends E> list, E element) {
+    return UniJ.listFactory().with(list, element);
+  }
+
+  @Override
+  public <E> Set<E> with(Set<? extends E> set, E element) {
+    return UniJ.setFactory().with(set, element);
+  }
+
+  @Override
+  public <K, V> Map<K, V> with(Map<? extends K, ? extends V> map, K key, V value) {
+    return UniJ.mapFactory().with(map, key, value);
+  }
+
+  @Override
+  public <K, V> Map<K, V> without(Map<? extends K, ? extends V> map, Object key) {
+    return UniJ.mapFactory().without(map, key);
+  }
+}
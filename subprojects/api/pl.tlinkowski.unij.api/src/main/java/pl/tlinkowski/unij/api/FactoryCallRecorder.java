@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import lombok.experimental.UtilityClass;
+
+import pl.tlinkowski.unij.service.api.metrics.MetricsSink;
+
+/**
+ * Records the calls to the factory methods of UniJ facades (used internally by the facades) both as JFR events (see
+ * {@link UniJFlightRecorder}) and as metrics (see {@link MetricsSink}).
+ *
+ * @author Tomasz Linkowski
+ */
+@UtilityClass
+final class FactoryCallRecorder {
+
+  static void record(String facade, String method, Object service) {
+    record(facade, method, MetricsSink.UNKNOWN_ELEMENT_COUNT, service);
+  }
+
+  static void record(String facade, String method, int elementCount, Object service) {
+    UniJFlightRecorder.recordFactoryCall(facade, method, elementCount, service);
+    MetricsSink metricsSink = UniJ.metricsSink();
+    if (metricsSink.isEnabled()) {
+      metricsSink.recordFactoryCall(facade, method, elementCount);
+    }
+  }
+
+  static void record(String facade, String method, Collection<?> elements, Object service) {
+    UniJFlightRecorder.recordFactoryCall(facade, method, elements, service);
+    MetricsSink metricsSink = UniJ.metricsSink();
+    if (metricsSink.isEnabled()) {
+      metricsSink.recordFactoryCall(facade, method, elements.size());
+    }
+  }
+
+  static void record(String facade, String method, Map<?, ?> map, Object service) {
+    UniJFlightRecorder.recordFactoryCall(facade, method, map, service);
+    MetricsSink metricsSink = UniJ.metricsSink();
+    if (metricsSink.isEnabled()) {
+      metricsSink.recordFactoryCall(facade, method, map.size());
+    }
+  }
+
+  /**
+   * Records a call to a collector factory method. The JFR event is recorded right away (with an unknown element count),
+   * whereas the metrics are recorded by the finisher of the returned collector (with the size of the collected result),
+   * which is wrapped only if the metrics sink is enabled.
+   */
+  static <T, A, R> Collector<T, ?, R> record(String facade, String method, Collector<T, A, R> collector,
+          ToIntFunction<? super R> sizeFunction, Object service) {
+    UniJFlightRecorder.recordFactoryCall(facade, method, MetricsSink.UNKNOWN_ELEMENT_COUNT, service);
+    MetricsSink metricsSink = UniJ.metricsSink();
+    if (!metricsSink.isEnabled()) {
+      return collector;
+    }
+    return Collectors.collectingAndThen(collector, result -> {
+      metricsSink.recordFactoryCall(facade, method, sizeFunction.applyAsInt(result));
+      return result;
+    });
+  }
+}
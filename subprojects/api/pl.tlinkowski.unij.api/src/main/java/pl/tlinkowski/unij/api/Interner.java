@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.function.UnaryOperator;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+/**
+ * Concurrent, bounded cache of canonical instances of immutable objects (used internally by the facades).
+ * <p>
+ * Holds the canonical instances weakly, so that they can be garbage-collected once they're no longer used anywhere
+ * else. Uses striped locking: every stripe is a {@link WeakHashMap} guarded by its own monitor. Once a stripe is full,
+ * it stops admitting new canonical instances (returning them uncached) until some of its entries get garbage-collected.
+ *
+ * @author Tomasz Linkowski
+ */
+final class Interner<T> {
+
+  private static final int STRIPE_COUNT = 16; // power of two
+  private static final int MAX_STRIPE_SIZE = 4096;
+
+  private final Stripe<T>[] stripes;
+
+  @SuppressWarnings("unchecked")
+  Interner() {
+    stripes = new Stripe[STRIPE_COUNT];
+    for (int i = 0; i < STRIPE_COUNT; i++) {
+      stripes[i] = new Stripe<>();
+    }
+  }
+
+  /**
+   * Returns the canonical instance equal to {@code instance} (creating it using {@code canonicalizer} if needed).
+   *
+   * @param canonicalizer returns an immutable instance equal to the given one (possibly the same instance)
+   */
+  T intern(T instance, UnaryOperator<T> canonicalizer) {
+    int hash = instance.hashCode();
+    Stripe<T> stripe = stripes[(hash ^ (hash >>> 16)) & (STRIPE_COUNT - 1)];
+    @NullOr T canonical = stripe.get(instance);
+    if (canonical != null) {
+      return canonical;
+    }
+    // canonicalizing outside the lock, so that other threads need not wait for it
+    return stripe.putIfAbsent(Objects.requireNonNull(canonicalizer.apply(instance)));
+  }
+
+  private static final class Stripe<T> {
+
+    // the values must not refer to their keys strongly (or else the keys would never be garbage-collected)
+    private final Map<T, WeakReference<T>> map = new WeakHashMap<>();
+
+    @NullOr
+    synchronized T get(T instance) {
+      @NullOr WeakReference<T> ref = map.get(instance);
+      return ref != null ? ref.get() : null;
+    }
+
+    synchronized T putIfAbsent(T canonical) {
+      @NullOr T existing = get(canonical);
+      if (existing != null) {
+        return existing;
+      }
+      if (map.size() < MAX_STRIPE_SIZE) {
+        map.put(canonical, new WeakReference<>(canonical));
+      }
+      return canonical;
+    }
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api;
+
+/**
+ * Recording of a single UniJ service load, started by {@link UniJFlightRecorder#beginServiceLoad(Class)}.
+ *
+ * @author Tomasz Linkowski
+ */
+@FunctionalInterface
+interface ServiceLoadRecording {
+
+  ServiceLoadRecording NONE = (candidateCount, service, priority, fromRegistry) -> {
+  };
+
+  /**
+   * Ends this recording once the given service implementation has been selected out of {@code candidateCount}
+   * implementations ({@code fromRegistry} tells if it was selected using {@link UniJServiceRegistry}).
+   */
+  void commit(int candidateCount, Object service, int priority, boolean fromRegistry);
+}
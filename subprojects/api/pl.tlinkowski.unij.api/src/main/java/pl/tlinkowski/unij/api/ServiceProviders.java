@@ -0,0 +1,50 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api;
+
+import java.io.IOException;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * Implementations of a UniJ service that {@link ServiceLoader} would find, found by {@link UniJLoader} for {@link
+ * UniJServiceRegistry} (the JDK 8 and JDK 9+ variants of {@link UniJLoader} find and instantiate them differently).
+ *
+ * @author Tomasz Linkowski
+ */
+interface ServiceProviders<S> {
+
+  /**
+   * Returns the binary names of the implementations (none of which gets instantiated).
+   */
+  Set<String> classNames();
+
+  /**
+   * Instantiates the implementation with the given binary name (one of {@link #classNames()}).
+   */
+  S instantiate(String className) throws ReflectiveOperationException;
+
+  /**
+   * Finds the {@link ServiceProviders} of a given service.
+   */
+  @FunctionalInterface
+  interface Finder {
+
+    <S> ServiceProviders<S> find(Class<S> serviceClass, ClassLoader classLoader) throws IOException;
+  }
+}
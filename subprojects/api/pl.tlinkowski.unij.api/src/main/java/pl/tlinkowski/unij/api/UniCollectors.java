@@ -23,6 +23,9 @@ import java.util.stream.*;
 
 import lombok.experimental.UtilityClass;
 
+import pl.tlinkowski.unij.service.api.collect.*;
+import pl.tlinkowski.unij.service.api.misc.MiscellaneousApiProvider;
+
 /**
  * Provides some {@link Collector} factory methods present in {@link java.util.stream.Collectors} class.
  *
@@ -37,14 +40,16 @@ public final class UniCollectors {
    * Equivalent of {@link java.util.stream.Collectors#toUnmodifiableList()}.
    */
   public static <T> Collector<T, ?, /*@ReadOnly*/ List<T>> toUnmodifiableList() {
-    return UniJ.listFactory().collector();
+    UnmodifiableListFactory factory = UniJ.listFactory();
+    return recordCollection("toUnmodifiableList", factory.collector(), factory);
   }
 
   /**
    * Equivalent of {@link java.util.stream.Collectors#toUnmodifiableSet()}.
    */
   public static <T> Collector<T, ?, /*@ReadOnly*/ Set<T>> toUnmodifiableSet() {
-    return UniJ.setFactory().collector();
+    UnmodifiableSetFactory factory = UniJ.setFactory();
+    return recordCollection("toUnmodifiableSet", factory.collector(), factory);
   }
 
   /**
@@ -52,7 +57,8 @@ public final class UniCollectors {
    */
   public static <T, K, V> Collector<T, ?, /*@ReadOnly*/ Map<K, V>> toUnmodifiableMap(
           Function<? super T, ? extends K> keyMapper, Function<? super T, ? extends V> valueMapper) {
-    return UniJ.mapFactory().collector(keyMapper, valueMapper);
+    UnmodifiableMapFactory factory = UniJ.mapFactory();
+    return recordMap("toUnmodifiableMap", factory.collector(keyMapper, valueMapper), factory);
   }
 
   /**
@@ -61,7 +67,175 @@ public final class UniCollectors {
   public static <T, K, V> Collector<T, ?, /*@ReadOnly*/ Map<K, V>> toUnmodifiableMap(
           Function<? super T, ? extends K> keyMapper, Function<? super T, ? extends V> valueMapper,
           BinaryOperator<V> mergeFunction) {
-    return UniJ.mapFactory().collector(keyMapper, valueMapper, mergeFunction);
+    UnmodifiableMapFactory factory = UniJ.mapFactory();
+    return recordMap("toUnmodifiableMap", factory.collector(keyMapper, valueMapper, mergeFunction), factory);
+  }
+  //endregion
+
+  //region CONCURRENT COLLECTIONS (performance extensions; no JDK equivalents)
+
+  /**
+   * {@link Collector.Characteristics#CONCURRENT CONCURRENT} and {@link Collector.Characteristics#UNORDERED UNORDERED}
+   * variant of {@link #toUnmodifiableMap(Function, Function)}, which accumulates into a single shared map. Intended for
+   * large parallel streams whose encounter order does not matter.
+   */
+  public static <T, K, V> Collector<T, ?, /*@ReadOnly*/ Map<K, V>> toUnmodifiableMapConcurrent(
+          Function<? super T, ? extends K> keyMapper, Function<? super T, ? extends V> valueMapper) {
+    UnmodifiableMapFactory factory = UniJ.mapFactory();
+    return recordMap("toUnmodifiableMapConcurrent", factory.concurrentCollector(keyMapper, valueMapper), factory);
+  }
+
+  /**
+   * {@link Collector.Characteristics#CONCURRENT CONCURRENT} and {@link Collector.Characteristics#UNORDERED UNORDERED}
+   * variant of {@link #toUnmodifiableMap(Function, Function, BinaryOperator)}, which accumulates into a single shared
+   * map. Intended for large parallel streams whose encounter order does not matter.
+   */
+  public static <T, K, V> Collector<T, ?, /*@ReadOnly*/ Map<K, V>> toUnmodifiableMapConcurrent(
+          Function<? super T, ? extends K> keyMapper, Function<? super T, ? extends V> valueMapper,
+          BinaryOperator<V> mergeFunction) {
+    UnmodifiableMapFactory factory = UniJ.mapFactory();
+    return recordMap("toUnmodifiableMapConcurrent", factory.concurrentCollector(keyMapper, valueMapper, mergeFunction),
+            factory);
+  }
+  //endregion
+
+  //region SORTED COLLECTIONS (performance extensions; no JDK equivalents)
+
+  /**
+   * Sorted counterpart of {@link #toUnmodifiableSet()}, which collects into an unmodifiable {@link SortedSet} ordered
+   * by the given {@code comparator}.
+   */
+  public static <T> Collector<T, ?, /*@ReadOnly*/ SortedSet<T>> toUnmodifiableSortedSet(
+          Comparator<? super T> comparator) {
+    UnmodifiableSortedSetFactory factory = UniJ.sortedSetFactory();
+    return recordCollection("toUnmodifiableSortedSet", factory.collector(comparator), factory);
+  }
+
+  /**
+   * Sorted counterpart of {@link #toUnmodifiableMap(Function, Function)}, which collects into an unmodifiable {@link
+   * SortedMap} ordered by the given {@code comparator}.
+   */
+  public static <T, K, V> Collector<T, ?, /*@ReadOnly*/ SortedMap<K, V>> toUnmodifiableSortedMap(
+          Comparator<? super K> comparator, Function<? super T, ? extends K> keyMapper,
+          Function<? super T, ? extends V> valueMapper) {
+    UnmodifiableSortedMapFactory factory = UniJ.sortedMapFactory();
+    return recordMap("toUnmodifiableSortedMap", factory.collector(comparator, keyMapper, valueMapper), factory);
+  }
+  //endregion
+
+  //region PRIMITIVE LISTS (performance extensions; no JDK equivalents)
+
+  /**
+   * Unboxed counterpart of {@code stream.boxed().collect(toUnmodifiableList())}, which collects the given (possibly
+   * parallel) {@link IntStream} into an {@link UnmodifiableIntList}.
+   */
+  public static UnmodifiableIntList toUnmodifiableIntList(IntStream stream) {
+    UnmodifiableIntListFactory factory = UniJ.intListFactory();
+    UnmodifiableIntList list = factory.collect(stream);
+    FactoryCallRecorder.record("UniCollectors", "toUnmodifiableIntList", list, factory);
+    return list;
+  }
+
+  /**
+   * Unboxed counterpart of {@code stream.boxed().collect(toUnmodifiableList())}, which collects the given (possibly
+   * parallel) {@link LongStream} into an {@link UnmodifiableLongList}.
+   */
+  public static UnmodifiableLongList toUnmodifiableLongList(LongStream stream) {
+    UnmodifiableLongListFactory factory = UniJ.longListFactory();
+    UnmodifiableLongList list = factory.collect(stream);
+    FactoryCallRecorder.record("UniCollectors", "toUnmodifiableLongList", list, factory);
+    return list;
+  }
+
+  /**
+   * Unboxed counterpart of {@code stream.boxed().collect(toUnmodifiableList())}, which collects the given (possibly
+   * parallel) {@link DoubleStream} into an {@link UnmodifiableDoubleList}.
+   */
+  public static UnmodifiableDoubleList toUnmodifiableDoubleList(DoubleStream stream) {
+    UnmodifiableDoubleListFactory factory = UniJ.doubleListFactory();
+    UnmodifiableDoubleList list = factory.collect(stream);
+    FactoryCallRecorder.record("UniCollectors", "toUnmodifiableDoubleList", list, factory);
+    return list;
+  }
+  //endregion
+
+  //region PRIMITIVE SETS (performance extensions; no JDK equivalents)
+
+  /**
+   * Counterpart of {@code stream.boxed().collect(toUnmodifiableSet())}, which collects the given (possibly parallel)
+   * {@link IntStream} like {@link #toUnmodifiableIntList(IntStream)} (without boxing), and then boxes only its distinct
+   * elements into an unmodifiable {@link Set}.
+   */
+  public static Set<Integer> toUnmodifiableIntSet(IntStream stream) {
+    int[] elements = UniJ.intListFactory().collect(stream).toIntArray();
+    Arrays.sort(elements);
+    Integer[] distinct = new Integer[elements.length];
+    int count = 0;
+    for (int i = 0; i < elements.length; i++) {
+      if (i == 0 || elements[i] != elements[i - 1]) {
+        distinct[count++] = elements[i];
+      }
+    }
+    return recordPrimitiveSet("toUnmodifiableIntSet", Arrays.copyOf(distinct, count));
+  }
+
+  /**
+   * Counterpart of {@code stream.boxed().collect(toUnmodifiableSet())}, which collects the given (possibly parallel)
+   * {@link LongStream} like {@link #toUnmodifiableLongList(LongStream)} (without boxing), and then boxes only its
+   * distinct elements into an unmodifiable {@link Set}.
+   */
+  public static Set<Long> toUnmodifiableLongSet(LongStream stream) {
+    long[] elements = UniJ.longListFactory().collect(stream).toLongArray();
+    Arrays.sort(elements);
+    Long[] distinct = new Long[elements.length];
+    int count = 0;
+    for (int i = 0; i < elements.length; i++) {
+      if (i == 0 || elements[i] != elements[i - 1]) {
+        distinct[count++] = elements[i];
+      }
+    }
+    return recordPrimitiveSet("toUnmodifiableLongSet", Arrays.copyOf(distinct, count));
+  }
+
+  /**
+   * Counterpart of {@code stream.boxed().collect(toUnmodifiableSet())}, which collects the given (possibly parallel)
+   * {@link DoubleStream} like {@link #toUnmodifiableDoubleList(DoubleStream)} (without boxing), and then boxes only
+   * its distinct elements (as determined by {@link Double#equals}) into an unmodifiable {@link Set}.
+   */
+  public static Set<Double> toUnmodifiableDoubleSet(DoubleStream stream) {
+    double[] elements = UniJ.doubleListFactory().collect(stream).toDoubleArray();
+    Arrays.sort(elements); // puts equal elements (incl. all NaNs) next to each other, and -0.0 before 0.0
+    Double[] distinct = new Double[elements.length];
+    int count = 0;
+    for (int i = 0; i < elements.length; i++) {
+      if (i == 0 || Double.doubleToLongBits(elements[i]) != Double.doubleToLongBits(elements[i - 1])) {
+        distinct[count++] = elements[i];
+      }
+    }
+    return recordPrimitiveSet("toUnmodifiableDoubleSet", Arrays.copyOf(distinct, count));
+  }
+  //endregion
+
+  //region PRIMITIVE MAPS (performance extensions; no JDK equivalents)
+
+  /**
+   * {@code long}-keyed counterpart of {@link #toUnmodifiableMap(Function, Function)}, which collects into an {@link
+   * UnmodifiableLongObjectMap} without boxing the keys.
+   */
+  public static <T, V> Collector<T, ?, UnmodifiableLongObjectMap<V>> toUnmodifiableLongObjectMap(
+          ToLongFunction<? super T> keyMapper, Function<? super T, ? extends V> valueMapper) {
+    UnmodifiableLongObjectMapFactory factory = UniJ.longObjectMapFactory();
+    return recordMap("toUnmodifiableLongObjectMap", factory.collector(keyMapper, valueMapper), factory);
+  }
+
+  /**
+   * {@code int}-valued counterpart of {@link #toUnmodifiableMap(Function, Function)}, which collects into an {@link
+   * UnmodifiableObjectIntMap} without boxing the values.
+   */
+  public static <T, K> Collector<T, ?, UnmodifiableObjectIntMap<K>> toUnmodifiableObjectIntMap(
+          Function<? super T, ? extends K> keyMapper, ToIntFunction<? super T> valueMapper) {
+    UnmodifiableObjectIntMapFactory factory = UniJ.objectIntMapFactory();
+    return recordMap("toUnmodifiableObjectIntMap", factory.collector(keyMapper, valueMapper), factory);
   }
   //endregion
 
@@ -72,7 +246,7 @@ public final class UniCollectors {
    */
   public static <T, U, A, R> Collector<T, ?, R> flatMapping(
           Function<? super T, ? extends Stream<? extends U>> mapper, Collector<? super U, A, R> downstream) {
-    return UniJ.miscProvider().flatMappingCollector(mapper, downstream);
+    return miscProvider("flatMapping").flatMappingCollector(mapper, downstream);
   }
 
   /**
@@ -80,7 +254,32 @@ public final class UniCollectors {
    */
   public static <T, A, R> Collector<T, ?, R> filtering(Predicate<? super T> predicate,
           Collector<? super T, A, R> downstream) {
-    return UniJ.miscProvider().filteringCollector(predicate, downstream);
+    return miscProvider("filtering").filteringCollector(predicate, downstream);
+  }
+  //endregion
+
+  //region RECORDING
+  private static <T, R extends Collection<?>> Collector<T, ?, R> recordCollection(String method,
+          Collector<T, ?, R> collector, Object service) {
+    return FactoryCallRecorder.record("UniCollectors", method, collector, Collection::size, service);
+  }
+
+  private static <T, R extends Map<?, ?>> Collector<T, ?, R> recordMap(String method, Collector<T, ?, R> collector,
+          Object service) {
+    return FactoryCallRecorder.record("UniCollectors", method, collector, Map::size, service);
+  }
+
+  private static <E> Set<E> recordPrimitiveSet(String method, E[] distinctElements) {
+    UnmodifiableSetFactory factory = UniJ.setFactory();
+    Set<E> set = factory.of(distinctElements);
+    FactoryCallRecorder.record("UniCollectors", method, set, factory);
+    return set;
+  }
+
+  private static MiscellaneousApiProvider miscProvider(String method) {
+    MiscellaneousApiProvider provider = UniJ.miscProvider();
+    FactoryCallRecorder.record("UniCollectors", method, provider);
+    return provider;
   }
   //endregion
 }
@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api;
+
+import java.util.Collection;
+
+import kotlin.annotations.jvm.ReadOnly;
+import lombok.experimental.UtilityClass;
+
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableDoubleList;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableDoubleListFactory;
+
+/**
+ * Provides static factory methods of {@link UnmodifiableDoubleList}s, i.e. {@code double}-specialized counterparts of
+ * the lists returned by {@link UniLists} (performance extension; has no JDK equivalent).
+ *
+ * @author Tomasz Linkowski
+ */
+@UtilityClass
+public final class UniDoubleLists {
+
+  //region COPY OF
+
+  /**
+   * Returns an {@link UnmodifiableDoubleList} containing the elements of the given array (the array is copied).
+   */
+  public static UnmodifiableDoubleList copyOf(double[] elements) {
+    return doubleListFactory("copyOf", elements.length).copyOf(elements);
+  }
+
+  /**
+   * Unboxed equivalent of {@link UniLists#copyOf(Collection)}.
+   */
+  public static UnmodifiableDoubleList copyOf(@ReadOnly Collection<Double> coll) {
+    return doubleListFactory("copyOf", coll).copyOf(coll);
+  }
+  //endregion
+
+  //region OF
+
+  /**
+   * Unboxed equivalent of {@link UniLists#of(Object[])}.
+   */
+  public static UnmodifiableDoubleList of(double... elements) {
+    return doubleListFactory("of", elements.length).of(elements);
+  }
+  //endregion
+
+  //region RECORDING
+  private static UnmodifiableDoubleListFactory doubleListFactory(String method, int elementCount) {
+    UnmodifiableDoubleListFactory factory = UniJ.doubleListFactory();
+    FactoryCallRecorder.record("UniDoubleLists", method, elementCount, factory);
+    return factory;
+  }
+
+  private static UnmodifiableDoubleListFactory doubleListFactory(String method, Collection<?> elements) {
+    UnmodifiableDoubleListFactory factory = UniJ.doubleListFactory();
+    FactoryCallRecorder.record("UniDoubleLists", method, elements, factory);
+    return factory;
+  }
+  //endregion
+}
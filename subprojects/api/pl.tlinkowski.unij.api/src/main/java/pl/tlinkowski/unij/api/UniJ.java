@@ -21,9 +21,13 @@ import lombok.Getter;
 import lombok.experimental.UtilityClass;
 
 import pl.tlinkowski.unij.service.api.collect.*;
+import pl.tlinkowski.unij.service.api.metrics.MetricsSink;
 import pl.tlinkowski.unij.service.api.misc.MiscellaneousApiProvider;
 
 /**
+ * Holds UniJ services. Every service is loaded lazily on first use, so e.g. the first call to {@link UniLists} loads
+ * only the {@link UnmodifiableListFactory} (the startup cost can be measured using {@code UniJFirstCallBenchmark}).
+ *
  * @author Tomasz Linkowski
  */
 @UtilityClass
@@ -36,6 +40,55 @@ final class UniJ {
   @Getter(lazy = true)
   private static final UnmodifiableMapFactory mapFactory = UniJLoader.load(UnmodifiableMapFactory.class);
 
+  @Getter(lazy = true)
+  private static final UnmodifiableSortedSetFactory sortedSetFactory = UniJLoader.load(
+          UnmodifiableSortedSetFactory.class
+  );
+  @Getter(lazy = true)
+  private static final UnmodifiableSortedMapFactory sortedMapFactory = UniJLoader.load(
+          UnmodifiableSortedMapFactory.class
+  );
+
+  @Getter(lazy = true)
+  private static final UnmodifiableIntListFactory intListFactory = UniJLoader.load(UnmodifiableIntListFactory.class);
+  @Getter(lazy = true)
+  private static final UnmodifiableLongListFactory longListFactory = UniJLoader.load(
+          UnmodifiableLongListFactory.class
+  );
+  @Getter(lazy = true)
+  private static final UnmodifiableDoubleListFactory doubleListFactory = UniJLoader.load(
+          UnmodifiableDoubleListFactory.class
+  );
+  @Getter(lazy = true)
+  private static final UnmodifiableLongObjectMapFactory longObjectMapFactory = UniJLoader.load(
+          UnmodifiableLongObjectMapFactory.class
+  );
+  @Getter(lazy = true)
+  private static final UnmodifiableObjectIntMapFactory objectIntMapFactory = UniJLoader.load(
+          UnmodifiableObjectIntMapFactory.class
+  );
+
+  /**
+   * Optional service (see {@link PersistentCollectionFactory}).
+   */
+  @Getter(lazy = true)
+  private static final PersistentCollectionFactory persistentFactory = UniJLoader.load(
+          PersistentCollectionFactory.class, DelegatingPersistentCollectionFactory.INSTANCE
+  );
+
   @Getter(lazy = true)
   private static final MiscellaneousApiProvider miscProvider = UniJLoader.load(MiscellaneousApiProvider.class);
+
+  /**
+   * Unlike other services, kept in a {@code static final} field of a holder class, so that the JIT compiler can treat
+   * it as a constant (and eliminate calls to {@link NoOpMetricsSink} entirely).
+   */
+  static MetricsSink metricsSink() {
+    return MetricsSinkHolder.METRICS_SINK;
+  }
+
+  private static final class MetricsSinkHolder {
+
+    static final MetricsSink METRICS_SINK = UniJLoader.load(MetricsSink.class, NoOpMetricsSink.INSTANCE);
+  }
 }
@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api;
+
+import java.util.Collection;
+import java.util.Map;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Records UniJ events for JDK Flight Recorder (used internally by {@link UniJLoader} and {@link
+ * FactoryCallRecorder}).
+ * <p>
+ * This is the no-op variant used on JDK 8-10. The JDK 11+ variant (part of a multi-release JAR) emits
+ * {@code pl.tlinkowski.unij.ServiceLoad} and {@code pl.tlinkowski.unij.FactoryCall} events.
+ *
+ * @author Tomasz Linkowski
+ */
+@UtilityClass
+final class UniJFlightRecorder {
+
+  static ServiceLoadRecording beginServiceLoad(Class<?> serviceClass) {
+    return ServiceLoadRecording.NONE;
+  }
+
+  static void recordFactoryCall(String facade, String method, int elementCount, Object service) {
+  }
+
+  static void recordFactoryCall(String facade, String method, Collection<?> elements, Object service) {
+  }
+
+  static void recordFactoryCall(String facade, String method, Map<?, ?> map, Object service) {
+  }
+}
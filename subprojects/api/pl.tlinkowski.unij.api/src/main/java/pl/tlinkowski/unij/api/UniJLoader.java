@@ -17,83 +17,61 @@
  */
 package pl.tlinkowski.unij.api;
 
+import java.io.IOException;
 import java.util.*;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import kotlin.annotations.jvm.Mutable;
-import kotlin.annotations.jvm.ReadOnly;
 import lombok.experimental.UtilityClass;
-import lombok.extern.slf4j.Slf4j;
 
-import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.annotation.basic.NullOr;
 
 /**
  * Loads UniJ services (used internally by {@link UniJ}).
+ * <p>
+ * Finds the implementations using {@link ServiceLoader} and lets {@link UniJServiceSelector} select the one with the
+ * highest priority (every implementation gets instantiated, because its priority is read from its class). If the
+ * registry can be used, only the selected implementation gets instantiated (reflectively, which works because JDK 8
+ * has only the classpath).
  *
  * @author Tomasz Linkowski
  */
 @UtilityClass
-@Slf4j
 final class UniJLoader {
 
   static <S> S load(Class<S> serviceClass) {
-    @Mutable List<S> services = new ArrayList<>(4);
-    ServiceLoader.load(serviceClass).forEach(services::add);
-    validateLoadedServices(services, serviceClass);
-    return selectService(services, serviceClass);
-  }
-
-  private static <S> void validateLoadedServices(@ReadOnly Collection<S> services, Class<S> serviceClass) {
-    if (services.isEmpty()) {
-      throw new UniJException(String.format(
-              "%s service implementation not found. "
-                      + "Ensure proper pl.tlinkowski.unij.service.* dependency is on the runtime classpath/modulepath",
-              serviceClass.getName()
-      ));
-    }
-    log.debug("{} service: found {}", serviceClass.getName(), services);
-  }
-
-  private static <S> S selectService(@ReadOnly Collection<S> services, Class<S> serviceClass) {
-    return selectService(buildPriorityServiceMap(services), serviceClass);
+    return load(serviceClass, null);
   }
 
-  private static <S> S selectService(@ReadOnly SortedMap<Integer, S> priorityServiceMap, Class<S> serviceClass) {
-    Integer highestPriority = priorityServiceMap.firstKey();
-    S highestPriorityService = priorityServiceMap.get(highestPriority);
-
-    log.info(
-            "{} service: selected {} (priority={})",
-            serviceClass.getName(), className(highestPriorityService), highestPriority
+  /**
+   * Loads the given service, returning {@code defaultService} (if not {@code null}) when no implementation is found.
+   */
+  static <S> S load(Class<S> serviceClass, @NullOr S defaultService) {
+    return UniJServiceSelector.load(
+            serviceClass, defaultService, UniJLoader::findProviders, UniJLoader::findServices, Object::getClass,
+            Function.identity()
     );
-    return highestPriorityService;
-  }
-
-  @ReadOnly
-  private static <S> SortedMap<Integer, S> buildPriorityServiceMap(@ReadOnly Collection<? extends S> services) {
-    return services.stream().collect(Collectors.toMap(
-            UniJLoader::detectPriority, Function.identity(), UniJLoader::throwOnDuplicatePriority, TreeMap::new
-    ));
   }
 
-  private static int detectPriority(Object service) {
-    UniJService uniJServiceAnn = service.getClass().getAnnotation(UniJService.class);
-    if (uniJServiceAnn == null) {
-      throw new UniJException(String.format(
-              "Service implementation %s not annotated with @%s", className(service), UniJService.class.getSimpleName()
-      ));
-    }
-    return uniJServiceAnn.priority();
-  }
+  private static <S> ServiceProviders<S> findProviders(Class<S> serviceClass, ClassLoader classLoader)
+          throws IOException {
+    Set<String> classNames = UniJServiceRegistry.readProviderClassNames(serviceClass, classLoader);
+    return new ServiceProviders<S>() {
+      @Override
+      public Set<String> classNames() {
+        return classNames;
+      }
 
-  private static <S> S throwOnDuplicatePriority(S service1, S service2) {
-    throw new UniJException(String.format(
-            "%s and %s have the same priority", className(service1), className(service2)
-    ));
+      @Override
+      public S instantiate(String className) throws ReflectiveOperationException {
+        return Class.forName(className, true, classLoader).asSubclass(serviceClass).getConstructor().newInstance();
+      }
+    };
   }
 
-  private static String className(Object object) {
-    return object.getClass().getName();
+  private static <S> List<S> findServices(Class<S> serviceClass) {
+    @Mutable List<S> services = new ArrayList<>(4);
+    ServiceLoader.load(serviceClass).forEach(services::add);
+    return services;
   }
 }
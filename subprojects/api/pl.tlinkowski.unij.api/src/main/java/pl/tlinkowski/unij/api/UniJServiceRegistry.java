@@ -0,0 +1,159 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api;
+
+import java.io.*;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import kotlin.annotations.jvm.Mutable;
+import kotlin.annotations.jvm.ReadOnly;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+/**
+ * Reads the UniJ service registry generated at build time by {@code UniJServiceProcessor} (used internally by
+ * {@link UniJServiceSelector}).
+ * <p>
+ * The registry lets us select the implementation with the highest priority without instantiating every
+ * implementation and reading its {@code @UniJService} annotation. It is used only if it describes exactly the same
+ * implementations as the ones that {@link ServiceLoader} would find (as reported by {@link ServiceProviders}).
+ *
+ * @author Tomasz Linkowski
+ */
+@UtilityClass
+@Slf4j
+final class UniJServiceRegistry {
+
+  private static final String REGISTRY_DIRECTORY = "META-INF/unij/registry/";
+  private static final String SERVICE_LOADER_DIRECTORY = "META-INF/services/";
+
+  /**
+   * Returns the highest-priority implementation of the given service as recorded in the registry, or {@code null} if
+   * the registry is missing or cannot be used (in such case, {@link ServiceLoader} should be used instead).
+   */
+  @NullOr
+  static <S> S loadRegistered(Class<S> serviceClass, ServiceProviders.Finder providerFinder,
+          ServiceLoadRecording recording) {
+    ClassLoader classLoader = classLoader();
+    try {
+      SortedMap<Integer, String> priorityClassNameMap = readRegistry(serviceClass, classLoader);
+      if (priorityClassNameMap.isEmpty()) {
+        log.debug("{} service: no registry found", serviceClass.getName());
+        return null;
+      }
+      ServiceProviders<S> providers = providerFinder.find(serviceClass, classLoader);
+      if (!new HashSet<>(priorityClassNameMap.values()).equals(providers.classNames())) {
+        log.debug("{} service: registry does not match the implementations found", serviceClass.getName());
+        return null;
+      }
+      return instantiateHighestPriority(priorityClassNameMap, serviceClass, providers, recording);
+    } catch (IOException | ReflectiveOperationException | LinkageError | ClassCastException
+            | ServiceConfigurationError ex) {
+      // e.g. an implementation that cannot be loaded (ServiceLoader will report it properly)
+      log.debug("{} service: registry cannot be used ({})", serviceClass.getName(), ex.toString());
+      return null;
+    }
+  }
+
+  private static <S> S instantiateHighestPriority(@ReadOnly SortedMap<Integer, String> priorityClassNameMap,
+          Class<S> serviceClass, ServiceProviders<S> providers, ServiceLoadRecording recording)
+          throws ReflectiveOperationException {
+    Integer highestPriority = priorityClassNameMap.firstKey();
+    String className = priorityClassNameMap.get(highestPriority);
+    S service = providers.instantiate(className);
+
+    log.info("{} service: selected {} (priority={}, from registry)",
+            serviceClass.getName(), className, highestPriority);
+    recording.commit(priorityClassNameMap.size(), service, highestPriority, true);
+    return service;
+  }
+
+  //region READING
+  @ReadOnly
+  private static SortedMap<Integer, String> readRegistry(Class<?> serviceClass, ClassLoader classLoader)
+          throws IOException {
+    @Mutable SortedMap<Integer, String> priorityClassNameMap = new TreeMap<>();
+    for (String line : readLines(REGISTRY_DIRECTORY + serviceClass.getName(), classLoader)) {
+      int separatorIndex = line.indexOf(' ');
+      if (separatorIndex < 0) {
+        throw malformedEntry(serviceClass, line);
+      }
+      int priority = parsePriority(line.substring(0, separatorIndex), serviceClass, line);
+      String className = line.substring(separatorIndex + 1).trim();
+      priorityClassNameMap.merge(priority, className, UniJServiceRegistry::throwOnDuplicatePriority);
+    }
+    return priorityClassNameMap;
+  }
+
+  private static int parsePriority(String priority, Class<?> serviceClass, String line) {
+    try {
+      return Integer.parseInt(priority);
+    } catch (NumberFormatException ex) {
+      throw malformedEntry(serviceClass, line);
+    }
+  }
+
+  private static UniJException malformedEntry(Class<?> serviceClass, String line) {
+    return new UniJException(String.format("Malformed %s registry entry: '%s'", serviceClass.getName(), line));
+  }
+
+  private static String throwOnDuplicatePriority(String className1, String className2) {
+    if (className1.equals(className2)) {
+      return className1; // the same implementation present twice on the classpath
+    }
+    throw new UniJException(String.format("%s and %s have the same priority", className1, className2));
+  }
+
+  /**
+   * Returns the binary names of the implementations listed in {@code META-INF/services} (used by {@link ServiceLoader}
+   * on the classpath).
+   */
+  @ReadOnly
+  static Set<String> readProviderClassNames(Class<?> serviceClass, ClassLoader classLoader) throws IOException {
+    return new HashSet<>(readLines(SERVICE_LOADER_DIRECTORY + serviceClass.getName(), classLoader));
+  }
+
+  @ReadOnly
+  private static List<String> readLines(String resourceName, ClassLoader classLoader) throws IOException {
+    @Mutable List<String> lines = new ArrayList<>();
+    Enumeration<URL> resources = classLoader.getResources(resourceName);
+    while (resources.hasMoreElements()) {
+      URL resource = resources.nextElement();
+      try (BufferedReader reader = new BufferedReader(
+              new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+        reader.lines().map(UniJServiceRegistry::stripComment).filter(line -> !line.isEmpty()).forEach(lines::add);
+      }
+    }
+    return lines;
+  }
+
+  private static String stripComment(String line) {
+    int commentIndex = line.indexOf('#');
+    return (commentIndex >= 0 ? line.substring(0, commentIndex) : line).trim();
+  }
+  //endregion
+
+  private static ClassLoader classLoader() {
+    ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+    return contextClassLoader != null ? contextClassLoader : ClassLoader.getSystemClassLoader();
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import kotlin.annotations.jvm.ReadOnly;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+import pl.tlinkowski.unij.service.api.UniJService;
+
+/**
+ * Selects the highest-priority implementation of a UniJ service (shared by the JDK 8 and JDK 9+ variants of {@link
+ * UniJLoader}).
+ * <p>
+ * Uses the build-time {@linkplain UniJServiceRegistry registry} if possible, and the candidates found by {@link
+ * UniJLoader} (using {@link ServiceLoader}) otherwise. A candidate is either an implementation itself (JDK 8) or a
+ * {@code ServiceLoader.Provider} of it (JDK 9+).
+ *
+ * @author Tomasz Linkowski
+ */
+@UtilityClass
+@Slf4j
+final class UniJServiceSelector {
+
+  /**
+   * Loads the given service, returning {@code defaultService} (if not {@code null}) when no implementation is found.
+   *
+   * @param providerFinder finds the implementations for the registry (without instantiating them)
+   * @param candidateFinder finds the candidates using {@link ServiceLoader} (called only if the registry is unusable)
+   * @param typeFunction returns the implementation class of a candidate
+   * @param instantiator returns the implementation represented by a candidate (called only for the selected one)
+   */
+  static <S, C> S load(Class<S> serviceClass, @NullOr S defaultService, ServiceProviders.Finder providerFinder,
+          Function<Class<S>, ? extends Collection<C>> candidateFinder,
+          Function<? super C, ? extends Class<?>> typeFunction, Function<? super C, ? extends S> instantiator) {
+    ServiceLoadRecording recording = UniJFlightRecorder.beginServiceLoad(serviceClass);
+    S registeredService = UniJServiceRegistry.loadRegistered(serviceClass, providerFinder, recording);
+    if (registeredService != null) {
+      return registeredService;
+    }
+
+    Collection<C> candidates = candidateFinder.apply(serviceClass);
+    if (candidates.isEmpty() && defaultService != null) {
+      log.debug("{} service: implementation not found, using {}", serviceClass.getName(), defaultService);
+      return defaultService;
+    }
+    validateCandidates(candidates, serviceClass, typeFunction);
+    SortedMap<Integer, C> priorityCandidateMap = buildPriorityCandidateMap(candidates, typeFunction);
+    return selectService(priorityCandidateMap, serviceClass, typeFunction, instantiator, recording);
+  }
+
+  private static <S, C> void validateCandidates(@ReadOnly Collection<C> candidates, Class<S> serviceClass,
+          Function<? super C, ? extends Class<?>> typeFunction) {
+    if (candidates.isEmpty()) {
+      throw new UniJException(String.format(
+              "%s service implementation not found. "
+                      + "Ensure proper pl.tlinkowski.unij.service.* dependency is on the runtime classpath/modulepath",
+              serviceClass.getName()
+      ));
+    }
+    if (log.isDebugEnabled()) {
+      log.debug("{} service: found {}", serviceClass.getName(), candidates.stream()
+              .map(candidate -> className(candidate, typeFunction)).collect(Collectors.toList()));
+    }
+  }
+
+  private static <S, C> S selectService(@ReadOnly SortedMap<Integer, C> priorityCandidateMap, Class<S> serviceClass,
+          Function<? super C, ? extends Class<?>> typeFunction, Function<? super C, ? extends S> instantiator,
+          ServiceLoadRecording recording) {
+    Integer highestPriority = priorityCandidateMap.firstKey();
+    C highestPriorityCandidate = priorityCandidateMap.get(highestPriority);
+
+    log.info(
+            "{} service: selected {} (priority={})",
+            serviceClass.getName(), className(highestPriorityCandidate, typeFunction), highestPriority
+    );
+    S highestPriorityService = instantiator.apply(highestPriorityCandidate);
+    recording.commit(priorityCandidateMap.size(), highestPriorityService, highestPriority, false);
+    return highestPriorityService;
+  }
+
+  @ReadOnly
+  private static <C> SortedMap<Integer, C> buildPriorityCandidateMap(@ReadOnly Collection<C> candidates,
+          Function<? super C, ? extends Class<?>> typeFunction) {
+    return candidates.stream().collect(Collectors.toMap(
+            candidate -> detectPriority(typeFunction.apply(candidate)),
+            Function.identity(),
+            (candidate1, candidate2) -> throwOnDuplicatePriority(candidate1, candidate2, typeFunction),
+            TreeMap::new
+    ));
+  }
+
+  private static int detectPriority(Class<?> type) {
+    UniJService uniJServiceAnn = type.getAnnotation(UniJService.class);
+    if (uniJServiceAnn == null) {
+      throw new UniJException(String.format(
+              "Service implementation %s not annotated with @%s", type.getName(), UniJService.class.getSimpleName()
+      ));
+    }
+    return uniJServiceAnn.priority();
+  }
+
+  private static <C> C throwOnDuplicatePriority(C candidate1, C candidate2,
+          Function<? super C, ? extends Class<?>> typeFunction) {
+    throw new UniJException(String.format(
+            "%s and %s have the same priority", className(candidate1, typeFunction), className(candidate2, typeFunction)
+    ));
+  }
+
+  private static <C> String className(C candidate, Function<? super C, ? extends Class<?>> typeFunction) {
+    return typeFunction.apply(candidate).getName();
+  }
+}
@@ -23,6 +23,10 @@ import java.util.List;
 import kotlin.annotations.jvm.ReadOnly;
 import lombok.experimental.UtilityClass;
 
+import pl.tlinkowski.unij.service.api.collect.PersistentCollectionFactory;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableListBuilder;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableListFactory;
+
 /**
  * Provides static factory methods corresponding to those present in {@link List} interface.
  *
@@ -31,6 +35,19 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public final class UniLists {
 
+  private static final Interner<List<?>> INTERNER = new Interner<>();
+
+  //region BUILDER
+
+  /**
+   * Returns a single-use builder of an unmodifiable {@link List} that is presized for {@code expectedSize} elements
+   * (performance extension; has no JDK equivalent).
+   */
+  public static <E> UnmodifiableListBuilder<E> builder(int expectedSize) {
+    return listFactory("builder", expectedSize).builder(expectedSize);
+  }
+  //endregion
+
   //region COPY OF
 
   /**
@@ -38,7 +55,7 @@ public final class UniLists {
    */
   @ReadOnly
   public static <E> List<E> copyOf(@ReadOnly Collection<? extends E> coll) {
-    return UniJ.listFactory().copyOf(coll);
+    return listFactory("copyOf", coll).copyOf(coll);
   }
   //endregion
 
@@ -49,7 +66,7 @@ public final class UniLists {
    */
   @ReadOnly
   public static <E> List<E> of() {
-    return UniJ.listFactory().of();
+    return listFactory("of", 0).of();
   }
 
   /**
@@ -57,7 +74,7 @@ public final class UniLists {
    */
   @ReadOnly
   public static <E> List<E> of(E e1) {
-    return UniJ.listFactory().of(e1);
+    return listFactory("of", 1).of(e1);
   }
 
   /**
@@ -65,7 +82,7 @@ public final class UniLists {
    */
   @ReadOnly
   public static <E> List<E> of(E e1, E e2) {
-    return UniJ.listFactory().of(e1, e2);
+    return listFactory("of", 2).of(e1, e2);
   }
 
   /**
@@ -73,7 +90,7 @@ public final class UniLists {
    */
   @ReadOnly
   public static <E> List<E> of(E e1, E e2, E e3) {
-    return UniJ.listFactory().of(e1, e2, e3);
+    return listFactory("of", 3).of(e1, e2, e3);
   }
 
   /**
@@ -81,7 +98,7 @@ public final class UniLists {
    */
   @ReadOnly
   public static <E> List<E> of(E e1, E e2, E e3, E e4) {
-    return UniJ.listFactory().of(e1, e2, e3, e4);
+    return listFactory("of", 4).of(e1, e2, e3, e4);
   }
 
   /**
@@ -89,7 +106,7 @@ public final class UniLists {
    */
   @ReadOnly
   public static <E> List<E> of(E e1, E e2, E e3, E e4, E e5) {
-    return UniJ.listFactory().of(e1, e2, e3, e4, e5);
+    return listFactory("of", 5).of(e1, e2, e3, e4, e5);
   }
 
   /**
@@ -97,7 +114,7 @@ public final class UniLists {
    */
   @ReadOnly
   public static <E> List<E> of(E e1, E e2, E e3, E e4, E e5, E e6) {
-    return UniJ.listFactory().of(e1, e2, e3, e4, e5, e6);
+    return listFactory("of", 6).of(e1, e2, e3, e4, e5, e6);
   }
 
   /**
@@ -105,7 +122,7 @@ public final class UniLists {
    */
   @ReadOnly
   public static <E> List<E> of(E e1, E e2, E e3, E e4, E e5, E e6, E e7) {
-    return UniJ.listFactory().of(e1, e2, e3, e4, e5, e6, e7);
+    return listFactory("of", 7).of(e1, e2, e3, e4, e5, e6, e7);
   }
 
   /**
@@ -113,7 +130,7 @@ public final class UniLists {
    */
   @ReadOnly
   public static <E> List<E> of(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8) {
-    return UniJ.listFactory().of(e1, e2, e3, e4, e5, e6, e7, e8);
+    return listFactory("of", 8).of(e1, e2, e3, e4, e5, e6, e7, e8);
   }
 
   /**
@@ -121,7 +138,7 @@ public final class UniLists {
    */
   @ReadOnly
   public static <E> List<E> of(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9) {
-    return UniJ.listFactory().of(e1, e2, e3, e4, e5, e6, e7, e8, e9);
+    return listFactory("of", 9).of(e1, e2, e3, e4, e5, e6, e7, e8, e9);
   }
 
   /**
@@ -130,7 +147,7 @@ public final class UniLists {
   @SuppressWarnings("PMD.ExcessiveParameterList")
   @ReadOnly
   public static <E> List<E> of(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9, E e10) {
-    return UniJ.listFactory().of(e1, e2, e3, e4, e5, e6, e7, e8, e9, e10);
+    return listFactory("of", 10).of(e1, e2, e3, e4, e5, e6, e7, e8, e9, e10);
   }
 
   /**
@@ -139,7 +156,60 @@ public final class UniLists {
   @SafeVarargs
   @ReadOnly
   public static <E> List<E> of(E... elements) {
-    return UniJ.listFactory().of(elements);
+    return listFactory("of", elements.length).of(elements);
+  }
+  //endregion
+
+  //region PERSISTENT
+
+  /**
+   * Returns an unmodifiable list consisting of the elements of the given {@code list} followed by the given {@code
+   * element} (performance extension; has no JDK equivalent).
+   * <p>
+   * If a {@link PersistentCollectionFactory} is present at runtime (e.g. the persistent binding, even alongside another
+   * binding), it's used instead of the regular factory, and it shares most of the structure between the two lists;
+   * other bindings copy {@code list}.
+   */
+  @ReadOnly
+  public static <E> List<E> with(@ReadOnly List<? extends E> list, E element) {
+    return persistentFactory("with", list).with(list, element);
+  }
+  //endregion
+
+  //region INTERN
+
+  /**
+   * Returns a canonical unmodifiable {@link List} equal to the given {@code list} (performance extension; has no JDK
+   * equivalent).
+   * <p>
+   * Equal lists interned this way are represented by a single, shared instance for as long as it's in use (unless the
+   * bounded intern cache is full), which saves memory when many equal lists are retained.
+   */
+  @SuppressWarnings("unchecked")
+  @ReadOnly
+  public static <E> List<E> intern(@ReadOnly List<? extends E> list) {
+    UnmodifiableListFactory factory = listFactory("intern", list);
+    return (List<E>) INTERNER.intern(list, factory::copyOf);
+  }
+  //endregion
+
+  //region RECORDING
+  private static UnmodifiableListFactory listFactory(String method, int elementCount) {
+    UnmodifiableListFactory factory = UniJ.listFactory();
+    FactoryCallRecorder.record("UniLists", method, elementCount, factory);
+    return factory;
+  }
+
+  private static UnmodifiableListFactory listFactory(String method, Collection<?> elements) {
+    UnmodifiableListFactory factory = UniJ.listFactory();
+    FactoryCallRecorder.record("UniLists", method, elements, factory);
+    return factory;
+  }
+
+  private static PersistentCollectionFactory persistentFactory(String method, Collection<?> elements) {
+    PersistentCollectionFactory factory = UniJ.persistentFactory();
+    FactoryCallRecorder.record("UniLists", method, elements, factory);
+    return factory;
   }
   //endregion
 }
@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api;
+
+import java.util.Collection;
+
+import kotlin.annotations.jvm.ReadOnly;
+import lombok.experimental.UtilityClass;
+
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableLongList;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableLongListFactory;
+
+/**
+ * Provides static factory methods of {@link UnmodifiableLongList}s, i.e. {@code long}-specialized counterparts of the
+ * lists returned by {@link UniLists} (performance extension; has no JDK equivalent).
+ *
+ * @author Tomasz Linkowski
+ */
+@UtilityClass
+public final class UniLongLists {
+
+  //region COPY OF
+
+  /**
+   * Returns an {@link UnmodifiableLongList} containing the elements of the given array (the array is copied).
+   */
+  public static UnmodifiableLongList copyOf(long[] elements) {
+    return longListFactory("copyOf", elements.length).copyOf(elements);
+  }
+
+  /**
+   * Unboxed equivalent of {@link UniLists#copyOf(Collection)}.
+   */
+  public static UnmodifiableLongList copyOf(@ReadOnly Collection<Long> coll) {
+    return longListFactory("copyOf", coll).copyOf(coll);
+  }
+  //endregion
+
+  //region OF
+
+  /**
+   * Unboxed equivalent of {@link UniLists#of(Object[])}.
+   */
+  public static UnmodifiableLongList of(long... elements) {
+    return longListFactory("of", elements.length).of(elements);
+  }
+  //endregion
+
+  //region RECORDING
+  private static UnmodifiableLongListFactory longListFactory(String method, int elementCount) {
+    UnmodifiableLongListFactory factory = UniJ.longListFactory();
+    FactoryCallRecorder.record("UniLongLists", method, elementCount, factory);
+    return factory;
+  }
+
+  private static UnmodifiableLongListFactory longListFactory(String method, Collection<?> elements) {
+    UnmodifiableLongListFactory factory = UniJ.longListFactory();
+    FactoryCallRecorder.record("UniLongLists", method, elements, factory);
+    return factory;
+  }
+  //endregion
+}
@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api;
+
+import java.util.Map;
+
+import kotlin.annotations.jvm.ReadOnly;
+import lombok.experimental.UtilityClass;
+
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableLongObjectMap;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableLongObjectMapFactory;
+
+/**
+ * Provides static factory methods of {@link UnmodifiableLongObjectMap}s, i.e. {@code long}-keyed counterparts of the
+ * maps returned by {@link UniMaps} (performance extension; has no JDK equivalent).
+ *
+ * @author Tomasz Linkowski
+ */
+@UtilityClass
+public final class UniLongObjectMaps {
+
+  //region COPY OF
+
+  /**
+   * Unboxed equivalent of {@link UniMaps#copyOf(Map)}.
+   */
+  public static <V> UnmodifiableLongObjectMap<V> copyOf(@ReadOnly Map<Long, ? extends V> map) {
+    return longObjectMapFactory("copyOf", map).copyOf(map);
+  }
+  //endregion
+
+  //region OF
+
+  /**
+   * Unboxed equivalent of {@link UniMaps#of()}.
+   */
+  public static <V> UnmodifiableLongObjectMap<V> of() {
+    return longObjectMapFactory("of", 0).of();
+  }
+
+  /**
+   * Unboxed equivalent of {@link UniMaps#of(Object, Object)}.
+   */
+  public static <V> UnmodifiableLongObjectMap<V> of(long k1, V v1) {
+    return longObjectMapFactory("of", 1).of(k1, v1);
+  }
+
+  /**
+   * Unboxed equivalent of {@link UniMaps#of(Object, Object, Object, Object)}.
+   */
+  public static <V> UnmodifiableLongObjectMap<V> of(long k1, V v1, long k2, V v2) {
+    return longObjectMapFactory("of", 2).of(k1, v1, k2, v2);
+  }
+
+  /**
+   * Unboxed equivalent of {@link UniMaps#of(Object, Object, Object, Object, Object, Object)}.
+   */
+  public static <V> UnmodifiableLongObjectMap<V> of(long k1, V v1, long k2, V v2, long k3, V v3) {
+    return longObjectMapFactory("of", 3).of(k1, v1, k2, v2, k3, v3);
+  }
+  //endregion
+
+  //region RECORDING
+  private static UnmodifiableLongObjectMapFactory longObjectMapFactory(String method, int entryCount) {
+    UnmodifiableLongObjectMapFactory factory = UniJ.longObjectMapFactory();
+    FactoryCallRecorder.record("UniLongObjectMaps", method, entryCount, factory);
+    return factory;
+  }
+
+  private static UnmodifiableLongObjectMapFactory longObjectMapFactory(String method, Map<?, ?> entries) {
+    UnmodifiableLongObjectMapFactory factory = UniJ.longObjectMapFactory();
+    FactoryCallRecorder.record("UniLongObjectMaps", method, entries, factory);
+    return factory;
+  }
+  //endregion
+}
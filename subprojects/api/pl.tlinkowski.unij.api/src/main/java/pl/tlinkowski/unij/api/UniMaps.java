@@ -22,6 +22,10 @@ import java.util.*;
 import kotlin.annotations.jvm.ReadOnly;
 import lombok.experimental.UtilityClass;
 
+import pl.tlinkowski.unij.service.api.collect.PersistentCollectionFactory;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableMapBuilder;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableMapFactory;
+
 /**
  * Provides static factory methods corresponding to those present in {@link Map} interface.
  *
@@ -30,6 +34,19 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public final class UniMaps {
 
+  private static final Interner<Map<?, ?>> INTERNER = new Interner<>();
+
+  //region BUILDER
+
+  /**
+   * Returns a single-use builder of an unmodifiable {@link Map} that is presized for {@code expectedSize} entries
+   * (performance extension; has no JDK equivalent).
+   */
+  public static <K, V> UnmodifiableMapBuilder<K, V> builder(int expectedSize) {
+    return mapFactory("builder", expectedSize).builder(expectedSize);
+  }
+  //endregion
+
   //region COPY OF
 
   /**
@@ -37,7 +54,15 @@ public final class UniMaps {
    */
   @ReadOnly
   public static <K, V> Map<K, V> copyOf(@ReadOnly Map<? extends K, ? extends V> map) {
-    return UniJ.mapFactory().copyOf(map);
+    return mapFactory("copyOf", map).copyOf(map);
+  }
+
+  /**
+   * Variant of {@link #copyOf(Map)} for an {@link EnumMap} (performance extension; has no JDK equivalent).
+   */
+  @ReadOnly
+  public static <K extends Enum<K>, V> Map<K, V> copyOfEnumMap(@ReadOnly EnumMap<K, ? extends V> map) {
+    return mapFactory("copyOfEnumMap", map).copyOfEnumMap(map);
   }
   //endregion
 
@@ -49,7 +74,7 @@ public final class UniMaps {
   @SafeVarargs
   @ReadOnly
   public static <K, V> Map<K, V> ofEntries(@ReadOnly Map.Entry<? extends K, ? extends V>... entries) {
-    return UniJ.mapFactory().ofEntries(entries);
+    return mapFactory("ofEntries", entries.length).ofEntries(entries);
   }
 
   /**
@@ -57,7 +82,7 @@ public final class UniMaps {
    */
   @ReadOnly
   public static <K, V> Map.Entry<K, V> entry(K k, V v) {
-    return UniJ.mapFactory().entry(k, v);
+    return mapFactory("entry", 1).entry(k, v);
   }
   //endregion
 
@@ -68,7 +93,7 @@ public final class UniMaps {
    */
   @ReadOnly
   public static <K, V> Map<K, V> of() {
-    return UniJ.mapFactory().of();
+    return mapFactory("of", 0).of();
   }
 
   /**
@@ -76,7 +101,7 @@ public final class UniMaps {
    */
   @ReadOnly
   public static <K, V> Map<K, V> of(K k1, V v1) {
-    return UniJ.mapFactory().of(k1, v1);
+    return mapFactory("of", 1).of(k1, v1);
   }
 
   /**
@@ -84,7 +109,7 @@ public final class UniMaps {
    */
   @ReadOnly
   public static <K, V> Map<K, V> of(K k1, V v1, K k2, V v2) {
-    return UniJ.mapFactory().of(k1, v1, k2, v2);
+    return mapFactory("of", 2).of(k1, v1, k2, v2);
   }
 
   /**
@@ -92,7 +117,7 @@ public final class UniMaps {
    */
   @ReadOnly
   public static <K, V> Map<K, V> of(K k1, V v1, K k2, V v2, K k3, V v3) {
-    return UniJ.mapFactory().of(k1, v1, k2, v2, k3, v3);
+    return mapFactory("of", 3).of(k1, v1, k2, v2, k3, v3);
   }
 
   /**
@@ -100,7 +125,7 @@ public final class UniMaps {
    */
   @ReadOnly
   public static <K, V> Map<K, V> of(K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4) {
-    return UniJ.mapFactory().of(k1, v1, k2, v2, k3, v3, k4, v4);
+    return mapFactory("of", 4).of(k1, v1, k2, v2, k3, v3, k4, v4);
   }
 
   /**
@@ -109,7 +134,7 @@ public final class UniMaps {
   @SuppressWarnings("PMD.ExcessiveParameterList")
   @ReadOnly
   public static <K, V> Map<K, V> of(K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4, K k5, V v5) {
-    return UniJ.mapFactory().of(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5);
+    return mapFactory("of", 5).of(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5);
   }
 
   /**
@@ -119,7 +144,7 @@ public final class UniMaps {
   @SuppressWarnings("PMD.ExcessiveParameterList")
   @ReadOnly
   public static <K, V> Map<K, V> of(K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4, K k5, V v5, K k6, V v6) {
-    return UniJ.mapFactory().of(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6);
+    return mapFactory("of", 6).of(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6);
   }
 
   /**
@@ -130,7 +155,7 @@ public final class UniMaps {
   @ReadOnly
   public static <K, V> Map<K, V> of(K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4, K k5, V v5, K k6, V v6,
           K k7, V v7) {
-    return UniJ.mapFactory().of(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7);
+    return mapFactory("of", 7).of(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7);
   }
 
   /**
@@ -141,7 +166,7 @@ public final class UniMaps {
   @ReadOnly
   public static <K, V> Map<K, V> of(K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4, K k5, V v5, K k6, V v6, K k7, V v7,
           K k8, V v8) {
-    return UniJ.mapFactory().of(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8);
+    return mapFactory("of", 8).of(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8);
   }
 
   /**
@@ -152,7 +177,7 @@ public final class UniMaps {
   @ReadOnly
   public static <K, V> Map<K, V> of(K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4, K k5, V v5, K k6, V v6, K k7, V v7,
           K k8, V v8, K k9, V v9) {
-    return UniJ.mapFactory().of(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8, k9, v9);
+    return mapFactory("of", 9).of(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8, k9, v9);
   }
 
   /**
@@ -163,7 +188,99 @@ public final class UniMaps {
   @ReadOnly
   public static <K, V> Map<K, V> of(K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4, K k5, V v5, K k6, V v6, K k7, V v7,
           K k8, V v8, K k9, V v9, K k10, V v10) {
-    return UniJ.mapFactory().of(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8, k9, v9, k10, v10);
+    return mapFactory("of", 10).of(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8, k9, v9, k10, v10);
+  }
+  //endregion
+
+  //region PERSISTENT
+
+  /**
+   * Returns an unmodifiable map consisting of the entries of the given {@code map} with the given {@code key} mapped
+   * to the given {@code value} (performance extension; has no JDK equivalent).
+   * <p>
+   * If a {@link PersistentCollectionFactory} is present at runtime (e.g. the persistent binding, even alongside another
+   * binding), it's used instead of the regular factory, and it shares most of the structure between the two maps;
+   * other bindings copy {@code map}.
+   */
+  @ReadOnly
+  public static <K, V> Map<K, V> with(@ReadOnly Map<? extends K, ? extends V> map, K key, V value) {
+    return persistentFactory("with", map).with(map, key, value);
+  }
+
+  /**
+   * Returns an unmodifiable map consisting of the entries of the given {@code map} except for the one with the given
+   * {@code key} (performance extension; has no JDK equivalent).
+   * <p>
+   * If a {@link PersistentCollectionFactory} is present at runtime (e.g. the persistent binding, even alongside another
+   * binding), it's used instead of the regular factory, and it shares most of the structure between the two maps;
+   * other bindings copy {@code map}.
+   */
+  @ReadOnly
+  public static <K, V> Map<K, V> without(@ReadOnly Map<? extends K, ? extends V> map, Object key) {
+    return persistentFactory("without", map).without(map, key);
+  }
+  //endregion
+
+  //region STATIC
+
+  /**
+   * Equivalent of {@link #copyOf(Map)} for maps that are created once and queried very often, e.g. constant lookup
+   * tables (performance extension; has no JDK equivalent).
+   * <p>
+   * Some bindings spend more time on creating such maps so that every lookup takes a single {@code equals} call.
+   */
+  @ReadOnly
+  public static <K, V> Map<K, V> copyOfStatic(@ReadOnly Map<? extends K, ? extends V> map) {
+    return mapFactory("copyOfStatic", map).copyOfStatic(map);
+  }
+
+  /**
+   * Equivalent of {@link #ofEntries(Map.Entry[])} for maps that are created once and queried very often (performance
+   * extension; has no JDK equivalent).
+   * <p>
+   * Some bindings spend more time on creating such maps so that every lookup takes a single {@code equals} call.
+   */
+  @SafeVarargs
+  @ReadOnly
+  public static <K, V> Map<K, V> ofStatic(@ReadOnly Map.Entry<? extends K, ? extends V>... entries) {
+    return mapFactory("ofStatic", entries.length).ofStatic(entries);
+  }
+  //endregion
+
+  //region INTERN
+
+  /**
+   * Returns a canonical unmodifiable {@link Map} equal to the given {@code map} (performance extension; has no JDK
+   * equivalent).
+   * <p>
+   * Equal maps interned this way are represented by a single, shared instance for as long as it's in use (unless the
+   * bounded intern cache is full), which saves memory when many equal maps are retained.
+   */
+  @SuppressWarnings("unchecked")
+  @ReadOnly
+  public static <K, V> Map<K, V> intern(@ReadOnly Map<? extends K, ? extends V> map) {
+    UnmodifiableMapFactory factory = mapFactory("intern", map);
+    return (Map<K, V>) INTERNER.intern(map, factory::copyOf);
+  }
+  //endregion
+
+  //region RECORDING
+  private static UnmodifiableMapFactory mapFactory(String method, int elementCount) {
+    UnmodifiableMapFactory factory = UniJ.mapFactory();
+    FactoryCallRecorder.record("UniMaps", method, elementCount, factory);
+    return factory;
+  }
+
+  private static UnmodifiableMapFactory mapFactory(String method, Map<?, ?> map) {
+    UnmodifiableMapFactory factory = UniJ.mapFactory();
+    FactoryCallRecorder.record("UniMaps", method, map, factory);
+    return factory;
+  }
+
+  private static PersistentCollectionFactory persistentFactory(String method, Map<?, ?> map) {
+    PersistentCollectionFactory factory = UniJ.persistentFactory();
+    FactoryCallRecorder.record("UniMaps", method, map, factory);
+    return factory;
   }
   //endregion
 }
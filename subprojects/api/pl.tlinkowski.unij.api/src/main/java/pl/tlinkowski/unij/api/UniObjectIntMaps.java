@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api;
+
+import java.util.Map;
+
+import kotlin.annotations.jvm.ReadOnly;
+import lombok.experimental.UtilityClass;
+
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableObjectIntMap;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableObjectIntMapFactory;
+
+/**
+ * Provides static factory methods of {@link UnmodifiableObjectIntMap}s, i.e. {@code int}-valued counterparts of the
+ * maps returned by {@link UniMaps} (performance extension; has no JDK equivalent).
+ *
+ * @author Tomasz Linkowski
+ */
+@UtilityClass
+public final class UniObjectIntMaps {
+
+  //region COPY OF
+
+  /**
+   * Unboxed equivalent of {@link UniMaps#copyOf(Map)}.
+   */
+  public static <K> UnmodifiableObjectIntMap<K> copyOf(@ReadOnly Map<? extends K, Integer> map) {
+    return objectIntMapFactory("copyOf", map).copyOf(map);
+  }
+  //endregion
+
+  //region OF
+
+  /**
+   * Unboxed equivalent of {@link UniMaps#of()}.
+   */
+  public static <K> UnmodifiableObjectIntMap<K> of() {
+    return objectIntMapFactory("of", 0).of();
+  }
+
+  /**
+   * Unboxed equivalent of {@link UniMaps#of(Object, Object)}.
+   */
+  public static <K> UnmodifiableObjectIntMap<K> of(K k1, int v1) {
+    return objectIntMapFactory("of", 1).of(k1, v1);
+  }
+
+  /**
+   * Unboxed equivalent of {@link UniMaps#of(Object, Object, Object, Object)}.
+   */
+  public static <K> UnmodifiableObjectIntMap<K> of(K k1, int v1, K k2, int v2) {
+    return objectIntMapFactory("of", 2).of(k1, v1, k2, v2);
+  }
+
+  /**
+   * Unboxed equivalent of {@link UniMaps#of(Object, Object, Object, Object, Object, Object)}.
+   */
+  public static <K> UnmodifiableObjectIntMap<K> of(K k1, int v1, K k2, int v2, K k3, int v3) {
+    return objectIntMapFactory("of", 3).of(k1, v1, k2, v2, k3, v3);
+  }
+  //endregion
+
+  //region RECORDING
+  private static UnmodifiableObjectIntMapFactory objectIntMapFactory(String method, int entryCount) {
+    UnmodifiableObjectIntMapFactory factory = UniJ.objectIntMapFactory();
+    FactoryCallRecorder.record("UniObjectIntMaps", method, entryCount, factory);
+    return factory;
+  }
+
+  private static UnmodifiableObjectIntMapFactory objectIntMapFactory(String method, Map<?, ?> entries) {
+    UnmodifiableObjectIntMapFactory factory = UniJ.objectIntMapFactory();
+    FactoryCallRecorder.record("UniObjectIntMaps", method, entries, factory);
+    return factory;
+  }
+  //endregion
+}
@@ -22,6 +22,10 @@ import java.util.*;
 import kotlin.annotations.jvm.ReadOnly;
 import lombok.experimental.UtilityClass;
 
+import pl.tlinkowski.unij.service.api.collect.PersistentCollectionFactory;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableSetBuilder;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableSetFactory;
+
 /**
  * Provides static factory methods corresponding to those present in {@link Set} interface.
  *
@@ -30,6 +34,19 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public final class UniSets {
 
+  private static final Interner<Set<?>> INTERNER = new Interner<>();
+
+  //region BUILDER
+
+  /**
+   * Returns a single-use builder of an unmodifiable {@link Set} that is presized for {@code expectedSize} elements
+   * (performance extension; has no JDK equivalent).
+   */
+  public static <E> UnmodifiableSetBuilder<E> builder(int expectedSize) {
+    return setFactory("builder", expectedSize).builder(expectedSize);
+  }
+  //endregion
+
   //region COPY OF
 
   /**
@@ -37,7 +54,7 @@ public final class UniSets {
    */
   @ReadOnly
   public static <E> Set<E> copyOf(@ReadOnly Collection<? extends E> coll) {
-    return UniJ.setFactory().copyOf(coll);
+    return setFactory("copyOf", coll).copyOf(coll);
   }
   //endregion
 
@@ -48,7 +65,7 @@ public final class UniSets {
    */
   @ReadOnly
   public static <E> Set<E> of() {
-    return UniJ.setFactory().of();
+    return setFactory("of", 0).of();
   }
 
   /**
@@ -56,7 +73,7 @@ public final class UniSets {
    */
   @ReadOnly
   public static <E> Set<E> of(E e1) {
-    return UniJ.setFactory().of(e1);
+    return setFactory("of", 1).of(e1);
   }
 
   /**
@@ -64,7 +81,7 @@ public final class UniSets {
    */
   @ReadOnly
   public static <E> Set<E> of(E e1, E e2) {
-    return UniJ.setFactory().of(e1, e2);
+    return setFactory("of", 2).of(e1, e2);
   }
 
   /**
@@ -72,7 +89,7 @@ public final class UniSets {
    */
   @ReadOnly
   public static <E> Set<E> of(E e1, E e2, E e3) {
-    return UniJ.setFactory().of(e1, e2, e3);
+    return setFactory("of", 3).of(e1, e2, e3);
   }
 
   /**
@@ -80,7 +97,7 @@ public final class UniSets {
    */
   @ReadOnly
   public static <E> Set<E> of(E e1, E e2, E e3, E e4) {
-    return UniJ.setFactory().of(e1, e2, e3, e4);
+    return setFactory("of", 4).of(e1, e2, e3, e4);
   }
 
   /**
@@ -88,7 +105,7 @@ public final class UniSets {
    */
   @ReadOnly
   public static <E> Set<E> of(E e1, E e2, E e3, E e4, E e5) {
-    return UniJ.setFactory().of(e1, e2, e3, e4, e5);
+    return setFactory("of", 5).of(e1, e2, e3, e4, e5);
   }
 
   /**
@@ -96,7 +113,7 @@ public final class UniSets {
    */
   @ReadOnly
   public static <E> Set<E> of(E e1, E e2, E e3, E e4, E e5, E e6) {
-    return UniJ.setFactory().of(e1, e2, e3, e4, e5, e6);
+    return setFactory("of", 6).of(e1, e2, e3, e4, e5, e6);
   }
 
   /**
@@ -104,7 +121,7 @@ public final class UniSets {
    */
   @ReadOnly
   public static <E> Set<E> of(E e1, E e2, E e3, E e4, E e5, E e6, E e7) {
-    return UniJ.setFactory().of(e1, e2, e3, e4, e5, e6, e7);
+    return setFactory("of", 7).of(e1, e2, e3, e4, e5, e6, e7);
   }
 
   /**
@@ -112,7 +129,7 @@ public final class UniSets {
    */
   @ReadOnly
   public static <E> Set<E> of(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8) {
-    return UniJ.setFactory().of(e1, e2, e3, e4, e5, e6, e7, e8);
+    return setFactory("of", 8).of(e1, e2, e3, e4, e5, e6, e7, e8);
   }
 
   /**
@@ -120,7 +137,7 @@ public final class UniSets {
    */
   @ReadOnly
   public static <E> Set<E> of(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9) {
-    return UniJ.setFactory().of(e1, e2, e3, e4, e5, e6, e7, e8, e9);
+    return setFactory("of", 9).of(e1, e2, e3, e4, e5, e6, e7, e8, e9);
   }
 
   /**
@@ -129,7 +146,7 @@ public final class UniSets {
   @SuppressWarnings("PMD.ExcessiveParameterList")
   @ReadOnly
   public static <E> Set<E> of(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9, E e10) {
-    return UniJ.setFactory().of(e1, e2, e3, e4, e5, e6, e7, e8, e9, e10);
+    return setFactory("of", 10).of(e1, e2, e3, e4, e5, e6, e7, e8, e9, e10);
   }
 
   /**
@@ -138,7 +155,75 @@ public final class UniSets {
   @SafeVarargs
   @ReadOnly
   public static <E> Set<E> of(E... elements) {
-    return UniJ.setFactory().of(elements);
+    return setFactory("of", elements.length).of(elements);
+  }
+  //endregion
+
+  //region ENUMS
+
+  /**
+   * Equivalent of {@link EnumSet#of(Enum, Enum[])} returning an unmodifiable set (performance extension; has no JDK
+   * equivalent).
+   * <p>
+   * Unlike {@link #of(Object[])}, it ignores duplicate elements (like {@link EnumSet}).
+   */
+  @SafeVarargs
+  @ReadOnly
+  public static <E extends Enum<E>> Set<E> ofEnums(E first, E... rest) {
+    return setFactory("ofEnums", 1 + rest.length).ofEnums(first, rest);
+  }
+  //endregion
+
+  //region PERSISTENT
+
+  /**
+   * Returns an unmodifiable set consisting of the elements of the given {@code set} and the given {@code element}
+   * (performance extension; has no JDK equivalent).
+   * <p>
+   * If a {@link PersistentCollectionFactory} is present at runtime (e.g. the persistent binding, even alongside another
+   * binding), it's used instead of the regular factory, and it shares most of the structure between the two sets;
+   * other bindings copy {@code set}.
+   */
+  @ReadOnly
+  public static <E> Set<E> with(@ReadOnly Set<? extends E> set, E element) {
+    return persistentFactory("with", set).with(set, element);
+  }
+  //endregion
+
+  //region INTERN
+
+  /**
+   * Returns a canonical unmodifiable {@link Set} equal to the given {@code set} (performance extension; has no JDK
+   * equivalent).
+   * <p>
+   * Equal sets interned this way are represented by a single, shared instance for as long as it's in use (unless the
+   * bounded intern cache is full), which saves memory when many equal sets are retained.
+   */
+  @SuppressWarnings("unchecked")
+  @ReadOnly
+  public static <E> Set<E> intern(@ReadOnly Set<? extends E> set) {
+    UnmodifiableSetFactory factory = setFactory("intern", set);
+    return (Set<E>) INTERNER.intern(set, factory::copyOf);
+  }
+  //endregion
+
+  //region RECORDING
+  private static UnmodifiableSetFactory setFactory(String method, int elementCount) {
+    UnmodifiableSetFactory factory = UniJ.setFactory();
+    FactoryCallRecorder.record("UniSets", method, elementCount, factory);
+    return factory;
+  }
+
+  private static UnmodifiableSetFactory setFactory(String method, Collection<?> elements) {
+    UnmodifiableSetFactory factory = UniJ.setFactory();
+    FactoryCallRecorder.record("UniSets", method, elements, factory);
+    return factory;
+  }
+
+  private static PersistentCollectionFactory persistentFactory(String method, Collection<?> elements) {
+    PersistentCollectionFactory factory = UniJ.persistentFactory();
+    FactoryCallRecorder.record("UniSets", method, elements, factory);
+    return factory;
   }
   //endregion
 }
@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api;
+
+import java.util.*;
+
+import kotlin.annotations.jvm.ReadOnly;
+import lombok.experimental.UtilityClass;
+
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableSortedMapFactory;
+
+/**
+ * Provides static factory methods of unmodifiable {@link SortedMap}s, i.e. sorted counterparts of the maps returned by
+ * {@link UniMaps} (performance extension; has no JDK equivalent).
+ *
+ * @author Tomasz Linkowski
+ */
+@UtilityClass
+public final class UniSortedMaps {
+
+  //region COPY OF
+
+  /**
+   * Returns an unmodifiable {@link SortedMap} containing the entries of the given {@code map} in the same order.
+   */
+  @ReadOnly
+  public static <K, V> SortedMap<K, V> copyOf(@ReadOnly SortedMap<K, ? extends V> map) {
+    return sortedMapFactory("copyOf", map).copyOf(map);
+  }
+
+  /**
+   * Sorted counterpart of {@link UniMaps#copyOf(Map)}.
+   */
+  @ReadOnly
+  public static <K, V> SortedMap<K, V> copyOf(Comparator<? super K> comparator,
+          @ReadOnly Map<? extends K, ? extends V> map) {
+    return sortedMapFactory("copyOf", map).copyOf(comparator, map);
+  }
+  //endregion
+
+  //region ENTRIES
+
+  /**
+   * Sorted counterpart of {@link UniMaps#ofEntries(Map.Entry[])}.
+   */
+  @SafeVarargs
+  @ReadOnly
+  public static <K, V> SortedMap<K, V> ofEntries(Comparator<? super K> comparator,
+          @ReadOnly Map.Entry<? extends K, ? extends V>... entries) {
+    return sortedMapFactory("ofEntries", entries.length).ofEntries(comparator, entries);
+  }
+  //endregion
+
+  //region OF
+
+  /**
+   * Sorted counterpart of {@link UniMaps#of()}.
+   */
+  @ReadOnly
+  public static <K, V> SortedMap<K, V> of(Comparator<? super K> comparator) {
+    return sortedMapFactory("of", 0).of(comparator);
+  }
+
+  /**
+   * Sorted counterpart of {@link UniMaps#of(Object, Object)}.
+   */
+  @ReadOnly
+  public static <K, V> SortedMap<K, V> of(Comparator<? super K> comparator, K k1, V v1) {
+    return sortedMapFactory("of", 1).of(comparator, k1, v1);
+  }
+
+  /**
+   * Sorted counterpart of {@link UniMaps#of(Object, Object, Object, Object)}.
+   */
+  @ReadOnly
+  public static <K, V> SortedMap<K, V> of(Comparator<? super K> comparator, K k1, V v1, K k2, V v2) {
+    return sortedMapFactory("of", 2).of(comparator, k1, v1, k2, v2);
+  }
+
+  /**
+   * Sorted counterpart of {@link UniMaps#of(Object, Object, Object, Object, Object, Object)}.
+   */
+  @ReadOnly
+  public static <K, V> SortedMap<K, V> of(Comparator<? super K> comparator, K k1, V v1, K k2, V v2, K k3, V v3) {
+    return sortedMapFactory("of", 3).of(comparator, k1, v1, k2, v2, k3, v3);
+  }
+  //endregion
+
+  //region RECORDING
+  private static UnmodifiableSortedMapFactory sortedMapFactory(String method, int entryCount) {
+    UnmodifiableSortedMapFactory factory = UniJ.sortedMapFactory();
+    FactoryCallRecorder.record("UniSortedMaps", method, entryCount, factory);
+    return factory;
+  }
+
+  private static UnmodifiableSortedMapFactory sortedMapFactory(String method, Map<?, ?> entries) {
+    UnmodifiableSortedMapFactory factory = UniJ.sortedMapFactory();
+    FactoryCallRecorder.record("UniSortedMaps", method, entries, factory);
+    return factory;
+  }
+  //endregion
+}
@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api;
+
+import java.util.*;
+
+import kotlin.annotations.jvm.ReadOnly;
+import lombok.experimental.UtilityClass;
+
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableSortedSetFactory;
+
+/**
+ * Provides static factory methods of unmodifiable {@link SortedSet}s, i.e. sorted counterparts of the sets returned by
+ * {@link UniSets} (performance extension; has no JDK equivalent).
+ *
+ * @author Tomasz Linkowski
+ */
+@UtilityClass
+public final class UniSortedSets {
+
+  //region COPY OF
+
+  /**
+   * Returns an unmodifiable {@link SortedSet} containing the elements of the given {@code set} in the same order.
+   */
+  @ReadOnly
+  public static <E> SortedSet<E> copyOf(@ReadOnly SortedSet<E> set) {
+    return sortedSetFactory("copyOf", set).copyOf(set);
+  }
+
+  /**
+   * Sorted counterpart of {@link UniSets#copyOf(Collection)}.
+   */
+  @ReadOnly
+  public static <E> SortedSet<E> copyOf(Comparator<? super E> comparator, @ReadOnly Collection<? extends E> coll) {
+    return sortedSetFactory("copyOf", coll).copyOf(comparator, coll);
+  }
+  //endregion
+
+  //region OF
+
+  /**
+   * Sorted counterpart of {@link UniSets#of(Object[])}.
+   */
+  @SafeVarargs
+  @ReadOnly
+  public static <E> SortedSet<E> of(Comparator<? super E> comparator, E... elements) {
+    return sortedSetFactory("of", elements.length).of(comparator, elements);
+  }
+  //endregion
+
+  //region RECORDING
+  private static UnmodifiableSortedSetFactory sortedSetFactory(String method, int elementCount) {
+    UnmodifiableSortedSetFactory factory = UniJ.sortedSetFactory();
+    FactoryCallRecorder.record("UniSortedSets", method, elementCount, factory);
+    return factory;
+  }
+
+  private static UnmodifiableSortedSetFactory sortedSetFactory(String method, Collection<?> elements) {
+    UnmodifiableSortedSetFactory factory = UniJ.sortedSetFactory();
+    FactoryCallRecorder.record("UniSortedSets", method, elements, factory);
+    return factory;
+  }
+  //endregion
+}
@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event recorded on every call to a factory method of {@link UniLists}, {@link UniSets}, {@link UniMaps}, and
+ * {@link UniCollectors}.
+ * <p>
+ * Disabled by default, because it may be very frequent. When enabled (in the {@code .jfc} settings of a recording),
+ * its stack traces reveal the hotspots of collection creation.
+ *
+ * @author Tomasz Linkowski
+ */
+@Name("pl.tlinkowski.unij.FactoryCall")
+@Label("UniJ Factory Call")
+@Category("UniJ")
+@Description("Call to a UniJ factory method creating an unmodifiable collection or a collector")
+@Enabled(false)
+@StackTrace(true)
+final class FactoryCallEvent extends Event {
+
+  @Label("Facade")
+  String facade;
+
+  @Label("Method")
+  String method;
+
+  @Label("Element Count")
+  @Description("Number of elements/entries passed to the method (-1 for collectors)")
+  int elementCount;
+
+  @Label("Binding")
+  @Description("Class of the UniJ service implementation that handled the call")
+  Class<?> binding;
+
+  @Label("Sampling Rate")
+  @Description("Number of calls represented by this event on average (one in N calls is recorded at random)")
+  int samplingRate;
+}
@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event recorded when a UniJ service implementation is discovered and selected.
+ *
+ * @author Tomasz Linkowski
+ */
+@Name("pl.tlinkowski.unij.ServiceLoad")
+@Label("UniJ Service Load")
+@Category("UniJ")
+@Description("Discovery and selection of a UniJ service implementation")
+@StackTrace(false)
+final class ServiceLoadEvent extends Event {
+
+  @Label("Service")
+  Class<?> serviceClass;
+
+  @Label("Candidate Count")
+  @Description("Number of implementations of the service found at runtime")
+  int candidateCount;
+
+  @Label("Selected Implementation")
+  Class<?> selectedClass;
+
+  @Label("Priority")
+  @Description("Priority of the selected implementation (smaller number means higher priority)")
+  int priority;
+
+  @Label("From Registry")
+  @Description("Whether the implementation was selected using the build-time registry (i.e. without ServiceLoader)")
+  boolean fromRegistry;
+}
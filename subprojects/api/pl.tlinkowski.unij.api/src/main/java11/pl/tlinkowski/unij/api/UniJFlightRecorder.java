@@ -0,0 +1,129 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+import jdk.jfr.EventType;
+
+/**
+ * Records UniJ events for JDK Flight Recorder (used internally by {@link UniJLoader} and {@link
+ * FactoryCallRecorder}) - JDK 11+ variant (part of a multi-release JAR).
+ * <p>
+ * Emits {@link ServiceLoadEvent} (enabled by default) and {@link FactoryCallEvent} (disabled by default). When no
+ * recording is running, the cost of each call is a check of the (cached) {@link EventType#isEnabled()} flag. If {@code
+ * jdk.jfr} module is absent from the runtime image, nothing is recorded.
+ * <p>
+ * Only one in N factory calls (chosen at random, on average) is recorded if N is given by the {@value
+ * #FACTORY_CALL_SAMPLING_RATE_PROPERTY} system property (the default is 1, i.e. every call). Drawing a thread-local
+ * random number (instead of counting the calls) keeps the threads from contending for a shared counter.
+ *
+ * @author Tomasz Linkowski
+ */
+final class UniJFlightRecorder {
+
+  static final String FACTORY_CALL_SAMPLING_RATE_PROPERTY = "pl.tlinkowski.unij.jfr.factoryCallSamplingRate";
+
+  private static final boolean JFR_AVAILABLE = makeJfrReadable();
+  private static final int FACTORY_CALL_SAMPLING_RATE = Math.max(1,
+          Integer.getInteger(FACTORY_CALL_SAMPLING_RATE_PROPERTY, 1));
+
+  private UniJFlightRecorder() {
+    throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+  }
+
+  private static boolean makeJfrReadable() {
+    Optional<Module> jfrModule = ModuleLayer.boot().findModule("jdk.jfr");
+    // pl.tlinkowski.unij.api module does not require jdk.jfr (it only reads it when it's present)
+    jfrModule.ifPresent(UniJFlightRecorder.class.getModule()::addReads);
+    return jfrModule.isPresent();
+  }
+
+  static ServiceLoadRecording beginServiceLoad(Class<?> serviceClass) {
+    return JFR_AVAILABLE ? Events.beginServiceLoad(serviceClass) : ServiceLoadRecording.NONE;
+  }
+
+  static void recordFactoryCall(String facade, String method, int elementCount, Object service) {
+    if (JFR_AVAILABLE && Events.isFactoryCallEnabled() && isSampled()) {
+      Events.commitFactoryCall(facade, method, elementCount, service);
+    }
+  }
+
+  static void recordFactoryCall(String facade, String method, Collection<?> elements, Object service) {
+    if (JFR_AVAILABLE && Events.isFactoryCallEnabled() && isSampled()) {
+      Events.commitFactoryCall(facade, method, elements.size(), service);
+    }
+  }
+
+  static void recordFactoryCall(String facade, String method, Map<?, ?> map, Object service) {
+    if (JFR_AVAILABLE && Events.isFactoryCallEnabled() && isSampled()) {
+      Events.commitFactoryCall(facade, method, map.size(), service);
+    }
+  }
+
+  private static boolean isSampled() {
+    return FACTORY_CALL_SAMPLING_RATE == 1 || ThreadLocalRandom.current().nextInt(FACTORY_CALL_SAMPLING_RATE) == 0;
+  }
+
+  /**
+   * Holds all the references to {@code jdk.jfr} classes, so that they are loaded only if JFR is available.
+   */
+  private static final class Events {
+
+    private static final EventType FACTORY_CALL_TYPE = EventType.getEventType(FactoryCallEvent.class);
+
+    static ServiceLoadRecording beginServiceLoad(Class<?> serviceClass) {
+      ServiceLoadEvent event = new ServiceLoadEvent();
+      if (!event.isEnabled()) {
+        return ServiceLoadRecording.NONE;
+      }
+
+      event.begin();
+      return (candidateCount, service, priority, fromRegistry) -> {
+        event.end();
+        if (event.shouldCommit()) {
+          event.serviceClass = serviceClass;
+          event.candidateCount = candidateCount;
+          event.selectedClass = service.getClass();
+          event.priority = priority;
+          event.fromRegistry = fromRegistry;
+          event.commit();
+        }
+      };
+    }
+
+    static boolean isFactoryCallEnabled() {
+      return FACTORY_CALL_TYPE.isEnabled();
+    }
+
+    static void commitFactoryCall(String facade, String method, int elementCount, Object service) {
+      FactoryCallEvent event = new FactoryCallEvent();
+      if (event.shouldCommit()) {
+        event.facade = facade;
+        event.method = method;
+        event.elementCount = elementCount;
+        event.binding = service.getClass();
+        event.samplingRate = FACTORY_CALL_SAMPLING_RATE;
+        event.commit();
+      }
+    }
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api;
+
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+/**
+ * Loads UniJ services (used internally by {@link UniJ}) - JDK 9+ variant (part of a multi-release JAR).
+ * <p>
+ * Finds the implementations using {@link ServiceLoader#stream()} and lets {@link UniJServiceSelector} select the one
+ * with the highest priority. The priorities are read from {@link ServiceLoader.Provider#type()}, so only the selected
+ * implementation gets instantiated (unlike in the JDK 8 variant).
+ * <p>
+ * The implementation selected using the registry is instantiated through its {@link ServiceLoader.Provider} as well,
+ * because its package need not be exported (e.g. on the modulepath, where the bindings only {@code provides} them).
+ *
+ * @author Tomasz Linkowski
+ */
+final class UniJLoader {
+
+  private UniJLoader() {
+    throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+  }
+
+  static <S> S load(Class<S> serviceClass) {
+    return load(serviceClass, null);
+  }
+
+  /**
+   * Loads the given service, returning {@code defaultService} (if not {@code null}) when no implementation is found.
+   */
+  static <S> S load(Class<S> serviceClass, @NullOr S defaultService) {
+    return UniJServiceSelector.load(
+            serviceClass, defaultService, UniJLoader::findRegistrableProviders, UniJLoader::findProviders,
+            ServiceLoader.Provider::type, ServiceLoader.Provider::get
+    );
+  }
+
+  private static <S> List<ServiceLoader.Provider<S>> findProviders(Class<S> serviceClass) {
+    return ServiceLoader.load(serviceClass).stream().collect(Collectors.toList());
+  }
+
+  private static <S> ServiceProviders<S> findRegistrableProviders(Class<S> serviceClass, ClassLoader classLoader) {
+    Map<String, ServiceLoader.Provider<S>> classNameProviderMap = ServiceLoader.load(serviceClass, classLoader)
+            .stream().collect(Collectors.toMap(provider -> provider.type().getName(), Function.identity()));
+    return new ServiceProviders<>() {
+      @Override
+      public Set<String> classNames() {
+        return classNameProviderMap.keySet();
+      }
+
+      @Override
+      public S instantiate(String className) {
+        return classNameProviderMap.get(className).get();
+      }
+    };
+  }
+}
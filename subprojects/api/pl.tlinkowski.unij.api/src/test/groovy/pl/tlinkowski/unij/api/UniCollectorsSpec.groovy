@@ -19,8 +19,10 @@ package pl.tlinkowski.unij.api
 
 import spock.lang.Specification
 
-import java.util.stream.Collectors
-import java.util.stream.Stream
+import java.util.stream.*
+
+import pl.tlinkowski.unij.service.api.UniJService
+import pl.tlinkowski.unij.service.api.metrics.MetricsSink
 
 /**
  * @author Tomasz Linkowski
@@ -82,6 +84,138 @@ class UniCollectorsSpec extends Specification {
   }
   //endregion
 
+  //region TO UNMODIFIABLE MAP CONCURRENT
+  def "toUnmodifiableMapConcurrent(keyMapper,valueMapper)"(Map<String, Integer> map) {
+    given:
+      def entryStream = map.entrySet().parallelStream()
+      def collector = UniCollectors.toUnmodifiableMapConcurrent({ it.getKey() }, { it.getValue() })
+    expect:
+      entryStream.collect(collector) == map
+    where:
+      map                      | _
+      [:]                      | _
+      ["a": 1]                 | _
+      ["a": 1, "b": 2]         | _
+      ["a": 1, "b": 2, "c": 3] | _
+  }
+
+  def "toUnmodifiableMapConcurrent(keyMapper,valueMapper,mergeFunction)"(List<Map<String, Integer>> maps,
+          Map<String, Integer> merged) {
+    given:
+      def entryStream = maps.parallelStream().flatMap { it.entrySet().stream() }
+      def collector = UniCollectors.toUnmodifiableMapConcurrent(
+              { it.getKey() }, { it.getValue() }, { l, r -> l + r }
+      )
+    expect:
+      entryStream.collect(collector) == merged
+    where:
+      maps                         | merged
+      []                           | [:]
+      [["a": 1]]                   | ["a": 1]
+      [["a": 1], ["b": 2]]         | ["a": 1, "b": 2]
+      [["a": 1, "b": 2], ["b": 3]] | ["a": 1, "b": 5]
+  }
+  //endregion
+
+  //region SORTED COLLECTIONS
+  def "toUnmodifiableSortedSet(comparator)"(List<Integer> list) {
+    expect:
+      new ArrayList<>(list.stream().collect(UniCollectors.toUnmodifiableSortedSet(Comparator.reverseOrder()))) ==
+              list.toUnique().sort(false).reverse()
+    where:
+      list << [[], [1], [2, 1], [3, 1, 2, 1]]
+  }
+
+  def "toUnmodifiableSortedMap(comparator,keyMapper,valueMapper)"(List<String> list) {
+    given:
+      def sortedMap = list.stream().collect(UniCollectors.toUnmodifiableSortedMap(
+              Comparator.reverseOrder(), { it }, { it.length() }
+      ))
+    expect:
+      sortedMap == list.collectEntries { [(it): it.length()] }
+      new ArrayList<>(sortedMap.keySet()) == list.sort(false).reverse()
+    where:
+      list << [[], ["a"], ["bb", "a"], ["a", "ccc", "bb"]]
+  }
+  //endregion
+
+  //region PRIMITIVE LISTS
+  def "toUnmodifiableIntList(stream)"(List<Integer> list) {
+    given:
+      int[] array = list
+    expect:
+      UniCollectors.toUnmodifiableIntList(IntStream.of(array)) == list
+    where:
+      list << [[], [1], [1, 2], [1, 2, 3]].collect { it.collect { it as Integer } }
+  }
+
+  def "toUnmodifiableLongList(stream)"(List<Long> list) {
+    given:
+      long[] array = list
+    expect:
+      UniCollectors.toUnmodifiableLongList(LongStream.of(array)) == list
+    where:
+      list << [[], [1], [1, 2], [1, 2, 3]].collect { it.collect { it as Long } }
+  }
+
+  def "toUnmodifiableDoubleList(stream)"(List<Double> list) {
+    given:
+      double[] array = list
+    expect:
+      UniCollectors.toUnmodifiableDoubleList(DoubleStream.of(array)) == list
+    where:
+      list << [[], [1], [1, 2], [1, 2, 3]].collect { it.collect { it as Double } }
+  }
+  //endregion
+
+  //region PRIMITIVE SETS
+  def "toUnmodifiableIntSet(stream)"(List<Integer> list) {
+    given:
+      int[] array = list
+    expect:
+      UniCollectors.toUnmodifiableIntSet(IntStream.of(array)) == list as Set
+      UniCollectors.toUnmodifiableIntSet(IntStream.of(array).parallel()) == list as Set
+    where:
+      list << [[], [1], [1, 1], [2, 1], [3, 1, 2, 1, 3]].collect { it.collect { it as Integer } }
+  }
+
+  def "toUnmodifiableLongSet(stream)"(List<Long> list) {
+    given:
+      long[] array = list
+    expect:
+      UniCollectors.toUnmodifiableLongSet(LongStream.of(array)) == list as Set
+    where:
+      list << [[], [1], [1, 1], [2, 1], [3, 1, 2, 1, 3]].collect { it.collect { it as Long } }
+  }
+
+  def "toUnmodifiableDoubleSet(stream)"(List<Double> list) {
+    given:
+      double[] array = list
+    expect:
+      UniCollectors.toUnmodifiableDoubleSet(DoubleStream.of(array)) == new HashSet<>(list)
+    where:
+      list << [[], [1.0d], [1.0d, 1.0d], [2.0d, 1.0d], [Double.NaN, 0.0d, -0.0d, Double.NaN, 0.0d]]
+  }
+  //endregion
+
+  //region PRIMITIVE MAPS
+  def "toUnmodifiableLongObjectMap(keyMapper,valueMapper)"(List<String> list) {
+    expect:
+      list.stream().collect(UniCollectors.toUnmodifiableLongObjectMap({ it.length() as long }, { it })) ==
+              list.collectEntries { [(it.length() as long): it] }
+    where:
+      list << [[], ["a"], ["a", "bb"], ["a", "bb", "ccc"]]
+  }
+
+  def "toUnmodifiableObjectIntMap(keyMapper,valueMapper)"(List<String> list) {
+    expect:
+      list.stream().collect(UniCollectors.toUnmodifiableObjectIntMap({ it }, { it.length() })) ==
+              list.collectEntries { [(it): it.length()] }
+    where:
+      list << [[], ["a"], ["a", "bb"], ["a", "bb", "ccc"]]
+  }
+  //endregion
+
   //region MISCELLANEOUS (corresponds to COLLECTORS: STANDARD CONTRACT region of AbstractMiscellaneousApiProviderSpec)
   def "flatMapping(mapper,downstream)"(List<Integer> list, List<Integer> expected) {
     when:
@@ -111,4 +245,53 @@ class UniCollectorsSpec extends Specification {
       [1, 2, 3] | [1, 3]
   }
   //endregion
+
+  //region METRICS (RecordingMetricsSink is registered in META-INF/services)
+  def "collector records the size of its result (#method)"(String method, Collector<Integer, ?, ?> collector) {
+    given:
+      RecordingMetricsSink.CALLS.clear()
+    when:
+      Stream.of(1, 2, 3).collect(collector)
+    then:
+      RecordingMetricsSink.CALLS == ["$method:3".toString()]
+    where:
+      method                        | collector
+      "toUnmodifiableList"          | UniCollectors.toUnmodifiableList()
+      "toUnmodifiableSet"           | UniCollectors.toUnmodifiableSet()
+      "toUnmodifiableMap"           | UniCollectors.toUnmodifiableMap({ it }, { it })
+      "toUnmodifiableMapConcurrent" | UniCollectors.toUnmodifiableMapConcurrent({ it }, { it })
+      "toUnmodifiableSortedSet"     | UniCollectors.toUnmodifiableSortedSet(Comparator.naturalOrder())
+  }
+
+  def "toUnmodifiableIntList(stream) records the size of the collected list"() {
+    given:
+      RecordingMetricsSink.CALLS.clear()
+    when:
+      UniCollectors.toUnmodifiableIntList(IntStream.range(0, 3))
+    then:
+      RecordingMetricsSink.CALLS == ["toUnmodifiableIntList:3"]
+  }
+
+  def "collector does not record metrics until it finishes"() {
+    given:
+      RecordingMetricsSink.CALLS.clear()
+    when:
+      UniCollectors.toUnmodifiableList()
+    then:
+      RecordingMetricsSink.CALLS.isEmpty()
+  }
+
+  @UniJService(priority = 10)
+  static class RecordingMetricsSink implements MetricsSink {
+
+    static final List<String> CALLS = Collections.synchronizedList([])
+
+    @Override
+    void recordFactoryCall(String facade, String method, int elementCount) {
+      if (facade == "UniCollectors") {
+        CALLS << "$method:$elementCount".toString()
+      }
+    }
+  }
+  //endregion
 }
@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api
+
+import spock.lang.Specification
+
+/**
+ * @author Tomasz Linkowski
+ */
+class UniDoubleListsSpec extends Specification {
+
+  def "copyOf(array)"(List<Double> list) {
+    given:
+      double[] array = list
+    expect:
+      UniDoubleLists.copyOf(array) == List.copyOf(list)
+    where:
+      list << doubleLists()
+  }
+
+  def "copyOf(collection)"(List<Double> list) {
+    expect:
+      UniDoubleLists.copyOf(list) == List.copyOf(list)
+    where:
+      list << doubleLists()
+  }
+
+  def "of(...)"(List<Double> list) {
+    given:
+      double[] array = list
+    expect:
+      UniDoubleLists.of(array) == List.copyOf(list)
+    where:
+      list << doubleLists()
+  }
+
+  private static List<List<Double>> doubleLists() {
+    [[], [1], [1, 2], [1, 2, 3]].collect { list -> list.collect { it as Double } }
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api
+
+import spock.lang.Specification
+
+/**
+ * @author Tomasz Linkowski
+ */
+class UniIntListsSpec extends Specification {
+
+  def "copyOf(array)"(List<Integer> list) {
+    given:
+      int[] array = list
+    expect:
+      UniIntLists.copyOf(array) == List.copyOf(list)
+    where:
+      list << intLists()
+  }
+
+  def "copyOf(collection)"(List<Integer> list) {
+    expect:
+      UniIntLists.copyOf(list) == List.copyOf(list)
+    where:
+      list << intLists()
+  }
+
+  def "of(...)"(List<Integer> list) {
+    given:
+      int[] array = list
+    expect:
+      UniIntLists.of(array) == List.copyOf(list)
+    where:
+      list << intLists()
+  }
+
+  private static List<List<Integer>> intLists() {
+    [[], [1], [1, 2], [1, 2, 3]].collect { list -> list.collect { it as Integer } }
+  }
+}
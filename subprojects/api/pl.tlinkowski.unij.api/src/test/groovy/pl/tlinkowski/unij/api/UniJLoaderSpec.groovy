@@ -36,6 +36,13 @@ class UniJLoaderSpec extends Specification {
       ex.message.contains("service implementation not found")
   }
 
+  def "load() returns default service when service implementation is missing"() {
+    given:
+      def defaultService = new NoImplService() {}
+    expect:
+      UniJLoader.load(NoImplService, defaultService).is(defaultService)
+  }
+
   interface NoImplService {
   }
   //endregion
@@ -99,4 +106,66 @@ class UniJLoaderSpec extends Specification {
   static class DifferentPriorityServiceImpl2 implements DifferentPriorityService {
   }
   //endregion
+
+  //region REGISTRY
+  def "load() selects registered implementation without instantiating the other ones"() {
+    when:
+      def service = UniJLoader.load(RegisteredService)
+    then:
+      service instanceof RegisteredServiceImpl2
+  }
+
+  def "load() falls back to ServiceLoader when an implementation is not registered"() {
+    when:
+      def service = UniJLoader.load(PartiallyRegisteredService)
+    then:
+      service instanceof PartiallyRegisteredServiceImpl2
+  }
+
+  def "load() throws when two registered implementations have the same priority"() {
+    when:
+      UniJLoader.load(DuplicateRegisteredPriorityService)
+    then:
+      UniJException ex = thrown()
+      ex.message.contains(DuplicateRegisteredPriorityServiceImpl1.name)
+      ex.message.contains(DuplicateRegisteredPriorityServiceImpl2.name)
+      ex.message.contains("same priority")
+  }
+
+  interface RegisteredService {
+  }
+
+  @UniJService(priority = 10)
+  static class RegisteredServiceImpl1 implements RegisteredService {
+    RegisteredServiceImpl1() {
+      throw new IllegalStateException("Lower-priority registered implementation must not be instantiated")
+    }
+  }
+
+  @UniJService(priority = -10)
+  static class RegisteredServiceImpl2 implements RegisteredService {
+  }
+
+  interface PartiallyRegisteredService {
+  }
+
+  @UniJService(priority = 10)
+  static class PartiallyRegisteredServiceImpl1 implements PartiallyRegisteredService {
+  }
+
+  @UniJService(priority = -10)
+  static class PartiallyRegisteredServiceImpl2 implements PartiallyRegisteredService {
+  }
+
+  interface DuplicateRegisteredPriorityService {
+  }
+
+  @UniJService(priority = 10)
+  static class DuplicateRegisteredPriorityServiceImpl1 implements DuplicateRegisteredPriorityService {
+  }
+
+  @UniJService(priority = 10)
+  static class DuplicateRegisteredPriorityServiceImpl2 implements DuplicateRegisteredPriorityService {
+  }
+  //endregion
 }
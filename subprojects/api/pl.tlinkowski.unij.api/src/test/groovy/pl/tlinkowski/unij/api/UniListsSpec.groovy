@@ -35,6 +35,11 @@ class UniListsSpec extends Specification {
       [1, 2, 3] | _
   }
 
+  def "builder"() {
+    expect:
+      UniLists.builder(3).add(1).addAll([2, 3]).build() == List.of(1, 2, 3)
+  }
+
   def "of(n=0)"() {
     expect:
       UniLists.of() == List.of()
@@ -100,4 +105,19 @@ class UniListsSpec extends Specification {
       UniLists.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11) ==
               List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11)
   }
+
+  def "with"() {
+    expect:
+      UniLists.with(UniLists.of(1, 2), 3) == List.of(1, 2, 3)
+  }
+
+  def "intern"() {
+    given:
+      def interned = UniLists.intern([1, 2, 3])
+    expect:
+      interned == List.of(1, 2, 3)
+      UniLists.intern(UniLists.of(1, 2, 3)).is(interned)
+      UniLists.intern(new LinkedList<>([1, 2, 3])).is(interned)
+      !UniLists.intern([3, 2, 1]).is(interned)
+  }
 }
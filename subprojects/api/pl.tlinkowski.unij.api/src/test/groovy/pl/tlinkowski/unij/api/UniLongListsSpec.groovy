@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.api
+
+import spock.lang.Specification
+
+/**
+ * @author Tomasz Linkowski
+ */
+class UniLongListsSpec extends Specification {
+
+  def "copyOf(array)"(List<Long> list) {
+    given:
+      long[] array = list
+    expect:
+      UniLongLists.copyOf(array) == List.copyOf(list)
+    where:
+      list << longLists()
+  }
+
+  def "copyOf(collection)"(List<Long> list) {
+    expect:
+      UniLongLists.copyOf(list) == List.copyOf(list)
+    where:
+      list << longLists()
+  }
+
+  def "of(...)"(List<Long> list) {
+    given:
+      long[] array = list
+    expect:
+      UniLongLists.of(array) == List.copyOf(list)
+    where:
+      list << longLists()
+  }
+
+  private static List<List<Long>> longLists() {
+    [[], [1], [1, 2], [1, 2, 3]].collect { list -> list.collect { it as Long } }
+  }
+}
@@ -19,6 +19,8 @@ package pl.tlinkowski.unij.api
 
 import spock.lang.Specification
 
+import java.util.concurrent.TimeUnit
+
 /**
  * @author Tomasz Linkowski
  */
@@ -59,6 +61,11 @@ class UniMapsSpec extends Specification {
   }
   //endregion
 
+  def "builder"() {
+    expect:
+      UniMaps.builder(3).put("a", 1).putAll([b: 2, c: 3]).build() == Map.of("a", 1, "b", 2, "c", 3)
+  }
+
   def "of(n=0)"() {
     expect:
       UniMaps.of() == Map.of()
@@ -121,4 +128,40 @@ class UniMapsSpec extends Specification {
       UniMaps.of("a", 1, "b", 2, "c", 3, "d", 4, "e", 5, "f", 6, "g", 7, "h", 8, "i", 9, "j", 10) ==
               Map.of("a", 1, "b", 2, "c", 3, "d", 4, "e", 5, "f", 6, "g", 7, "h", 8, "i", 9, "j", 10)
   }
+
+  def "copyOfEnumMap"() {
+    given:
+      def map = new EnumMap<TimeUnit, Integer>([(TimeUnit.SECONDS): 1, (TimeUnit.DAYS): 2])
+    expect:
+      UniMaps.copyOfEnumMap(map) == Map.copyOf(map)
+  }
+
+  def "with"() {
+    expect:
+      UniMaps.with(UniMaps.of("a", 1), "b", 2) == Map.of("a", 1, "b", 2)
+  }
+
+  def "without"() {
+    expect:
+      UniMaps.without(UniMaps.of("a", 1, "b", 2), "a") == Map.of("b", 2)
+  }
+
+  def "copyOfStatic"() {
+    expect:
+      UniMaps.copyOfStatic([a: 1, b: 2]) == Map.of("a", 1, "b", 2)
+  }
+
+  def "ofStatic"() {
+    expect:
+      UniMaps.ofStatic(UniMaps.entry("a", 1), UniMaps.entry("b", 2)) == Map.of("a", 1, "b", 2)
+  }
+
+  def "intern"() {
+    given:
+      def interned = UniMaps.intern([a: 1, b: 2])
+    expect:
+      interned == Map.of("a", 1, "b", 2)
+      UniMaps.intern(UniMaps.of("b", 2, "a", 1)).is(interned)
+      !UniMaps.intern([a: 1, b: 3]).is(interned)
+  }
 }
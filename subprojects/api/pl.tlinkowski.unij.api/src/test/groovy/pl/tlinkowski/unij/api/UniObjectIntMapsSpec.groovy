@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+package pl.tlinkowski.unij.api
+
+import spock.lang.Specification
+
+/**
+ * @author Tomasz Linkowski
+ */
+class UniObjectIntMapsSpec extends Specification {
+
+  def "copyOf"(Map<String, Integer> map) {
+    expect:
+      UniObjectIntMaps.copyOf(map) == map
+    where:
+      map << [[:], [a: 1], [a: 1, b: 2], [a: 1, b: 2, c: 3]]
+  }
+
+  def "of(n=0)"() {
+    expect:
+      UniObjectIntMaps.of() == Map.of()
+  }
+
+  def "of(n=1)"() {
+    expect:
+      UniObjectIntMaps.of("a", 1) == Map.of("a", 1)
+  }
+
+  def "of(n=2)"() {
+    expect:
+      UniObjectIntMaps.of("a", 1, "b", 2) == Map.of("a", 1, "b", 2)
+  }
+
+  def "of(n=3)"() {
+    expect:
+      UniObjectIntMaps.of("a", 1, "b", 2, "c", 3) == Map.of("a", 1, "b", 2, "c", 3)
+  }
+}
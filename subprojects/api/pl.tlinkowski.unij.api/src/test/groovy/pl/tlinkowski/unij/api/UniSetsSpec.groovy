@@ -19,6 +19,8 @@ package pl.tlinkowski.unij.api
 
 import spock.lang.Specification
 
+import java.util.concurrent.TimeUnit
+
 /**
  * @author Tomasz Linkowski
  */
@@ -35,6 +37,11 @@ class UniSetsSpec extends Specification {
       [1, 2, 3] | _
   }
 
+  def "builder"() {
+    expect:
+      UniSets.builder(3).add(1).addAll([2, 3, 1]).build() == Set.of(1, 2, 3)
+  }
+
   def "of(n=0)"() {
     expect:
       UniSets.of() == Set.of()
@@ -100,4 +107,23 @@ class UniSetsSpec extends Specification {
       UniSets.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11) ==
               Set.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11)
   }
+
+  def "ofEnums"() {
+    expect:
+      UniSets.ofEnums(TimeUnit.SECONDS, TimeUnit.DAYS) == EnumSet.of(TimeUnit.SECONDS, TimeUnit.DAYS)
+  }
+
+  def "with"() {
+    expect:
+      UniSets.with(UniSets.of(1, 2), 3) == Set.of(1, 2, 3)
+  }
+
+  def "intern"() {
+    given:
+      def interned = UniSets.intern([1, 2, 3] as Set)
+    expect:
+      interned == Set.of(1, 2, 3)
+      UniSets.intern(UniSets.of(3, 2, 1)).is(interned)
+      UniSets.intern(new TreeSet<>([2, 3, 1])).is(interned)
+  }
 }
@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+package pl.tlinkowski.unij.api
+
+import spock.lang.Specification
+
+/**
+ * @author Tomasz Linkowski
+ */
+class UniSortedMapsSpec extends Specification {
+
+  def "copyOf(sortedMap)"(Map<String, Integer> map) {
+    given:
+      def treeMap = new TreeMap<String, Integer>(map)
+    expect:
+      UniSortedMaps.copyOf(treeMap) == treeMap
+      new ArrayList<>(UniSortedMaps.copyOf(treeMap).keySet()) == new ArrayList<>(treeMap.keySet())
+    where:
+      map << maps()
+  }
+
+  def "copyOf(comparator,map)"(Map<String, Integer> map) {
+    expect:
+      new ArrayList<>(UniSortedMaps.copyOf(Comparator.reverseOrder(), map).keySet()) ==
+              map.keySet().sort(false).reverse()
+    where:
+      map << maps()
+  }
+
+  def "ofEntries(comparator,...)"(Map<String, Integer> map) {
+    given:
+      Map.Entry<String, Integer>[] entries = map.entrySet().collect { Map.entry(it.key, it.value) }
+    expect:
+      UniSortedMaps.ofEntries(Comparator.naturalOrder(), entries) == map
+    where:
+      map << maps()
+  }
+
+  def "of(comparator,...)"() {
+    expect:
+      UniSortedMaps.of(Comparator.naturalOrder()) == [:]
+      UniSortedMaps.of(Comparator.naturalOrder(), "a", 1) == [a: 1]
+      UniSortedMaps.of(Comparator.naturalOrder(), "b", 2, "a", 1) == [a: 1, b: 2]
+      UniSortedMaps.of(Comparator.naturalOrder(), "c", 3, "a", 1, "b", 2) == [a: 1, b: 2, c: 3]
+  }
+
+  private static List<Map<String, Integer>> maps() {
+    [[:], [a: 1], [b: 2, a: 1], [c: 3, a: 1, b: 2]]
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+package pl.tlinkowski.unij.api
+
+import spock.lang.Specification
+
+/**
+ * @author Tomasz Linkowski
+ */
+class UniSortedSetsSpec extends Specification {
+
+  def "copyOf(sortedSet)"(List<Integer> list) {
+    given:
+      def treeSet = new TreeSet<Integer>(list)
+    expect:
+      new ArrayList<>(UniSortedSets.copyOf(treeSet)) == new ArrayList<>(treeSet)
+    where:
+      list << lists()
+  }
+
+  def "copyOf(comparator,collection)"(List<Integer> list) {
+    expect:
+      new ArrayList<>(UniSortedSets.copyOf(Comparator.reverseOrder(), list)) == list.sort(false).reverse()
+    where:
+      list << lists()
+  }
+
+  def "of(comparator,...)"(List<Integer> list) {
+    expect:
+      new ArrayList<>(UniSortedSets.of(Comparator.naturalOrder(), list as Integer[])) == list.sort(false)
+    where:
+      list << lists()
+  }
+
+  private static List<List<Integer>> lists() {
+    [[], [1], [2, 1], [3, 1, 2]]
+  }
+}
@@ -29,6 +29,7 @@ module pl.tlinkowski.unij.service.api {
   exports pl.tlinkowski.unij.service.api;
   exports pl.tlinkowski.unij.service.api.collect;
   exports pl.tlinkowski.unij.service.api.misc;
+  exports pl.tlinkowski.unij.service.api.metrics;
 
   requires static pl.tlinkowski.annotation.basic;
 }
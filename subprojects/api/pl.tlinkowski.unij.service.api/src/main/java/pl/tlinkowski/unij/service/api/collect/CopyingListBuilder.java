@@ -0,0 +1,65 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.api.collect;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+/**
+ * Default {@link UnmodifiableListBuilder} (see {@link UnmodifiableListFactory#builder(int)}) that accumulates the
+ * elements in an {@link ArrayList} and passes them to {@link UnmodifiableListFactory#copyOf}.
+ *
+ * @author Tomasz Linkowski
+ */
+final class CopyingListBuilder<E> implements UnmodifiableListBuilder<E> {
+
+  private final UnmodifiableListFactory factory;
+  @NullOr
+  private List<E> list; // null once built
+
+  CopyingListBuilder(UnmodifiableListFactory factory, int expectedSize) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+    }
+    this.factory = factory;
+    this.list = new ArrayList<>(expectedSize);
+  }
+
+  @Override
+  public UnmodifiableListBuilder<E> add(E element) {
+    list().add(Objects.requireNonNull(element));
+    return this;
+  }
+
+  @Override
+  public List<E> build() {
+    List<E> result = factory.copyOf(list());
+    list = null;
+    return result;
+  }
+
+  private List<E> list() {
+    if (list == null) {
+      throw new IllegalStateException("List already built");
+    }
+    return list;
+  }
+}
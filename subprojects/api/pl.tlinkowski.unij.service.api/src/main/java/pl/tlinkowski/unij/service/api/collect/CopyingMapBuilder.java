@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.api.collect;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+/**
+ * Default {@link UnmodifiableMapBuilder} (see {@link UnmodifiableMapFactory#builder(int)}) that accumulates the
+ * entries in a {@link LinkedHashMap} (throwing on duplicate keys) and passes them to
+ * {@link UnmodifiableMapFactory#copyOf}.
+ *
+ * @author Tomasz Linkowski
+ */
+final class CopyingMapBuilder<K, V> implements UnmodifiableMapBuilder<K, V> {
+
+  private final UnmodifiableMapFactory factory;
+  @NullOr
+  private Map<K, V> map; // null once built
+
+  CopyingMapBuilder(UnmodifiableMapFactory factory, int expectedSize) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+    }
+    this.factory = factory;
+    this.map = new LinkedHashMap<>(CopyingSetBuilder.hashCapacity(expectedSize));
+  }
+
+  @Override
+  public UnmodifiableMapBuilder<K, V> put(K key, V value) {
+    if (map().putIfAbsent(Objects.requireNonNull(key, "key"), Objects.requireNonNull(value, "value")) != null) {
+      throw new IllegalArgumentException("Duplicate key: " + key);
+    }
+    return this;
+  }
+
+  @Override
+  public Map<K, V> build() {
+    Map<K, V> result = factory.copyOf(map());
+    map = null;
+    return result;
+  }
+
+  private Map<K, V> map() {
+    if (map == null) {
+      throw new IllegalStateException("Map already built");
+    }
+    return map;
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.api.collect;
+
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+/**
+ * Default {@link UnmodifiableSetBuilder} (see {@link UnmodifiableSetFactory#builder(int)}) that accumulates the
+ * elements in a {@link LinkedHashSet} (which ignores the duplicate ones) and passes them to
+ * {@link UnmodifiableSetFactory#copyOf}.
+ *
+ * @author Tomasz Linkowski
+ */
+final class CopyingSetBuilder<E> implements UnmodifiableSetBuilder<E> {
+
+  private final UnmodifiableSetFactory factory;
+  @NullOr
+  private Set<E> set; // null once built
+
+  CopyingSetBuilder(UnmodifiableSetFactory factory, int expectedSize) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+    }
+    this.factory = factory;
+    this.set = new LinkedHashSet<>(hashCapacity(expectedSize));
+  }
+
+  @Override
+  public UnmodifiableSetBuilder<E> add(E element) {
+    set().add(Objects.requireNonNull(element));
+    return this;
+  }
+
+  @Override
+  public Set<E> build() {
+    Set<E> result = factory.copyOf(set());
+    set = null;
+    return result;
+  }
+
+  private Set<E> set() {
+    if (set == null) {
+      throw new IllegalStateException("Set already built");
+    }
+    return set;
+  }
+
+  /**
+   * Returns the capacity of a {@link java.util.HashSet} or {@link java.util.HashMap} that won't need rehashing until it
+   * holds more than {@code expectedSize} elements (with the default load factor).
+   */
+  static int hashCapacity(int expectedSize) {
+    return (int) (expectedSize / 0.75f) + 1;
+  }
+}
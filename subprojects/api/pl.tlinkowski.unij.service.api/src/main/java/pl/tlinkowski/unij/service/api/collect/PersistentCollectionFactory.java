@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.api.collect;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import kotlin.annotations.jvm.ReadOnly;
+
+/**
+ * Factory of unmodifiable collections derived from existing ones (performance extension; has no JDK equivalent).
+ * <p>
+ * Unlike other UniJ collection services, this service is optional: if no implementation is present at runtime, UniJ
+ * delegates to the {@code with}/{@code without} methods of the highest-priority {@link UnmodifiableListFactory},
+ * {@link UnmodifiableSetFactory} and {@link UnmodifiableMapFactory}. Thanks to that, a binding backed by persistent
+ * data structures can be used for these methods alongside a full binding that is used for everything else.
+ *
+ * @author Tomasz Linkowski
+ */
+public interface PersistentCollectionFactory {
+
+  /**
+   * Equivalent of {@link UnmodifiableListFactory#with(List, Object)}.
+   */
+  @ReadOnly
+  <E> List<E> with(@ReadOnly List<? extends E> list, E element);
+
+  /**
+   * Equivalent of {@link UnmodifiableSetFactory#with(Set, Object)}.
+   */
+  @ReadOnly
+  <E> Set<E> with(@ReadOnly Set<? extends E> set, E element);
+
+  /**
+   * Equivalent of {@link UnmodifiableMapFactory#with(Map, Object, Object)}.
+   */
+  @ReadOnly
+  <K, V> Map<K, V> with(@ReadOnly Map<? extends K, ? extends V> map, K key, V value);
+
+  /**
+   * Equivalent of {@link UnmodifiableMapFactory#without(Map, Object)}.
+   */
+  @ReadOnly
+  <K, V> Map<K, V> without(@ReadOnly Map<? extends K, ? extends V> map, Object key);
+}
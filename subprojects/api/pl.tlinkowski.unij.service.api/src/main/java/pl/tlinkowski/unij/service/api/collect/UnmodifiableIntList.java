@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.api.collect;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
+
+/**
+ * Unmodifiable {@link List} of {@code int}s (see {@link UnmodifiableIntListFactory}).
+ * <p>
+ * The elements are stored unboxed, so {@link #getInt(int)}, {@link #toIntArray()} and {@link #intStream()} should be
+ * preferred to {@link #get(int)}, {@link #toArray()} and {@link #stream()}, which box every element they return.
+ * <p>
+ * Apart from that, it behaves like any other unmodifiable {@link List} (e.g. it is equal to a {@link List} of the
+ * corresponding {@link Integer}s).
+ *
+ * @author Tomasz Linkowski
+ */
+public interface UnmodifiableIntList extends List<Integer>, RandomAccess {
+
+  /**
+   * Unboxed equivalent of {@link #get(int)}.
+   */
+  int getInt(int index);
+
+  /**
+   * Unboxed equivalent of {@link #toArray()} (returns a new array on every call).
+   */
+  default int[] toIntArray() {
+    return intStream().toArray();
+  }
+
+  /**
+   * Unboxed equivalent of {@link #stream()}.
+   */
+  default IntStream intStream() {
+    return IntStream.range(0, size()).map(this::getInt);
+  }
+}
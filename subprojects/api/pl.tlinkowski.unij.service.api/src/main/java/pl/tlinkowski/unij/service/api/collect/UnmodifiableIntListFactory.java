@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.api.collect;
+
+import java.util.Collection;
+import java.util.stream.IntStream;
+
+import kotlin.annotations.jvm.ReadOnly;
+
+/**
+ * Factory of {@link UnmodifiableIntList}s, i.e. {@code int}-specialized counterparts of the lists returned by
+ * {@link UnmodifiableListFactory} (performance extension; has no JDK equivalent).
+ *
+ * @author Tomasz Linkowski
+ */
+public interface UnmodifiableIntListFactory {
+
+  //region COLLECTOR
+
+  /**
+   * Unboxed counterpart of {@link UnmodifiableListFactory#collector()}: collects the given (possibly parallel)
+   * {@link IntStream} into an {@link UnmodifiableIntList}.
+   */
+  UnmodifiableIntList collect(IntStream stream);
+  //endregion
+
+  //region COPY OF
+
+  /**
+   * Returns an {@link UnmodifiableIntList} containing the elements of the given array (the array is copied).
+   */
+  UnmodifiableIntList copyOf(int[] elements);
+
+  /**
+   * Unboxed equivalent of {@link UnmodifiableListFactory#copyOf(Collection)}.
+   */
+  UnmodifiableIntList copyOf(@ReadOnly Collection<Integer> coll);
+  //endregion
+
+  //region OF
+
+  /**
+   * Unboxed equivalent of {@link UnmodifiableListFactory#of(Object[])}.
+   */
+  UnmodifiableIntList of(int... elements);
+  //endregion
+}
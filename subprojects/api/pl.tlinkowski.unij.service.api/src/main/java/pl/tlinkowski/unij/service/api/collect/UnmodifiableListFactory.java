@@ -40,6 +40,23 @@ public interface UnmodifiableListFactory {
   <E> Collector<E, ?, /*@ReadOnly*/ List<E>> collector();
   //endregion
 
+  //region BUILDER
+
+  /**
+   * Returns a single-use builder of an unmodifiable {@link List} that expects to receive about {@code expectedSize}
+   * elements (performance extension; has no JDK equivalent).
+   * <p>
+   * The default implementation accumulates the elements in a presized {@link java.util.ArrayList} and passes them to
+   * {@link #copyOf} on build. An overriding builder may instead accumulate the elements straight into the storage of
+   * the resulting list, without copying them from any intermediate mutable list.
+   *
+   * @throws IllegalArgumentException if {@code expectedSize} is negative
+   */
+  default <E> UnmodifiableListBuilder<E> builder(int expectedSize) {
+    return new CopyingListBuilder<>(this, expectedSize);
+  }
+  //endregion
+
   //region COPY OF
 
   /**
@@ -125,4 +142,19 @@ public interface UnmodifiableListFactory {
   @ReadOnly
   <E> List<E> of(E... elements);
   //endregion
+
+  //region PERSISTENT
+
+  /**
+   * Returns an unmodifiable list consisting of the elements of the given {@code list} followed by the given non-{@code
+   * null} {@code element} (performance extension; has no JDK equivalent).
+   * <p>
+   * The default implementation copies all the elements of {@code list}. Implementations backed by persistent data
+   * structures may share most of their structure between {@code list} and the returned list instead.
+   */
+  @ReadOnly
+  default <E> List<E> with(@ReadOnly List<? extends E> list, E element) {
+    return this.<E>builder(list.size() + 1).addAll(list).add(element).build();
+  }
+  //endregion
 }
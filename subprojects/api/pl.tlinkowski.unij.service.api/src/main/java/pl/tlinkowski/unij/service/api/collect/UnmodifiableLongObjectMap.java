@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.api.collect;
+
+import java.util.Map;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+/**
+ * Unmodifiable {@link Map} with {@code long} keys (see {@link UnmodifiableLongObjectMapFactory}).
+ * <p>
+ * The keys are stored unboxed, so {@link #get(long)} and {@link #containsKey(long)} should be preferred to their
+ * {@link Object}-based counterparts, which need a boxed key.
+ * <p>
+ * Apart from that, it behaves like any other unmodifiable {@link Map} (e.g. it is equal to a {@link Map} with the
+ * corresponding {@link Long} keys).
+ *
+ * @author Tomasz Linkowski
+ */
+public interface UnmodifiableLongObjectMap<V> extends Map<Long, V> {
+
+  /**
+   * Unboxed equivalent of {@link #get(Object)}.
+   */
+  @NullOr
+  V get(long key);
+
+  /**
+   * Unboxed equivalent of {@link #containsKey(Object)}.
+   */
+  boolean containsKey(long key);
+}
@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.api.collect;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+import kotlin.annotations.jvm.ReadOnly;
+
+/**
+ * Factory of {@link UnmodifiableLongObjectMap}s, i.e. {@code long}-keyed counterparts of the maps returned by {@link
+ * UnmodifiableMapFactory} (performance extension; has no JDK equivalent).
+ * <p>
+ * Follows the contract of {@link UnmodifiableMapFactory} (e.g. no {@code null} values allowed, throws {@link
+ * IllegalArgumentException} on duplicate keys).
+ *
+ * @author Tomasz Linkowski
+ */
+public interface UnmodifiableLongObjectMapFactory {
+
+  //region COLLECTOR
+
+  /**
+   * Unboxed-key counterpart of {@link UnmodifiableMapFactory#collector(Function, Function)}.
+   */
+  <T, V> Collector<T, ?, UnmodifiableLongObjectMap<V>> collector(ToLongFunction<? super T> keyMapper,
+          Function<? super T, ? extends V> valueMapper);
+  //endregion
+
+  //region COPY OF
+
+  /**
+   * Unboxed-key counterpart of {@link UnmodifiableMapFactory#copyOf(Map)}.
+   */
+  <V> UnmodifiableLongObjectMap<V> copyOf(@ReadOnly Map<Long, ? extends V> map);
+  //endregion
+
+  //region OF
+
+  /**
+   * Unboxed-key counterpart of {@link UnmodifiableMapFactory#of()}.
+   */
+  <V> UnmodifiableLongObjectMap<V> of();
+
+  /**
+   * Unboxed-key counterpart of {@link UnmodifiableMapFactory#of(Object, Object)}.
+   */
+  <V> UnmodifiableLongObjectMap<V> of(long k1, V v1);
+
+  /**
+   * Unboxed-key counterpart of {@link UnmodifiableMapFactory#of(Object, Object, Object, Object)}.
+   */
+  <V> UnmodifiableLongObjectMap<V> of(long k1, V v1, long k2, V v2);
+
+  /**
+   * Unboxed-key counterpart of {@link UnmodifiableMapFactory#of(Object, Object, Object, Object, Object, Object)}.
+   */
+  <V> UnmodifiableLongObjectMap<V> of(long k1, V v1, long k2, V v2, long k3, V v3);
+  //endregion
+}
@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.api.collect;
+
+import java.util.Map;
+
+import kotlin.annotations.jvm.ReadOnly;
+
+/**
+ * Builder of an unmodifiable {@link Map} (see {@link UnmodifiableMapFactory#builder(int)}).
+ * <p>
+ * Rejects {@code null} keys and values, and throws {@link IllegalArgumentException} on duplicate keys (either when
+ * putting them or when building the map).
+ * <p>
+ * Builds only a single map, to which it may hand over its internal storage without copying it. Hence, it throws
+ * {@link IllegalStateException} if used after {@link #build()}.
+ *
+ * @author Tomasz Linkowski
+ */
+public interface UnmodifiableMapBuilder<K, V> {
+
+  /**
+   * Puts the given non-{@code null} {@code key} and {@code value} into the map being built.
+   */
+  UnmodifiableMapBuilder<K, V> put(K key, V value);
+
+  /**
+   * Puts all the non-{@code null} keys and values of the given {@code map} into the map being built.
+   */
+  default UnmodifiableMapBuilder<K, V> putAll(@ReadOnly Map<? extends K, ? extends V> map) {
+    map.forEach(this::put);
+    return this;
+  }
+
+  /**
+   * Returns an unmodifiable {@link Map} of all the entries put so far.
+   */
+  @ReadOnly
+  Map<K, V> build();
+}
@@ -17,10 +17,13 @@
  */
 package pl.tlinkowski.unij.service.api.collect;
 
+import java.util.EnumMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.stream.Collector;
+import java.util.stream.Collectors;
 
 import kotlin.annotations.jvm.ReadOnly;
 
@@ -46,6 +49,50 @@ public interface UnmodifiableMapFactory {
    */
   <T, K, V> Collector<T, ?, /*@ReadOnly*/ Map<K, V>> collector(Function<? super T, ? extends K> keyMapper,
           Function<? super T, ? extends V> valueMapper, BinaryOperator<V> mergeFunction);
+
+  /**
+   * {@link Collector.Characteristics#CONCURRENT CONCURRENT} and {@link Collector.Characteristics#UNORDERED UNORDERED}
+   * variant of {@link #collector(Function, Function)} (performance extension; has no JDK equivalent).
+   * <p>
+   * The default implementation accumulates into a single {@link java.util.concurrent.ConcurrentHashMap} and passes it
+   * to {@link #copyOf(Map)}.
+   */
+  default <T, K, V> Collector<T, ?, /*@ReadOnly*/ Map<K, V>> concurrentCollector(
+          Function<? super T, ? extends K> keyMapper, Function<? super T, ? extends V> valueMapper) {
+    return Collectors.collectingAndThen(Collectors.toConcurrentMap(keyMapper, valueMapper), this::copyOf);
+  }
+
+  /**
+   * {@link Collector.Characteristics#CONCURRENT CONCURRENT} and {@link Collector.Characteristics#UNORDERED UNORDERED}
+   * variant of {@link #collector(Function, Function, BinaryOperator)} (performance extension; has no JDK equivalent).
+   * <p>
+   * The default implementation accumulates into a single {@link java.util.concurrent.ConcurrentHashMap} and passes it
+   * to {@link #copyOf(Map)}.
+   */
+  default <T, K, V> Collector<T, ?, /*@ReadOnly*/ Map<K, V>> concurrentCollector(
+          Function<? super T, ? extends K> keyMapper, Function<? super T, ? extends V> valueMapper,
+          BinaryOperator<V> mergeFunction) {
+    return Collectors.collectingAndThen(
+            Collectors.toConcurrentMap(keyMapper, valueMapper, mergeFunction), this::copyOf
+    );
+  }
+  //endregion
+
+  //region BUILDER
+
+  /**
+   * Returns a single-use builder of an unmodifiable {@link Map} that expects to receive about {@code expectedSize}
+   * entries (performance extension; has no JDK equivalent).
+   * <p>
+   * The default implementation accumulates the entries in a presized {@link java.util.LinkedHashMap} and passes them to
+   * {@link #copyOf} on build. An overriding builder may instead accumulate the entries straight into the storage of the
+   * resulting map, without copying them from any intermediate mutable map.
+   *
+   * @throws IllegalArgumentException if {@code expectedSize} is negative
+   */
+  default <K, V> UnmodifiableMapBuilder<K, V> builder(int expectedSize) {
+    return new CopyingMapBuilder<>(this, expectedSize);
+  }
   //endregion
 
   //region COPY OF
@@ -55,6 +102,17 @@ public interface UnmodifiableMapFactory {
    */
   @ReadOnly
   <K, V> Map<K, V> copyOf(@ReadOnly Map<? extends K, ? extends V> map);
+
+  /**
+   * Variant of {@link #copyOf(Map)} for an {@link EnumMap} (performance extension; has no JDK equivalent).
+   * <p>
+   * The default implementation passes {@code map} to {@link #copyOf(Map)}, which should return a map specialized for
+   * enum keys (if available) whenever it's given an {@link EnumMap}.
+   */
+  @ReadOnly
+  default <K extends Enum<K>, V> Map<K, V> copyOfEnumMap(@ReadOnly EnumMap<K, ? extends V> map) {
+    return copyOf(map);
+  }
   //endregion
 
   //region ENTRIES
@@ -157,4 +215,72 @@ public interface UnmodifiableMapFactory {
   <K, V> Map<K, V> of(K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4, K k5, V v5,
           K k6, V v6, K k7, V v7, K k8, V v8, K k9, V v9, K k10, V v10);
   //endregion
+
+  //region PERSISTENT
+
+  /**
+   * Returns an unmodifiable map consisting of the entries of the given {@code map} with the given non-{@code null}
+   * {@code key} mapped to the given non-{@code null} {@code value} (performance extension; has no JDK equivalent).
+   * <p>
+   * The default implementation copies all the entries of {@code map}. Implementations backed by persistent data
+   * structures may share most of their structure between {@code map} and the returned map instead.
+   */
+  @ReadOnly
+  default <K, V> Map<K, V> with(@ReadOnly Map<? extends K, ? extends V> map, K key, V value) {
+    Objects.requireNonNull(key, "key");
+    UnmodifiableMapBuilder<K, V> builder = builder(map.size() + 1);
+    map.forEach((k, v) -> {
+      if (!key.equals(k)) {
+        builder.put(k, v);
+      }
+    });
+    return builder.put(key, value).build();
+  }
+
+  /**
+   * Returns an unmodifiable map consisting of the entries of the given {@code map} except for the one with the given
+   * non-{@code null} {@code key} (performance extension; has no JDK equivalent).
+   * <p>
+   * The default implementation copies all the other entries of {@code map}. Implementations backed by persistent data
+   * structures may share most of their structure between {@code map} and the returned map instead.
+   */
+  @ReadOnly
+  default <K, V> Map<K, V> without(@ReadOnly Map<? extends K, ? extends V> map, Object key) {
+    Objects.requireNonNull(key, "key");
+    UnmodifiableMapBuilder<K, V> builder = builder(map.size());
+    map.forEach((k, v) -> {
+      if (!key.equals(k)) {
+        builder.put(k, v);
+      }
+    });
+    return builder.build();
+  }
+  //endregion
+
+  //region STATIC
+
+  /**
+   * Variant of {@link #copyOf(Map)} for maps that are created once and queried very often, e.g. constant lookup tables
+   * (performance extension; has no JDK equivalent).
+   * <p>
+   * The default implementation passes {@code map} to {@link #copyOf(Map)}. Implementations may instead spend more time
+   * on computing a collision-free hash function of the keys, so that every lookup takes a single {@code equals} call.
+   */
+  @ReadOnly
+  default <K, V> Map<K, V> copyOfStatic(@ReadOnly Map<? extends K, ? extends V> map) {
+    return copyOf(map);
+  }
+
+  /**
+   * Variant of {@link #ofEntries(Map.Entry[])} for maps that are created once and queried very often (performance
+   * extension; has no JDK equivalent).
+   * <p>
+   * The default implementation passes the result of {@link #ofEntries(Map.Entry[])} to {@link #copyOfStatic(Map)}.
+   */
+  @SuppressWarnings("unchecked")
+  @ReadOnly
+  default <K, V> Map<K, V> ofStatic(@ReadOnly Map.Entry<? extends K, ? extends V>... entries) {
+    return copyOfStatic(ofEntries(entries));
+  }
+  //endregion
 }
@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.api.collect;
+
+import java.util.Map;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+/**
+ * Unmodifiable {@link Map} with {@code int} values (see {@link UnmodifiableObjectIntMapFactory}).
+ * <p>
+ * The values are stored unboxed, so {@link #getIntOrDefault(Object, int)} should be preferred to {@link #get(Object)}
+ * and {@link #getOrDefault(Object, Object)}, which box the value they return.
+ * <p>
+ * Apart from that, it behaves like any other unmodifiable {@link Map} (e.g. it is equal to a {@link Map} with the
+ * corresponding {@link Integer} values).
+ *
+ * @author Tomasz Linkowski
+ */
+public interface UnmodifiableObjectIntMap<K> extends Map<K, Integer> {
+
+  /**
+   * Unboxed equivalent of {@link #getOrDefault(Object, Object)}.
+   */
+  int getIntOrDefault(@NullOr Object key, int defaultValue);
+}
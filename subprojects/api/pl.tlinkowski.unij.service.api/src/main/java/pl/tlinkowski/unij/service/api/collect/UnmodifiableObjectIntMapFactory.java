@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.api.collect;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+
+import kotlin.annotations.jvm.ReadOnly;
+
+/**
+ * Factory of {@link UnmodifiableObjectIntMap}s, i.e. {@code int}-valued counterparts of the maps returned by {@link
+ * UnmodifiableMapFactory} (performance extension; has no JDK equivalent).
+ * <p>
+ * Follows the contract of {@link UnmodifiableMapFactory} (e.g. no {@code null} keys allowed, throws {@link
+ * IllegalArgumentException} on duplicate keys).
+ *
+ * @author Tomasz Linkowski
+ */
+public interface UnmodifiableObjectIntMapFactory {
+
+  //region COLLECTOR
+
+  /**
+   * Unboxed-value counterpart of {@link UnmodifiableMapFactory#collector(Function, Function)}.
+   */
+  <T, K> Collector<T, ?, UnmodifiableObjectIntMap<K>> collector(Function<? super T, ? extends K> keyMapper,
+          ToIntFunction<? super T> valueMapper);
+  //endregion
+
+  //region COPY OF
+
+  /**
+   * Unboxed-value counterpart of {@link UnmodifiableMapFactory#copyOf(Map)}.
+   */
+  <K> UnmodifiableObjectIntMap<K> copyOf(@ReadOnly Map<? extends K, Integer> map);
+  //endregion
+
+  //region OF
+
+  /**
+   * Unboxed-value counterpart of {@link UnmodifiableMapFactory#of()}.
+   */
+  <K> UnmodifiableObjectIntMap<K> of();
+
+  /**
+   * Unboxed-value counterpart of {@link UnmodifiableMapFactory#of(Object, Object)}.
+   */
+  <K> UnmodifiableObjectIntMap<K> of(K k1, int v1);
+
+  /**
+   * Unboxed-value counterpart of {@link UnmodifiableMapFactory#of(Object, Object, Object, Object)}.
+   */
+  <K> UnmodifiableObjectIntMap<K> of(K k1, int v1, K k2, int v2);
+
+  /**
+   * Unboxed-value counterpart of {@link UnmodifiableMapFactory#of(Object, Object, Object, Object, Object, Object)}.
+   */
+  <K> UnmodifiableObjectIntMap<K> of(K k1, int v1, K k2, int v2, K k3, int v3);
+  //endregion
+}
@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.api.collect;
+
+import java.util.Collection;
+import java.util.Set;
+
+import kotlin.annotations.jvm.ReadOnly;
+
+/**
+ * Builder of an unmodifiable {@link Set} (see {@link UnmodifiableSetFactory#builder(int)}).
+ * <p>
+ * Rejects {@code null} elements, and ignores duplicate ones (like
+ * {@link java.util.stream.Collectors#toUnmodifiableSet()}).
+ * <p>
+ * Builds only a single set, to which it may hand over its internal storage without copying it. Hence, it throws
+ * {@link IllegalStateException} if used after {@link #build()}.
+ *
+ * @author Tomasz Linkowski
+ */
+public interface UnmodifiableSetBuilder<E> {
+
+  /**
+   * Adds the given non-{@code null} {@code element} to the set being built.
+   */
+  UnmodifiableSetBuilder<E> add(E element);
+
+  /**
+   * Adds all the given non-{@code null} {@code elements} to the set being built.
+   */
+  default UnmodifiableSetBuilder<E> addAll(@ReadOnly Collection<? extends E> elements) {
+    for (E element : elements) {
+      add(element);
+    }
+    return this;
+  }
+
+  /**
+   * Returns an unmodifiable {@link Set} of all the elements added so far.
+   */
+  @ReadOnly
+  Set<E> build();
+}
@@ -18,6 +18,7 @@
 package pl.tlinkowski.unij.service.api.collect;
 
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.Set;
 import java.util.stream.Collector;
 
@@ -40,6 +41,23 @@ public interface UnmodifiableSetFactory {
   <E> Collector<E, ?, /*@ReadOnly*/ Set<E>> collector();
   //endregion
 
+  //region BUILDER
+
+  /**
+   * Returns a single-use builder of an unmodifiable {@link Set} that expects to receive about {@code expectedSize}
+   * elements (performance extension; has no JDK equivalent).
+   * <p>
+   * The default implementation accumulates the elements in a presized {@link java.util.LinkedHashSet} and passes them
+   * to {@link #copyOf} on build. An overriding builder may instead accumulate the elements straight into the storage of
+   * the resulting set, without copying them from any intermediate mutable set.
+   *
+   * @throws IllegalArgumentException if {@code expectedSize} is negative
+   */
+  default <E> UnmodifiableSetBuilder<E> builder(int expectedSize) {
+    return new CopyingSetBuilder<>(this, expectedSize);
+  }
+  //endregion
+
   //region COPY OF
 
   /**
@@ -126,4 +144,36 @@ public interface UnmodifiableSetFactory {
   <E> Set<E> of(E... elements);
   //endregion
 
+  //region ENUMS
+
+  /**
+   * Equivalent of {@link EnumSet#of(Enum, Enum[])} returning an unmodifiable set (performance extension; has no JDK
+   * equivalent).
+   * <p>
+   * Unlike {@link #of(Object[])}, it ignores duplicate elements (like {@link EnumSet}).
+   * <p>
+   * The default implementation passes an {@link EnumSet} to {@link #copyOf(Collection)}, which should return a set
+   * specialized for enums (if available) whenever it's given an {@link EnumSet}.
+   */
+  @SuppressWarnings("unchecked")
+  @ReadOnly
+  default <E extends Enum<E>> Set<E> ofEnums(E first, E... rest) {
+    return copyOf(EnumSet.of(first, rest));
+  }
+  //endregion
+
+  //region PERSISTENT
+
+  /**
+   * Returns an unmodifiable set consisting of the elements of the given {@code set} and the given non-{@code null}
+   * {@code element} (performance extension; has no JDK equivalent).
+   * <p>
+   * The default implementation copies all the elements of {@code set}. Implementations backed by persistent data
+   * structures may share most of their structure between {@code set} and the returned set instead.
+   */
+  @ReadOnly
+  default <E> Set<E> with(@ReadOnly Set<? extends E> set, E element) {
+    return this.<E>builder(set.size() + 1).addAll(set).add(element).build();
+  }
+  //endregion
 }
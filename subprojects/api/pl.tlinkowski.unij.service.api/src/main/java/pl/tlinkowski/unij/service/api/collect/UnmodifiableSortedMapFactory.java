@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.api.collect;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import kotlin.annotations.jvm.ReadOnly;
+
+/**
+ * Factory of unmodifiable {@link SortedMap}s, i.e. sorted counterparts of the maps returned by {@link
+ * UnmodifiableMapFactory} (performance extension; has no JDK equivalent).
+ * <p>
+ * Follows the contract of {@link UnmodifiableMapFactory} (e.g. no {@code null} keys or values allowed, throws {@link
+ * IllegalArgumentException} on duplicate keys), where two keys are duplicates if the comparator considers them equal.
+ *
+ * @author Tomasz Linkowski
+ */
+public interface UnmodifiableSortedMapFactory {
+
+  //region COLLECTOR
+
+  /**
+   * Sorted counterpart of {@link UnmodifiableMapFactory#collector(Function, Function)}.
+   */
+  <T, K, V> Collector<T, ?, /*@ReadOnly*/ SortedMap<K, V>> collector(Comparator<? super K> comparator,
+          Function<? super T, ? extends K> keyMapper, Function<? super T, ? extends V> valueMapper);
+  //endregion
+
+  //region COPY OF
+
+  /**
+   * Returns an unmodifiable {@link SortedMap} containing the entries of the given {@code map} in the same order.
+   */
+  @ReadOnly
+  <K, V> SortedMap<K, V> copyOf(@ReadOnly SortedMap<K, ? extends V> map);
+
+  /**
+   * Sorted counterpart of {@link UnmodifiableMapFactory#copyOf(Map)}.
+   */
+  @ReadOnly
+  <K, V> SortedMap<K, V> copyOf(Comparator<? super K> comparator, @ReadOnly Map<? extends K, ? extends V> map);
+  //endregion
+
+  //region ENTRIES
+
+  /**
+   * Sorted counterpart of {@link UnmodifiableMapFactory#ofEntries(Map.Entry[])}.
+   */
+  @SuppressWarnings("unchecked")
+  @ReadOnly
+  <K, V> SortedMap<K, V> ofEntries(Comparator<? super K> comparator,
+          @ReadOnly Map.Entry<? extends K, ? extends V>... entries);
+  //endregion
+
+  //region OF
+
+  /**
+   * Sorted counterpart of {@link UnmodifiableMapFactory#of()}.
+   */
+  @ReadOnly
+  <K, V> SortedMap<K, V> of(Comparator<? super K> comparator);
+
+  /**
+   * Sorted counterpart of {@link UnmodifiableMapFactory#of(Object, Object)}.
+   */
+  @ReadOnly
+  <K, V> SortedMap<K, V> of(Comparator<? super K> comparator, K k1, V v1);
+
+  /**
+   * Sorted counterpart of {@link UnmodifiableMapFactory#of(Object, Object, Object, Object)}.
+   */
+  @ReadOnly
+  <K, V> SortedMap<K, V> of(Comparator<? super K> comparator, K k1, V v1, K k2, V v2);
+
+  /**
+   * Sorted counterpart of {@link UnmodifiableMapFactory#of(Object, Object, Object, Object, Object, Object)}.
+   */
+  @ReadOnly
+  <K, V> SortedMap<K, V> of(Comparator<? super K> comparator, K k1, V v1, K k2, V v2, K k3, V v3);
+  //endregion
+}
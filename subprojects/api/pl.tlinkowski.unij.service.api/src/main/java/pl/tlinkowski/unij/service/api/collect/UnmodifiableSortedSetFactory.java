@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.api.collect;
+
+import java.util.*;
+import java.util.stream.Collector;
+
+import kotlin.annotations.jvm.ReadOnly;
+
+/**
+ * Factory of unmodifiable {@link SortedSet}s, i.e. sorted counterparts of the sets returned by {@link
+ * UnmodifiableSetFactory} (performance extension; has no JDK equivalent).
+ * <p>
+ * Follows the contract of {@link UnmodifiableSetFactory} (e.g. no {@code null} elements allowed, throws {@link
+ * IllegalArgumentException} on duplicate elements provided to {@code of(...)} methods), where two elements are
+ * duplicates if the comparator considers them equal.
+ *
+ * @author Tomasz Linkowski
+ */
+public interface UnmodifiableSortedSetFactory {
+
+  //region COLLECTOR
+
+  /**
+   * Sorted counterpart of {@link UnmodifiableSetFactory#collector()}.
+   */
+  <E> Collector<E, ?, /*@ReadOnly*/ SortedSet<E>> collector(Comparator<? super E> comparator);
+  //endregion
+
+  //region COPY OF
+
+  /**
+   * Returns an unmodifiable {@link SortedSet} containing the elements of the given {@code set} in the same order.
+   */
+  @ReadOnly
+  <E> SortedSet<E> copyOf(@ReadOnly SortedSet<E> set);
+
+  /**
+   * Sorted counterpart of {@link UnmodifiableSetFactory#copyOf(Collection)}.
+   */
+  @ReadOnly
+  <E> SortedSet<E> copyOf(Comparator<? super E> comparator, @ReadOnly Collection<? extends E> coll);
+  //endregion
+
+  //region OF
+
+  /**
+   * Sorted counterpart of {@link UnmodifiableSetFactory#of(Object[])}.
+   */
+  @SuppressWarnings("unchecked")
+  @ReadOnly
+  <E> SortedSet<E> of(Comparator<? super E> comparator, E... elements);
+  //endregion
+}
@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.api.metrics;
+
+/**
+ * Sink for the metrics of the calls to UniJ factory methods (e.g. {@code UniLists.of}, {@code UniSets.copyOf}, or
+ * {@code UniCollectors.toUnmodifiableList}).
+ * <p>
+ * Unlike other UniJ services, this service is optional: if no implementation is present at runtime, UniJ uses a no-op
+ * sink (which the JIT compiler can eliminate entirely).
+ * <p>
+ * Implementations must be thread-safe, and they should be fast, because they are called on every factory call.
+ *
+ * @author Tomasz Linkowski
+ */
+public interface MetricsSink {
+
+  /**
+   * Element count passed for calls whose result size is unknown (e.g. {@code UniCollectors.flatMapping}). Collector
+   * factory methods that create collections report the size of the collected result once the collector finishes.
+   */
+  int UNKNOWN_ELEMENT_COUNT = -1;
+
+  /**
+   * Returns {@code true} if this sink records anything. If {@code false} is returned, UniJ does not even compute the
+   * arguments of {@link #recordFactoryCall(String, String, int)} (e.g. the size of the collection passed to
+   * {@code copyOf}).
+   */
+  default boolean isEnabled() {
+    return true;
+  }
+
+  /**
+   * Records a single call to a UniJ factory method.
+   *
+   * @param facade       simple name of the UniJ facade class (e.g. {@code "UniLists"})
+   * @param method       name of the factory method (e.g. {@code "copyOf"})
+   * @param elementCount number of elements (or entries) passed to the method, or {@link #UNKNOWN_ELEMENT_COUNT}
+   */
+  void recordFactoryCall(String facade, String method, int elementCount);
+}
@@ -0,0 +1,151 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.processor;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+import pl.tlinkowski.unij.service.api.UniJService;
+
+/**
+ * Generates the UniJ service registry for all the classes annotated with {@link UniJService}.
+ * <p>
+ * For every UniJ service interface implemented by such class, a {@code META-INF/unij/registry/<service>} resource is
+ * generated, with one line per implementation: its {@linkplain UniJService#priority() priority} and its binary name,
+ * separated by a space. Reading this registry lets {@code UniJLoader} select the implementation with the highest
+ * priority without instantiating all the implementations found by {@link java.util.ServiceLoader}.
+ * <p>
+ * Should be used next to Google's {@code @AutoService} annotation processor.
+ *
+ * @author Tomasz Linkowski
+ */
+@SupportedAnnotationTypes("pl.tlinkowski.unij.service.api.UniJService")
+public final class UniJServiceProcessor extends AbstractProcessor {
+
+  static final String REGISTRY_DIRECTORY = "META-INF/unij/registry/";
+
+  private static final String SERVICE_API_PACKAGE = "pl.tlinkowski.unij.service.api";
+
+  /**
+   * Binary name of service interface -> registry lines (sorted to make the output reproducible).
+   */
+  private final SortedMap<String, SortedSet<String>> registry = new TreeMap<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (roundEnv.processingOver()) {
+      writeRegistry();
+    } else {
+      roundEnv.getElementsAnnotatedWith(UniJService.class).forEach(this::register);
+    }
+    return false;
+  }
+
+  //region REGISTERING
+  private void register(Element element) {
+    if (element.getKind() != ElementKind.CLASS) {
+      error(element, "@%s can only be applied to classes", UniJService.class.getSimpleName());
+      return;
+    }
+
+    TypeElement implementation = (TypeElement) element;
+    Set<TypeElement> serviceInterfaces = new LinkedHashSet<>();
+    collectServiceInterfaces(implementation, serviceInterfaces);
+    if (serviceInterfaces.isEmpty()) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+              "Class does not implement any UniJ service interface", implementation);
+      return;
+    }
+
+    String registryLine = implementation.getAnnotation(UniJService.class).priority() + " " + binaryName(implementation);
+    for (TypeElement serviceInterface : serviceInterfaces) {
+      registry.computeIfAbsent(binaryName(serviceInterface), key -> new TreeSet<>()).add(registryLine);
+    }
+  }
+
+  private void collectServiceInterfaces(TypeElement type, Set<TypeElement> serviceInterfaces) {
+    for (TypeMirror interfaceType : type.getInterfaces()) {
+      TypeElement interfaceElement = asTypeElement(interfaceType);
+      if (isServiceInterface(interfaceElement)) {
+        serviceInterfaces.add(interfaceElement);
+      }
+      collectServiceInterfaces(interfaceElement, serviceInterfaces);
+    }
+
+    TypeMirror superclass = type.getSuperclass();
+    if (superclass.getKind() == TypeKind.DECLARED) {
+      collectServiceInterfaces(asTypeElement(superclass), serviceInterfaces);
+    }
+  }
+
+  private boolean isServiceInterface(TypeElement interfaceElement) {
+    String packageName = processingEnv.getElementUtils().getPackageOf(interfaceElement).getQualifiedName().toString();
+    return packageName.equals(SERVICE_API_PACKAGE) || packageName.startsWith(SERVICE_API_PACKAGE + ".");
+  }
+  //endregion
+
+  //region WRITING
+  private void writeRegistry() {
+    registry.forEach(this::writeRegistryResource);
+  }
+
+  private void writeRegistryResource(String serviceName, Collection<String> registryLines) {
+    String resourceName = REGISTRY_DIRECTORY + serviceName;
+    try {
+      FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", resourceName);
+      try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+        writer.write("# Generated by " + UniJServiceProcessor.class.getName() + "\n");
+        for (String registryLine : registryLines) {
+          writer.write(registryLine + "\n");
+        }
+      }
+    } catch (IOException ex) {
+      error(null, "Unable to write %s: %s", resourceName, ex);
+    }
+  }
+  //endregion
+
+  //region HELPERS
+  private TypeElement asTypeElement(TypeMirror typeMirror) {
+    return (TypeElement) processingEnv.getTypeUtils().asElement(typeMirror);
+  }
+
+  private String binaryName(TypeElement typeElement) {
+    return processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+  }
+
+  private void error(@NullOr Element element, String format, Object... args) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format(format, args), element);
+  }
+  //endregion
+}
@@ -0,0 +1,54 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+modularity.standardJavaRelease(11)
+
+dependencies {
+  val guavaHighVersion: String by project // https://github.com/google/guava
+  val eclipseCollectionsHighVersion: String by project // https://www.eclipse.org/collections/
+  val jolVersion: String by project // https://openjdk.java.net/projects/code-tools/jol/
+
+  jmhImplementation(project(":pl.tlinkowski.unij.service.api"))
+  jmhImplementation(group = "org.openjdk.jol", name = "jol-core", version = jolVersion)
+
+  jmhRuntimeOnly(project(":pl.tlinkowski.unij.service.collect.jdk8"))
+  jmhRuntimeOnly(project(":pl.tlinkowski.unij.service.collect.jdk10"))
+  jmhRuntimeOnly(project(":pl.tlinkowski.unij.service.collect.guava"))
+  jmhRuntimeOnly(project(":pl.tlinkowski.unij.service.collect.eclipse"))
+  jmhRuntimeOnly(project(":pl.tlinkowski.unij.service.collect.persistent"))
+  jmhRuntimeOnly(group = "com.google.guava", name = "guava", version = guavaHighVersion)
+  jmhRuntimeOnly(group = "org.eclipse.collections", name = "eclipse-collections", version = eclipseCollectionsHighVersion)
+}
+
+tasks {
+  register<JavaExec>("footprintReport") {
+    group = "reporting"
+    description = "Prints the retained heap size of collections created by each collect binding (measured by JOL)."
+
+    classpath = sourceSets["jmh"].runtimeClasspath
+    main = "pl.tlinkowski.unij.benchmark.collect.FootprintReport"
+    jvmArgs("-Djdk.attach.allowAttachSelf=true") // lets JOL attach its agent on JDK 9+
+  }
+
+  register<JavaExec>("serializedSizeReport") {
+    group = "reporting"
+    description = "Prints the serialized size of collections created by each collect binding."
+
+    classpath = sourceSets["jmh"].runtimeClasspath
+    main = "pl.tlinkowski.unij.benchmark.collect.SerializedSizeReport"
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.benchmark.collect;
+
+import java.util.ServiceLoader;
+
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableListFactory;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableMapFactory;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableSetFactory;
+
+/**
+ * Collect bindings compared by the benchmarks in this module.
+ *
+ * <p>All the bindings are on the runtime classpath at the same time, so their factories are looked up using
+ * {@link ServiceLoader} (bypassing the priority-based selection of {@code UniJ}) and told apart by class name.
+ *
+ * @author Tomasz Linkowski
+ */
+enum CollectBinding {
+  JDK8("Jdk8"),
+  JDK10("Jdk10"),
+  GUAVA("Guava"),
+  ECLIPSE("Eclipse"),
+  PERSISTENT("Persistent");
+
+  private final String classNamePrefix;
+
+  CollectBinding(String classNamePrefix) {
+    this.classNamePrefix = classNamePrefix;
+  }
+
+  UnmodifiableListFactory listFactory() {
+    return load(UnmodifiableListFactory.class);
+  }
+
+  UnmodifiableSetFactory setFactory() {
+    return load(UnmodifiableSetFactory.class);
+  }
+
+  UnmodifiableMapFactory mapFactory() {
+    return load(UnmodifiableMapFactory.class);
+  }
+
+  private <S> S load(Class<S> serviceType) {
+    for (S service : ServiceLoader.load(serviceType)) {
+      if (service.getClass().getSimpleName().startsWith(classNamePrefix)) {
+        return service;
+      }
+    }
+    throw new IllegalStateException(String.format("%s for %s binding not found", serviceType.getSimpleName(), this));
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.benchmark.collect;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Prints the retained heap size (in bytes) of unmodifiable collections created by each collect binding.
+ *
+ * <p>The elements are shared {@link Integer} instances created up front and excluded from the measurement,
+ * so the reported sizes cover the collection structure only. Run using the {@code footprintReport} Gradle task.
+ *
+ * @author Tomasz Linkowski
+ */
+public final class FootprintReport {
+
+  private static final int[] SIZES = {0, 1, 2, 3, 5, 10, 11, 100, 1000, 100_000};
+
+  private FootprintReport() {
+  }
+
+  public static void main(String[] args) {
+    Integer[] elements = IntStream.range(0, SIZES[SIZES.length - 1]).boxed().toArray(Integer[]::new);
+    long elementsSize = GraphLayout.parseInstance((Object[]) elements).totalSize();
+
+    System.out.printf("%-8s %-10s %10s %14s %12s%n", "type", "binding", "size", "bytes", "bytes/elem");
+    for (CollectBinding binding : CollectBinding.values()) {
+      report("List", binding, size -> binding.listFactory().copyOf(Arrays.asList(elements).subList(0, size)),
+              elements, elementsSize);
+      report("Set", binding, size -> binding.setFactory().copyOf(
+                      new HashSet<>(Arrays.asList(elements).subList(0, size))),
+              elements, elementsSize);
+      report("Map", binding, size -> binding.mapFactory().copyOf(Arrays.stream(elements, 0, size)
+                      .collect(Collectors.toMap(Function.identity(), Function.identity()))),
+              elements, elementsSize);
+    }
+  }
+
+  private static void report(String type, CollectBinding binding, IntFunction<Object> collectionCreator,
+          Integer[] elements, long elementsSize) {
+    for (int size : SIZES) {
+      Object collection = collectionCreator.apply(size);
+      // measuring the collection together with the element array counts every element exactly once
+      long bytes = GraphLayout.parseInstance(collection, elements).totalSize() - elementsSize;
+      System.out.printf("%-8s %-10s %10d %14d %12s%n", type, binding, size, bytes,
+              size == 0 ? "-" : String.format("%.1f", (double) bytes / size));
+    }
+  }
+}
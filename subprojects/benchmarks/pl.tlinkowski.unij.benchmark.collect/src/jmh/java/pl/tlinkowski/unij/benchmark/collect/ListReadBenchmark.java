@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.benchmark.collect;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the read path of unmodifiable lists created by each collect binding.
+ *
+ * @author Tomasz Linkowski
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ListReadBenchmark {
+
+  @Param({"JDK8", "JDK10", "GUAVA", "ECLIPSE"})
+  public CollectBinding binding;
+
+  @Param({"1", "10", "1000", "100000"})
+  public int size;
+
+  private List<Integer> list;
+  private List<Integer> equalList;
+  private int[] indices;
+  private Integer[] hits;
+
+  @Setup
+  public void setup() {
+    List<Integer> source = IntStream.range(0, size).boxed().collect(Collectors.toList());
+    list = binding.listFactory().copyOf(source);
+    equalList = new ArrayList<>(source);
+    hits = ReadPathInputs.lookupKeys(0, size);
+    indices = new int[hits.length];
+    for (int i = 0; i < hits.length; i++) {
+      indices[i] = hits[i];
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ReadPathInputs.LOOKUPS)
+  public int get() {
+    int sum = 0;
+    for (int index : indices) {
+      sum += list.get(index);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ReadPathInputs.LOOKUPS)
+  public int containsHit() {
+    int count = 0;
+    for (Integer element : hits) {
+      if (list.contains(element)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int iterate() {
+    int sum = 0;
+    for (Integer element : list) {
+      sum += element;
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int hashCodeOf() {
+    return list.hashCode();
+  }
+
+  @Benchmark
+  public boolean equalsArrayList() {
+    return list.equals(equalList);
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.benchmark.collect;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the read path of unmodifiable maps created by each collect binding.
+ *
+ * @author Tomasz Linkowski
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MapReadBenchmark {
+
+  @Param({"JDK8", "JDK10", "GUAVA", "ECLIPSE"})
+  public CollectBinding binding;
+
+  @Param({"1", "10", "1000", "100000"})
+  public int size;
+
+  private Map<Integer, Integer> map;
+  private Map<Integer, Integer> equalMap;
+  private Integer[] hits;
+  private Integer[] misses;
+
+  @Setup
+  public void setup() {
+    Map<Integer, Integer> source = IntStream.range(0, size).boxed()
+            .collect(Collectors.toMap(Function.identity(), Function.identity(), (a, b) -> a, HashMap::new));
+    map = binding.mapFactory().copyOf(source);
+    equalMap = source;
+    hits = ReadPathInputs.lookupKeys(0, size);
+    misses = ReadPathInputs.lookupKeys(size, size);
+  }
+
+  //region LOOKUP
+  @Benchmark
+  @OperationsPerInvocation(ReadPathInputs.LOOKUPS)
+  public int getHit() {
+    return sumValues(hits);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ReadPathInputs.LOOKUPS)
+  public int getMiss() {
+    return sumValues(misses);
+  }
+
+  private int sumValues(Integer[] keys) {
+    int sum = 0;
+    for (Integer key : keys) {
+      Integer value = map.get(key);
+      if (value != null) {
+        sum += value;
+      }
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ReadPathInputs.LOOKUPS)
+  public int containsKeyHit() {
+    int count = 0;
+    for (Integer key : hits) {
+      if (map.containsKey(key)) {
+        count++;
+      }
+    }
+    return count;
+  }
+  //endregion
+
+  //region ITERATION
+  @Benchmark
+  public int iterateEntrySet() {
+    int sum = 0;
+    for (Map.Entry<Integer, Integer> entry : map.entrySet()) {
+      sum += entry.getKey() + entry.getValue();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int iterateKeySet() {
+    int sum = 0;
+    for (Integer key : map.keySet()) {
+      sum += key;
+    }
+    return sum;
+  }
+  //endregion
+
+  //region OBJECT METHODS
+  @Benchmark
+  public int hashCodeOf() {
+    return map.hashCode();
+  }
+
+  @Benchmark
+  public boolean equalsHashMap() {
+    return map.equals(equalMap);
+  }
+  //endregion
+}
@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.benchmark.collect;
+
+import java.util.Random;
+
+/**
+ * Shared input for the read-path benchmarks in this module.
+ *
+ * @author Tomasz Linkowski
+ */
+final class ReadPathInputs {
+
+  /**
+   * Number of lookups performed by a single invocation of a lookup benchmark.
+   */
+  static final int LOOKUPS = 1024;
+
+  private ReadPathInputs() {
+  }
+
+  /**
+   * Returns {@link #LOOKUPS} pseudo-random elements from range {@code [from, from + size)}.
+   * A fixed seed makes every binding see the same sequence.
+   */
+  static Integer[] lookupKeys(int from, int size) {
+    Random random = new Random(42);
+    Integer[] keys = new Integer[LOOKUPS];
+    for (int i = 0; i < LOOKUPS; i++) {
+      keys[i] = from + random.nextInt(size);
+    }
+    return keys;
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.benchmark.collect;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the cost of serializing and deserializing unmodifiable collections created by each collect binding.
+ *
+ * @author Tomasz Linkowski
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+  @Param({"JDK8", "JDK10", "GUAVA", "ECLIPSE", "PERSISTENT"})
+  public CollectBinding binding;
+
+  @Param({"10", "1000", "100000"})
+  public int size;
+
+  private List<Integer> list;
+  private Set<Integer> set;
+  private Map<Integer, Integer> map;
+  private byte[] serializedList;
+  private byte[] serializedSet;
+  private byte[] serializedMap;
+
+  @Setup
+  public void setup() throws IOException {
+    List<Integer> source = IntStream.range(0, size).boxed().collect(Collectors.toList());
+    list = binding.listFactory().copyOf(source);
+    set = binding.setFactory().copyOf(source);
+    map = binding.mapFactory().copyOf(source.stream()
+            .collect(Collectors.toMap(Function.identity(), Function.identity())));
+    serializedList = serialize(list);
+    serializedSet = serialize(set);
+    serializedMap = serialize(map);
+  }
+
+  //region SERIALIZE
+  @Benchmark
+  public byte[] serializeList() throws IOException {
+    return serialize(list);
+  }
+
+  @Benchmark
+  public byte[] serializeSet() throws IOException {
+    return serialize(set);
+  }
+
+  @Benchmark
+  public byte[] serializeMap() throws IOException {
+    return serialize(map);
+  }
+
+  static byte[] serialize(Object object) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(object);
+    }
+    return bytes.toByteArray();
+  }
+  //endregion
+
+  //region DESERIALIZE
+  @Benchmark
+  public Object deserializeList() throws IOException, ClassNotFoundException {
+    return deserialize(serializedList);
+  }
+
+  @Benchmark
+  public Object deserializeSet() throws IOException, ClassNotFoundException {
+    return deserialize(serializedSet);
+  }
+
+  @Benchmark
+  public Object deserializeMap() throws IOException, ClassNotFoundException {
+    return deserialize(serializedMap);
+  }
+
+  private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return in.readObject();
+    }
+  }
+  //endregion
+}
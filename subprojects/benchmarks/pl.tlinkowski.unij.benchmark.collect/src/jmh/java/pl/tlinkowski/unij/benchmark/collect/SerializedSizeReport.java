@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.benchmark.collect;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Prints the serialized size (in bytes) of unmodifiable collections created by each collect binding.
+ *
+ * <p>The sizes include the serialized elements (small {@link Integer}s), so they're best compared between the
+ * bindings for the same collection size. Run using the {@code serializedSizeReport} Gradle task.
+ *
+ * @author Tomasz Linkowski
+ */
+public final class SerializedSizeReport {
+
+  private static final int[] SIZES = {0, 1, 2, 3, 5, 10, 11, 100, 1000, 100_000};
+
+  private SerializedSizeReport() {
+  }
+
+  public static void main(String[] args) throws IOException {
+    Integer[] elements = IntStream.range(0, SIZES[SIZES.length - 1]).boxed().toArray(Integer[]::new);
+
+    System.out.printf("%-8s %-10s %10s %14s %12s%n", "type", "binding", "size", "bytes", "bytes/elem");
+    for (CollectBinding binding : CollectBinding.values()) {
+      report("List", binding, size -> binding.listFactory().copyOf(Arrays.asList(elements).subList(0, size)));
+      report("Set", binding, size -> binding.setFactory().copyOf(
+              new HashSet<>(Arrays.asList(elements).subList(0, size))));
+      report("Map", binding, size -> binding.mapFactory().copyOf(Arrays.stream(elements, 0, size)
+              .collect(Collectors.toMap(Function.identity(), Function.identity()))));
+    }
+  }
+
+  private static void report(String type, CollectBinding binding, IntFunction<Object> collectionCreator)
+          throws IOException {
+    for (int size : SIZES) {
+      int bytes = SerializationBenchmark.serialize(collectionCreator.apply(size)).length;
+      System.out.printf("%-8s %-10s %10d %14d %12s%n", type, binding, size, bytes,
+              size == 0 ? "-" : String.format("%.1f", (double) bytes / size));
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.benchmark.collect;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the read path of unmodifiable sets created by each collect binding.
+ *
+ * @author Tomasz Linkowski
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class SetReadBenchmark {
+
+  @Param({"JDK8", "JDK10", "GUAVA", "ECLIPSE"})
+  public CollectBinding binding;
+
+  @Param({"1", "10", "1000", "100000"})
+  public int size;
+
+  private Set<Integer> set;
+  private Set<Integer> equalSet;
+  private Integer[] hits;
+  private Integer[] misses;
+
+  @Setup
+  public void setup() {
+    Set<Integer> source = IntStream.range(0, size).boxed().collect(Collectors.toCollection(HashSet::new));
+    set = binding.setFactory().copyOf(source);
+    equalSet = source;
+    hits = ReadPathInputs.lookupKeys(0, size);
+    misses = ReadPathInputs.lookupKeys(size, size);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ReadPathInputs.LOOKUPS)
+  public int containsHit() {
+    return countContained(hits);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ReadPathInputs.LOOKUPS)
+  public int containsMiss() {
+    return countContained(misses);
+  }
+
+  private int countContained(Integer[] elements) {
+    int count = 0;
+    for (Integer element : elements) {
+      if (set.contains(element)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int iterate() {
+    int sum = 0;
+    for (Integer element : set) {
+      sum += element;
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int hashCodeOf() {
+    return set.hashCode();
+  }
+
+  @Benchmark
+  public boolean equalsHashSet() {
+    return set.equals(equalSet);
+  }
+}
@@ -36,4 +36,11 @@ module pl.tlinkowski.unij.service.collect.eclipse {
   provides UnmodifiableListFactory with EclipseUnmodifiableListFactory;
   provides UnmodifiableSetFactory with EclipseUnmodifiableSetFactory;
   provides UnmodifiableMapFactory with EclipseUnmodifiableMapFactory;
+  provides UnmodifiableSortedSetFactory with EclipseUnmodifiableSortedSetFactory;
+  provides UnmodifiableSortedMapFactory with EclipseUnmodifiableSortedMapFactory;
+  provides UnmodifiableIntListFactory with EclipseUnmodifiableIntListFactory;
+  provides UnmodifiableLongListFactory with EclipseUnmodifiableLongListFactory;
+  provides UnmodifiableDoubleListFactory with EclipseUnmodifiableDoubleListFactory;
+  provides UnmodifiableLongObjectMapFactory with EclipseUnmodifiableLongObjectMapFactory;
+  provides UnmodifiableObjectIntMapFactory with EclipseUnmodifiableObjectIntMapFactory;
 }
@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.eclipse;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+
+import org.eclipse.collections.api.list.primitive.ImmutableIntList;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableIntList;
+
+/**
+ * {@link UnmodifiableIntList} view of Eclipse's {@link ImmutableIntList} (which is not a {@link java.util.List}).
+ *
+ * @author Tomasz Linkowski
+ */
+final class EclipseIntList extends AbstractList<Integer> implements UnmodifiableIntList, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  static final EclipseIntList EMPTY = new EclipseIntList(IntLists.immutable.of());
+
+  private final ImmutableIntList list;
+
+  EclipseIntList(ImmutableIntList list) {
+    this.list = list;
+  }
+
+  @Override
+  public int size() {
+    return list.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return list.isEmpty();
+  }
+
+  @Override
+  public Integer get(int index) {
+    return list.get(index);
+  }
+
+  @Override
+  public int getInt(int index) {
+    return list.get(index);
+  }
+
+  @Override
+  public boolean contains(@NullOr Object o) {
+    return o instanceof Integer && list.contains((Integer) o);
+  }
+
+  @Override
+  public int indexOf(@NullOr Object o) {
+    return o instanceof Integer ? list.indexOf((Integer) o) : -1;
+  }
+
+  @Override
+  public int lastIndexOf(@NullOr Object o) {
+    return o instanceof Integer ? list.lastIndexOf((Integer) o) : -1;
+  }
+
+  @Override
+  public int[] toIntArray() {
+    return list.toArray();
+  }
+
+  @Override
+  public boolean equals(@NullOr Object o) {
+    if (o instanceof EclipseIntList) {
+      return list.equals(((EclipseIntList) o).list);
+    }
+    return super.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    for (int i = 0; i < list.size(); i++) {
+      hashCode = 31 * hashCode + Integer.hashCode(list.get(i));
+    }
+    return hashCode;
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.eclipse;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+
+import org.eclipse.collections.api.list.primitive.ImmutableLongList;
+import org.eclipse.collections.impl.factory.primitive.LongLists;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableLongList;
+
+/**
+ * {@link UnmodifiableLongList} view of Eclipse's {@link ImmutableLongList} (which is not a {@link java.util.List}).
+ *
+ * @author Tomasz Linkowski
+ */
+final class EclipseLongList extends AbstractList<Long> implements UnmodifiableLongList, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  static final EclipseLongList EMPTY = new EclipseLongList(LongLists.immutable.of());
+
+  private final ImmutableLongList list;
+
+  EclipseLongList(ImmutableLongList list) {
+    this.list = list;
+  }
+
+  @Override
+  public int size() {
+    return list.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return list.isEmpty();
+  }
+
+  @Override
+  public Long get(int index) {
+    return list.get(index);
+  }
+
+  @Override
+  public long getLong(int index) {
+    return list.get(index);
+  }
+
+  @Override
+  public boolean contains(@NullOr Object o) {
+    return o instanceof Long && list.contains((Long) o);
+  }
+
+  @Override
+  public int indexOf(@NullOr Object o) {
+    return o instanceof Long ? list.indexOf((Long) o) : -1;
+  }
+
+  @Override
+  public int lastIndexOf(@NullOr Object o) {
+    return o instanceof Long ? list.lastIndexOf((Long) o) : -1;
+  }
+
+  @Override
+  public long[] toLongArray() {
+    return list.toArray();
+  }
+
+  @Override
+  public boolean equals(@NullOr Object o) {
+    if (o instanceof EclipseLongList) {
+      return list.equals(((EclipseLongList) o).list);
+    }
+    return super.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    for (int i = 0; i < list.size(); i++) {
+      hashCode = 31 * hashCode + Long.hashCode(list.get(i));
+    }
+    return hashCode;
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.eclipse;
+
+import java.io.Serializable;
+import java.util.*;
+
+import org.eclipse.collections.api.map.primitive.ImmutableLongObjectMap;
+import org.eclipse.collections.api.tuple.primitive.LongObjectPair;
+import org.eclipse.collections.impl.factory.primitive.LongObjectMaps;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableLongObjectMap;
+
+/**
+ * {@link UnmodifiableLongObjectMap} view of Eclipse's {@link ImmutableLongObjectMap} (which is not a {@link Map}).
+ *
+ * @author Tomasz Linkowski
+ */
+final class EclipseLongObjectMap<V> extends AbstractMap<Long, V> implements UnmodifiableLongObjectMap<V>, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  static final EclipseLongObjectMap<Object> EMPTY = new EclipseLongObjectMap<>(LongObjectMaps.immutable.empty());
+
+  private final ImmutableLongObjectMap<V> map;
+
+  EclipseLongObjectMap(ImmutableLongObjectMap<V> map) {
+    this.map = map;
+  }
+
+  //region QUERIES
+  @Override
+  public int size() {
+    return map.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return map.isEmpty();
+  }
+
+  @NullOr
+  @Override
+  public V get(long key) {
+    return map.get(key);
+  }
+
+  @NullOr
+  @Override
+  public V get(@NullOr Object key) {
+    return key instanceof Long ? map.get(((Long) key).longValue()) : null;
+  }
+
+  @Override
+  public boolean containsKey(long key) {
+    return map.containsKey(key);
+  }
+
+  @Override
+  public boolean containsKey(@NullOr Object key) {
+    return key instanceof Long && map.containsKey(((Long) key).longValue());
+  }
+
+  @Override
+  public boolean containsValue(@NullOr Object value) {
+    return map.containsValue(value);
+  }
+  //endregion
+
+  //region VIEWS
+  @Override
+  public Set<Entry<Long, V>> entrySet() {
+    return new AbstractSet<Entry<Long, V>>() {
+      @Override
+      public int size() {
+        return map.size();
+      }
+
+      @Override
+      public Iterator<Entry<Long, V>> iterator() {
+        Iterator<LongObjectPair<V>> pairs = map.keyValuesView().iterator();
+        return new Iterator<Entry<Long, V>>() {
+          @Override
+          public boolean hasNext() {
+            return pairs.hasNext();
+          }
+
+          @Override
+          public Entry<Long, V> next() {
+            LongObjectPair<V> pair = pairs.next();
+            return new SimpleImmutableEntry<>(pair.getOne(), pair.getTwo());
+          }
+        };
+      }
+    };
+  }
+  //endregion
+}
@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.eclipse;
+
+import java.io.Serializable;
+import java.util.*;
+
+import org.eclipse.collections.api.map.primitive.ImmutableObjectIntMap;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.impl.factory.primitive.ObjectIntMaps;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableObjectIntMap;
+
+/**
+ * {@link UnmodifiableObjectIntMap} view of Eclipse's {@link ImmutableObjectIntMap} (which is not a {@link Map}).
+ *
+ * @author Tomasz Linkowski
+ */
+final class EclipseObjectIntMap<K> extends AbstractMap<K, Integer>
+        implements UnmodifiableObjectIntMap<K>, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  static final EclipseObjectIntMap<Object> EMPTY = new EclipseObjectIntMap<>(ObjectIntMaps.immutable.empty());
+
+  private final ImmutableObjectIntMap<K> map;
+
+  EclipseObjectIntMap(ImmutableObjectIntMap<K> map) {
+    this.map = map;
+  }
+
+  //region QUERIES
+  @Override
+  public int size() {
+    return map.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return map.isEmpty();
+  }
+
+  @Override
+  public int getIntOrDefault(@NullOr Object key, int defaultValue) {
+    return map.getIfAbsent(key, defaultValue);
+  }
+
+  @NullOr
+  @Override
+  public Integer get(@NullOr Object key) {
+    return map.containsKey(key) ? map.get(key) : null;
+  }
+
+  @Override
+  public boolean containsKey(@NullOr Object key) {
+    return map.containsKey(key);
+  }
+
+  @Override
+  public boolean containsValue(@NullOr Object value) {
+    return value instanceof Integer && map.containsValue((Integer) value);
+  }
+  //endregion
+
+  //region VIEWS
+  @Override
+  public Set<Entry<K, Integer>> entrySet() {
+    return new AbstractSet<Entry<K, Integer>>() {
+      @Override
+      public int size() {
+        return map.size();
+      }
+
+      @Override
+      public Iterator<Entry<K, Integer>> iterator() {
+        Iterator<ObjectIntPair<K>> pairs = map.keyValuesView().iterator();
+        return new Iterator<Entry<K, Integer>>() {
+          @Override
+          public boolean hasNext() {
+            return pairs.hasNext();
+          }
+
+          @Override
+          public Entry<K, Integer> next() {
+            ObjectIntPair<K> pair = pairs.next();
+            return new SimpleImmutableEntry<>(pair.getOne(), pair.getTwo());
+          }
+        };
+      }
+    };
+  }
+  //endregion
+}
@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.eclipse;
+
+import java.util.Collection;
+import java.util.stream.DoubleStream;
+
+import com.google.auto.service.AutoService;
+import org.eclipse.collections.api.list.primitive.ImmutableDoubleList;
+import org.eclipse.collections.impl.factory.primitive.DoubleLists;
+
+import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableDoubleList;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableDoubleListFactory;
+
+/**
+ * Implementation of {@link UnmodifiableDoubleListFactory} that returns Eclipse's {@link ImmutableDoubleList}s (wrapped
+ * as {@link EclipseDoubleList}s).
+ *
+ * @author Tomasz Linkowski
+ */
+@UniJService(priority = 30)
+@AutoService(UnmodifiableDoubleListFactory.class)
+public final class EclipseUnmodifiableDoubleListFactory implements UnmodifiableDoubleListFactory {
+
+  //region COLLECTOR
+  @Override
+  public UnmodifiableDoubleList collect(DoubleStream stream) {
+    return copyOf(stream.toArray());
+  }
+  //endregion
+
+  //region COPY OF
+
+  /**
+   * @implNote {@link DoubleLists#immutable} copies {@param elements}.
+   */
+  @Override
+  public UnmodifiableDoubleList copyOf(double[] elements) {
+    return wrap(DoubleLists.immutable.of(elements));
+  }
+
+  /**
+   * @implNote Returns {@param coll} as is if it has been created by this factory.
+   */
+  @Override
+  public UnmodifiableDoubleList copyOf(Collection<Double> coll) {
+    if (coll instanceof EclipseDoubleList) {
+      return (UnmodifiableDoubleList) coll;
+    }
+    Object[] boxedElements = coll.toArray();
+    double[] elements = new double[boxedElements.length];
+    for (int i = 0; i < boxedElements.length; i++) {
+      elements[i] = (Double) boxedElements[i]; // throws NPE on null
+    }
+    return copyOf(elements);
+  }
+  //endregion
+
+  //region OF
+  @Override
+  public UnmodifiableDoubleList of(double... elements) {
+    return copyOf(elements);
+  }
+  //endregion
+
+  private static UnmodifiableDoubleList wrap(ImmutableDoubleList list) {
+    return list.isEmpty() ? EclipseDoubleList.EMPTY : new EclipseDoubleList(list);
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.eclipse;
+
+import java.util.Collection;
+import java.util.stream.IntStream;
+
+import com.google.auto.service.AutoService;
+import org.eclipse.collections.api.list.primitive.ImmutableIntList;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+
+import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableIntList;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableIntListFactory;
+
+/**
+ * Implementation of {@link UnmodifiableIntListFactory} that returns Eclipse's {@link ImmutableIntList}s (wrapped as
+ * {@link EclipseIntList}s).
+ *
+ * @author Tomasz Linkowski
+ */
+@UniJService(priority = 30)
+@AutoService(UnmodifiableIntListFactory.class)
+public final class EclipseUnmodifiableIntListFactory implements UnmodifiableIntListFactory {
+
+  //region COLLECTOR
+  @Override
+  public UnmodifiableIntList collect(IntStream stream) {
+    return copyOf(stream.toArray());
+  }
+  //endregion
+
+  //region COPY OF
+
+  /**
+   * @implNote {@link IntLists#immutable} copies {@param elements}.
+   */
+  @Override
+  public UnmodifiableIntList copyOf(int[] elements) {
+    return wrap(IntLists.immutable.of(elements));
+  }
+
+  /**
+   * @implNote Returns {@param coll} as is if it has been created by this factory.
+   */
+  @Override
+  public UnmodifiableIntList copyOf(Collection<Integer> coll) {
+    if (coll instanceof EclipseIntList) {
+      return (UnmodifiableIntList) coll;
+    }
+    Object[] boxedElements = coll.toArray();
+    int[] elements = new int[boxedElements.length];
+    for (int i = 0; i < boxedElements.length; i++) {
+      elements[i] = (Integer) boxedElements[i]; // throws NPE on null
+    }
+    return copyOf(elements);
+  }
+  //endregion
+
+  //region OF
+  @Override
+  public UnmodifiableIntList of(int... elements) {
+    return copyOf(elements);
+  }
+  //endregion
+
+  private static UnmodifiableIntList wrap(ImmutableIntList list) {
+    return list.isEmpty() ? EclipseIntList.EMPTY : new EclipseIntList(list);
+  }
+}
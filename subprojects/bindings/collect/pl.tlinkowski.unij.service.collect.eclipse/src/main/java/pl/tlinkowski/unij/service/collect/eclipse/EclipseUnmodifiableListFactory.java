@@ -19,15 +19,18 @@ package pl.tlinkowski.unij.service.collect.eclipse;
 
 import java.util.*;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 
 import com.google.auto.service.AutoService;
 import lombok.NonNull;
 import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.collector.Collectors2;
 import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.mutable.FastList;
 
+import pl.tlinkowski.annotation.basic.NullOr;
 import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableListBuilder;
 import pl.tlinkowski.unij.service.api.collect.UnmodifiableListFactory;
 
 /**
@@ -40,15 +43,49 @@ import pl.tlinkowski.unij.service.api.collect.UnmodifiableListFactory;
 public final class EclipseUnmodifiableListFactory implements UnmodifiableListFactory {
 
   //region COLLECTOR
+
+  /**
+   * Based on {@link Collectors2#toImmutableList()}, but rejects {@code null}s already in the accumulator.
+   */
   @Override
   public <E> Collector<E, ?, List<E>> collector() {
-    return Collectors.collectingAndThen(Collectors2.toImmutableList(), this::castToListWithNullChecks);
+    return Collector.<E, MutableList<E>, List<E>>of(
+            Lists.mutable::empty,
+            (list, element) -> list.add(Objects.requireNonNull(element)),
+            MutableList::withAll,
+            list -> list.toImmutable().castToList()
+    );
+  }
+  //endregion
+
+  //region BUILDER
+
+  /**
+   * @implNote Accumulates the elements in a presized {@link FastList}, and then converts it to an {@link ImmutableList}
+   * (which copies the elements once).
+   */
+  @Override
+  public <E> UnmodifiableListBuilder<E> builder(int expectedSize) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+    }
+    return new ListBuilder<>(FastList.newList(expectedSize));
   }
   //endregion
 
   //region COPY OF
+
+  /**
+   * @implNote Does not copy {@param coll} if it already is an {@link ImmutableList} (only checks it for nulls). The
+   * check takes O(n) time but it cannot be skipped: Eclipse Collections permit {@code null} elements, and the lists
+   * created by this factory are indistinguishable from the ones created directly by Eclipse Collections.
+   */
+  @SuppressWarnings("unchecked")
   @Override
   public <E> List<E> copyOf(Collection<? extends E> coll) {
+    if (coll instanceof ImmutableList) {
+      return castToListWithNullChecks((ImmutableList<E>) coll);
+    }
     return castToListWithNullChecks(Lists.immutable.ofAll(coll));
   }
   //endregion
@@ -125,4 +162,37 @@ public final class EclipseUnmodifiableListFactory implements UnmodifiableListFac
     list.forEach(Objects::requireNonNull);
     return list.castToList();
   }
+
+  /**
+   * Single-use {@link UnmodifiableListBuilder} accumulating the elements in a {@link MutableList}.
+   */
+  private static final class ListBuilder<E> implements UnmodifiableListBuilder<E> {
+
+    @NullOr
+    private MutableList<E> list; // null once built
+
+    ListBuilder(MutableList<E> list) {
+      this.list = list;
+    }
+
+    @Override
+    public UnmodifiableListBuilder<E> add(E element) {
+      list().add(Objects.requireNonNull(element));
+      return this;
+    }
+
+    @Override
+    public List<E> build() {
+      List<E> result = list().toImmutable().castToList();
+      list = null;
+      return result;
+    }
+
+    private MutableList<E> list() {
+      if (list == null) {
+        throw new IllegalStateException("List already built");
+      }
+      return list;
+    }
+  }
 }
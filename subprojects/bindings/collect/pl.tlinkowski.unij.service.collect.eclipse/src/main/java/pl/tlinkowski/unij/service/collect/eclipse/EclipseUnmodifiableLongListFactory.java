@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.eclipse;
+
+import java.util.Collection;
+import java.util.stream.LongStream;
+
+import com.google.auto.service.AutoService;
+import org.eclipse.collections.api.list.primitive.ImmutableLongList;
+import org.eclipse.collections.impl.factory.primitive.LongLists;
+
+import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableLongList;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableLongListFactory;
+
+/**
+ * Implementation of {@link UnmodifiableLongListFactory} that returns Eclipse's {@link ImmutableLongList}s (wrapped as
+ * {@link EclipseLongList}s).
+ *
+ * @author Tomasz Linkowski
+ */
+@UniJService(priority = 30)
+@AutoService(UnmodifiableLongListFactory.class)
+public final class EclipseUnmodifiableLongListFactory implements UnmodifiableLongListFactory {
+
+  //region COLLECTOR
+  @Override
+  public UnmodifiableLongList collect(LongStream stream) {
+    return copyOf(stream.toArray());
+  }
+  //endregion
+
+  //region COPY OF
+
+  /**
+   * @implNote {@link LongLists#immutable} copies {@param elements}.
+   */
+  @Override
+  public UnmodifiableLongList copyOf(long[] elements) {
+    return wrap(LongLists.immutable.of(elements));
+  }
+
+  /**
+   * @implNote Returns {@param coll} as is if it has been created by this factory.
+   */
+  @Override
+  public UnmodifiableLongList copyOf(Collection<Long> coll) {
+    if (coll instanceof EclipseLongList) {
+      return (UnmodifiableLongList) coll;
+    }
+    Object[] boxedElements = coll.toArray();
+    long[] elements = new long[boxedElements.length];
+    for (int i = 0; i < boxedElements.length; i++) {
+      elements[i] = (Long) boxedElements[i]; // throws NPE on null
+    }
+    return copyOf(elements);
+  }
+  //endregion
+
+  //region OF
+  @Override
+  public UnmodifiableLongList of(long... elements) {
+    return copyOf(elements);
+  }
+  //endregion
+
+  private static UnmodifiableLongList wrap(ImmutableLongList list) {
+    return list.isEmpty() ? EclipseLongList.EMPTY : new EclipseLongList(list);
+  }
+}
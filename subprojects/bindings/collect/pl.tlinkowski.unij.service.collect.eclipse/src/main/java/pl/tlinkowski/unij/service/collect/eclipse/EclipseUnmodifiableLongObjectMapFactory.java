@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.eclipse;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+import com.google.auto.service.AutoService;
+import org.eclipse.collections.api.map.primitive.ImmutableLongObjectMap;
+import org.eclipse.collections.api.map.primitive.MutableLongObjectMap;
+import org.eclipse.collections.impl.factory.primitive.LongObjectMaps;
+
+import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableLongObjectMap;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableLongObjectMapFactory;
+
+/**
+ * Implementation of {@link UnmodifiableLongObjectMapFactory} that returns Eclipse's {@link ImmutableLongObjectMap}s
+ * (wrapped as {@link EclipseLongObjectMap}s).
+ *
+ * @author Tomasz Linkowski
+ */
+@UniJService(priority = 30)
+@AutoService(UnmodifiableLongObjectMapFactory.class)
+public final class EclipseUnmodifiableLongObjectMapFactory implements UnmodifiableLongObjectMapFactory {
+
+  //region COLLECTOR
+  @Override
+  public <T, V> Collector<T, ?, UnmodifiableLongObjectMap<V>> collector(ToLongFunction<? super T> keyMapper,
+          Function<? super T, ? extends V> valueMapper) {
+    return Collector.<T, MutableLongObjectMap<V>, UnmodifiableLongObjectMap<V>>of(
+            LongObjectMaps.mutable::empty,
+            (map, element) -> putUnique(map, keyMapper.applyAsLong(element), valueMapper.apply(element)),
+            (left, right) -> {
+              right.forEachKeyValue((key, value) -> putUnique(left, key, value));
+              return left;
+            },
+            map -> wrap(map.toImmutable())
+    );
+  }
+  //endregion
+
+  //region COPY OF
+
+  /**
+   * @implNote Returns {@param map} as is if it has been created by this factory.
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public <V> UnmodifiableLongObjectMap<V> copyOf(Map<Long, ? extends V> map) {
+    if (map instanceof EclipseLongObjectMap) {
+      return (UnmodifiableLongObjectMap<V>) map;
+    }
+    MutableLongObjectMap<V> mutableMap = LongObjectMaps.mutable.empty();
+    map.forEach((key, value) -> putUnique(mutableMap, Objects.requireNonNull(key, "key"), value));
+    return wrap(mutableMap.toImmutable());
+  }
+  //endregion
+
+  //region OF
+  @SuppressWarnings("unchecked")
+  @Override
+  public <V> UnmodifiableLongObjectMap<V> of() {
+    return (UnmodifiableLongObjectMap<V>) EclipseLongObjectMap.EMPTY;
+  }
+
+  @Override
+  public <V> UnmodifiableLongObjectMap<V> of(long k1, V v1) {
+    MutableLongObjectMap<V> map = LongObjectMaps.mutable.empty();
+    putUnique(map, k1, v1);
+    return wrap(map.toImmutable());
+  }
+
+  @Override
+  public <V> UnmodifiableLongObjectMap<V> of(long k1, V v1, long k2, V v2) {
+    MutableLongObjectMap<V> map = LongObjectMaps.mutable.empty();
+    putUnique(map, k1, v1);
+    putUnique(map, k2, v2);
+    return wrap(map.toImmutable());
+  }
+
+  @Override
+  public <V> UnmodifiableLongObjectMap<V> of(long k1, V v1, long k2, V v2, long k3, V v3) {
+    MutableLongObjectMap<V> map = LongObjectMaps.mutable.empty();
+    putUnique(map, k1, v1);
+    putUnique(map, k2, v2);
+    putUnique(map, k3, v3);
+    return wrap(map.toImmutable());
+  }
+  //endregion
+
+  private static <V> void putUnique(MutableLongObjectMap<V> map, long key, V value) {
+    Objects.requireNonNull(value, "value");
+    if (map.containsKey(key)) {
+      throw new IllegalArgumentException("Duplicate key: " + key);
+    }
+    map.put(key, value);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <V> UnmodifiableLongObjectMap<V> wrap(ImmutableLongObjectMap<V> map) {
+    return map.isEmpty() ? (UnmodifiableLongObjectMap<V>) EclipseLongObjectMap.EMPTY : new EclipseLongObjectMap<>(map);
+  }
+}
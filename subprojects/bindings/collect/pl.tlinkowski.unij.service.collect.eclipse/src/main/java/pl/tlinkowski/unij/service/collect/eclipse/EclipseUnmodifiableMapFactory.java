@@ -19,6 +19,7 @@ package pl.tlinkowski.unij.service.collect.eclipse;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.stream.Collector;
@@ -33,6 +34,7 @@ import org.eclipse.collections.impl.tuple.ImmutableEntry;
 
 import pl.tlinkowski.annotation.basic.NullOr;
 import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableMapBuilder;
 import pl.tlinkowski.unij.service.api.collect.UnmodifiableMapFactory;
 
 /**
@@ -55,26 +57,92 @@ public final class EclipseUnmodifiableMapFactory implements UnmodifiableMapFacto
     });
   }
 
+  /**
+   * @implNote Rejects {@code null} keys and values already in the accumulator.
+   */
   @Override
   public <T, K, V> Collector<T, ?, Map<K, V>> collector(Function<? super T, ? extends K> keyMapper,
           Function<? super T, ? extends V> valueMapper, BinaryOperator<V> mergeFunction) {
+    return Collector.<T, MutableMap<K, V>, Map<K, V>>of(
+            Maps.mutable::empty,
+            (map, element) -> map.merge(
+                    Objects.requireNonNull(keyMapper.apply(element), "key"),
+                    Objects.requireNonNull(valueMapper.apply(element), "value"),
+                    mergeFunction
+            ),
+            (left, right) -> {
+              right.forEachKeyValue((key, value) -> left.merge(key, value, mergeFunction));
+              return left;
+            },
+            map -> map.toImmutable().castToMap()
+    );
+  }
+
+  /**
+   * @implNote {@link ConcurrentMap} holds no {@code null}s, so no null checks are needed when copying it.
+   */
+  @Override
+  public <T, K, V> Collector<T, ?, Map<K, V>> concurrentCollector(Function<? super T, ? extends K> keyMapper,
+          Function<? super T, ? extends V> valueMapper) {
+    return Collectors.collectingAndThen(
+            Collectors.<T, K, V>toConcurrentMap(keyMapper, valueMapper), this::copyOfConcurrentMap
+    );
+  }
+
+  /**
+   * @implNote {@link ConcurrentMap} holds no {@code null}s, so no null checks are needed when copying it.
+   */
+  @Override
+  public <T, K, V> Collector<T, ?, Map<K, V>> concurrentCollector(Function<? super T, ? extends K> keyMapper,
+          Function<? super T, ? extends V> valueMapper, BinaryOperator<V> mergeFunction) {
     return Collectors.collectingAndThen(
-            Collectors.toMap(keyMapper, valueMapper, mergeFunction, Maps.mutable::empty),
-            this::copyOf
+            Collectors.<T, K, V>toConcurrentMap(keyMapper, valueMapper, mergeFunction), this::copyOfConcurrentMap
     );
   }
+
+  private <K, V> Map<K, V> copyOfConcurrentMap(ConcurrentMap<K, V> map) {
+    return Maps.immutable.ofAll(map).castToMap();
+  }
+  //endregion
+
+  //region BUILDER
+
+  /**
+   * @implNote Puts the entries into a presized {@link MutableMap} (throwing on duplicate keys), and then converts it to
+   * an {@link ImmutableMap} (which copies the entries once).
+   */
+  @Override
+  public <K, V> UnmodifiableMapBuilder<K, V> builder(int expectedSize) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+    }
+    return new MapBuilder<>(new Builder<>(expectedSize));
+  }
   //endregion
 
   //region COPY OF
+
+  /**
+   * @implNote Does not copy {@param map} if it already is an {@link ImmutableMap} (only checks it for nulls). The
+   * check takes O(n) time (there is no index of values) but it cannot be skipped: Eclipse Collections permit
+   * {@code null} keys and values, and the maps created by this factory are indistinguishable from the ones created
+   * directly by Eclipse Collections.
+   */
   @SuppressWarnings("unchecked")
   @Override
   public <K, V> Map<K, V> copyOf(Map<? extends K, ? extends V> map) {
-    Map<K, V> copy = (Map<K, V>) Maps.immutable.ofAll(map).castToMap();
-    copy.forEach((key, value) -> {
+    if (map instanceof ImmutableMap) {
+      return requireNoNulls((Map<K, V>) map);
+    }
+    return requireNoNulls((Map<K, V>) Maps.immutable.ofAll(map).castToMap());
+  }
+
+  private static <K, V> Map<K, V> requireNoNulls(Map<K, V> map) {
+    map.forEach((key, value) -> {
       Objects.requireNonNull(key, "key");
       Objects.requireNonNull(value, "value");
     });
-    return copy;
+    return map;
   }
   //endregion
 
@@ -263,4 +331,37 @@ public final class EclipseUnmodifiableMapFactory implements UnmodifiableMapFacto
       return map.toImmutable().castToMap();
     }
   }
+
+  /**
+   * Single-use {@link UnmodifiableMapBuilder} wrapping a {@link Builder}.
+   */
+  private static final class MapBuilder<K, V> implements UnmodifiableMapBuilder<K, V> {
+
+    @NullOr
+    private Builder<K, V> builder; // null once built
+
+    MapBuilder(Builder<K, V> builder) {
+      this.builder = builder;
+    }
+
+    @Override
+    public UnmodifiableMapBuilder<K, V> put(K key, V value) {
+      builder().putWithNullCheckes(key, value);
+      return this;
+    }
+
+    @Override
+    public Map<K, V> build() {
+      Map<K, V> map = builder().build();
+      builder = null;
+      return map;
+    }
+
+    private Builder<K, V> builder() {
+      if (builder == null) {
+        throw new IllegalStateException("Map already built");
+      }
+      return builder;
+    }
+  }
 }
@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.eclipse;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+
+import com.google.auto.service.AutoService;
+import org.eclipse.collections.api.map.primitive.ImmutableObjectIntMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
+import org.eclipse.collections.impl.factory.primitive.ObjectIntMaps;
+
+import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableObjectIntMap;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableObjectIntMapFactory;
+
+/**
+ * Implementation of {@link UnmodifiableObjectIntMapFactory} that returns Eclipse's {@link ImmutableObjectIntMap}s
+ * (wrapped as {@link EclipseObjectIntMap}s).
+ *
+ * @author Tomasz Linkowski
+ */
+@UniJService(priority = 30)
+@AutoService(UnmodifiableObjectIntMapFactory.class)
+public final class EclipseUnmodifiableObjectIntMapFactory implements UnmodifiableObjectIntMapFactory {
+
+  //region COLLECTOR
+  @Override
+  public <T, K> Collector<T, ?, UnmodifiableObjectIntMap<K>> collector(Function<? super T, ? extends K> keyMapper,
+          ToIntFunction<? super T> valueMapper) {
+    return Collector.<T, MutableObjectIntMap<K>, UnmodifiableObjectIntMap<K>>of(
+            ObjectIntMaps.mutable::empty,
+            (map, element) -> putUnique(map, keyMapper.apply(element), valueMapper.applyAsInt(element)),
+            (left, right) -> {
+              right.forEachKeyValue((key, value) -> putUnique(left, key, value));
+              return left;
+            },
+            map -> wrap(map.toImmutable())
+    );
+  }
+  //endregion
+
+  //region COPY OF
+
+  /**
+   * @implNote Returns {@param map} as is if it has been created by this factory.
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public <K> UnmodifiableObjectIntMap<K> copyOf(Map<? extends K, Integer> map) {
+    if (map instanceof EclipseObjectIntMap) {
+      return (UnmodifiableObjectIntMap<K>) map;
+    }
+    MutableObjectIntMap<K> mutableMap = ObjectIntMaps.mutable.empty();
+    map.forEach((key, value) -> putUnique(mutableMap, key, Objects.requireNonNull(value, "value")));
+    return wrap(mutableMap.toImmutable());
+  }
+  //endregion
+
+  //region OF
+  @SuppressWarnings("unchecked")
+  @Override
+  public <K> UnmodifiableObjectIntMap<K> of() {
+    return (UnmodifiableObjectIntMap<K>) EclipseObjectIntMap.EMPTY;
+  }
+
+  @Override
+  public <K> UnmodifiableObjectIntMap<K> of(K k1, int v1) {
+    MutableObjectIntMap<K> map = ObjectIntMaps.mutable.empty();
+    putUnique(map, k1, v1);
+    return wrap(map.toImmutable());
+  }
+
+  @Override
+  public <K> UnmodifiableObjectIntMap<K> of(K k1, int v1, K k2, int v2) {
+    MutableObjectIntMap<K> map = ObjectIntMaps.mutable.empty();
+    putUnique(map, k1, v1);
+    putUnique(map, k2, v2);
+    return wrap(map.toImmutable());
+  }
+
+  @Override
+  public <K> UnmodifiableObjectIntMap<K> of(K k1, int v1, K k2, int v2, K k3, int v3) {
+    MutableObjectIntMap<K> map = ObjectIntMaps.mutable.empty();
+    putUnique(map, k1, v1);
+    putUnique(map, k2, v2);
+    putUnique(map, k3, v3);
+    return wrap(map.toImmutable());
+  }
+  //endregion
+
+  private static <K> void putUnique(MutableObjectIntMap<K> map, K key, int value) {
+    Objects.requireNonNull(key, "key");
+    if (map.containsKey(key)) {
+      throw new IllegalArgumentException("Duplicate key: " + key);
+    }
+    map.put(key, value);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <K> UnmodifiableObjectIntMap<K> wrap(ImmutableObjectIntMap<K> map) {
+    return map.isEmpty() ? (UnmodifiableObjectIntMap<K>) EclipseObjectIntMap.EMPTY : new EclipseObjectIntMap<>(map);
+  }
+}
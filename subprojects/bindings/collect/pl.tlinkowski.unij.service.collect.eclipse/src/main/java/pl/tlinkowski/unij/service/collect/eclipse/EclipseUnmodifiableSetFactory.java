@@ -19,15 +19,18 @@ package pl.tlinkowski.unij.service.collect.eclipse;
 
 import java.util.*;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 
 import com.google.auto.service.AutoService;
 import lombok.NonNull;
 import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.impl.collector.Collectors2;
 import org.eclipse.collections.impl.factory.Sets;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
 
+import pl.tlinkowski.annotation.basic.NullOr;
 import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableSetBuilder;
 import pl.tlinkowski.unij.service.api.collect.UnmodifiableSetFactory;
 
 /**
@@ -40,15 +43,49 @@ import pl.tlinkowski.unij.service.api.collect.UnmodifiableSetFactory;
 public final class EclipseUnmodifiableSetFactory implements UnmodifiableSetFactory {
 
   //region COLLECTOR
+
+  /**
+   * Based on {@link Collectors2#toImmutableSet()}, but rejects {@code null}s already in the accumulator.
+   */
   @Override
   public <E> Collector<E, ?, Set<E>> collector() {
-    return Collectors.collectingAndThen(Collectors2.toImmutableSet(), this::requireNoNulls);
+    return Collector.<E, MutableSet<E>, Set<E>>of(
+            Sets.mutable::empty,
+            (set, element) -> set.add(Objects.requireNonNull(element)),
+            MutableSet::withAll,
+            set -> set.toImmutable().castToSet(),
+            Collector.Characteristics.UNORDERED
+    );
+  }
+  //endregion
+
+  //region BUILDER
+
+  /**
+   * @implNote Deduplicates the elements in a presized {@link UnifiedSet}, and then converts it to an
+   * {@link ImmutableSet} (which copies the elements once).
+   */
+  @Override
+  public <E> UnmodifiableSetBuilder<E> builder(int expectedSize) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+    }
+    return new SetBuilder<>(UnifiedSet.newSet(expectedSize));
   }
   //endregion
 
   //region COPY OF
+
+  /**
+   * @implNote Does not copy {@param coll} if it already is an {@link ImmutableSet} (only checks it for nulls, which
+   * is a single hash lookup).
+   */
+  @SuppressWarnings("unchecked")
   @Override
   public <E> Set<E> copyOf(Collection<? extends E> coll) {
+    if (coll instanceof ImmutableSet) {
+      return requireNoNulls((ImmutableSet<E>) coll);
+    }
     return requireNoNulls(Sets.immutable.ofAll(coll));
   }
   //endregion
@@ -150,7 +187,42 @@ public final class EclipseUnmodifiableSetFactory implements UnmodifiableSetFacto
   }
 
   private static <E> void ensureNoNulls(ImmutableSet<E> set) {
-    set.forEach(Objects::requireNonNull);
+    if (set.contains(null)) { // all Eclipse immutable sets are hash-based (i.e. this lookup is O(1))
+      throw new NullPointerException();
+    }
   }
   //endregion
+
+  /**
+   * Single-use {@link UnmodifiableSetBuilder} accumulating the elements in a {@link MutableSet}.
+   */
+  private static final class SetBuilder<E> implements UnmodifiableSetBuilder<E> {
+
+    @NullOr
+    private MutableSet<E> set; // null once built
+
+    SetBuilder(MutableSet<E> set) {
+      this.set = set;
+    }
+
+    @Override
+    public UnmodifiableSetBuilder<E> add(E element) {
+      set().add(Objects.requireNonNull(element));
+      return this;
+    }
+
+    @Override
+    public Set<E> build() {
+      Set<E> result = set().toImmutable().castToSet();
+      set = null;
+      return result;
+    }
+
+    private MutableSet<E> set() {
+      if (set == null) {
+        throw new IllegalStateException("Set already built");
+      }
+      return set;
+    }
+  }
 }
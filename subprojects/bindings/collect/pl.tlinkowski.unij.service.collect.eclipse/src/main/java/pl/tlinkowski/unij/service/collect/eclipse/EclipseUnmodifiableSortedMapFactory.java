@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.eclipse;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import com.google.auto.service.AutoService;
+import org.eclipse.collections.api.map.sorted.ImmutableSortedMap;
+import org.eclipse.collections.api.map.sorted.MutableSortedMap;
+import org.eclipse.collections.impl.factory.SortedMaps;
+
+import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableSortedMapFactory;
+
+/**
+ * Implementation of {@link UnmodifiableSortedMapFactory} that returns Eclipse's {@link ImmutableSortedMap}.
+ *
+ * @author Tomasz Linkowski
+ */
+@UniJService(priority = 30)
+@AutoService(UnmodifiableSortedMapFactory.class)
+public final class EclipseUnmodifiableSortedMapFactory implements UnmodifiableSortedMapFactory {
+
+  //region COLLECTOR
+
+  /**
+   * @implNote Rejects {@code null} keys and values (and duplicate keys) already in the accumulator.
+   */
+  @Override
+  public <T, K, V> Collector<T, ?, SortedMap<K, V>> collector(Comparator<? super K> comparator,
+          Function<? super T, ? extends K> keyMapper, Function<? super T, ? extends V> valueMapper) {
+    return Collector.<T, MutableSortedMap<K, V>, SortedMap<K, V>>of(
+            () -> SortedMaps.mutable.of(comparator),
+            (map, element) -> putUnique(map, keyMapper.apply(element), valueMapper.apply(element)),
+            (left, right) -> {
+              right.forEachKeyValue((key, value) -> putUnique(left, key, value));
+              return left;
+            },
+            map -> map.toImmutable().castToSortedMap()
+    );
+  }
+  //endregion
+
+  //region COPY OF
+
+  /**
+   * @implNote Returns {@param map} as is if it already is an {@link ImmutableSortedMap}.
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public <K, V> SortedMap<K, V> copyOf(SortedMap<K, ? extends V> map) {
+    if (map instanceof ImmutableSortedMap) {
+      return (SortedMap<K, V>) map;
+    }
+    map.forEach((key, value) -> {
+      Objects.requireNonNull(key, "key");
+      Objects.requireNonNull(value, "value");
+    });
+    return SortedMaps.immutable.ofSortedMap((SortedMap<K, V>) map).castToSortedMap();
+  }
+
+  @Override
+  public <K, V> SortedMap<K, V> copyOf(Comparator<? super K> comparator, Map<? extends K, ? extends V> map) {
+    MutableSortedMap<K, V> mutableMap = SortedMaps.mutable.of(comparator);
+    map.forEach((key, value) -> putUnique(mutableMap, key, value));
+    return mutableMap.toImmutable().castToSortedMap();
+  }
+  //endregion
+
+  //region ENTRIES
+  @SafeVarargs
+  @Override
+  public final <K, V> SortedMap<K, V> ofEntries(Comparator<? super K> comparator,
+          Map.Entry<? extends K, ? extends V>... entries) {
+    MutableSortedMap<K, V> map = SortedMaps.mutable.of(comparator);
+    for (Map.Entry<? extends K, ? extends V> entry : entries) {
+      putUnique(map, entry.getKey(), entry.getValue());
+    }
+    return map.toImmutable().castToSortedMap();
+  }
+  //endregion
+
+  //region OF
+  @Override
+  public <K, V> SortedMap<K, V> of(Comparator<? super K> comparator) {
+    return SortedMaps.immutable.<K, V>of(comparator).castToSortedMap();
+  }
+
+  @Override
+  public <K, V> SortedMap<K, V> of(Comparator<? super K> comparator, K k1, V v1) {
+    MutableSortedMap<K, V> map = SortedMaps.mutable.of(comparator);
+    putUnique(map, k1, v1);
+    return map.toImmutable().castToSortedMap();
+  }
+
+  @Override
+  public <K, V> SortedMap<K, V> of(Comparator<? super K> comparator, K k1, V v1, K k2, V v2) {
+    MutableSortedMap<K, V> map = SortedMaps.mutable.of(comparator);
+    putUnique(map, k1, v1);
+    putUnique(map, k2, v2);
+    return map.toImmutable().castToSortedMap();
+  }
+
+  @Override
+  public <K, V> SortedMap<K, V> of(Comparator<? super K> comparator, K k1, V v1, K k2, V v2, K k3, V v3) {
+    MutableSortedMap<K, V> map = SortedMaps.mutable.of(comparator);
+    putUnique(map, k1, v1);
+    putUnique(map, k2, v2);
+    putUnique(map, k3, v3);
+    return map.toImmutable().castToSortedMap();
+  }
+  //endregion
+
+  private static <K, V> void putUnique(MutableSortedMap<K, V> map, K key, V value) {
+    Objects.requireNonNull(key, "key");
+    Objects.requireNonNull(value, "value");
+    if (map.containsKey(key)) {
+      throw new IllegalArgumentException("Duplicate key: " + key);
+    }
+    map.put(key, value);
+  }
+}
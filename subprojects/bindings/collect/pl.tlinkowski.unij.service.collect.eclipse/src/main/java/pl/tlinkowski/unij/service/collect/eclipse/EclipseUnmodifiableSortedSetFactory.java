@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.eclipse;
+
+import java.util.*;
+import java.util.stream.Collector;
+
+import com.google.auto.service.AutoService;
+import org.eclipse.collections.api.set.sorted.ImmutableSortedSet;
+import org.eclipse.collections.api.set.sorted.MutableSortedSet;
+import org.eclipse.collections.impl.factory.SortedSets;
+
+import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableSortedSetFactory;
+
+/**
+ * Implementation of {@link UnmodifiableSortedSetFactory} that returns Eclipse's {@link ImmutableSortedSet}.
+ *
+ * @author Tomasz Linkowski
+ */
+@UniJService(priority = 30)
+@AutoService(UnmodifiableSortedSetFactory.class)
+public final class EclipseUnmodifiableSortedSetFactory implements UnmodifiableSortedSetFactory {
+
+  //region COLLECTOR
+
+  /**
+   * @implNote Rejects {@code null} elements already in the accumulator.
+   */
+  @Override
+  public <E> Collector<E, ?, SortedSet<E>> collector(Comparator<? super E> comparator) {
+    return Collector.<E, MutableSortedSet<E>, SortedSet<E>>of(
+            () -> SortedSets.mutable.of(comparator),
+            (set, element) -> set.add(Objects.requireNonNull(element)),
+            (left, right) -> {
+              left.addAll(right);
+              return left;
+            },
+            set -> set.toImmutable().castToSortedSet(),
+            Collector.Characteristics.UNORDERED
+    );
+  }
+  //endregion
+
+  //region COPY OF
+
+  /**
+   * @implNote Returns {@param set} as is if it already is an {@link ImmutableSortedSet}.
+   */
+  @Override
+  public <E> SortedSet<E> copyOf(SortedSet<E> set) {
+    if (set instanceof ImmutableSortedSet) {
+      return set;
+    }
+    return SortedSets.immutable.ofSortedSet(requireNoNulls(set)).castToSortedSet();
+  }
+
+  @Override
+  public <E> SortedSet<E> copyOf(Comparator<? super E> comparator, Collection<? extends E> coll) {
+    return SortedSets.immutable.<E>withAll(comparator, requireNoNulls(coll)).castToSortedSet();
+  }
+  //endregion
+
+  //region OF
+  @SafeVarargs
+  @Override
+  public final <E> SortedSet<E> of(Comparator<? super E> comparator, E... elements) {
+    ImmutableSortedSet<E> set = SortedSets.immutable.with(comparator, requireNoNulls(elements.clone()));
+    if (set.size() < elements.length) {
+      throw new IllegalArgumentException("Duplicate element");
+    }
+    return set.castToSortedSet();
+  }
+  //endregion
+
+  private static <C extends Collection<?>> C requireNoNulls(C coll) {
+    for (Object element : coll) {
+      Objects.requireNonNull(element);
+    }
+    return coll;
+  }
+
+  private static <E> E[] requireNoNulls(E[] elements) {
+    for (E element : elements) {
+      Objects.requireNonNull(element);
+    }
+    return elements;
+  }
+}
@@ -27,4 +27,9 @@ class EclipseUnmodifiableMapFactorySpec extends UnmodifiableMapFactorySpec {
   def setupSpec() {
     factory = new EclipseUnmodifiableMapFactory()
   }
+
+  @Override
+  protected boolean isEnumSpecialized() {
+    false
+  }
 }
@@ -27,4 +27,9 @@ class EclipseUnmodifiableSetFactorySpec extends UnmodifiableSetFactorySpec {
   def setupSpec() {
     factory = new EclipseUnmodifiableSetFactory()
   }
+
+  @Override
+  protected boolean isEnumSpecialized() {
+    false
+  }
 }
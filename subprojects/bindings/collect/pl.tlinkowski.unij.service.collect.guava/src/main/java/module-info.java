@@ -35,4 +35,11 @@ module pl.tlinkowski.unij.service.collect.guava {
   provides UnmodifiableListFactory with GuavaUnmodifiableListFactory;
   provides UnmodifiableSetFactory with GuavaUnmodifiableSetFactory;
   provides UnmodifiableMapFactory with GuavaUnmodifiableMapFactory;
+  provides UnmodifiableSortedSetFactory with GuavaUnmodifiableSortedSetFactory;
+  provides UnmodifiableSortedMapFactory with GuavaUnmodifiableSortedMapFactory;
+  provides UnmodifiableIntListFactory with GuavaUnmodifiableIntListFactory;
+  provides UnmodifiableLongListFactory with GuavaUnmodifiableLongListFactory;
+  provides UnmodifiableDoubleListFactory with GuavaUnmodifiableDoubleListFactory;
+  provides UnmodifiableLongObjectMapFactory with GuavaUnmodifiableLongObjectMapFactory;
+  provides UnmodifiableObjectIntMapFactory with GuavaUnmodifiableObjectIntMapFactory;
 }
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.guava;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.stream.IntStream;
+
+import com.google.common.primitives.ImmutableIntArray;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableIntList;
+
+/**
+ * {@link UnmodifiableIntList} view of Guava's {@link ImmutableIntArray} (which is not a {@link java.util.List}).
+ *
+ * @author Tomasz Linkowski
+ */
+final class GuavaIntList extends AbstractList<Integer> implements UnmodifiableIntList, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  static final GuavaIntList EMPTY = new GuavaIntList(ImmutableIntArray.of());
+
+  private final ImmutableIntArray array;
+
+  GuavaIntList(ImmutableIntArray array) {
+    this.array = array;
+  }
+
+  @Override
+  public int size() {
+    return array.length();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return array.isEmpty();
+  }
+
+  @Override
+  public Integer get(int index) {
+    return array.get(index);
+  }
+
+  @Override
+  public int getInt(int index) {
+    return array.get(index);
+  }
+
+  @Override
+  public boolean contains(@NullOr Object o) {
+    return o instanceof Integer && array.contains((Integer) o);
+  }
+
+  @Override
+  public int indexOf(@NullOr Object o) {
+    return o instanceof Integer ? array.indexOf((Integer) o) : -1;
+  }
+
+  @Override
+  public int lastIndexOf(@NullOr Object o) {
+    return o instanceof Integer ? array.lastIndexOf((Integer) o) : -1;
+  }
+
+  @Override
+  public int[] toIntArray() {
+    return array.toArray();
+  }
+
+  @Override
+  public IntStream intStream() {
+    return array.stream();
+  }
+
+  @Override
+  public boolean equals(@NullOr Object o) {
+    if (o instanceof GuavaIntList) {
+      return array.equals(((GuavaIntList) o).array);
+    }
+    return super.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    for (int i = 0; i < array.length(); i++) {
+      hashCode = 31 * hashCode + Integer.hashCode(array.get(i));
+    }
+    return hashCode;
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.guava;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.stream.LongStream;
+
+import com.google.common.primitives.ImmutableLongArray;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableLongList;
+
+/**
+ * {@link UnmodifiableLongList} view of Guava's {@link ImmutableLongArray} (which is not a {@link java.util.List}).
+ *
+ * @author Tomasz Linkowski
+ */
+final class GuavaLongList extends AbstractList<Long> implements UnmodifiableLongList, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  static final GuavaLongList EMPTY = new GuavaLongList(ImmutableLongArray.of());
+
+  private final ImmutableLongArray array;
+
+  GuavaLongList(ImmutableLongArray array) {
+    this.array = array;
+  }
+
+  @Override
+  public int size() {
+    return array.length();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return array.isEmpty();
+  }
+
+  @Override
+  public Long get(int index) {
+    return array.get(index);
+  }
+
+  @Override
+  public long getLong(int index) {
+    return array.get(index);
+  }
+
+  @Override
+  public boolean contains(@NullOr Object o) {
+    return o instanceof Long && array.contains((Long) o);
+  }
+
+  @Override
+  public int indexOf(@NullOr Object o) {
+    return o instanceof Long ? array.indexOf((Long) o) : -1;
+  }
+
+  @Override
+  public int lastIndexOf(@NullOr Object o) {
+    return o instanceof Long ? array.lastIndexOf((Long) o) : -1;
+  }
+
+  @Override
+  public long[] toLongArray() {
+    return array.toArray();
+  }
+
+  @Override
+  public LongStream longStream() {
+    return array.stream();
+  }
+
+  @Override
+  public boolean equals(@NullOr Object o) {
+    if (o instanceof GuavaLongList) {
+      return array.equals(((GuavaLongList) o).array);
+    }
+    return super.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    for (int i = 0; i < array.length(); i++) {
+      hashCode = 31 * hashCode + Long.hashCode(array.get(i));
+    }
+    return hashCode;
+  }
+}
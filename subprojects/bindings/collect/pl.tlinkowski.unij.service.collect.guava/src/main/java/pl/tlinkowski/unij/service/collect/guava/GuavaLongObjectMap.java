@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.guava;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import com.google.common.collect.ForwardingMap;
+import com.google.common.collect.ImmutableMap;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableLongObjectMap;
+
+/**
+ * {@link UnmodifiableLongObjectMap} view of Guava's {@link ImmutableMap}.
+ * <p>
+ * Guava has no primitive-keyed maps, so the keys of this map are boxed (every lookup boxes its key, too).
+ *
+ * @author Tomasz Linkowski
+ */
+final class GuavaLongObjectMap<V> extends ForwardingMap<Long, V> implements UnmodifiableLongObjectMap<V>, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  static final GuavaLongObjectMap<Object> EMPTY = new GuavaLongObjectMap<>(ImmutableMap.of());
+
+  private final ImmutableMap<Long, V> map;
+
+  GuavaLongObjectMap(ImmutableMap<Long, V> map) {
+    this.map = map;
+  }
+
+  @Override
+  protected Map<Long, V> delegate() {
+    return map;
+  }
+
+  @NullOr
+  @Override
+  public V get(long key) {
+    return map.get(key);
+  }
+
+  @Override
+  public boolean containsKey(long key) {
+    return map.containsKey(key);
+  }
+}
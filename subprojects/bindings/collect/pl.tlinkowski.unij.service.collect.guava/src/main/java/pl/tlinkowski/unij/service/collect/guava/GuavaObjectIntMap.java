@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.guava;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import com.google.common.collect.ForwardingMap;
+import com.google.common.collect.ImmutableMap;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableObjectIntMap;
+
+/**
+ * {@link UnmodifiableObjectIntMap} view of Guava's {@link ImmutableMap}.
+ * <p>
+ * Guava has no primitive-valued maps, so the values of this map are boxed.
+ *
+ * @author Tomasz Linkowski
+ */
+final class GuavaObjectIntMap<K> extends ForwardingMap<K, Integer>
+        implements UnmodifiableObjectIntMap<K>, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  static final GuavaObjectIntMap<Object> EMPTY = new GuavaObjectIntMap<>(ImmutableMap.of());
+
+  private final ImmutableMap<K, Integer> map;
+
+  GuavaObjectIntMap(ImmutableMap<K, Integer> map) {
+    this.map = map;
+  }
+
+  @Override
+  protected Map<K, Integer> delegate() {
+    return map;
+  }
+
+  @Override
+  public int getIntOrDefault(@NullOr Object key, int defaultValue) {
+    @NullOr Integer value = map.get(key);
+    return value != null ? value : defaultValue;
+  }
+}
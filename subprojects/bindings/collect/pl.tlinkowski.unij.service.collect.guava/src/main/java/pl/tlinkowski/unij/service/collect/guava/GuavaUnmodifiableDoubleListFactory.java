@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.guava;
+
+import java.util.Collection;
+import java.util.stream.DoubleStream;
+
+import com.google.auto.service.AutoService;
+import com.google.common.primitives.ImmutableDoubleArray;
+
+import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableDoubleList;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableDoubleListFactory;
+
+/**
+ * Implementation of {@link UnmodifiableDoubleListFactory} that returns Guava's {@link ImmutableDoubleArray}s (wrapped
+ * as {@link GuavaDoubleList}s).
+ *
+ * @author Tomasz Linkowski
+ */
+@UniJService(priority = 20)
+@AutoService(UnmodifiableDoubleListFactory.class)
+public final class GuavaUnmodifiableDoubleListFactory implements UnmodifiableDoubleListFactory {
+
+  //region COLLECTOR
+  @Override
+  public UnmodifiableDoubleList collect(DoubleStream stream) {
+    return wrap(ImmutableDoubleArray.copyOf(stream));
+  }
+  //endregion
+
+  //region COPY OF
+  @Override
+  public UnmodifiableDoubleList copyOf(double[] elements) {
+    return wrap(ImmutableDoubleArray.copyOf(elements));
+  }
+
+  /**
+   * @implNote Returns {@param coll} as is if it has been created by this factory.
+   */
+  @Override
+  public UnmodifiableDoubleList copyOf(Collection<Double> coll) {
+    if (coll instanceof GuavaDoubleList) {
+      return (UnmodifiableDoubleList) coll;
+    }
+    return wrap(ImmutableDoubleArray.copyOf(coll));
+  }
+  //endregion
+
+  //region OF
+  @Override
+  public UnmodifiableDoubleList of(double... elements) {
+    return copyOf(elements);
+  }
+  //endregion
+
+  private static UnmodifiableDoubleList wrap(ImmutableDoubleArray array) {
+    return array.isEmpty() ? GuavaDoubleList.EMPTY : new GuavaDoubleList(array);
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.guava;
+
+import java.util.Collection;
+import java.util.stream.IntStream;
+
+import com.google.auto.service.AutoService;
+import com.google.common.primitives.ImmutableIntArray;
+
+import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableIntList;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableIntListFactory;
+
+/**
+ * Implementation of {@link UnmodifiableIntListFactory} that returns Guava's {@link ImmutableIntArray}s (wrapped as
+ * {@link GuavaIntList}s).
+ *
+ * @author Tomasz Linkowski
+ */
+@UniJService(priority = 20)
+@AutoService(UnmodifiableIntListFactory.class)
+public final class GuavaUnmodifiableIntListFactory implements UnmodifiableIntListFactory {
+
+  //region COLLECTOR
+  @Override
+  public UnmodifiableIntList collect(IntStream stream) {
+    return wrap(ImmutableIntArray.copyOf(stream));
+  }
+  //endregion
+
+  //region COPY OF
+  @Override
+  public UnmodifiableIntList copyOf(int[] elements) {
+    return wrap(ImmutableIntArray.copyOf(elements));
+  }
+
+  /**
+   * @implNote Returns {@param coll} as is if it has been created by this factory.
+   */
+  @Override
+  public UnmodifiableIntList copyOf(Collection<Integer> coll) {
+    if (coll instanceof GuavaIntList) {
+      return (UnmodifiableIntList) coll;
+    }
+    return wrap(ImmutableIntArray.copyOf(coll));
+  }
+  //endregion
+
+  //region OF
+  @Override
+  public UnmodifiableIntList of(int... elements) {
+    return copyOf(elements);
+  }
+  //endregion
+
+  private static UnmodifiableIntList wrap(ImmutableIntArray array) {
+    return array.isEmpty() ? GuavaIntList.EMPTY : new GuavaIntList(array);
+  }
+}
@@ -24,7 +24,9 @@ import java.util.stream.Collector;
 import com.google.auto.service.AutoService;
 import com.google.common.collect.ImmutableList;
 
+import pl.tlinkowski.annotation.basic.NullOr;
 import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableListBuilder;
 import pl.tlinkowski.unij.service.api.collect.UnmodifiableListFactory;
 
 /**
@@ -44,6 +46,18 @@ public final class GuavaUnmodifiableListFactory implements UnmodifiableListFacto
   }
   //endregion
 
+  //region BUILDER
+
+  /**
+   * @implNote Wraps {@link ImmutableList#builderWithExpectedSize}, whose {@code build} hands its array over to the
+   * resulting list (unless fewer elements than {@code expectedSize} were added).
+   */
+  @Override
+  public <E> UnmodifiableListBuilder<E> builder(int expectedSize) {
+    return new ListBuilder<>(ImmutableList.builderWithExpectedSize(expectedSize));
+  }
+  //endregion
+
   //region COPY OF
   @Override
   public <E> List<E> copyOf(Collection<? extends E> coll) {
@@ -114,4 +128,43 @@ public final class GuavaUnmodifiableListFactory implements UnmodifiableListFacto
     return ImmutableList.copyOf(elements);
   }
   //endregion
+
+  /**
+   * Single-use {@link UnmodifiableListBuilder} wrapping an {@link ImmutableList.Builder}.
+   */
+  private static final class ListBuilder<E> implements UnmodifiableListBuilder<E> {
+
+    @NullOr
+    private ImmutableList.Builder<E> builder; // null once built
+
+    ListBuilder(ImmutableList.Builder<E> builder) {
+      this.builder = builder;
+    }
+
+    @Override
+    public UnmodifiableListBuilder<E> add(E element) {
+      builder().add(element);
+      return this;
+    }
+
+    @Override
+    public UnmodifiableListBuilder<E> addAll(Collection<? extends E> elements) {
+      builder().addAll(elements);
+      return this;
+    }
+
+    @Override
+    public List<E> build() {
+      ImmutableList<E> list = builder().build();
+      builder = null;
+      return list;
+    }
+
+    private ImmutableList.Builder<E> builder() {
+      if (builder == null) {
+        throw new IllegalStateException("List already built");
+      }
+      return builder;
+    }
+  }
 }
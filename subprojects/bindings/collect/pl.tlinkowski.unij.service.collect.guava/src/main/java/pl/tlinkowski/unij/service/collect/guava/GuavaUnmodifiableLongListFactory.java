@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.guava;
+
+import java.util.Collection;
+import java.util.stream.LongStream;
+
+import com.google.auto.service.AutoService;
+import com.google.common.primitives.ImmutableLongArray;
+
+import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableLongList;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableLongListFactory;
+
+/**
+ * Implementation of {@link UnmodifiableLongListFactory} that returns Guava's {@link ImmutableLongArray}s (wrapped as
+ * {@link GuavaLongList}s).
+ *
+ * @author Tomasz Linkowski
+ */
+@UniJService(priority = 20)
+@AutoService(UnmodifiableLongListFactory.class)
+public final class GuavaUnmodifiableLongListFactory implements UnmodifiableLongListFactory {
+
+  //region COLLECTOR
+  @Override
+  public UnmodifiableLongList collect(LongStream stream) {
+    return wrap(ImmutableLongArray.copyOf(stream));
+  }
+  //endregion
+
+  //region COPY OF
+  @Override
+  public UnmodifiableLongList copyOf(long[] elements) {
+    return wrap(ImmutableLongArray.copyOf(elements));
+  }
+
+  /**
+   * @implNote Returns {@param coll} as is if it has been created by this factory.
+   */
+  @Override
+  public UnmodifiableLongList copyOf(Collection<Long> coll) {
+    if (coll instanceof GuavaLongList) {
+      return (UnmodifiableLongList) coll;
+    }
+    return wrap(ImmutableLongArray.copyOf(coll));
+  }
+  //endregion
+
+  //region OF
+  @Override
+  public UnmodifiableLongList of(long... elements) {
+    return copyOf(elements);
+  }
+  //endregion
+
+  private static UnmodifiableLongList wrap(ImmutableLongArray array) {
+    return array.isEmpty() ? GuavaLongList.EMPTY : new GuavaLongList(array);
+  }
+}
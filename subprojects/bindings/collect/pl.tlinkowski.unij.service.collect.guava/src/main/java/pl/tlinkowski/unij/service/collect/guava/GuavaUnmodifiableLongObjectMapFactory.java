@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.guava;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import com.google.auto.service.AutoService;
+import com.google.common.collect.ImmutableMap;
+
+import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableLongObjectMap;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableLongObjectMapFactory;
+
+/**
+ * Implementation of {@link UnmodifiableLongObjectMapFactory} that returns Guava's {@link ImmutableMap}s (wrapped as
+ * {@link GuavaLongObjectMap}s).
+ *
+ * @author Tomasz Linkowski
+ * @implNote Guava has no primitive-keyed maps, so this implementation only provides the API (the keys get boxed).
+ */
+@UniJService(priority = 20)
+@AutoService(UnmodifiableLongObjectMapFactory.class)
+public final class GuavaUnmodifiableLongObjectMapFactory implements UnmodifiableLongObjectMapFactory {
+
+  //region COLLECTOR
+  @Override
+  public <T, V> Collector<T, ?, UnmodifiableLongObjectMap<V>> collector(ToLongFunction<? super T> keyMapper,
+          Function<? super T, ? extends V> valueMapper) {
+    return Collectors.collectingAndThen(
+            ImmutableMap.<T, Long, V>toImmutableMap(keyMapper::applyAsLong, valueMapper),
+            GuavaUnmodifiableLongObjectMapFactory::wrap
+    );
+  }
+  //endregion
+
+  //region COPY OF
+
+  /**
+   * @implNote Returns {@param map} as is if it has been created by this factory.
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public <V> UnmodifiableLongObjectMap<V> copyOf(Map<Long, ? extends V> map) {
+    if (map instanceof GuavaLongObjectMap) {
+      return (UnmodifiableLongObjectMap<V>) map;
+    }
+    return wrap(ImmutableMap.copyOf(map));
+  }
+  //endregion
+
+  //region OF
+  @SuppressWarnings("unchecked")
+  @Override
+  public <V> UnmodifiableLongObjectMap<V> of() {
+    return (UnmodifiableLongObjectMap<V>) GuavaLongObjectMap.EMPTY;
+  }
+
+  @Override
+  public <V> UnmodifiableLongObjectMap<V> of(long k1, V v1) {
+    return wrap(ImmutableMap.of(k1, v1));
+  }
+
+  @Override
+  public <V> UnmodifiableLongObjectMap<V> of(long k1, V v1, long k2, V v2) {
+    return wrap(ImmutableMap.of(k1, v1, k2, v2));
+  }
+
+  @Override
+  public <V> UnmodifiableLongObjectMap<V> of(long k1, V v1, long k2, V v2, long k3, V v3) {
+    return wrap(ImmutableMap.of(k1, v1, k2, v2, k3, v3));
+  }
+  //endregion
+
+  @SuppressWarnings("unchecked")
+  private static <V> UnmodifiableLongObjectMap<V> wrap(ImmutableMap<Long, V> map) {
+    return map.isEmpty() ? (UnmodifiableLongObjectMap<V>) GuavaLongObjectMap.EMPTY : new GuavaLongObjectMap<>(map);
+  }
+}
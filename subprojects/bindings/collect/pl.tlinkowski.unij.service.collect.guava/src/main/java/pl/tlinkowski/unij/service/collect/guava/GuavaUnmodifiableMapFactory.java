@@ -21,13 +21,16 @@ import java.util.*;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.stream.Collector;
+import java.util.stream.Collectors;
 
 import com.google.auto.service.AutoService;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import lombok.NonNull;
 
+import pl.tlinkowski.annotation.basic.NullOr;
 import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableMapBuilder;
 import pl.tlinkowski.unij.service.api.collect.UnmodifiableMapFactory;
 
 /**
@@ -52,17 +55,55 @@ public final class GuavaUnmodifiableMapFactory implements UnmodifiableMapFactory
     return castCollector(ImmutableMap.toImmutableMap(keyMapper, valueMapper, mergeFunction));
   }
 
+  @Override
+  public <T, K, V> Collector<T, ?, Map<K, V>> concurrentCollector(Function<? super T, ? extends K> keyMapper,
+          Function<? super T, ? extends V> valueMapper) {
+    return castCollector(Collectors.collectingAndThen(
+            Collectors.<T, K, V>toConcurrentMap(keyMapper, valueMapper), ImmutableMap::copyOf
+    ));
+  }
+
+  @Override
+  public <T, K, V> Collector<T, ?, Map<K, V>> concurrentCollector(Function<? super T, ? extends K> keyMapper,
+          Function<? super T, ? extends V> valueMapper, BinaryOperator<V> mergeFunction) {
+    return castCollector(Collectors.collectingAndThen(
+            Collectors.<T, K, V>toConcurrentMap(keyMapper, valueMapper, mergeFunction), ImmutableMap::copyOf
+    ));
+  }
+
   @SuppressWarnings("unchecked")
   private static <T, K, V> Collector<T, ?, Map<K, V>> castCollector(Collector<T, ?, ImmutableMap<K, V>> collector) {
     return (Collector<T, ?, Map<K, V>>) (Collector<T, ?, ?>) collector;
   }
   //endregion
 
+  //region BUILDER
+
+  /**
+   * @implNote Wraps {@link ImmutableMap#builderWithExpectedSize}, which throws {@link IllegalArgumentException} on
+   * duplicate keys only on {@code build}.
+   */
+  @Override
+  public <K, V> UnmodifiableMapBuilder<K, V> builder(int expectedSize) {
+    return new MapBuilder<>(ImmutableMap.builderWithExpectedSize(expectedSize));
+  }
+  //endregion
+
   //region COPY OF
+
+  /**
+   * @implNote Guava returns an enum-specialized {@link ImmutableMap} (backed by an {@link EnumMap}) if {@param map} is
+   * a non-empty {@link EnumMap}.
+   */
   @Override
   public <K, V> Map<K, V> copyOf(Map<? extends K, ? extends V> map) {
     return ImmutableMap.copyOf(map);
   }
+
+  @Override
+  public <K extends Enum<K>, V> Map<K, V> copyOfEnumMap(EnumMap<K, ? extends V> map) {
+    return Maps.immutableEnumMap(map);
+  }
   //endregion
 
   //region ENTRIES
@@ -188,4 +229,43 @@ public final class GuavaUnmodifiableMapFactory implements UnmodifiableMapFactory
             .build();
   }
   //endregion
+
+  /**
+   * Single-use {@link UnmodifiableMapBuilder} wrapping an {@link ImmutableMap.Builder}.
+   */
+  private static final class MapBuilder<K, V> implements UnmodifiableMapBuilder<K, V> {
+
+    @NullOr
+    private ImmutableMap.Builder<K, V> builder; // null once built
+
+    MapBuilder(ImmutableMap.Builder<K, V> builder) {
+      this.builder = builder;
+    }
+
+    @Override
+    public UnmodifiableMapBuilder<K, V> put(K key, V value) {
+      builder().put(key, value);
+      return this;
+    }
+
+    @Override
+    public UnmodifiableMapBuilder<K, V> putAll(Map<? extends K, ? extends V> map) {
+      builder().putAll(map);
+      return this;
+    }
+
+    @Override
+    public Map<K, V> build() {
+      ImmutableMap<K, V> map = builder().build();
+      builder = null;
+      return map;
+    }
+
+    private ImmutableMap.Builder<K, V> builder() {
+      if (builder == null) {
+        throw new IllegalStateException("Map already built");
+      }
+      return builder;
+    }
+  }
 }
@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.guava;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import com.google.auto.service.AutoService;
+import com.google.common.collect.ImmutableMap;
+
+import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableObjectIntMap;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableObjectIntMapFactory;
+
+/**
+ * Implementation of {@link UnmodifiableObjectIntMapFactory} that returns Guava's {@link ImmutableMap}s (wrapped as
+ * {@link GuavaObjectIntMap}s).
+ *
+ * @author Tomasz Linkowski
+ * @implNote Guava has no primitive-valued maps, so this implementation only provides the API (the values get boxed).
+ */
+@UniJService(priority = 20)
+@AutoService(UnmodifiableObjectIntMapFactory.class)
+public final class GuavaUnmodifiableObjectIntMapFactory implements UnmodifiableObjectIntMapFactory {
+
+  //region COLLECTOR
+  @Override
+  public <T, K> Collector<T, ?, UnmodifiableObjectIntMap<K>> collector(Function<? super T, ? extends K> keyMapper,
+          ToIntFunction<? super T> valueMapper) {
+    return Collectors.collectingAndThen(
+            ImmutableMap.<T, K, Integer>toImmutableMap(keyMapper, valueMapper::applyAsInt),
+            GuavaUnmodifiableObjectIntMapFactory::wrap
+    );
+  }
+  //endregion
+
+  //region COPY OF
+
+  /**
+   * @implNote Returns {@param map} as is if it has been created by this factory.
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public <K> UnmodifiableObjectIntMap<K> copyOf(Map<? extends K, Integer> map) {
+    if (map instanceof GuavaObjectIntMap) {
+      return (UnmodifiableObjectIntMap<K>) map;
+    }
+    return wrap(ImmutableMap.copyOf(map));
+  }
+  //endregion
+
+  //region OF
+  @SuppressWarnings("unchecked")
+  @Override
+  public <K> UnmodifiableObjectIntMap<K> of() {
+    return (UnmodifiableObjectIntMap<K>) GuavaObjectIntMap.EMPTY;
+  }
+
+  @Override
+  public <K> UnmodifiableObjectIntMap<K> of(K k1, int v1) {
+    return wrap(ImmutableMap.of(k1, v1));
+  }
+
+  @Override
+  public <K> UnmodifiableObjectIntMap<K> of(K k1, int v1, K k2, int v2) {
+    return wrap(ImmutableMap.of(k1, v1, k2, v2));
+  }
+
+  @Override
+  public <K> UnmodifiableObjectIntMap<K> of(K k1, int v1, K k2, int v2, K k3, int v3) {
+    return wrap(ImmutableMap.of(k1, v1, k2, v2, k3, v3));
+  }
+  //endregion
+
+  @SuppressWarnings("unchecked")
+  private static <K> UnmodifiableObjectIntMap<K> wrap(ImmutableMap<K, Integer> map) {
+    return map.isEmpty() ? (UnmodifiableObjectIntMap<K>) GuavaObjectIntMap.EMPTY : new GuavaObjectIntMap<>(map);
+  }
+}
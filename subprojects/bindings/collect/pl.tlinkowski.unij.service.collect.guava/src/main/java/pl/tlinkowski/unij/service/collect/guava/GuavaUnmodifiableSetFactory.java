@@ -23,8 +23,11 @@ import java.util.stream.Collector;
 
 import com.google.auto.service.AutoService;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
 
+import pl.tlinkowski.annotation.basic.NullOr;
 import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableSetBuilder;
 import pl.tlinkowski.unij.service.api.collect.UnmodifiableSetFactory;
 
 /**
@@ -44,7 +47,24 @@ public final class GuavaUnmodifiableSetFactory implements UnmodifiableSetFactory
   }
   //endregion
 
+  //region BUILDER
+
+  /**
+   * @implNote Wraps {@link ImmutableSet#builderWithExpectedSize}, which deduplicates the elements using a hash table
+   * that is reused by the resulting set (unless many duplicates were added).
+   */
+  @Override
+  public <E> UnmodifiableSetBuilder<E> builder(int expectedSize) {
+    return new SetBuilder<>(ImmutableSet.builderWithExpectedSize(expectedSize));
+  }
+  //endregion
+
   //region COPY OF
+
+  /**
+   * @implNote Guava returns an enum-specialized {@link ImmutableSet} (backed by an {@link java.util.EnumSet}) if
+   * {@param coll} is a non-empty {@link java.util.EnumSet}.
+   */
   @Override
   public <E> Set<E> copyOf(Collection<? extends E> coll) {
     return ImmutableSet.copyOf(coll);
@@ -121,4 +141,51 @@ public final class GuavaUnmodifiableSetFactory implements UnmodifiableSetFactory
     return set;
   }
   //endregion
+
+  //region ENUMS
+  @SafeVarargs
+  @Override
+  public final <E extends Enum<E>> Set<E> ofEnums(E first, E... rest) {
+    return Sets.immutableEnumSet(first, rest);
+  }
+  //endregion
+
+  /**
+   * Single-use {@link UnmodifiableSetBuilder} wrapping an {@link ImmutableSet.Builder}.
+   */
+  private static final class SetBuilder<E> implements UnmodifiableSetBuilder<E> {
+
+    @NullOr
+    private ImmutableSet.Builder<E> builder; // null once built
+
+    SetBuilder(ImmutableSet.Builder<E> builder) {
+      this.builder = builder;
+    }
+
+    @Override
+    public UnmodifiableSetBuilder<E> add(E element) {
+      builder().add(element);
+      return this;
+    }
+
+    @Override
+    public UnmodifiableSetBuilder<E> addAll(Collection<? extends E> elements) {
+      builder().addAll(elements);
+      return this;
+    }
+
+    @Override
+    public Set<E> build() {
+      ImmutableSet<E> set = builder().build();
+      builder = null;
+      return set;
+    }
+
+    private ImmutableSet.Builder<E> builder() {
+      if (builder == null) {
+        throw new IllegalStateException("Set already built");
+      }
+      return builder;
+    }
+  }
 }
@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.guava;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import com.google.auto.service.AutoService;
+import com.google.common.collect.ImmutableSortedMap;
+
+import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableSortedMapFactory;
+
+/**
+ * Implementation of {@link UnmodifiableSortedMapFactory} that returns Guava's {@link ImmutableSortedMap}.
+ *
+ * @author Tomasz Linkowski
+ */
+@UniJService(priority = 20)
+@AutoService(UnmodifiableSortedMapFactory.class)
+public final class GuavaUnmodifiableSortedMapFactory implements UnmodifiableSortedMapFactory {
+
+  //region COLLECTOR
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T, K, V> Collector<T, ?, SortedMap<K, V>> collector(Comparator<? super K> comparator,
+          Function<? super T, ? extends K> keyMapper, Function<? super T, ? extends V> valueMapper) {
+    return (Collector<T, ?, SortedMap<K, V>>) (Collector<T, ?, ?>) ImmutableSortedMap.toImmutableSortedMap(
+            comparator, keyMapper, valueMapper
+    );
+  }
+  //endregion
+
+  //region COPY OF
+  @Override
+  public <K, V> SortedMap<K, V> copyOf(SortedMap<K, ? extends V> map) {
+    return ImmutableSortedMap.copyOfSorted(map);
+  }
+
+  @Override
+  public <K, V> SortedMap<K, V> copyOf(Comparator<? super K> comparator, Map<? extends K, ? extends V> map) {
+    return ImmutableSortedMap.copyOf(map, comparator);
+  }
+  //endregion
+
+  //region ENTRIES
+  @SafeVarargs
+  @Override
+  public final <K, V> SortedMap<K, V> ofEntries(Comparator<? super K> comparator,
+          Map.Entry<? extends K, ? extends V>... entries) {
+    ImmutableSortedMap.Builder<K, V> builder = new ImmutableSortedMap.Builder<>(comparator);
+    for (Map.Entry<? extends K, ? extends V> entry : entries) {
+      builder.put(entry);
+    }
+    return builder.build();
+  }
+  //endregion
+
+  //region OF
+  @Override
+  public <K, V> SortedMap<K, V> of(Comparator<? super K> comparator) {
+    return new ImmutableSortedMap.Builder<K, V>(comparator).build();
+  }
+
+  @Override
+  public <K, V> SortedMap<K, V> of(Comparator<? super K> comparator, K k1, V v1) {
+    return new ImmutableSortedMap.Builder<K, V>(comparator)
+            .put(k1, v1)
+            .build();
+  }
+
+  @Override
+  public <K, V> SortedMap<K, V> of(Comparator<? super K> comparator, K k1, V v1, K k2, V v2) {
+    return new ImmutableSortedMap.Builder<K, V>(comparator)
+            .put(k1, v1)
+            .put(k2, v2)
+            .build();
+  }
+
+  @Override
+  public <K, V> SortedMap<K, V> of(Comparator<? super K> comparator, K k1, V v1, K k2, V v2, K k3, V v3) {
+    return new ImmutableSortedMap.Builder<K, V>(comparator)
+            .put(k1, v1)
+            .put(k2, v2)
+            .put(k3, v3)
+            .build();
+  }
+  //endregion
+}
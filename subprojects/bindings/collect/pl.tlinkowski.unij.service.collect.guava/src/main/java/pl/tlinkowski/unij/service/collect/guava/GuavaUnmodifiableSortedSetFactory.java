@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.guava;
+
+import java.util.*;
+import java.util.stream.Collector;
+
+import com.google.auto.service.AutoService;
+import com.google.common.collect.ImmutableSortedSet;
+
+import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableSortedSetFactory;
+
+/**
+ * Implementation of {@link UnmodifiableSortedSetFactory} that returns Guava's {@link ImmutableSortedSet}.
+ *
+ * @author Tomasz Linkowski
+ */
+@UniJService(priority = 20)
+@AutoService(UnmodifiableSortedSetFactory.class)
+public final class GuavaUnmodifiableSortedSetFactory implements UnmodifiableSortedSetFactory {
+
+  //region COLLECTOR
+  @SuppressWarnings("unchecked")
+  @Override
+  public <E> Collector<E, ?, SortedSet<E>> collector(Comparator<? super E> comparator) {
+    return (Collector<E, ?, SortedSet<E>>) (Collector<E, ?, ?>) ImmutableSortedSet.toImmutableSortedSet(comparator);
+  }
+  //endregion
+
+  //region COPY OF
+
+  /**
+   * @implNote Returns {@param set} as is if it already is an {@link ImmutableSortedSet} (unlike {@link
+   * ImmutableSortedSet#copyOfSorted}, which always copies it).
+   */
+  @Override
+  public <E> SortedSet<E> copyOf(SortedSet<E> set) {
+    return set instanceof ImmutableSortedSet ? set : ImmutableSortedSet.copyOfSorted(set);
+  }
+
+  @Override
+  public <E> SortedSet<E> copyOf(Comparator<? super E> comparator, Collection<? extends E> coll) {
+    return ImmutableSortedSet.copyOf(comparator, coll);
+  }
+  //endregion
+
+  //region OF
+  @SafeVarargs
+  @Override
+  public final <E> SortedSet<E> of(Comparator<? super E> comparator, E... elements) {
+    ImmutableSortedSet<E> set = new ImmutableSortedSet.Builder<E>(comparator).add(elements).build();
+    if (set.size() < elements.length) {
+      throw new IllegalArgumentException("Duplicate element");
+    }
+    return set;
+  }
+  //endregion
+}
@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.internal;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+/**
+ * Base class for the immutable {@link List}s returned by the UniJ bindings (every mutator throws {@link
+ * UnsupportedOperationException}, even if it would not modify this list).
+ * <p>
+ * Based on {@code java.util.ImmutableCollections.AbstractImmutableList}.
+ *
+ * @author Tomasz Linkowski
+ */
+public abstract class AbstractImmutableList<E> extends AbstractList<E> implements RandomAccess {
+
+  //region MUTATORS
+  @Override
+  public final boolean add(E e) {
+    throw uoe();
+  }
+
+  @Override
+  public final void add(int index, E element) {
+    throw uoe();
+  }
+
+  @Override
+  public final boolean addAll(Collection<? extends E> c) {
+    throw uoe();
+  }
+
+  @Override
+  public final boolean addAll(int index, Collection<? extends E> c) {
+    throw uoe();
+  }
+
+  @Override
+  public final E set(int index, E element) {
+    throw uoe();
+  }
+
+  @Override
+  public final E remove(int index) {
+    throw uoe();
+  }
+
+  @Override
+  public final boolean remove(@NullOr Object o) {
+    throw uoe();
+  }
+
+  @Override
+  public final boolean removeAll(Collection<?> c) {
+    throw uoe();
+  }
+
+  @Override
+  public final boolean removeIf(Predicate<? super E> filter) {
+    throw uoe();
+  }
+
+  @Override
+  public final boolean retainAll(Collection<?> c) {
+    throw uoe();
+  }
+
+  @Override
+  public final void replaceAll(UnaryOperator<E> operator) {
+    throw uoe();
+  }
+
+  @Override
+  public final void sort(@NullOr Comparator<? super E> c) {
+    throw uoe();
+  }
+
+  @Override
+  public final void clear() {
+    throw uoe();
+  }
+
+  static UnsupportedOperationException uoe() {
+    return new UnsupportedOperationException();
+  }
+  //endregion
+
+  //region QUERIES
+  @Override
+  public boolean contains(@NullOr Object o) {
+    return indexOf(o) >= 0;
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new Itr();
+  }
+
+  protected final IndexOutOfBoundsException outOfBounds(int index) {
+    return new IndexOutOfBoundsException("Index: " + index + " Size: " + size());
+  }
+  //endregion
+
+  /**
+   * Read-only index-based iterator (no concurrent modification checks are needed).
+   */
+  private final class Itr implements Iterator<E> {
+
+    private int cursor;
+
+    @Override
+    public boolean hasNext() {
+      return cursor < size();
+    }
+
+    @Override
+    public E next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return get(cursor++);
+    }
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.internal;
+
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+/**
+ * Base class for the immutable {@link Map}s returned by the UniJ bindings (every mutator throws {@link
+ * UnsupportedOperationException}, even if it would not modify this map, and so do the mutators of its views).
+ * <p>
+ * Based on {@code java.util.ImmutableCollections.AbstractImmutableMap}.
+ *
+ * @author Tomasz Linkowski
+ */
+public abstract class AbstractImmutableMap<K, V> extends AbstractMap<K, V> {
+
+  //region MUTATORS
+  @Override
+  public final V put(K key, V value) {
+    throw uoe();
+  }
+
+  @Override
+  public final void putAll(Map<? extends K, ? extends V> m) {
+    throw uoe();
+  }
+
+  @Override
+  public final V putIfAbsent(K key, V value) {
+    throw uoe();
+  }
+
+  @Override
+  public final V remove(@NullOr Object key) {
+    throw uoe();
+  }
+
+  @Override
+  public final boolean remove(@NullOr Object key, @NullOr Object value) {
+    throw uoe();
+  }
+
+  @Override
+  public final V replace(K key, V value) {
+    throw uoe();
+  }
+
+  @Override
+  public final boolean replace(K key, V oldValue, V newValue) {
+    throw uoe();
+  }
+
+  @Override
+  public final void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+    throw uoe();
+  }
+
+  @Override
+  public final V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+    throw uoe();
+  }
+
+  @Override
+  public final V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+    throw uoe();
+  }
+
+  @Override
+  public final V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+    throw uoe();
+  }
+
+  @Override
+  public final V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+    throw uoe();
+  }
+
+  @Override
+  public final void clear() {
+    throw uoe();
+  }
+
+  private static UnsupportedOperationException uoe() {
+    return new UnsupportedOperationException();
+  }
+  //endregion
+
+  //region VIEWS (unlike the ones of AbstractMap, they throw from every mutator)
+  @Override
+  public Set<K> keySet() {
+    return new AbstractImmutableSet<K>() {
+      @Override
+      public Iterator<K> iterator() {
+        return keyIterator();
+      }
+
+      @Override
+      public int size() {
+        return AbstractImmutableMap.this.size();
+      }
+
+      @Override
+      public boolean contains(@NullOr Object o) {
+        return containsKey(o);
+      }
+    };
+  }
+
+  @Override
+  public Collection<V> values() {
+    return new AbstractImmutableCollection<V>() {
+      @Override
+      public Iterator<V> iterator() {
+        return valueIterator();
+      }
+
+      @Override
+      public int size() {
+        return AbstractImmutableMap.this.size();
+      }
+
+      @Override
+      public boolean contains(@NullOr Object o) {
+        return containsValue(o);
+      }
+    };
+  }
+
+  /**
+   * Returns a read-only iterator over the keys of this map (used by {@link #keySet()}).
+   * <p>
+   * The default implementation maps the iterator of {@link #entrySet()}, so subclasses that don't hold their entries
+   * as {@link Entry} objects should iterate their keys directly instead.
+   */
+  protected Iterator<K> keyIterator() {
+    Iterator<Entry<K, V>> entryIterator = entrySet().iterator();
+    return new Iterator<K>() {
+      @Override
+      public boolean hasNext() {
+        return entryIterator.hasNext();
+      }
+
+      @Override
+      public K next() {
+        return entryIterator.next().getKey();
+      }
+    };
+  }
+
+  /**
+   * Returns a read-only iterator over the values of this map (used by {@link #values()}).
+   * <p>
+   * The default implementation maps the iterator of {@link #entrySet()}, so subclasses that don't hold their entries
+   * as {@link Entry} objects should iterate their values directly instead.
+   */
+  protected Iterator<V> valueIterator() {
+    Iterator<Entry<K, V>> entryIterator = entrySet().iterator();
+    return new Iterator<V>() {
+      @Override
+      public boolean hasNext() {
+        return entryIterator.hasNext();
+      }
+
+      @Override
+      public V next() {
+        return entryIterator.next().getValue();
+      }
+    };
+  }
+  //endregion
+}
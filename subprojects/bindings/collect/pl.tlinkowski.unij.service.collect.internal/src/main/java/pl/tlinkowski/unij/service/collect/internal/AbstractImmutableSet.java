@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.internal;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+/**
+ * Base class for the immutable {@link Set}s returned by the UniJ bindings (every mutator throws {@link
+ * UnsupportedOperationException}, even if it would not modify this set).
+ * <p>
+ * Based on {@code java.util.ImmutableCollections.AbstractImmutableSet}.
+ *
+ * @author Tomasz Linkowski
+ */
+public abstract class AbstractImmutableSet<E> extends AbstractSet<E> {
+
+  //region MUTATORS
+  @Override
+  public final boolean add(E e) {
+    throw uoe();
+  }
+
+  @Override
+  public final boolean addAll(Collection<? extends E> c) {
+    throw uoe();
+  }
+
+  @Override
+  public final boolean remove(@NullOr Object o) {
+    throw uoe();
+  }
+
+  @Override
+  public final boolean removeAll(Collection<?> c) {
+    throw uoe();
+  }
+
+  @Override
+  public final boolean removeIf(Predicate<? super E> filter) {
+    throw uoe();
+  }
+
+  @Override
+  public final boolean retainAll(Collection<?> c) {
+    throw uoe();
+  }
+
+  @Override
+  public final void clear() {
+    throw uoe();
+  }
+
+  private static UnsupportedOperationException uoe() {
+    return new UnsupportedOperationException();
+  }
+  //endregion
+}
@@ -0,0 +1,230 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.internal;
+
+import java.io.*;
+import java.util.*;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+/**
+ * Serialization proxy for all the collections of this package, so that they have the same serialized form regardless
+ * of the binding that created them.
+ * <p>
+ * Based on {@code java.util.CollSer}: writes only the kind of the collection and its contents (e.g. no hash table
+ * slots, no elements outside of a sorted view), and reads them back through the static factory methods of the
+ * collection classes, which restores the same representation (including the shared empty instances), and which
+ * validates the contents.
+ *
+ * @author Tomasz Linkowski
+ */
+final class CollSer implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+  /**
+   * Capacity of the array allocated before reading the elements from the stream.
+   */
+  private static final int MAX_INITIAL_CAPACITY = 1 << 10;
+
+  //region TAGS
+  static final int LIST = 1; // elements
+  static final int SET = 2; // elements
+  static final int MAP = 3; // keys and values interleaved
+  static final int ENUM_SET = 4; // elements
+  static final int ENUM_MAP = 5; // keys and values interleaved
+  static final int SORTED_SET = 6; // comparator followed by elements
+  static final int SORTED_MAP = 7; // comparator followed by keys and values interleaved
+  static final int STATIC_MAP = 8; // keys and values interleaved
+  static final int LONG_OBJECT_MAP = 9; // long[] of keys and Object[] of values
+  static final int OBJECT_INT_MAP = 10; // Object[] of keys and int[] of values
+  static final int INT_LIST = 11; // int[] of elements
+  static final int LONG_LIST = 12; // long[] of elements
+  static final int DOUBLE_LIST = 13; // double[] of elements
+  //endregion
+
+  private final int tag;
+  private transient Object[] array;
+
+  /**
+   * @param array array that is only read from (so it may be shared with the collection being serialized)
+   */
+  CollSer(int tag, Object... array) {
+    this.tag = tag;
+    this.array = array;
+  }
+
+  /**
+   * Returns a new array with the keys and the values of the given map interleaved.
+   */
+  static Object[] interleave(Map<?, ?> map) {
+    Object[] keysAndValues = new Object[2 * map.size()];
+    int i = 0;
+    for (Map.Entry<?, ?> entry : map.entrySet()) {
+      keysAndValues[i++] = entry.getKey();
+      keysAndValues[i++] = entry.getValue();
+    }
+    return keysAndValues;
+  }
+
+  //region SERIALIZATION
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    out.writeInt(array.length);
+    for (Object element : array) {
+      out.writeObject(element);
+    }
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    int length = in.readInt();
+    if (length < 0) {
+      throw new InvalidObjectException("Negative length: " + length);
+    }
+    // the length comes from the stream, so the array grows only as the elements are actually read
+    Object[] elements = new Object[Math.min(length, MAX_INITIAL_CAPACITY)];
+    for (int i = 0; i < length; i++) {
+      if (i == elements.length) {
+        elements = Arrays.copyOf(elements, (int) Math.min(length, 2L * i));
+      }
+      elements[i] = in.readObject();
+    }
+    array = elements;
+  }
+
+  private Object readResolve() throws ObjectStreamException {
+    try {
+      return resolve();
+    } catch (RuntimeException ex) {
+      InvalidObjectException ioe = new InvalidObjectException("Invalid collection data (tag " + tag + ")");
+      ioe.initCause(ex);
+      throw ioe;
+    }
+  }
+  //endregion
+
+  //region RESOLUTION
+  /**
+   * @implNote Copies the arrays read from the stream, because the stream might also hand them out elsewhere, and
+   * validates the contents through the builders (e.g. throwing on duplicate keys).
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private Object resolve() throws InvalidObjectException {
+    switch (tag) {
+      case LIST:
+        return ImmutableListN.copyOf(array);
+      case SET:
+        return ImmutableSetN.copyOf(array);
+      case MAP:
+        return ImmutableMapN.copyOfInterleaved(array);
+      case ENUM_SET:
+        return ImmutableEnumSet.copyOf(toEnumSet());
+      case ENUM_MAP:
+        return ImmutableEnumMap.copyOf(toEnumMap());
+      case SORTED_SET:
+        return ImmutableSortedArraySet.ofOwnedUnsorted(
+                (Comparator) array[0], Arrays.copyOfRange(array, 1, array.length), true
+        );
+      case SORTED_MAP:
+        return ImmutableSortedArrayMap.ofOwnedUnsorted((Comparator) array[0], toEntries(1));
+      case STATIC_MAP:
+        return toStaticMap();
+      case LONG_OBJECT_MAP:
+        return toLongObjectMap();
+      case OBJECT_INT_MAP:
+        return toObjectIntMap();
+      case INT_LIST:
+        return ImmutableIntArrayList.ofOwned(((int[]) array[0]).clone());
+      case LONG_LIST:
+        return ImmutableLongArrayList.ofOwned(((long[]) array[0]).clone());
+      case DOUBLE_LIST:
+        return ImmutableDoubleArrayList.ofOwned(((double[]) array[0]).clone());
+      default:
+        throw new InvalidObjectException("Invalid tag: " + tag);
+    }
+  }
+
+  /**
+   * Throws if {@link #array} is empty (the enum sets are never empty).
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private EnumSet toEnumSet() {
+    EnumSet set = EnumSet.noneOf(((Enum) array[0]).getDeclaringClass());
+    for (Object element : array) {
+      set.add(element);
+    }
+    return set;
+  }
+
+  /**
+   * Throws if {@link #array} is empty (the enum maps are never empty).
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private EnumMap toEnumMap() {
+    EnumMap map = new EnumMap(((Enum) array[0]).getDeclaringClass());
+    for (int i = 0; i < array.length; i += 2) {
+      map.put(array[i], array[i + 1]);
+    }
+    return map;
+  }
+
+  /**
+   * Returns the (null-checked) entries of the keys and the values interleaved in {@link #array} starting from {@code
+   * from}.
+   */
+  private List<Map.Entry<Object, Object>> toEntries(int from) {
+    List<Map.Entry<Object, Object>> entries = new ArrayList<>((array.length - from) / 2);
+    for (int i = from; i < array.length; i += 2) {
+      entries.add(new AbstractMap.SimpleImmutableEntry<>(
+              Objects.requireNonNull(array[i], "key"), Objects.requireNonNull(array[i + 1], "value")
+      ));
+    }
+    return entries;
+  }
+
+  /**
+   * Falls back to an {@link ImmutableMapN} if no perfect hash function can be found for the keys (e.g. because their
+   * hash codes differ from the ones they had when serialized).
+   */
+  private Map<Object, Object> toStaticMap() {
+    Map<Object, Object> map = ImmutableMapN.copyOfInterleaved(array);
+    @NullOr Map<Object, Object> staticMap = map.size() >= 2 ? ImmutablePerfectHashMap.tryCopyOf(map) : null;
+    return staticMap != null ? staticMap : map;
+  }
+
+  private Object toLongObjectMap() {
+    long[] keys = (long[]) array[0];
+    Object[] values = (Object[]) array[1];
+    ImmutableLongObjectMap.Builder<Object> builder = new ImmutableLongObjectMap.Builder<>(keys.length);
+    for (int i = 0; i < keys.length; i++) {
+      builder.put(keys[i], values[i]);
+    }
+    return builder.build();
+  }
+
+  private Object toObjectIntMap() {
+    Object[] keys = (Object[]) array[0];
+    int[] values = (int[]) array[1];
+    ImmutableObjectIntMap.Builder<Object> builder = new ImmutableObjectIntMap.Builder<>(keys.length);
+    for (int i = 0; i < keys.length; i++) {
+      builder.put(keys[i], values[i]);
+    }
+    return builder.build();
+  }
+  //endregion
+}
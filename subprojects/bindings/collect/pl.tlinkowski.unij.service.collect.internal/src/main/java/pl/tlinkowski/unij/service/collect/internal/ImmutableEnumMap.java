@@ -0,0 +1,181 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.internal;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+/**
+ * Immutable {@link Map} with enum keys holding its non-{@code null} values in an array indexed by the ordinals of their
+ * keys.
+ * <p>
+ * Unlike {@link Map#of}, it looks its keys up using a single array access (instead of hashing them), like
+ * {@link EnumMap}.
+ * <p>
+ * Never empty (the factories return their own empty maps instead).
+ *
+ * @author Tomasz Linkowski
+ */
+public final class ImmutableEnumMap<K extends Enum<K>, V> extends AbstractImmutableMap<K, V> implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final Class<K> keyType;
+  private final Enum<?>[] universe; // shared by all the maps and sets of this keyType
+  private final Object[] values; // null marks an absent key
+  private final int size;
+
+  private ImmutableEnumMap(Class<K> keyType, Object[] ownedValues, int size) {
+    this.keyType = keyType;
+    this.universe = ImmutableEnumSet.universe(keyType);
+    this.values = ownedValues;
+    this.size = size;
+  }
+
+  /**
+   * @param map non-empty map
+   */
+  public static <K extends Enum<K>, V> ImmutableEnumMap<K, V> copyOf(EnumMap<K, ? extends V> map) {
+    Class<K> keyType = map.keySet().iterator().next().getDeclaringClass();
+    Object[] values = new Object[ImmutableEnumSet.universe(keyType).length];
+    map.forEach((key, value) -> values[key.ordinal()] = Objects.requireNonNull(value));
+    return new ImmutableEnumMap<>(keyType, values, map.size());
+  }
+
+  //region QUERIES
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @SuppressWarnings("unchecked")
+  @NullOr
+  @Override
+  public V get(@NullOr Object key) {
+    return isKeyType(key) ? (V) values[((Enum<?>) key).ordinal()] : null;
+  }
+
+  @Override
+  public boolean containsKey(@NullOr Object key) {
+    return isKeyType(key) && values[((Enum<?>) key).ordinal()] != null;
+  }
+
+  private boolean isKeyType(@NullOr Object key) {
+    if (key == null) {
+      return false;
+    }
+    Class<?> type = key.getClass();
+    return type == keyType || type.getSuperclass() == keyType; // the latter for constants with a class body
+  }
+
+  @Override
+  public boolean containsValue(@NullOr Object value) {
+    if (value != null) {
+      for (Object existing : values) {
+        if (value.equals(existing)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public void forEach(BiConsumer<? super K, ? super V> action) {
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] != null) {
+        action.accept((K) universe[i], (V) values[i]);
+      }
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = 0;
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] != null) {
+        hash += universe[i].hashCode() ^ values[i].hashCode();
+      }
+    }
+    return hash;
+  }
+  //endregion
+
+  //region VIEWS
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return new AbstractImmutableSet<Entry<K, V>>() {
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public Iterator<Entry<K, V>> iterator() {
+        return new EntryItr();
+      }
+    };
+  }
+
+  /**
+   * Read-only iterator creating entries for the present keys on demand (in the order of the ordinals, like in
+   * {@link EnumMap}).
+   */
+  private final class EntryItr implements Iterator<Entry<K, V>> {
+
+    private int remaining = size;
+    private int idx;
+
+    @Override
+    public boolean hasNext() {
+      return remaining > 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Entry<K, V> next() {
+      if (remaining == 0) {
+        throw new NoSuchElementException();
+      }
+      while (values[idx] == null) {
+        idx++;
+      }
+      Entry<K, V> entry = new SimpleImmutableEntry<>((K) universe[idx], (V) values[idx]);
+      idx++;
+      remaining--;
+      return entry;
+    }
+  }
+  //endregion
+
+  //region SERIALIZATION
+  private Object writeReplace() {
+    return new CollSer(CollSer.ENUM_MAP, CollSer.interleave(this));
+  }
+
+  private void readObject(ObjectInputStream in) throws InvalidObjectException {
+    throw new InvalidObjectException("CollSer required");
+  }
+  //endregion
+}
@@ -0,0 +1,215 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.internal;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.*;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+/**
+ * Immutable {@link Set} of enum constants holding its elements in a bit vector indexed by their ordinals.
+ * <p>
+ * Unlike {@link Set#of}, it looks its elements up using a single bitmask test (instead of hashing them), and takes up
+ * only one {@code long} per 64 constants of the enum type (the same as {@link EnumSet}).
+ * <p>
+ * Never empty (the factories return their own empty sets instead).
+ *
+ * @author Tomasz Linkowski
+ */
+public final class ImmutableEnumSet<E extends Enum<E>> extends AbstractImmutableSet<E> implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Constants of every enum type (cached, because {@link Class#getEnumConstants} returns a new array on every call).
+   */
+  private static final ClassValue<Enum<?>[]> UNIVERSES = new ClassValue<Enum<?>[]>() {
+    @Override
+    protected Enum<?>[] computeValue(Class<?> type) {
+      return (Enum<?>[]) type.getEnumConstants();
+    }
+  };
+
+  private final Class<E> elementType;
+  private final Enum<?>[] universe; // shared by all the sets of this elementType
+  private final long[] words; // bit i set if universe[i] is present
+  private final int size;
+
+  /**
+   * @param ownedWords bit vector that is owned by this set and was filled using {@link #setBit}
+   */
+  private ImmutableEnumSet(Class<E> elementType, long[] ownedWords) {
+    this.elementType = elementType;
+    this.universe = universe(elementType);
+    this.words = ownedWords;
+    this.size = bitCount(ownedWords);
+  }
+
+  static Enum<?>[] universe(Class<?> enumType) {
+    return UNIVERSES.get(enumType);
+  }
+
+  public static <E extends Enum<E>> ImmutableEnumSet<E> of(E first, E[] rest) {
+    Class<E> elementType = first.getDeclaringClass();
+    long[] words = newWords(elementType);
+    setBit(words, first);
+    for (E element : rest) {
+      setBit(words, elementType.cast(Objects.requireNonNull(element)));
+    }
+    return new ImmutableEnumSet<>(elementType, words);
+  }
+
+  /**
+   * @param set non-empty set
+   */
+  public static <E extends Enum<E>> ImmutableEnumSet<E> copyOf(EnumSet<E> set) {
+    Class<E> elementType = set.iterator().next().getDeclaringClass();
+    long[] words = newWords(elementType);
+    for (E element : set) {
+      setBit(words, element);
+    }
+    return new ImmutableEnumSet<>(elementType, words);
+  }
+
+  private static long[] newWords(Class<?> enumType) {
+    return new long[(universe(enumType).length + 63) >>> 6];
+  }
+
+  private static void setBit(long[] words, Enum<?> element) {
+    int ordinal = element.ordinal();
+    words[ordinal >>> 6] |= 1L << ordinal;
+  }
+
+  private static int bitCount(long[] words) {
+    int count = 0;
+    for (long word : words) {
+      count += Long.bitCount(word);
+    }
+    return count;
+  }
+
+  //region QUERIES
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean contains(@NullOr Object o) {
+    if (!isElementType(o)) {
+      return false;
+    }
+    int ordinal = ((Enum<?>) o).ordinal();
+    return (words[ordinal >>> 6] & 1L << ordinal) != 0;
+  }
+
+  private boolean isElementType(@NullOr Object o) {
+    if (o == null) {
+      return false;
+    }
+    Class<?> type = o.getClass();
+    return type == elementType || type.getSuperclass() == elementType; // the latter for constants with a class body
+  }
+
+  /**
+   * @implNote Compares the bit vectors if {@code c} is an {@link ImmutableEnumSet} of the same element type.
+   */
+  @Override
+  public boolean containsAll(Collection<?> c) {
+    if (!(c instanceof ImmutableEnumSet)) {
+      return super.containsAll(c);
+    }
+    ImmutableEnumSet<?> other = (ImmutableEnumSet<?>) c;
+    if (other.elementType != elementType) {
+      return false;
+    }
+    for (int i = 0; i < words.length; i++) {
+      if ((other.words[i] & ~words[i]) != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean equals(@NullOr Object o) {
+    if (o instanceof ImmutableEnumSet) {
+      ImmutableEnumSet<?> other = (ImmutableEnumSet<?>) o;
+      return other.elementType == elementType && Arrays.equals(other.words, words);
+    }
+    return super.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = 0;
+    for (E element : this) {
+      hash += element.hashCode();
+    }
+    return hash;
+  }
+  //endregion
+
+  //region ITERATION
+  @Override
+  public Iterator<E> iterator() {
+    return new Itr();
+  }
+
+  /**
+   * Read-only iterator over the set bits of the bit vector (in the order of the ordinals, like in {@link EnumSet}).
+   */
+  private final class Itr implements Iterator<E> {
+
+    private int wordIdx;
+    private long unseen = words[0];
+
+    @Override
+    public boolean hasNext() {
+      while (unseen == 0 && wordIdx < words.length - 1) {
+        unseen = words[++wordIdx];
+      }
+      return unseen != 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      int bitIdx = Long.numberOfTrailingZeros(unseen);
+      unseen &= unseen - 1; // clears the lowest set bit
+      return (E) universe[(wordIdx << 6) + bitIdx];
+    }
+  }
+  //endregion
+
+  //region SERIALIZATION
+  private Object writeReplace() {
+    return new CollSer(CollSer.ENUM_SET, toArray());
+  }
+
+  private void readObject(ObjectInputStream in) throws InvalidObjectException {
+    throw new InvalidObjectException("CollSer required");
+  }
+  //endregion
+}
@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.internal;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableIntList;
+
+/**
+ * Immutable {@link UnmodifiableIntList} backed by {@code int} array (i.e. storing its elements unboxed).
+ *
+ * @author Tomasz Linkowski
+ */
+public final class ImmutableIntArrayList extends AbstractImmutableList<Integer>
+        implements UnmodifiableIntList, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final ImmutableIntArrayList EMPTY = new ImmutableIntArrayList(new int[0]);
+
+  private final int[] elements;
+
+  private ImmutableIntArrayList(int[] ownedElements) {
+    this.elements = ownedElements;
+  }
+
+  /**
+   * Returns the only empty instance if {@code ownedElements} is empty.
+   *
+   * @param ownedElements array that is owned by the returned list
+   */
+  public static UnmodifiableIntList ofOwned(int[] ownedElements) {
+    return ownedElements.length == 0 ? EMPTY : new ImmutableIntArrayList(ownedElements);
+  }
+
+  @Override
+  public int size() {
+    return elements.length;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return elements.length == 0;
+  }
+
+  @Override
+  public Integer get(int index) {
+    return getInt(index);
+  }
+
+  @Override
+  public int getInt(int index) {
+    if (index < 0 || index >= elements.length) {
+      throw outOfBounds(index);
+    }
+    return elements[index];
+  }
+
+  @Override
+  public int indexOf(@NullOr Object o) {
+    if (o instanceof Integer) {
+      int key = (Integer) o;
+      for (int i = 0; i < elements.length; i++) {
+        if (elements[i] == key) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(@NullOr Object o) {
+    if (o instanceof Integer) {
+      int key = (Integer) o;
+      for (int i = elements.length - 1; i >= 0; i--) {
+        if (elements[i] == key) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int[] toIntArray() {
+    return elements.clone();
+  }
+
+  @Override
+  public IntStream intStream() {
+    return Arrays.stream(elements);
+  }
+
+  @Override
+  public boolean equals(@NullOr Object o) {
+    if (o instanceof ImmutableIntArrayList) {
+      return Arrays.equals(elements, ((ImmutableIntArrayList) o).elements);
+    }
+    return super.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(elements);
+  }
+
+  //region SERIALIZATION
+  private Object writeReplace() {
+    return new CollSer(CollSer.INT_LIST, (Object) elements);
+  }
+
+  private void readObject(ObjectInputStream in) throws InvalidObjectException {
+    throw new InvalidObjectException("CollSer required");
+  }
+  //endregion
+}
@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.internal;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+/**
+ * Immutable field-based {@link java.util.List} holding one or two non-{@code null} elements.
+ * <p>
+ * Based on {@code java.util.ImmutableCollections.List12}.
+ *
+ * @author Tomasz Linkowski
+ */
+public final class ImmutableList12<E> extends AbstractImmutableList<E> implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final E e0;
+  @NullOr
+  private final E e1; // null means that this list holds only one element
+
+  private ImmutableList12(E e0, @NullOr E e1) {
+    this.e0 = e0;
+    this.e1 = e1;
+  }
+
+  public static <E> List<E> of(E e0) {
+    return new ImmutableList12<>(Objects.requireNonNull(e0), null);
+  }
+
+  public static <E> List<E> of(E e0, E e1) {
+    return new ImmutableList12<>(Objects.requireNonNull(e0), Objects.requireNonNull(e1));
+  }
+
+  @Override
+  public int size() {
+    return e1 != null ? 2 : 1;
+  }
+
+  @Override
+  public E get(int index) {
+    if (index == 0) {
+      return e0;
+    } else if (index == 1 && e1 != null) {
+      return e1;
+    }
+    throw outOfBounds(index);
+  }
+
+  @Override
+  public int indexOf(@NullOr Object o) {
+    if (e0.equals(o)) {
+      return 0;
+    }
+    return e1 != null && e1.equals(o) ? 1 : -1;
+  }
+
+  @Override
+  public int lastIndexOf(@NullOr Object o) {
+    if (e1 != null && e1.equals(o)) {
+      return 1;
+    }
+    return e0.equals(o) ? 0 : -1;
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    action.accept(e0);
+    if (e1 != null) {
+      action.accept(e1);
+    }
+  }
+
+  @Override
+  public Object[] toArray() {
+    return e1 != null ? new Object[]{e0, e1} : new Object[]{e0};
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = 31 + e0.hashCode();
+    return e1 != null ? 31 * hash + e1.hashCode() : hash;
+  }
+
+  //region SERIALIZATION
+  private Object writeReplace() {
+    return new CollSer(CollSer.LIST, toArray());
+  }
+
+  private void readObject(ObjectInputStream in) throws InvalidObjectException {
+    throw new InvalidObjectException("CollSer required");
+  }
+  //endregion
+}
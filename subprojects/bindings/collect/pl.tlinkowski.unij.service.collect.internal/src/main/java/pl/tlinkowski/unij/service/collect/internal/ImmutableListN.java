@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.internal;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+/**
+ * Immutable array-based {@link java.util.List} holding any number of non-{@code null} elements.
+ * <p>
+ * Based on {@code java.util.ImmutableCollections.ListN}, but caches its hash code (so, like {@link ImmutableSetN}, it
+ * assumes that the hash codes of its elements never change).
+ *
+ * @author Tomasz Linkowski
+ */
+public final class ImmutableListN<E> extends AbstractImmutableList<E> implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final ImmutableListN<Object> EMPTY = new ImmutableListN<>(new Object[0]);
+
+  private final E[] elements;
+  private transient int cachedHashCode; // 0 means not computed yet (like in String)
+
+  private ImmutableListN(E[] ownedElements) {
+    this.elements = ownedElements;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <E> List<E> empty() {
+    return (List<E>) EMPTY;
+  }
+
+  /**
+   * Returns an {@link ImmutableList12} for one or two elements, and an {@link ImmutableListN} for all other sizes.
+   *
+   * @param ownedElements array that is handed over to the returned list and contains no {@code null}s
+   */
+  public static <E> List<E> ofOwned(E[] ownedElements) {
+    switch (ownedElements.length) {
+      case 0:
+        return empty();
+      case 1:
+        return ImmutableList12.of(ownedElements[0]);
+      case 2:
+        return ImmutableList12.of(ownedElements[0], ownedElements[1]);
+      default:
+        return new ImmutableListN<>(ownedElements);
+    }
+  }
+
+  /**
+   * Returns a list of the non-{@code null} {@code elements} (which are only read from).
+   */
+  static <E> List<E> copyOf(E[] elements) {
+    for (E element : elements) {
+      Objects.requireNonNull(element);
+    }
+    return ofOwned(elements.clone());
+  }
+
+  @Override
+  public int size() {
+    return elements.length;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return elements.length == 0;
+  }
+
+  @Override
+  public E get(int index) {
+    if (index < 0 || index >= elements.length) {
+      throw outOfBounds(index);
+    }
+    return elements[index];
+  }
+
+  @Override
+  public int indexOf(@NullOr Object o) {
+    if (o != null) {
+      for (int i = 0; i < elements.length; i++) {
+        if (o.equals(elements[i])) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(@NullOr Object o) {
+    if (o != null) {
+      for (int i = elements.length - 1; i >= 0; i--) {
+        if (o.equals(elements[i])) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    for (E element : elements) {
+      action.accept(element);
+    }
+  }
+
+  @Override
+  public Object[] toArray() {
+    return Arrays.copyOf(elements, elements.length, Object[].class);
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = cachedHashCode;
+    if (hash == 0) {
+      hash = computeHashCode();
+      cachedHashCode = hash;
+    }
+    return hash;
+  }
+
+  private int computeHashCode() {
+    return Arrays.hashCode(elements);
+  }
+
+  //region SERIALIZATION
+  private Object writeReplace() {
+    return new CollSer(CollSer.LIST, elements);
+  }
+
+  private void readObject(ObjectInputStream in) throws InvalidObjectException {
+    throw new InvalidObjectException("CollSer required");
+  }
+  //endregion
+}
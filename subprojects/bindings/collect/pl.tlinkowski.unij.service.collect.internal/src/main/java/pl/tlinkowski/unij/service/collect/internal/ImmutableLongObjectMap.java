@@ -0,0 +1,341 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.internal;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableLongObjectMap;
+
+/**
+ * Immutable {@link UnmodifiableLongObjectMap} holding its unboxed keys and its non-{@code null} values in two parallel,
+ * linear-probing hash tables.
+ * <p>
+ * Unlike {@link java.util.Map#of}, it looks its {@code long} keys up without boxing them (and without dereferencing
+ * any entries).
+ *
+ * @author Tomasz Linkowski
+ */
+public final class ImmutableLongObjectMap<V> extends AbstractImmutableMap<Long, V>
+        implements UnmodifiableLongObjectMap<V>, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Hash table slots per entry (the same as in {@code java.util.ImmutableCollections}).
+   */
+  private static final int EXPAND_FACTOR = 2;
+
+  private static final ImmutableLongObjectMap<?> EMPTY = new ImmutableLongObjectMap<>(new long[0], new Object[0], 0);
+
+  private final long[] keys;
+  private final Object[] values; // null marks a free slot
+  private final int size;
+
+  /**
+   * @param ownedKeys hash table of keys that is owned by this map and was filled using {@link #probe}
+   * @param ownedValues hash table of the corresponding values that is owned by this map
+   */
+  private ImmutableLongObjectMap(long[] ownedKeys, Object[] ownedValues, int size) {
+    this.keys = ownedKeys;
+    this.values = ownedValues;
+    this.size = size;
+  }
+
+  private static int newTableLength(int expectedSize) {
+    return EXPAND_FACTOR * expectedSize;
+  }
+
+  /**
+   * Returns the index of {@code key} if it's present in the hash table, or {@code -i - 1} where {@code i} is the index
+   * of the free slot where {@code key} should be inserted.
+   */
+  private static int probe(long[] keys, Object[] values, long key) {
+    int idx = Math.floorMod(Long.hashCode(key), keys.length);
+    while (true) {
+      if (values[idx] == null) {
+        return -idx - 1;
+      } else if (keys[idx] == key) {
+        return idx;
+      } else if (++idx == keys.length) {
+        idx = 0;
+      }
+    }
+  }
+
+  /**
+   * Returns the only empty instance.
+   */
+  @SuppressWarnings("unchecked")
+  public static <V> UnmodifiableLongObjectMap<V> empty() {
+    return (UnmodifiableLongObjectMap<V>) EMPTY;
+  }
+
+  //region QUERIES
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @SuppressWarnings("unchecked")
+  @NullOr
+  @Override
+  public V get(long key) {
+    int idx = indexOf(key);
+    return idx >= 0 ? (V) values[idx] : null;
+  }
+
+  @NullOr
+  @Override
+  public V get(@NullOr Object key) {
+    return key instanceof Long ? get(((Long) key).longValue()) : null;
+  }
+
+  @Override
+  public boolean containsKey(long key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public boolean containsKey(@NullOr Object key) {
+    return key instanceof Long && containsKey(((Long) key).longValue());
+  }
+
+  @Override
+  public boolean containsValue(@NullOr Object value) {
+    if (value != null) {
+      for (Object existing : values) {
+        if (value.equals(existing)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private int indexOf(long key) {
+    return size > 0 ? probe(keys, values, key) : -1;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public void forEach(BiConsumer<? super Long, ? super V> action) {
+    for (int i = 0; i < keys.length; i++) {
+      if (values[i] != null) {
+        action.accept(keys[i], (V) values[i]);
+      }
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = 0;
+    for (int i = 0; i < keys.length; i++) {
+      if (values[i] != null) {
+        hash += Long.hashCode(keys[i]) ^ values[i].hashCode();
+      }
+    }
+    return hash;
+  }
+  //endregion
+
+  //region VIEWS
+  @Override
+  public Set<Entry<Long, V>> entrySet() {
+    return new AbstractImmutableSet<Entry<Long, V>>() {
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public Iterator<Entry<Long, V>> iterator() {
+        return new SlotItr<Entry<Long, V>>() {
+          @SuppressWarnings("unchecked")
+          @Override
+          Entry<Long, V> element(int idx) {
+            return new SimpleImmutableEntry<>(keys[idx], (V) values[idx]);
+          }
+        };
+      }
+    };
+  }
+
+  @Override
+  protected Iterator<Long> keyIterator() {
+    return new SlotItr<Long>() {
+      @Override
+      Long element(int idx) {
+        return keys[idx];
+      }
+    };
+  }
+
+  @Override
+  protected Iterator<V> valueIterator() {
+    return new SlotItr<V>() {
+      @SuppressWarnings("unchecked")
+      @Override
+      V element(int idx) {
+        return (V) values[idx];
+      }
+    };
+  }
+
+  /**
+   * Read-only iterator over the occupied slots of the hash tables (only {@link #entrySet()} creates an entry per slot).
+   */
+  private abstract class SlotItr<T> implements Iterator<T> {
+
+    private int remaining = size;
+    private int idx;
+
+    @Override
+    public boolean hasNext() {
+      return remaining > 0;
+    }
+
+    @Override
+    public T next() {
+      if (remaining == 0) {
+        throw new NoSuchElementException();
+      }
+      while (values[idx] == null) {
+        idx++;
+      }
+      T element = element(idx);
+      idx++;
+      remaining--;
+      return element;
+    }
+
+    /**
+     * Returns the element for the slot at the given index of the hash tables.
+     */
+    abstract T element(int idx);
+  }
+  //endregion
+
+  //region SERIALIZATION
+  private Object writeReplace() {
+    long[] presentKeys = new long[size];
+    Object[] presentValues = new Object[size];
+    for (int i = 0, j = 0; i < keys.length; i++) {
+      if (values[i] != null) {
+        presentKeys[j] = keys[i];
+        presentValues[j++] = values[i];
+      }
+    }
+    return new CollSer(CollSer.LONG_OBJECT_MAP, presentKeys, presentValues);
+  }
+
+  private void readObject(ObjectInputStream in) throws InvalidObjectException {
+    throw new InvalidObjectException("CollSer required");
+  }
+  //endregion
+
+  //region BUILDER
+  /**
+   * Throws {@link IllegalArgumentException} on duplicate keys passed to {@link #put} (detected while probing for a
+   * free slot). Grows its hash tables if more entries than expected are added.
+   */
+  public static final class Builder<V> {
+
+    private static final int DEFAULT_EXPECTED_SIZE = 8;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+
+    public Builder() {
+      this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    public Builder(int expectedSize) {
+      this.keys = new long[newTableLength(expectedSize)];
+      this.values = new Object[keys.length];
+    }
+
+    public Builder<V> put(long key, V value) {
+      Objects.requireNonNull(value, "value");
+      ensureCapacity(size + 1);
+      int idx = probe(keys, values, key);
+      if (idx >= 0) {
+        throw new IllegalArgumentException(String.format(
+                "Duplicate key: %s (attempted merging values %s and %s)", key, values[idx], value
+        ));
+      }
+      insertAt(-idx - 1, key, value);
+      return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Builder<V> putAll(Builder<V> other) {
+      ensureCapacity(size + other.size);
+      for (int i = 0; i < other.keys.length; i++) {
+        if (other.values[i] != null) {
+          put(other.keys[i], (V) other.values[i]);
+        }
+      }
+      return this;
+    }
+
+    private void insertAt(int idx, long key, Object value) {
+      keys[idx] = key;
+      values[idx] = value;
+      size++;
+    }
+
+    private void ensureCapacity(int expectedSize) {
+      if (newTableLength(expectedSize) > keys.length) {
+        rehash(Math.max(expectedSize, 2 * size));
+      }
+    }
+
+    private void rehash(int expectedSize) {
+      long[] oldKeys = keys;
+      Object[] oldValues = values;
+      keys = new long[newTableLength(expectedSize)];
+      values = new Object[keys.length];
+      for (int i = 0; i < oldKeys.length; i++) {
+        if (oldValues[i] != null) {
+          int idx = -probe(keys, values, oldKeys[i]) - 1;
+          keys[idx] = oldKeys[i];
+          values[idx] = oldValues[i];
+        }
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    public UnmodifiableLongObjectMap<V> build() {
+      return size == 0
+              ? (UnmodifiableLongObjectMap<V>) EMPTY
+              : new ImmutableLongObjectMap<>(keys, values, size);
+    }
+  }
+  //endregion
+}
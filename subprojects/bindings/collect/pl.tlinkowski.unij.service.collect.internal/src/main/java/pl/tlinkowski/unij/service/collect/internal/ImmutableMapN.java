@@ -0,0 +1,283 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.internal;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+/**
+ * Immutable {@link Map} holding its non-{@code null} keys and values interleaved in a flat, linear-probing hash table.
+ * <p>
+ * Based on {@code java.util.ImmutableCollections.MapN}. Lookups never create entries, entries of {@link #entrySet()}
+ * are only materialized while iterating, and {@link #keySet()} and {@link #values()} iterate the table directly.
+ *
+ * @author Tomasz Linkowski
+ */
+public final class ImmutableMapN<K, V> extends AbstractImmutableMap<K, V> implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Hash table slots per entry (the same as in {@code java.util.ImmutableCollections}).
+   */
+  private static final int EXPAND_FACTOR = 2;
+
+  private static final ImmutableMapN<Object, Object> EMPTY = new ImmutableMapN<>(new Object[0], 0);
+
+  private final Object[] table; // key at even index, its value at the next index
+  private final int size;
+  private transient int cachedHashCode; // 0 means not computed yet (like in String)
+
+  private ImmutableMapN(Object[] ownedTable, int size) {
+    this.table = ownedTable;
+    this.size = size;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <K, V> Map<K, V> empty() {
+    return (Map<K, V>) EMPTY;
+  }
+
+  /**
+   * @param ownedTable hash table that is handed over to the returned map and was filled using {@link #probe}
+   */
+  public static <K, V> Map<K, V> ofOwnedTable(Object[] ownedTable, int size) {
+    return new ImmutableMapN<>(ownedTable, size);
+  }
+
+  /**
+   * Returns a map of the non-{@code null} keys and values interleaved in {@code keysAndValues} (which is only read
+   * from), throwing {@link IllegalArgumentException} on duplicate keys.
+   */
+  static <K, V> Map<K, V> copyOfInterleaved(Object[] keysAndValues) {
+    int size = keysAndValues.length / 2;
+    if (size == 0) {
+      return empty();
+    }
+    Object[] table = newTable(size);
+    for (int i = 0; i < keysAndValues.length; i += 2) {
+      Object key = Objects.requireNonNull(keysAndValues[i], "key");
+      int idx = probe(table, key);
+      if (idx >= 0) {
+        throw new IllegalArgumentException("Duplicate key: " + key);
+      }
+      table[-idx - 1] = key;
+      table[-idx] = Objects.requireNonNull(keysAndValues[i + 1], "value");
+    }
+    return new ImmutableMapN<>(table, size);
+  }
+
+  public static Object[] newTable(int expectedSize) {
+    return new Object[newTableLength(expectedSize)];
+  }
+
+  public static int newTableLength(int expectedSize) {
+    return 2 * EXPAND_FACTOR * expectedSize;
+  }
+
+  /**
+   * Returns the (even) index of {@code key} if it's present in the {@code table}, or {@code -i - 1} where {@code i} is
+   * the (even) index of the free slot where {@code key} should be inserted.
+   */
+  public static int probe(Object[] table, Object key) {
+    int idx = homeIndex(table, key);
+    while (true) {
+      Object existing = table[idx];
+      if (existing == null) {
+        return -idx - 1;
+      } else if (key.equals(existing)) {
+        return idx;
+      } else if ((idx += 2) == table.length) {
+        idx = 0;
+      }
+    }
+  }
+
+  /**
+   * Returns the (even) index where probing for {@code key} starts.
+   */
+  public static int homeIndex(Object[] table, Object key) {
+    return Math.floorMod(key.hashCode(), table.length >> 1) << 1;
+  }
+
+  //region QUERIES
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @SuppressWarnings("unchecked")
+  @NullOr
+  @Override
+  public V get(@NullOr Object key) {
+    int idx = indexOf(key);
+    return idx >= 0 ? (V) table[idx + 1] : null;
+  }
+
+  @Override
+  public boolean containsKey(@NullOr Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public boolean containsValue(@NullOr Object value) {
+    if (value != null) {
+      for (int i = 1; i < table.length; i += 2) {
+        if (value.equals(table[i])) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private int indexOf(@NullOr Object key) {
+    return key != null && size > 0 ? probe(table, key) : -1;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public void forEach(BiConsumer<? super K, ? super V> action) {
+    for (int i = 0; i < table.length; i += 2) {
+      Object key = table[i];
+      if (key != null) {
+        action.accept((K) key, (V) table[i + 1]);
+      }
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = cachedHashCode;
+    if (hash == 0) {
+      hash = computeHashCode();
+      cachedHashCode = hash;
+    }
+    return hash;
+  }
+
+  private int computeHashCode() {
+    int hash = 0;
+    for (int i = 0; i < table.length; i += 2) {
+      Object key = table[i];
+      if (key != null) {
+        hash += key.hashCode() ^ table[i + 1].hashCode();
+      }
+    }
+    return hash;
+  }
+  //endregion
+
+  //region VIEWS
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return new AbstractImmutableSet<Entry<K, V>>() {
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public Iterator<Entry<K, V>> iterator() {
+        return new SlotItr<Entry<K, V>>() {
+          @SuppressWarnings("unchecked")
+          @Override
+          Entry<K, V> element(int idx) {
+            return new SimpleImmutableEntry<>((K) table[idx], (V) table[idx + 1]);
+          }
+        };
+      }
+    };
+  }
+
+  @Override
+  protected Iterator<K> keyIterator() {
+    return new SlotItr<K>() {
+      @SuppressWarnings("unchecked")
+      @Override
+      K element(int idx) {
+        return (K) table[idx];
+      }
+    };
+  }
+
+  @Override
+  protected Iterator<V> valueIterator() {
+    return new SlotItr<V>() {
+      @SuppressWarnings("unchecked")
+      @Override
+      V element(int idx) {
+        return (V) table[idx + 1];
+      }
+    };
+  }
+
+  /**
+   * Read-only iterator over the occupied slots of the hash table (only {@link #entrySet()} creates an entry per slot).
+   */
+  private abstract class SlotItr<T> implements Iterator<T> {
+
+    private int remaining = size;
+    private int idx;
+
+    @Override
+    public boolean hasNext() {
+      return remaining > 0;
+    }
+
+    @Override
+    public T next() {
+      if (remaining == 0) {
+        throw new NoSuchElementException();
+      }
+      while (table[idx] == null) {
+        idx += 2;
+      }
+      T element = element(idx);
+      idx += 2;
+      remaining--;
+      return element;
+    }
+
+    /**
+     * Returns the element for the slot whose key is at the given index of the table.
+     */
+    abstract T element(int idx);
+  }
+  //endregion
+
+  //region SERIALIZATION
+  private Object writeReplace() {
+    return new CollSer(CollSer.MAP, CollSer.interleave(this));
+  }
+
+  private void readObject(ObjectInputStream in) throws InvalidObjectException {
+    throw new InvalidObjectException("CollSer required");
+  }
+  //endregion
+}
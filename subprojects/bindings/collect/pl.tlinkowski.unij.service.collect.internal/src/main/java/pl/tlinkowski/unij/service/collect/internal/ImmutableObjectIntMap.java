@@ -0,0 +1,308 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.internal;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableObjectIntMap;
+
+/**
+ * Immutable {@link UnmodifiableObjectIntMap} holding its non-{@code null} keys and its unboxed values in two parallel,
+ * linear-probing hash tables.
+ * <p>
+ * Unlike {@link java.util.Map#of}, it returns its {@code int} values without boxing them (and without dereferencing
+ * any entries).
+ *
+ * @author Tomasz Linkowski
+ */
+public final class ImmutableObjectIntMap<K> extends AbstractImmutableMap<K, Integer>
+        implements UnmodifiableObjectIntMap<K>, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Hash table slots per entry (the same as in {@code java.util.ImmutableCollections}).
+   */
+  private static final int EXPAND_FACTOR = 2;
+
+  private static final ImmutableObjectIntMap<?> EMPTY = new ImmutableObjectIntMap<>(new Object[0], new int[0], 0);
+
+  private final Object[] keys; // null marks a free slot
+  private final int[] values;
+  private final int size;
+
+  /**
+   * @param ownedKeys hash table of keys that is owned by this map and was filled using {@link #probe}
+   * @param ownedValues hash table of the corresponding values that is owned by this map
+   */
+  private ImmutableObjectIntMap(Object[] ownedKeys, int[] ownedValues, int size) {
+    this.keys = ownedKeys;
+    this.values = ownedValues;
+    this.size = size;
+  }
+
+  private static int newTableLength(int expectedSize) {
+    return EXPAND_FACTOR * expectedSize;
+  }
+
+  /**
+   * Returns the index of {@code key} if it's present in the hash table, or {@code -i - 1} where {@code i} is the index
+   * of the free slot where {@code key} should be inserted.
+   */
+  private static int probe(Object[] keys, Object key) {
+    int idx = Math.floorMod(key.hashCode(), keys.length);
+    while (true) {
+      Object existing = keys[idx];
+      if (existing == null) {
+        return -idx - 1;
+      } else if (key.equals(existing)) {
+        return idx;
+      } else if (++idx == keys.length) {
+        idx = 0;
+      }
+    }
+  }
+
+  /**
+   * Returns the only empty instance.
+   */
+  @SuppressWarnings("unchecked")
+  public static <K> UnmodifiableObjectIntMap<K> empty() {
+    return (UnmodifiableObjectIntMap<K>) EMPTY;
+  }
+
+  //region QUERIES
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public int getIntOrDefault(@NullOr Object key, int defaultValue) {
+    int idx = indexOf(key);
+    return idx >= 0 ? values[idx] : defaultValue;
+  }
+
+  @NullOr
+  @Override
+  public Integer get(@NullOr Object key) {
+    int idx = indexOf(key);
+    return idx >= 0 ? values[idx] : null;
+  }
+
+  @Override
+  public boolean containsKey(@NullOr Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public boolean containsValue(@NullOr Object value) {
+    if (value instanceof Integer) {
+      int intValue = (Integer) value;
+      for (int i = 0; i < keys.length; i++) {
+        if (keys[i] != null && values[i] == intValue) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private int indexOf(@NullOr Object key) {
+    return key != null && size > 0 ? probe(keys, key) : -1;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public void forEach(BiConsumer<? super K, ? super Integer> action) {
+    for (int i = 0; i < keys.length; i++) {
+      Object key = keys[i];
+      if (key != null) {
+        action.accept((K) key, values[i]);
+      }
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = 0;
+    for (int i = 0; i < keys.length; i++) {
+      Object key = keys[i];
+      if (key != null) {
+        hash += key.hashCode() ^ values[i];
+      }
+    }
+    return hash;
+  }
+  //endregion
+
+  //region VIEWS
+  @Override
+  public Set<Entry<K, Integer>> entrySet() {
+    return new AbstractImmutableSet<Entry<K, Integer>>() {
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public Iterator<Entry<K, Integer>> iterator() {
+        return new EntryItr();
+      }
+    };
+  }
+
+  /**
+   * Read-only iterator creating entries for the occupied slots of the hash table on demand.
+   */
+  private final class EntryItr implements Iterator<Entry<K, Integer>> {
+
+    private int remaining = size;
+    private int idx;
+
+    @Override
+    public boolean hasNext() {
+      return remaining > 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Entry<K, Integer> next() {
+      if (remaining == 0) {
+        throw new NoSuchElementException();
+      }
+      while (keys[idx] == null) {
+        idx++;
+      }
+      Entry<K, Integer> entry = new SimpleImmutableEntry<>((K) keys[idx], values[idx]);
+      idx++;
+      remaining--;
+      return entry;
+    }
+  }
+  //endregion
+
+  //region SERIALIZATION
+  private Object writeReplace() {
+    Object[] presentKeys = new Object[size];
+    int[] presentValues = new int[size];
+    for (int i = 0, j = 0; i < keys.length; i++) {
+      if (keys[i] != null) {
+        presentKeys[j] = keys[i];
+        presentValues[j++] = values[i];
+      }
+    }
+    return new CollSer(CollSer.OBJECT_INT_MAP, presentKeys, presentValues);
+  }
+
+  private void readObject(ObjectInputStream in) throws InvalidObjectException {
+    throw new InvalidObjectException("CollSer required");
+  }
+  //endregion
+
+  //region BUILDER
+  /**
+   * Throws {@link IllegalArgumentException} on duplicate keys passed to {@link #put} (detected while probing for a
+   * free slot). Grows its hash tables if more entries than expected are added.
+   */
+  public static final class Builder<K> {
+
+    private static final int DEFAULT_EXPECTED_SIZE = 8;
+
+    private Object[] keys;
+    private int[] values;
+    private int size;
+
+    public Builder() {
+      this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    public Builder(int expectedSize) {
+      this.keys = new Object[newTableLength(expectedSize)];
+      this.values = new int[keys.length];
+    }
+
+    public Builder<K> put(K key, int value) {
+      Objects.requireNonNull(key, "key");
+      ensureCapacity(size + 1);
+      int idx = probe(keys, key);
+      if (idx >= 0) {
+        throw new IllegalArgumentException(String.format(
+                "Duplicate key: %s (attempted merging values %s and %s)", key, values[idx], value
+        ));
+      }
+      insertAt(-idx - 1, key, value);
+      return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Builder<K> putAll(Builder<K> other) {
+      ensureCapacity(size + other.size);
+      for (int i = 0; i < other.keys.length; i++) {
+        if (other.keys[i] != null) {
+          put((K) other.keys[i], other.values[i]);
+        }
+      }
+      return this;
+    }
+
+    private void insertAt(int idx, Object key, int value) {
+      keys[idx] = key;
+      values[idx] = value;
+      size++;
+    }
+
+    private void ensureCapacity(int expectedSize) {
+      if (newTableLength(expectedSize) > keys.length) {
+        rehash(Math.max(expectedSize, 2 * size));
+      }
+    }
+
+    private void rehash(int expectedSize) {
+      Object[] oldKeys = keys;
+      int[] oldValues = values;
+      keys = new Object[newTableLength(expectedSize)];
+      values = new int[keys.length];
+      for (int i = 0; i < oldKeys.length; i++) {
+        if (oldKeys[i] != null) {
+          int idx = -probe(keys, oldKeys[i]) - 1;
+          keys[idx] = oldKeys[i];
+          values[idx] = oldValues[i];
+        }
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    public UnmodifiableObjectIntMap<K> build() {
+      return size == 0
+              ? (UnmodifiableObjectIntMap<K>) EMPTY
+              : new ImmutableObjectIntMap<>(keys, values, size);
+    }
+  }
+  //endregion
+}
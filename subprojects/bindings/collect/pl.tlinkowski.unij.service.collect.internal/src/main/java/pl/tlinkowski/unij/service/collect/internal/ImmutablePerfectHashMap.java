@@ -0,0 +1,354 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.internal;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+/**
+ * Immutable {@link Map} holding its non-{@code null} keys and values in two parallel arrays indexed by a minimal
+ * perfect hash function of its keys (computed using the "hash, displace, and compress" scheme of Belazzougui et al.).
+ * <p>
+ * Like {@link ImmutableMapN}, but looks its keys up using a single seed lookup, a single slot and a single {@code
+ * equals} call (no probing), at the expense of a much slower construction.
+ * <p>
+ * Never empty (the factories return their own empty maps instead).
+ *
+ * @author Tomasz Linkowski
+ */
+public final class ImmutablePerfectHashMap<K, V> extends AbstractImmutableMap<K, V> implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Average number of keys per bucket (the smaller, the faster the construction and the larger the {@link #seeds}).
+   */
+  private static final int BUCKET_SIZE = 2;
+  /**
+   * Number of seeds tried for a single bucket before giving up.
+   */
+  private static final int MAX_SEED = 1 << 16;
+
+  private final Object[] keys;
+  private final Object[] values;
+  private final int[] seeds; // -i - 1 marks a bucket whose only key is at index i
+  private transient int cachedHashCode; // 0 means not computed yet (like in String)
+
+  private ImmutablePerfectHashMap(Object[] ownedKeys, Object[] ownedValues, int[] ownedSeeds) {
+    this.keys = ownedKeys;
+    this.values = ownedValues;
+    this.seeds = ownedSeeds;
+  }
+
+  /**
+   * Returns a copy of the given map, or {@code null} if no perfect hash function could be found for its keys (e.g.
+   * because some of them have equal hash codes).
+   *
+   * @param map map with at least two entries
+   */
+  @NullOr
+  public static <K, V> ImmutablePerfectHashMap<K, V> tryCopyOf(Map<? extends K, ? extends V> map) {
+    int size = map.size();
+    Object[] mapKeys = new Object[size];
+    Object[] mapValues = new Object[size];
+    int[] hashes = new int[size];
+    int i = 0;
+    for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+      mapKeys[i] = Objects.requireNonNull(entry.getKey(), "key");
+      mapValues[i] = Objects.requireNonNull(entry.getValue(), "value");
+      hashes[i] = mapKeys[i].hashCode();
+      i++;
+    }
+    int[] seeds = new int[(size + BUCKET_SIZE - 1) / BUCKET_SIZE];
+    int[] slots = place(hashes, seeds);
+    if (slots == null) {
+      return null;
+    }
+    Object[] keys = new Object[size];
+    Object[] values = new Object[size];
+    for (i = 0; i < size; i++) {
+      keys[slots[i]] = mapKeys[i];
+      values[slots[i]] = mapValues[i];
+    }
+    return new ImmutablePerfectHashMap<>(keys, values, seeds);
+  }
+
+  //region HASHING
+
+  /**
+   * Fills {@code seeds} so that every hash is assigned a distinct slot, and returns those slots (or {@code null} if
+   * it's impossible). The buckets are placed from the largest to the smallest, and the single-key buckets simply take
+   * the remaining free slots.
+   */
+  @NullOr
+  private static int[] place(int[] hashes, int[] seeds) {
+    int size = hashes.length;
+    int bucketCount = seeds.length;
+
+    // group the hashes by their buckets (counting sort)
+    int[] starts = new int[bucketCount + 1];
+    for (int hash : hashes) {
+      starts[bucket(hash, bucketCount) + 1]++;
+    }
+    for (int b = 0; b < bucketCount; b++) {
+      starts[b + 1] += starts[b];
+    }
+    int[] members = new int[size];
+    int[] filled = Arrays.copyOf(starts, bucketCount);
+    for (int i = 0; i < size; i++) {
+      members[filled[bucket(hashes[i], bucketCount)]++] = i;
+    }
+    Integer[] order = new Integer[bucketCount];
+    Arrays.setAll(order, b -> b);
+    Arrays.sort(order, (b1, b2) -> (starts[b2 + 1] - starts[b2]) - (starts[b1 + 1] - starts[b1]));
+
+    int[] slots = new int[size];
+    boolean[] taken = new boolean[size];
+    int freeSlot = 0;
+    for (int b : order) {
+      int from = starts[b];
+      int to = starts[b + 1];
+      if (to - from == 1) {
+        while (taken[freeSlot]) {
+          freeSlot++;
+        }
+        taken[freeSlot] = true;
+        slots[members[from]] = freeSlot;
+        seeds[b] = -freeSlot - 1;
+      } else if (to - from > 1) {
+        int seed = findSeed(hashes, members, from, to, taken);
+        if (seed < 0) {
+          return null;
+        }
+        for (int m = from; m < to; m++) {
+          int slot = index(hashes[members[m]], seed, size);
+          taken[slot] = true;
+          slots[members[m]] = slot;
+        }
+        seeds[b] = seed;
+      }
+    }
+    return slots;
+  }
+
+  /**
+   * Returns the first seed that assigns distinct free slots to the given members of a bucket, or {@code -1}.
+   */
+  private static int findSeed(int[] hashes, int[] members, int from, int to, boolean[] taken) {
+    for (int i = from; i < to; i++) {
+      for (int j = from; j < i; j++) {
+        if (hashes[members[i]] == hashes[members[j]]) {
+          return -1; // no seed can tell them apart
+        }
+      }
+    }
+    int[] bucketSlots = new int[to - from];
+    seeds:
+    for (int seed = 0; seed < MAX_SEED; seed++) {
+      for (int m = from; m < to; m++) {
+        int slot = index(hashes[members[m]], seed, taken.length);
+        if (taken[slot]) {
+          continue seeds;
+        }
+        for (int k = 0; k < m - from; k++) {
+          if (bucketSlots[k] == slot) {
+            continue seeds;
+          }
+        }
+        bucketSlots[m - from] = slot;
+      }
+      return seed;
+    }
+    return -1;
+  }
+
+  /**
+   * Mixes {@code hash} before reducing it, because {@link #reduce} uses its high bits (which are all zero for small
+   * hash codes, e.g. the ones of {@link Integer}s or of short {@link String}s).
+   */
+  private static int bucket(int hash, int bucketCount) {
+    return reduce(mix(hash), bucketCount);
+  }
+
+  private static int index(int hash, int seed, int size) {
+    return reduce(mix(hash + seed * 0x9E3779B9), size);
+  }
+
+  /**
+   * Finalizer of MurmurHash3.
+   */
+  private static int mix(int hash) {
+    int h = hash;
+    h ^= h >>> 16;
+    h *= 0x85EBCA6B;
+    h ^= h >>> 13;
+    h *= 0xC2B2AE35;
+    h ^= h >>> 16;
+    return h;
+  }
+
+  /**
+   * Maps {@code hash} to {@code [0, range)} using a multiplication and a shift instead of a (much slower) division.
+   */
+  private static int reduce(int hash, int range) {
+    return (int) (((hash & 0xFFFFFFFFL) * range) >>> 32);
+  }
+
+  private int indexOf(@NullOr Object key) {
+    if (key == null) {
+      return -1;
+    }
+    int hash = key.hashCode();
+    int seed = seeds[bucket(hash, seeds.length)];
+    int idx = seed < 0 ? -seed - 1 : index(hash, seed, keys.length);
+    return key.equals(keys[idx]) ? idx : -1;
+  }
+  //endregion
+
+  //region QUERIES
+  @Override
+  public int size() {
+    return keys.length;
+  }
+
+  @SuppressWarnings("unchecked")
+  @NullOr
+  @Override
+  public V get(@NullOr Object key) {
+    int idx = indexOf(key);
+    return idx >= 0 ? (V) values[idx] : null;
+  }
+
+  @Override
+  public boolean containsKey(@NullOr Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public boolean containsValue(@NullOr Object value) {
+    if (value != null) {
+      for (Object existing : values) {
+        if (value.equals(existing)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public void forEach(BiConsumer<? super K, ? super V> action) {
+    for (int i = 0; i < keys.length; i++) {
+      action.accept((K) keys[i], (V) values[i]);
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = cachedHashCode;
+    if (hash == 0) {
+      hash = computeHashCode();
+      cachedHashCode = hash;
+    }
+    return hash;
+  }
+
+  private int computeHashCode() {
+    int hash = 0;
+    for (int i = 0; i < keys.length; i++) {
+      hash += keys[i].hashCode() ^ values[i].hashCode();
+    }
+    return hash;
+  }
+  //endregion
+
+  //region VIEWS
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return new AbstractImmutableSet<Entry<K, V>>() {
+      @Override
+      public int size() {
+        return keys.length;
+      }
+
+      @Override
+      public Iterator<Entry<K, V>> iterator() {
+        return new EntryItr();
+      }
+    };
+  }
+
+  /**
+   * Iterates the {@code keys} array directly (no entries created).
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  protected Iterator<K> keyIterator() {
+    return (Iterator<K>) Arrays.asList(keys).iterator();
+  }
+
+  /**
+   * Iterates the {@code values} array directly (no entries created).
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  protected Iterator<V> valueIterator() {
+    return (Iterator<V>) Arrays.asList(values).iterator();
+  }
+
+  /**
+   * Read-only iterator creating entries on demand.
+   */
+  private final class EntryItr implements Iterator<Entry<K, V>> {
+
+    private int idx;
+
+    @Override
+    public boolean hasNext() {
+      return idx < keys.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Entry<K, V> next() {
+      if (idx == keys.length) {
+        throw new NoSuchElementException();
+      }
+      Entry<K, V> entry = new SimpleImmutableEntry<>((K) keys[idx], (V) values[idx]);
+      idx++;
+      return entry;
+    }
+  }
+  //endregion
+
+  //region SERIALIZATION
+  private Object writeReplace() {
+    return new CollSer(CollSer.STATIC_MAP, CollSer.interleave(this));
+  }
+
+  private void readObject(ObjectInputStream in) throws InvalidObjectException {
+    throw new InvalidObjectException("CollSer required");
+  }
+  //endregion
+}
@@ -0,0 +1,217 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.internal;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.Consumer;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+/**
+ * Immutable {@link java.util.Set} holding its non-{@code null} elements in a flat, linear-probing hash table.
+ * <p>
+ * Based on {@code java.util.ImmutableCollections.SetN}.
+ *
+ * @author Tomasz Linkowski
+ */
+public final class ImmutableSetN<E> extends AbstractImmutableSet<E> implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Hash table length per element (the same as in {@code java.util.ImmutableCollections}).
+   */
+  private static final int EXPAND_FACTOR = 2;
+
+  private static final ImmutableSetN<Object> EMPTY = new ImmutableSetN<>(new Object[0], 0);
+
+  private final Object[] table; // elements interspersed with null slots
+  private final int size;
+  private transient int cachedHashCode; // 0 means not computed yet (like in String)
+
+  private ImmutableSetN(Object[] ownedTable, int size) {
+    this.table = ownedTable;
+    this.size = size;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <E> Set<E> empty() {
+    return (Set<E>) EMPTY;
+  }
+
+  /**
+   * @param ownedTable hash table that is handed over to the returned set and was filled using {@link #probe}
+   */
+  public static <E> Set<E> ofOwnedTable(Object[] ownedTable, int size) {
+    return new ImmutableSetN<>(ownedTable, size);
+  }
+
+  /**
+   * Returns a set of the non-{@code null} {@code elements} (which are only read from), throwing {@link
+   * IllegalArgumentException} on duplicate elements.
+   * <p>
+   * Like the JDK 8 binding, returns a {@link Collections#singleton} for a single element.
+   */
+  static <E> Set<E> copyOf(E[] elements) {
+    switch (elements.length) {
+      case 0:
+        return empty();
+      case 1:
+        return Collections.singleton(Objects.requireNonNull(elements[0]));
+      default:
+        Object[] table = newTable(elements.length);
+        for (E element : elements) {
+          int idx = probe(table, Objects.requireNonNull(element));
+          if (idx >= 0) {
+            throw new IllegalArgumentException("Duplicate element: " + element);
+          }
+          table[-idx - 1] = element;
+        }
+        return new ImmutableSetN<>(table, elements.length);
+    }
+  }
+
+  public static Object[] newTable(int expectedSize) {
+    return new Object[newTableLength(expectedSize)];
+  }
+
+  public static int newTableLength(int expectedSize) {
+    return EXPAND_FACTOR * expectedSize;
+  }
+
+  /**
+   * Returns the index of {@code element} if it's present in the {@code table}, or {@code -i - 1} where {@code i} is the
+   * index of the free slot where {@code element} should be inserted.
+   */
+  public static int probe(Object[] table, Object element) {
+    int idx = Math.floorMod(element.hashCode(), table.length);
+    while (true) {
+      Object existing = table[idx];
+      if (existing == null) {
+        return -idx - 1;
+      } else if (element.equals(existing)) {
+        return idx;
+      } else if (++idx == table.length) {
+        idx = 0;
+      }
+    }
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public boolean contains(@NullOr Object o) {
+    return o != null && size > 0 && probe(table, o) >= 0;
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new Itr();
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    for (Object element : table) {
+      if (element != null) {
+        action.accept((E) element);
+      }
+    }
+  }
+
+  @Override
+  public Object[] toArray() {
+    Object[] array = new Object[size];
+    int i = 0;
+    for (Object element : table) {
+      if (element != null) {
+        array[i++] = element;
+      }
+    }
+    return array;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = cachedHashCode;
+    if (hash == 0) {
+      hash = computeHashCode();
+      cachedHashCode = hash;
+    }
+    return hash;
+  }
+
+  private int computeHashCode() {
+    int hash = 0;
+    for (Object element : table) {
+      if (element != null) {
+        hash += element.hashCode();
+      }
+    }
+    return hash;
+  }
+
+  /**
+   * Read-only iterator over the non-{@code null} slots of the hash table.
+   */
+  private final class Itr implements Iterator<E> {
+
+    private int remaining = size;
+    private int idx;
+
+    @Override
+    public boolean hasNext() {
+      return remaining > 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E next() {
+      if (remaining == 0) {
+        throw new NoSuchElementException();
+      }
+      Object element;
+      do {
+        element = table[idx++];
+      } while (element == null);
+      remaining--;
+      return (E) element;
+    }
+  }
+
+  //region SERIALIZATION
+  private Object writeReplace() {
+    return new CollSer(CollSer.SET, toArray());
+  }
+
+  private void readObject(ObjectInputStream in) throws InvalidObjectException {
+    throw new InvalidObjectException("CollSer required");
+  }
+  //endregion
+}
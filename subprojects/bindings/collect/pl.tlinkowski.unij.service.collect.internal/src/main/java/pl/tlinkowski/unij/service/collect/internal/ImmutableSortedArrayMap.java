@@ -0,0 +1,301 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.internal;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+/**
+ * Immutable {@link SortedMap} holding its non-{@code null} keys and values in two parallel arrays sorted by key.
+ * <p>
+ * Looks its keys up using binary search (see {@link ImmutableSortedArraySet}), and creates its {@link #subMap},
+ * {@link #headMap}, {@link #tailMap} and {@link #keySet} views without copying any entries.
+ *
+ * @author Tomasz Linkowski
+ */
+public final class ImmutableSortedArrayMap<K, V> extends AbstractImmutableMap<K, V>
+        implements SortedMap<K, V>, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final Object[] EMPTY_ARRAY = {};
+
+  private final Comparator<? super K> comparator;
+  private final Object[] keys; // sorted and distinct; shared with the views of this map
+  private final Object[] values;
+  private final int from;
+  private final int to;
+
+  /**
+   * @param ownedKeys array of keys that is owned by this map and was sorted (without duplicates) using the given
+   * {@code comparator}
+   * @param ownedValues array of the corresponding values that is owned by this map
+   */
+  private ImmutableSortedArrayMap(Comparator<? super K> comparator, Object[] ownedKeys, Object[] ownedValues) {
+    this(comparator, ownedKeys, ownedValues, 0, ownedKeys.length);
+  }
+
+  private ImmutableSortedArrayMap(Comparator<? super K> comparator, Object[] sharedKeys, Object[] sharedValues,
+          int from, int to) {
+    this.comparator = comparator;
+    this.keys = sharedKeys;
+    this.values = sharedValues;
+    this.from = from;
+    this.to = to;
+  }
+
+  public static <K, V> SortedMap<K, V> empty(Comparator<? super K> comparator) {
+    return new ImmutableSortedArrayMap<>(Objects.requireNonNull(comparator, "comparator"), EMPTY_ARRAY, EMPTY_ARRAY);
+  }
+
+  /**
+   * Sorts the given (null-checked) {@code ownedEntries} (which are owned by this method), and throws {@link
+   * IllegalArgumentException} on duplicate keys.
+   */
+  public static <K, V> SortedMap<K, V> ofOwnedUnsorted(Comparator<? super K> comparator,
+          List<Map.Entry<K, V>> ownedEntries) {
+    Objects.requireNonNull(comparator, "comparator");
+    ownedEntries.sort(Map.Entry.comparingByKey(comparator));
+    Object[] keys = new Object[ownedEntries.size()];
+    Object[] values = new Object[keys.length];
+    for (int i = 0; i < keys.length; i++) {
+      Map.Entry<K, V> entry = ownedEntries.get(i);
+      if (i > 0 && comparator.compare(ownedEntries.get(i - 1).getKey(), entry.getKey()) == 0) {
+        throw new IllegalArgumentException(String.format(
+                "Duplicate key: %s (attempted merging values %s and %s)",
+                entry.getKey(), ownedEntries.get(i - 1).getValue(), entry.getValue()
+        ));
+      }
+      keys[i] = entry.getKey();
+      values[i] = entry.getValue();
+    }
+    return new ImmutableSortedArrayMap<>(comparator, keys, values);
+  }
+
+  /**
+   * Copies the entries of the given {@code map} without sorting them again.
+   */
+  public static <K, V> SortedMap<K, V> copyOfSorted(SortedMap<K, ? extends V> map) {
+    Object[] keys = new Object[map.size()];
+    Object[] values = new Object[keys.length];
+    int i = 0;
+    for (Map.Entry<K, ? extends V> entry : map.entrySet()) {
+      keys[i] = Objects.requireNonNull(entry.getKey(), "key");
+      values[i] = Objects.requireNonNull(entry.getValue(), "value");
+      i++;
+    }
+    return new ImmutableSortedArrayMap<>(ImmutableSortedArraySet.nonNullComparator(map.comparator()), keys, values);
+  }
+
+  //region QUERIES
+  @Override
+  public int size() {
+    return to - from;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return from == to;
+  }
+
+  @SuppressWarnings("unchecked")
+  @NullOr
+  @Override
+  public V get(@NullOr Object key) {
+    int idx = indexOf(key);
+    return idx >= 0 ? (V) values[idx] : null;
+  }
+
+  @Override
+  public boolean containsKey(@NullOr Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public boolean containsValue(@NullOr Object value) {
+    if (value != null) {
+      for (int i = from; i < to; i++) {
+        if (value.equals(values[i])) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private int indexOf(@NullOr Object key) {
+    return ImmutableSortedArraySet.indexOf(keys, from, to, key, comparator);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public void forEach(BiConsumer<? super K, ? super V> action) {
+    for (int i = from; i < to; i++) {
+      action.accept((K) keys[i], (V) values[i]);
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = 0;
+    for (int i = from; i < to; i++) {
+      hash += keys[i].hashCode() ^ values[i].hashCode();
+    }
+    return hash;
+  }
+  //endregion
+
+  //region SORTED MAP
+  @Override
+  public Comparator<? super K> comparator() {
+    return comparator;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public K firstKey() {
+    if (isEmpty()) {
+      throw new NoSuchElementException();
+    }
+    return (K) keys[from];
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public K lastKey() {
+    if (isEmpty()) {
+      throw new NoSuchElementException();
+    }
+    return (K) keys[to - 1];
+  }
+
+  @Override
+  public SortedMap<K, V> subMap(K fromKey, K toKey) {
+    if (comparator.compare(fromKey, toKey) > 0) {
+      throw new IllegalArgumentException("fromKey > toKey");
+    }
+    return range(lowerBound(fromKey), lowerBound(toKey));
+  }
+
+  @Override
+  public SortedMap<K, V> headMap(K toKey) {
+    return range(from, lowerBound(toKey));
+  }
+
+  @Override
+  public SortedMap<K, V> tailMap(K fromKey) {
+    return range(lowerBound(fromKey), to);
+  }
+
+  private int lowerBound(K key) {
+    return ImmutableSortedArraySet.lowerBound(keys, from, to, key, comparator);
+  }
+
+  private SortedMap<K, V> range(int newFrom, int newTo) {
+    return newFrom == from && newTo == to
+            ? this
+            : new ImmutableSortedArrayMap<>(comparator, keys, values, newFrom, newTo);
+  }
+  //endregion
+
+  //region VIEWS
+  @Override
+  public Set<K> keySet() {
+    return new ImmutableSortedArraySet<>(comparator, keys, from, to);
+  }
+
+  @Override
+  public Collection<V> values() {
+    return new AbstractImmutableList<V>() {
+      @SuppressWarnings("unchecked")
+      @Override
+      public V get(int index) {
+        if (index < 0 || index >= size()) {
+          throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return (V) values[from + index];
+      }
+
+      @Override
+      public int size() {
+        return to - from;
+      }
+    };
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return new AbstractImmutableSet<Entry<K, V>>() {
+      @Override
+      public int size() {
+        return to - from;
+      }
+
+      @Override
+      public Iterator<Entry<K, V>> iterator() {
+        return new EntryItr();
+      }
+    };
+  }
+
+  /**
+   * Read-only iterator creating entries for the range of the arrays on demand.
+   */
+  private final class EntryItr implements Iterator<Entry<K, V>> {
+
+    private int idx = from;
+
+    @Override
+    public boolean hasNext() {
+      return idx < to;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Entry<K, V> next() {
+      if (idx >= to) {
+        throw new NoSuchElementException();
+      }
+      Entry<K, V> entry = new SimpleImmutableEntry<>((K) keys[idx], (V) values[idx]);
+      idx++;
+      return entry;
+    }
+  }
+  //endregion
+
+  //region SERIALIZATION
+  private Object writeReplace() {
+    Object[] array = new Object[1 + 2 * (to - from)];
+    array[0] = comparator;
+    for (int i = from, j = 1; i < to; i++) {
+      array[j++] = keys[i];
+      array[j++] = values[i];
+    }
+    return new CollSer(CollSer.SORTED_MAP, array);
+  }
+
+  private void readObject(ObjectInputStream in) throws InvalidObjectException {
+    throw new InvalidObjectException("CollSer required");
+  }
+  //endregion
+}
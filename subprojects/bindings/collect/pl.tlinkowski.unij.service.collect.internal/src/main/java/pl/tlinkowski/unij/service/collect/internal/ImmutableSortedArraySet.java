@@ -0,0 +1,263 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.internal;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.Consumer;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+/**
+ * Immutable {@link SortedSet} holding its non-{@code null} elements in a sorted array.
+ * <p>
+ * The JDK has no immutable sorted sets, so this set keeps its elements sorted in a flat array instead of a
+ * {@link TreeSet}, and looks them up using binary search. Its {@link #subSet}, {@link #headSet} and {@link #tailSet}
+ * views share this array (they only narrow the range of its indices), so they are created without copying any elements.
+ *
+ * @author Tomasz Linkowski
+ */
+public final class ImmutableSortedArraySet<E> extends AbstractImmutableSet<E> implements SortedSet<E>, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final Comparator<? super E> comparator;
+  private final Object[] elements; // sorted and distinct; shared with the views of this set
+  private final int from;
+  private final int to;
+
+  /**
+   * @param ownedElements array of elements that is owned by this set and was sorted (without duplicates) using the
+   * given {@code comparator}
+   */
+  private ImmutableSortedArraySet(Comparator<? super E> comparator, Object[] ownedElements) {
+    this(comparator, ownedElements, 0, ownedElements.length);
+  }
+
+  ImmutableSortedArraySet(Comparator<? super E> comparator, Object[] sharedElements, int from, int to) {
+    this.comparator = comparator;
+    this.elements = sharedElements;
+    this.from = from;
+    this.to = to;
+  }
+
+  /**
+   * Sorts the given {@code ownedElements} (which are owned by the returned set), and removes the duplicates from them
+   * (or throws {@link IllegalArgumentException} on them if {@code rejectDuplicates} is {@code true}).
+   */
+  @SuppressWarnings("unchecked")
+  public static <E> SortedSet<E> ofOwnedUnsorted(Comparator<? super E> comparator, Object[] ownedElements,
+          boolean rejectDuplicates) {
+    Objects.requireNonNull(comparator, "comparator");
+    for (Object element : ownedElements) {
+      Objects.requireNonNull(element);
+    }
+    Arrays.sort((E[]) ownedElements, comparator);
+    int size = 0;
+    for (Object element : ownedElements) {
+      if (size > 0 && comparator.compare((E) ownedElements[size - 1], (E) element) == 0) {
+        if (rejectDuplicates) {
+          throw new IllegalArgumentException("Duplicate element: " + element);
+        }
+      } else {
+        ownedElements[size++] = element;
+      }
+    }
+    return new ImmutableSortedArraySet<>(
+            comparator, size == ownedElements.length ? ownedElements : Arrays.copyOf(ownedElements, size)
+    );
+  }
+
+  /**
+   * Copies the elements of the given {@code set} without sorting them again.
+   */
+  public static <E> SortedSet<E> copyOfSorted(SortedSet<E> set) {
+    Object[] elements = set.toArray();
+    for (Object element : elements) {
+      Objects.requireNonNull(element);
+    }
+    return new ImmutableSortedArraySet<>(nonNullComparator(set.comparator()), elements);
+  }
+
+  /**
+   * Returns the given {@code comparator}, or the natural ordering if it's {@code null} (like in {@link TreeSet}).
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  static <E> Comparator<? super E> nonNullComparator(@NullOr Comparator<? super E> comparator) {
+    return comparator != null ? comparator : (Comparator) Comparator.naturalOrder();
+  }
+
+  /**
+   * Returns the index of {@code key} within the given range of the sorted {@code array} (as {@link
+   * Arrays#binarySearch(Object[], int, int, Object, Comparator)} does), or a negative number if {@code key} is absent
+   * (including the case when {@code key} is {@code null} or cannot be compared).
+   */
+  @SuppressWarnings("unchecked")
+  static <E> int indexOf(Object[] array, int from, int to, @NullOr Object key, Comparator<? super E> comparator) {
+    if (key == null || from == to) {
+      return -1;
+    }
+    try {
+      return Arrays.binarySearch((E[]) array, from, to, (E) key, comparator);
+    } catch (ClassCastException ex) {
+      return -1;
+    }
+  }
+
+  /**
+   * Returns the index of the least element of the given range of the sorted {@code array} that is greater than or
+   * equal to {@code key} (or {@code to} if there's no such element).
+   */
+  @SuppressWarnings("unchecked")
+  static <E> int lowerBound(Object[] array, int from, int to, E key, Comparator<? super E> comparator) {
+    int idx = Arrays.binarySearch((E[]) array, from, to, Objects.requireNonNull(key), comparator);
+    return idx >= 0 ? idx : -idx - 1;
+  }
+
+  //region QUERIES
+  @Override
+  public int size() {
+    return to - from;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return from == to;
+  }
+
+  @Override
+  public boolean contains(@NullOr Object o) {
+    return indexOf(elements, from, to, o, comparator) >= 0;
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new Itr();
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    for (int i = from; i < to; i++) {
+      action.accept((E) elements[i]);
+    }
+  }
+
+  @Override
+  public Object[] toArray() {
+    return Arrays.copyOfRange(elements, from, to);
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = 0;
+    for (int i = from; i < to; i++) {
+      hash += elements[i].hashCode();
+    }
+    return hash;
+  }
+  //endregion
+
+  //region SORTED SET
+  @Override
+  public Comparator<? super E> comparator() {
+    return comparator;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public E first() {
+    if (isEmpty()) {
+      throw new NoSuchElementException();
+    }
+    return (E) elements[from];
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public E last() {
+    if (isEmpty()) {
+      throw new NoSuchElementException();
+    }
+    return (E) elements[to - 1];
+  }
+
+  @Override
+  public SortedSet<E> subSet(E fromElement, E toElement) {
+    if (comparator.compare(fromElement, toElement) > 0) {
+      throw new IllegalArgumentException("fromElement > toElement");
+    }
+    return range(lowerBound(fromElement), lowerBound(toElement));
+  }
+
+  @Override
+  public SortedSet<E> headSet(E toElement) {
+    return range(from, lowerBound(toElement));
+  }
+
+  @Override
+  public SortedSet<E> tailSet(E fromElement) {
+    return range(lowerBound(fromElement), to);
+  }
+
+  private int lowerBound(E key) {
+    return lowerBound(elements, from, to, key, comparator);
+  }
+
+  private SortedSet<E> range(int newFrom, int newTo) {
+    return newFrom == from && newTo == to ? this : new ImmutableSortedArraySet<>(comparator, elements, newFrom, newTo);
+  }
+  //endregion
+
+  /**
+   * Read-only iterator over the range of the array.
+   */
+  private final class Itr implements Iterator<E> {
+
+    private int idx = from;
+
+    @Override
+    public boolean hasNext() {
+      return idx < to;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E next() {
+      if (idx >= to) {
+        throw new NoSuchElementException();
+      }
+      return (E) elements[idx++];
+    }
+  }
+
+  //region SERIALIZATION
+  private Object writeReplace() {
+    Object[] array = new Object[1 + to - from];
+    array[0] = comparator;
+    System.arraycopy(elements, from, array, 1, to - from);
+    return new CollSer(CollSer.SORTED_SET, array);
+  }
+
+  private void readObject(ObjectInputStream in) throws InvalidObjectException {
+    throw new InvalidObjectException("CollSer required");
+  }
+  //endregion
+}
@@ -0,0 +1,336 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.internal
+
+import spock.lang.Specification
+
+import java.time.DayOfWeek
+import java.util.function.UnaryOperator
+
+/**
+ * Checks that the mutators of the shared immutable collections throw {@link UnsupportedOperationException} even if
+ * they would not modify the collection (unlike the ones inherited from {@link AbstractList}).
+ *
+ * @author Tomasz Linkowski
+ */
+class ImmutableCollectionsSpec extends Specification {
+
+  //region PRIMITIVE LISTS
+  def "no-op mutators of primitive lists throw UOE"(List<?> list, Closure<?> mutator) {
+    when:
+      mutator(list)
+    then:
+      thrown(UnsupportedOperationException)
+    where:
+      [list, mutator] << [primitiveLists(), noOpListMutators()].combinations()
+  }
+
+  def "primitive lists with equal elements are equal"() {
+    expect:
+      ImmutableIntArrayList.ofOwned([1, 2] as int[]) == [1, 2]
+      ImmutableLongArrayList.ofOwned([1L, 2L] as long[]) == [1L, 2L]
+      ImmutableDoubleArrayList.ofOwned([1d, 2d] as double[]) == [1d, 2d]
+  }
+
+  def "empty primitive lists have only one instance"() {
+    expect:
+      ImmutableIntArrayList.ofOwned(new int[0]).is(ImmutableIntArrayList.ofOwned(new int[0]))
+      ImmutableLongArrayList.ofOwned(new long[0]).is(ImmutableLongArrayList.ofOwned(new long[0]))
+      ImmutableDoubleArrayList.ofOwned(new double[0]).is(ImmutableDoubleArrayList.ofOwned(new double[0]))
+  }
+
+  private static List<List<?>> primitiveLists() {
+    [
+            ImmutableIntArrayList.ofOwned([1, 2, 3] as int[]),
+            ImmutableLongArrayList.ofOwned([1L, 2L, 3L] as long[]),
+            ImmutableDoubleArrayList.ofOwned([1d, 2d, 3d] as double[]),
+            ImmutableIntArrayList.ofOwned(new int[0])
+    ]
+  }
+  //endregion
+
+  //region PRIMITIVE MAPS
+  def "no-op mutators of primitive maps throw UOE"(Map<?, ?> map, Closure<?> mutator) {
+    when:
+      mutator(map)
+    then:
+      thrown(UnsupportedOperationException)
+    where:
+      [map, mutator] << [primitiveMaps(), noOpMapMutators()].combinations()
+  }
+
+  def "no-op mutators of primitive map views throw UOE"(Collection<?> view, Closure<?> mutator) {
+    when:
+      mutator(view)
+    then:
+      thrown(UnsupportedOperationException)
+    where:
+      [view, mutator] << [primitiveMaps().collectMany { [it.keySet(), it.values(), it.entrySet()] },
+                          noOpCollectionMutators()].combinations()
+  }
+
+  private static List<Map<?, ?>> primitiveMaps() {
+    [
+            new ImmutableLongObjectMap.Builder<String>().put(1L, "a").put(2L, "b").build(),
+            new ImmutableObjectIntMap.Builder<String>().put("a", 1).put("b", 2).build(),
+            ImmutableLongObjectMap.empty()
+    ]
+  }
+  //endregion
+
+  //region SORTED COLLECTIONS
+  def "no-op mutators of sorted sets and their views throw UOE"(Set<?> set, Closure<?> mutator) {
+    when:
+      mutator(set)
+    then:
+      thrown(UnsupportedOperationException)
+    where:
+      [set, mutator] << [sortedSetViews(), noOpCollectionMutators()].combinations()
+  }
+
+  def "no-op mutators of sorted maps and their views throw UOE"(Map<?, ?> map, Closure<?> mutator) {
+    when:
+      mutator(map)
+    then:
+      thrown(UnsupportedOperationException)
+    where:
+      [map, mutator] << [sortedMapViews(), noOpMapMutators()].combinations()
+  }
+
+  def "no-op mutators of views of sorted maps throw UOE"(Collection<?> view, Closure<?> mutator) {
+    when:
+      mutator(view)
+    then:
+      thrown(UnsupportedOperationException)
+    where:
+      [view, mutator] << [sortedMapViews().collectMany { [it.keySet(), it.values(), it.entrySet()] },
+                          noOpCollectionMutators()].combinations()
+  }
+
+  private static List<SortedSet<String>> sortedSetViews() {
+    SortedSet<String> set = ImmutableSortedArraySet.ofOwnedUnsorted(
+            Comparator.naturalOrder(), ["c", "a", "b"] as Object[], true
+    )
+    [set, set.headSet("b"), set.subSet("a", "c"), set.tailSet("z")]
+  }
+
+  private static List<SortedMap<String, Integer>> sortedMapViews() {
+    SortedMap<String, Integer> map = ImmutableSortedArrayMap.ofOwnedUnsorted(
+            Comparator.naturalOrder(), [entry("c", 3), entry("a", 1), entry("b", 2)]
+    )
+    [map, map.headMap("b"), map.subMap("a", "c"), map.tailMap("z")]
+  }
+
+  private static Map.Entry<String, Integer> entry(String key, Integer value) {
+    new AbstractMap.SimpleImmutableEntry<>(key, value)
+  }
+  //endregion
+
+  //region ENUM COLLECTIONS
+  def "no-op mutators of enum sets throw UOE"(Closure<?> mutator) {
+    when:
+      mutator(ImmutableEnumSet.of(DayOfWeek.MONDAY, [DayOfWeek.FRIDAY] as DayOfWeek[]))
+    then:
+      thrown(UnsupportedOperationException)
+    where:
+      mutator << noOpCollectionMutators()
+  }
+
+  def "no-op mutators of enum maps throw UOE"(Closure<?> mutator) {
+    when:
+      mutator(ImmutableEnumMap.copyOf(new EnumMap<>([(DayOfWeek.MONDAY): "a"])))
+    then:
+      thrown(UnsupportedOperationException)
+    where:
+      mutator << noOpMapMutators()
+  }
+
+  def "no-op mutators of views of enum maps throw UOE"(Collection<?> view, Closure<?> mutator) {
+    when:
+      mutator(view)
+    then:
+      thrown(UnsupportedOperationException)
+    where:
+      [view, mutator] << [enumMapViews(), noOpCollectionMutators()].combinations()
+  }
+
+  private static List<Collection<?>> enumMapViews() {
+    def map = ImmutableEnumMap.copyOf(new EnumMap<>([(DayOfWeek.MONDAY): "a"]))
+    [map.keySet(), map.values(), map.entrySet()]
+  }
+  //endregion
+
+  //region LISTS AND HASH SETS
+  def "no-op mutators of lists throw UOE"(List<?> list, Closure<?> mutator) {
+    when:
+      mutator(list)
+    then:
+      thrown(UnsupportedOperationException)
+    where:
+      [list, mutator] << [[ImmutableList12.of(1), ImmutableListN.copyOf([1, 2, 3] as Integer[])],
+                          noOpListMutators()].combinations()
+  }
+
+  def "lists are created with the smallest representation"() {
+    expect:
+      ImmutableListN.ofOwned(new Object[0]).is(ImmutableListN.empty())
+      ImmutableListN.ofOwned(["a", "b"] as String[]) instanceof ImmutableList12
+      ImmutableListN.ofOwned(["a", "b", "c"] as String[]) instanceof ImmutableListN
+  }
+
+  def "no-op mutators of hash sets throw UOE"(Closure<?> mutator) {
+    when:
+      mutator(ImmutableSetN.copyOf(["a", "b"] as String[]))
+    then:
+      thrown(UnsupportedOperationException)
+    where:
+      mutator << noOpCollectionMutators()
+  }
+
+  def "hash sets with equal elements are equal"() {
+    given:
+      def set = ImmutableSetN.copyOf(["a", "b", "c"] as String[])
+    expect:
+      set == ["c", "b", "a"] as Set
+      set.hashCode() == (["a", "b", "c"] as Set).hashCode()
+  }
+
+  def "copying duplicate elements into a hash set throws IAE"() {
+    when:
+      ImmutableSetN.copyOf(["a", "b", "a"] as String[])
+    then:
+      thrown(IllegalArgumentException)
+  }
+  //endregion
+
+  //region HASH MAPS
+  def "no-op mutators of hash maps throw UOE"(Map<?, ?> map, Closure<?> mutator) {
+    when:
+      mutator(map)
+    then:
+      thrown(UnsupportedOperationException)
+    where:
+      [map, mutator] << [hashMaps(), noOpMapMutators()].combinations()
+  }
+
+  def "hash maps with equal entries are equal"(Map<?, ?> map) {
+    expect:
+      map == [a: 1, b: 2]
+      map.hashCode() == [a: 1, b: 2].hashCode()
+    where:
+      map << hashMaps()
+  }
+
+  def "no-op mutators of hash map views throw UOE"(Collection<?> view, Closure<?> mutator) {
+    when:
+      mutator(view)
+    then:
+      thrown(UnsupportedOperationException)
+    where:
+      [view, mutator] << [hashMaps().collectMany { [it.keySet(), it.values(), it.entrySet()] },
+                          noOpCollectionMutators()].combinations()
+  }
+
+  def "key and value views iterate in the order of the entry set"(Map<?, ?> map) {
+    expect:
+      map.keySet().toList() == map.entrySet()*.key
+      map.values().toList() == map.entrySet()*.value
+      map.keySet().size() == map.size()
+      map.values().size() == map.size()
+    where:
+      map << hashMaps() + primitiveMaps()
+  }
+
+  def "no perfect hash function is found for keys with equal hash codes"() {
+    expect:
+      ImmutablePerfectHashMap.tryCopyOf([Aa: 1, BB: 2]) == null
+  }
+
+  def "perfect hash function is found for #size keys with small hash codes"(int size) {
+    given:
+      def map = (0..<size).collectEntries { [it, it] }
+    when:
+      def perfectHashMap = ImmutablePerfectHashMap.tryCopyOf(map)
+    then:
+      perfectHashMap == map
+      !perfectHashMap.containsKey(size)
+    where:
+      size << [2, 10, 100, 1000]
+  }
+
+  private static List<Map<?, ?>> hashMaps() {
+    [
+            ImmutableMapN.copyOfInterleaved(["a", 1, "b", 2] as Object[]),
+            ImmutablePerfectHashMap.tryCopyOf([a: 1, b: 2])
+    ]
+  }
+  //endregion
+
+  //region SERIALIZATION
+  def "serialization proxy does not trust the length read from the stream"() {
+    given:
+      def bytes = serialize(new CollSer(CollSer.LIST, "a", "b"))
+      // the length is written as a 4-byte block data record (TC_BLOCKDATA, 4, then the int itself)
+      def lengthIndex = (0..<bytes.length - 5).find { bytes[it] == 0x77 as byte && bytes[it + 1] == 4 as byte } + 2
+      [0x7F, 0xFF, 0xFF, 0xFF].eachWithIndex { int b, int i -> bytes[lengthIndex + i] = b as byte }
+    when:
+      new ObjectInputStream(new ByteArrayInputStream(bytes)).withCloseable { it.readObject() }
+    then:
+      thrown(ObjectStreamException) // rather than an OutOfMemoryError
+  }
+
+  private static byte[] serialize(Object object) {
+    def bytes = new ByteArrayOutputStream()
+    new ObjectOutputStream(bytes).withCloseable { it.writeObject(object) }
+    bytes.toByteArray()
+  }
+  //endregion
+
+  //region HELPERS
+  private static List<Closure<?>> noOpListMutators() {
+    [
+            { List<?> list -> list.addAll([]) },
+            { List<?> list -> list.addAll(0, []) },
+            { List<?> list -> list.removeAll([]) },
+            { List<?> list -> list.removeIf { false } },
+            { List<?> list -> list.retainAll(list) },
+            { List<?> list -> list.replaceAll(UnaryOperator.identity()) },
+            { List<?> list -> list.clear() }
+    ]
+  }
+
+  private static List<Closure<?>> noOpCollectionMutators() {
+    [
+            { Collection<?> coll -> coll.addAll([]) },
+            { Collection<?> coll -> coll.removeAll([]) },
+            { Collection<?> coll -> coll.removeIf { false } },
+            { Collection<?> coll -> coll.retainAll(coll) },
+            { Collection<?> coll -> coll.clear() }
+    ]
+  }
+
+  private static List<Closure<?>> noOpMapMutators() {
+    [
+            { Map<?, ?> map -> map.putAll([:]) },
+            { Map<?, ?> map -> map.replaceAll { key, value -> value } },
+            { Map<?, ?> map -> map.remove(new Object()) },
+            { Map<?, ?> map -> map.clear() }
+    ]
+  }
+  //endregion
+}
@@ -16,3 +16,7 @@
  * limitations under the License.
  */
 modularity.standardJavaRelease(10)
+
+dependencies {
+  implementation(project(":pl.tlinkowski.unij.service.collect.internal"))
+}
@@ -26,10 +26,18 @@ import pl.tlinkowski.unij.service.collect.jdk10.*;
 @SuppressWarnings("JavaModuleNaming")
 module pl.tlinkowski.unij.service.collect.jdk10 {
   requires pl.tlinkowski.unij.service.api;
+  requires pl.tlinkowski.unij.service.collect.internal;
   requires static pl.tlinkowski.annotation.basic;
   requires static auto.service.annotations;
 
   provides UnmodifiableListFactory with Jdk10UnmodifiableListFactory;
   provides UnmodifiableSetFactory with Jdk10UnmodifiableSetFactory;
   provides UnmodifiableMapFactory with Jdk10UnmodifiableMapFactory;
+  provides UnmodifiableSortedSetFactory with Jdk10UnmodifiableSortedSetFactory;
+  provides UnmodifiableSortedMapFactory with Jdk10UnmodifiableSortedMapFactory;
+  provides UnmodifiableIntListFactory with Jdk10UnmodifiableIntListFactory;
+  provides UnmodifiableLongListFactory with Jdk10UnmodifiableLongListFactory;
+  provides UnmodifiableDoubleListFactory with Jdk10UnmodifiableDoubleListFactory;
+  provides UnmodifiableLongObjectMapFactory with Jdk10UnmodifiableLongObjectMapFactory;
+  provides UnmodifiableObjectIntMapFactory with Jdk10UnmodifiableObjectIntMapFactory;
 }
@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.jdk10;
+
+import java.util.Collection;
+import java.util.stream.DoubleStream;
+
+import com.google.auto.service.AutoService;
+
+import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableDoubleList;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableDoubleListFactory;
+import pl.tlinkowski.unij.service.collect.internal.ImmutableDoubleArrayList;
+
+/**
+ * Implementation of {@link UnmodifiableDoubleListFactory} that returns array-based {@link ImmutableDoubleArrayList}s.
+ *
+ * @author Tomasz Linkowski
+ */
+@UniJService(priority = 10)
+@AutoService(UnmodifiableDoubleListFactory.class)
+public final class Jdk10UnmodifiableDoubleListFactory implements UnmodifiableDoubleListFactory {
+
+  //region COLLECTOR
+
+  /**
+   * @implNote Uses {@link DoubleStream#toArray()}, which accumulates into a growable primitive buffer (or directly into
+   * an exactly sized array if the stream is sized), and concatenates such buffers on parallel streams.
+   */
+  @Override
+  public UnmodifiableDoubleList collect(DoubleStream stream) {
+    return ImmutableDoubleArrayList.ofOwned(stream.toArray());
+  }
+  //endregion
+
+  //region COPY OF
+  @Override
+  public UnmodifiableDoubleList copyOf(double[] elements) {
+    return ImmutableDoubleArrayList.ofOwned(elements.clone());
+  }
+
+  /**
+   * @implNote Returns {@param coll} as is if it is an {@link ImmutableDoubleArrayList} (e.g. created by this factory).
+   */
+  @Override
+  public UnmodifiableDoubleList copyOf(Collection<Double> coll) {
+    if (coll instanceof ImmutableDoubleArrayList) {
+      return (UnmodifiableDoubleList) coll;
+    }
+    if (coll instanceof UnmodifiableDoubleList) {
+      return ImmutableDoubleArrayList.ofOwned(((UnmodifiableDoubleList) coll).toDoubleArray());
+    }
+    Object[] boxedElements = coll.toArray();
+    double[] ownedElements = new double[boxedElements.length];
+    for (int i = 0; i < boxedElements.length; i++) {
+      ownedElements[i] = (Double) boxedElements[i]; // throws NPE on null
+    }
+    return ImmutableDoubleArrayList.ofOwned(ownedElements);
+  }
+  //endregion
+
+  //region OF
+  @Override
+  public UnmodifiableDoubleList of(double... elements) {
+    return copyOf(elements);
+  }
+  //endregion
+}
@@ -17,14 +17,15 @@
  */
 package pl.tlinkowski.unij.service.collect.jdk10;
 
-import java.util.Collection;
-import java.util.List;
+import java.util.*;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
 import com.google.auto.service.AutoService;
 
+import pl.tlinkowski.annotation.basic.NullOr;
 import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableListBuilder;
 import pl.tlinkowski.unij.service.api.collect.UnmodifiableListFactory;
 
 /**
@@ -44,6 +45,21 @@ public final class Jdk10UnmodifiableListFactory implements UnmodifiableListFacto
   }
   //endregion
 
+  //region BUILDER
+
+  /**
+   * @implNote Accumulates into an array that is passed to {@link List#of(Object[])} (which copies it, because the JDK
+   * offers no way of handing an array over to an unmodifiable list).
+   */
+  @Override
+  public <E> UnmodifiableListBuilder<E> builder(int expectedSize) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+    }
+    return new ListBuilder<>(expectedSize);
+  }
+  //endregion
+
   //region COPY OF
   @Override
   public <E> List<E> copyOf(Collection<? extends E> coll) {
@@ -114,4 +130,43 @@ public final class Jdk10UnmodifiableListFactory implements UnmodifiableListFacto
     return List.of(elements);
   }
   //endregion
+
+  /**
+   * Single-use {@link UnmodifiableListBuilder} accumulating into an array.
+   */
+  private static final class ListBuilder<E> implements UnmodifiableListBuilder<E> {
+
+    @NullOr
+    private Object[] elements; // null once built
+    private int size;
+
+    ListBuilder(int expectedSize) {
+      this.elements = new Object[expectedSize];
+    }
+
+    @Override
+    public UnmodifiableListBuilder<E> add(E element) {
+      Object[] array = elements();
+      if (size == array.length) {
+        array = elements = Arrays.copyOf(array, Math.max(size + (size >> 1), size + 1));
+      }
+      array[size++] = Objects.requireNonNull(element);
+      return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<E> build() {
+      Object[] array = elements();
+      elements = null;
+      return List.of((E[]) (size == array.length ? array : Arrays.copyOf(array, size)));
+    }
+
+    private Object[] elements() {
+      if (elements == null) {
+        throw new IllegalStateException("List already built");
+      }
+      return elements;
+    }
+  }
 }
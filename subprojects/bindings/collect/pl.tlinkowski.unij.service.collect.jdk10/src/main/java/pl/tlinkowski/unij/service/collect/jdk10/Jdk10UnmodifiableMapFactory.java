@@ -17,7 +17,7 @@
  */
 package pl.tlinkowski.unij.service.collect.jdk10;
 
-import java.util.Map;
+import java.util.*;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.stream.Collector;
@@ -25,13 +25,22 @@ import java.util.stream.Collectors;
 
 import com.google.auto.service.AutoService;
 
+import pl.tlinkowski.annotation.basic.NullOr;
 import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableMapBuilder;
 import pl.tlinkowski.unij.service.api.collect.UnmodifiableMapFactory;
+import pl.tlinkowski.unij.service.collect.internal.ImmutableEnumMap;
+import pl.tlinkowski.unij.service.collect.internal.ImmutablePerfectHashMap;
 
 /**
  * Implementation of {@link UnmodifiableMapFactory} that returns
  * <a href="https://docs.oracle.com/en/java/javase/11/docs/api/java.base/java/util/Map.html#unmodifiable">unmodifiable
  * maps</a> introduced in JDK 10.
+ * <p>
+ * The only exception are the maps with enum keys (see {@link #copyOfEnumMap} and {@link #copyOf}), for which it
+ * returns an ordinal-indexed {@link ImmutableEnumMap} (the JDK has no unmodifiable maps specialized for enums).
+ * Moreover, {@link #copyOfStatic} returns an {@link ImmutablePerfectHashMap} (the JDK has no unmodifiable maps with
+ * perfect hashing).
  *
  * @author Tomasz Linkowski
  */
@@ -51,13 +60,79 @@ public final class Jdk10UnmodifiableMapFactory implements UnmodifiableMapFactory
           Function<? super T, ? extends V> valueMapper, BinaryOperator<V> mergeFunction) {
     return Collectors.toUnmodifiableMap(keyMapper, valueMapper, mergeFunction);
   }
+
+  @Override
+  public <T, K, V> Collector<T, ?, Map<K, V>> concurrentCollector(Function<? super T, ? extends K> keyMapper,
+          Function<? super T, ? extends V> valueMapper) {
+    return Collectors.collectingAndThen(Collectors.<T, K, V>toConcurrentMap(keyMapper, valueMapper), Map::copyOf);
+  }
+
+  @Override
+  public <T, K, V> Collector<T, ?, Map<K, V>> concurrentCollector(Function<? super T, ? extends K> keyMapper,
+          Function<? super T, ? extends V> valueMapper, BinaryOperator<V> mergeFunction) {
+    return Collectors.collectingAndThen(
+            Collectors.<T, K, V>toConcurrentMap(keyMapper, valueMapper, mergeFunction), Map::copyOf
+    );
+  }
+  //endregion
+
+  //region BUILDER
+
+  /**
+   * @implNote Accumulates into a presized {@link HashMap}, which is passed to {@link Map#copyOf(Map)} (the JDK offers
+   * no way of handing a hash table over to an unmodifiable map).
+   */
+  @Override
+  public <K, V> UnmodifiableMapBuilder<K, V> builder(int expectedSize) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+    }
+    return new MapBuilder<>(expectedSize);
+  }
   //endregion
 
   //region COPY OF
+
+  /**
+   * @implNote Returns an {@link ImmutableEnumMap} if {@param map} is a non-empty {@link EnumMap} (or {@param map} as is
+   * if it already is an {@link ImmutableEnumMap} or an {@link ImmutablePerfectHashMap}).
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
   @Override
   public <K, V> Map<K, V> copyOf(Map<? extends K, ? extends V> map) {
+    if (map instanceof ImmutableEnumMap || map instanceof ImmutablePerfectHashMap) {
+      return (Map<K, V>) map;
+    }
+    if (map instanceof EnumMap) {
+      return copyOfEnumMap((EnumMap) map);
+    }
     return Map.copyOf(map);
   }
+
+  /**
+   * @implNote Copies the values of {@param map} straight into an array indexed by the ordinals of their keys.
+   */
+  @Override
+  public <K extends Enum<K>, V> Map<K, V> copyOfEnumMap(EnumMap<K, ? extends V> map) {
+    return map.isEmpty() ? Map.of() : ImmutableEnumMap.copyOf(map);
+  }
+  //endregion
+
+  //region STATIC
+
+  /**
+   * @implNote Returns an {@link ImmutablePerfectHashMap} if {@param map} has at least two entries and is not an {@link
+   * EnumMap} (whose keys are already looked up without hashing). Falls back to {@link #copyOf} if some of the keys
+   * have equal hash codes (then, no perfect hash function exists).
+   */
+  @Override
+  public <K, V> Map<K, V> copyOfStatic(Map<? extends K, ? extends V> map) {
+    if (map.size() < 2 || map instanceof ImmutablePerfectHashMap || map instanceof EnumMap) {
+      return copyOf(map);
+    }
+    @NullOr Map<K, V> staticMap = ImmutablePerfectHashMap.tryCopyOf(map);
+    return staticMap != null ? staticMap : copyOf(map);
+  }
   //endregion
 
   //region ENTRIES
@@ -138,4 +213,44 @@ public final class Jdk10UnmodifiableMapFactory implements UnmodifiableMapFactory
     return Map.of(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8, k9, v9, k10, v10);
   }
   //endregion
+
+  /**
+   * Single-use {@link UnmodifiableMapBuilder} accumulating into a {@link HashMap}.
+   */
+  private static final class MapBuilder<K, V> implements UnmodifiableMapBuilder<K, V> {
+
+    @NullOr
+    private Map<K, V> map; // null once built
+
+    MapBuilder(int expectedSize) {
+      this.map = new HashMap<>(Jdk10UnmodifiableSetFactory.hashCapacity(expectedSize));
+    }
+
+    @Override
+    public UnmodifiableMapBuilder<K, V> put(K key, V value) {
+      @NullOr V prevValue = map().putIfAbsent(
+              Objects.requireNonNull(key, "key"), Objects.requireNonNull(value, "value")
+      );
+      if (prevValue != null) {
+        throw new IllegalArgumentException(String.format(
+                "Duplicate key: %s (attempted merging values %s and %s)", key, prevValue, value
+        ));
+      }
+      return this;
+    }
+
+    @Override
+    public Map<K, V> build() {
+      Map<K, V> result = Map.copyOf(map());
+      map = null;
+      return result;
+    }
+
+    private Map<K, V> map() {
+      if (map == null) {
+        throw new IllegalStateException("Map already built");
+      }
+      return map;
+    }
+  }
 }
@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.jdk10;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+
+import com.google.auto.service.AutoService;
+
+import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableObjectIntMap;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableObjectIntMapFactory;
+import pl.tlinkowski.unij.service.collect.internal.ImmutableObjectIntMap;
+
+/**
+ * Implementation of {@link UnmodifiableObjectIntMapFactory} that returns open-addressing {@link
+ * ImmutableObjectIntMap}s.
+ *
+ * @author Tomasz Linkowski
+ */
+@UniJService(priority = 10)
+@AutoService(UnmodifiableObjectIntMapFactory.class)
+public final class Jdk10UnmodifiableObjectIntMapFactory implements UnmodifiableObjectIntMapFactory {
+
+  //region COLLECTOR
+
+  /**
+   * @implNote Accumulates straight into the hash tables of the resulting map (growing them as needed).
+   */
+  @Override
+  public <T, K> Collector<T, ?, UnmodifiableObjectIntMap<K>> collector(Function<? super T, ? extends K> keyMapper,
+          ToIntFunction<? super T> valueMapper) {
+    return Collector.<T, ImmutableObjectIntMap.Builder<K>, UnmodifiableObjectIntMap<K>>of(
+            ImmutableObjectIntMap.Builder::new,
+            (builder, element) -> builder.put(keyMapper.apply(element), valueMapper.applyAsInt(element)),
+            ImmutableObjectIntMap.Builder::putAll,
+            ImmutableObjectIntMap.Builder::build
+    );
+  }
+  //endregion
+
+  //region COPY OF
+
+  /**
+   * @implNote Returns {@param map} as is if it has been created by this factory.
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public <K> UnmodifiableObjectIntMap<K> copyOf(Map<? extends K, Integer> map) {
+    if (map instanceof ImmutableObjectIntMap) {
+      return (UnmodifiableObjectIntMap<K>) map;
+    }
+    ImmutableObjectIntMap.Builder<K> builder = new ImmutableObjectIntMap.Builder<>(map.size());
+    map.forEach((key, value) -> builder.put(key, Objects.requireNonNull(value, "value")));
+    return builder.build();
+  }
+  //endregion
+
+  //region OF
+  @Override
+  public <K> UnmodifiableObjectIntMap<K> of() {
+    return ImmutableObjectIntMap.empty();
+  }
+
+  @Override
+  public <K> UnmodifiableObjectIntMap<K> of(K k1, int v1) {
+    return new ImmutableObjectIntMap.Builder<K>(1).put(k1, v1).build();
+  }
+
+  @Override
+  public <K> UnmodifiableObjectIntMap<K> of(K k1, int v1, K k2, int v2) {
+    return new ImmutableObjectIntMap.Builder<K>(2).put(k1, v1).put(k2, v2).build();
+  }
+
+  @Override
+  public <K> UnmodifiableObjectIntMap<K> of(K k1, int v1, K k2, int v2, K k3, int v3) {
+    return new ImmutableObjectIntMap.Builder<K>(3).put(k1, v1).put(k2, v2).put(k3, v3).build();
+  }
+  //endregion
+}
@@ -17,19 +17,24 @@
  */
 package pl.tlinkowski.unij.service.collect.jdk10;
 
-import java.util.Collection;
-import java.util.Set;
+import java.util.*;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
 import com.google.auto.service.AutoService;
 
+import pl.tlinkowski.annotation.basic.NullOr;
 import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableSetBuilder;
 import pl.tlinkowski.unij.service.api.collect.UnmodifiableSetFactory;
+import pl.tlinkowski.unij.service.collect.internal.ImmutableEnumSet;
 
 /**
  * Implementation of {@link UnmodifiableSetFactory} that returns <a href="https://docs.oracle.com/en/java/javase/11/docs/api/java.base/java/util/Set.html#unmodifiable">unmodifiable
  * sets</a> introduced in JDK 10.
+ * <p>
+ * The only exception are the sets of enum constants (see {@link #ofEnums} and {@link #copyOf}), for which it returns
+ * a bit-vector-backed {@link ImmutableEnumSet} (the JDK has no unmodifiable sets specialized for enums).
  *
  * @author Tomasz Linkowski
  */
@@ -44,9 +49,36 @@ public final class Jdk10UnmodifiableSetFactory implements UnmodifiableSetFactory
   }
   //endregion
 
+  //region BUILDER
+
+  /**
+   * @implNote Accumulates into a presized {@link HashSet}, whose elements are passed to {@link Set#of(Object[])} (the
+   * JDK offers no way of handing a hash table over to an unmodifiable set).
+   */
+  @Override
+  public <E> UnmodifiableSetBuilder<E> builder(int expectedSize) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+    }
+    return new SetBuilder<>(expectedSize);
+  }
+  //endregion
+
   //region COPY OF
+
+  /**
+   * @implNote Returns an {@link ImmutableEnumSet} if {@param coll} is a non-empty {@link EnumSet} (or {@param coll} as
+   * is if it already is an {@link ImmutableEnumSet}).
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
   @Override
   public <E> Set<E> copyOf(Collection<? extends E> coll) {
+    if (coll instanceof ImmutableEnumSet) {
+      return (Set<E>) coll;
+    }
+    if (coll instanceof EnumSet && !coll.isEmpty()) {
+      return ImmutableEnumSet.copyOf((EnumSet) coll);
+    }
     return Set.copyOf(coll);
   }
   //endregion
@@ -114,4 +146,58 @@ public final class Jdk10UnmodifiableSetFactory implements UnmodifiableSetFactory
     return Set.of(elements);
   }
   //endregion
+
+  //region ENUMS
+
+  /**
+   * @implNote Sets the bits of the resulting {@link ImmutableEnumSet} directly (without creating an {@link EnumSet}).
+   */
+  @SafeVarargs
+  @Override
+  public final <E extends Enum<E>> Set<E> ofEnums(E first, E... rest) {
+    return ImmutableEnumSet.of(first, rest);
+  }
+  //endregion
+
+  /**
+   * Single-use {@link UnmodifiableSetBuilder} accumulating into a {@link HashSet}.
+   */
+  private static final class SetBuilder<E> implements UnmodifiableSetBuilder<E> {
+
+    @NullOr
+    private Set<E> set; // null once built
+
+    SetBuilder(int expectedSize) {
+      this.set = new HashSet<>(hashCapacity(expectedSize));
+    }
+
+    @Override
+    public UnmodifiableSetBuilder<E> add(E element) {
+      set().add(Objects.requireNonNull(element));
+      return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Set<E> build() {
+      Object[] elements = set().toArray();
+      set = null;
+      return (Set<E>) Set.of(elements);
+    }
+
+    private Set<E> set() {
+      if (set == null) {
+        throw new IllegalStateException("Set already built");
+      }
+      return set;
+    }
+  }
+
+  /**
+   * Returns the capacity of a {@link HashSet} or {@link HashMap} that won't need rehashing until it holds more than
+   * {@code expectedSize} elements (with the default load factor).
+   */
+  static int hashCapacity(int expectedSize) {
+    return (int) (expectedSize / 0.75f) + 1;
+  }
 }
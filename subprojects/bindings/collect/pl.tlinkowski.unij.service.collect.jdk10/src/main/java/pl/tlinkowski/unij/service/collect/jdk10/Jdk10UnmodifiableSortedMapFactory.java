@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.jdk10;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import com.google.auto.service.AutoService;
+
+import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableSortedMapFactory;
+import pl.tlinkowski.unij.service.collect.internal.ImmutableSortedArrayMap;
+
+/**
+ * Implementation of {@link UnmodifiableSortedMapFactory} that returns {@link ImmutableSortedArrayMap}s.
+ *
+ * @author Tomasz Linkowski
+ */
+@UniJService(priority = 10)
+@AutoService(UnmodifiableSortedMapFactory.class)
+public final class Jdk10UnmodifiableSortedMapFactory implements UnmodifiableSortedMapFactory {
+
+  //region COLLECTOR
+
+  /**
+   * @implNote Accumulates the entries into an {@link ArrayList} and sorts them only once (in the finisher).
+   */
+  @Override
+  public <T, K, V> Collector<T, ?, SortedMap<K, V>> collector(Comparator<? super K> comparator,
+          Function<? super T, ? extends K> keyMapper, Function<? super T, ? extends V> valueMapper) {
+    Objects.requireNonNull(comparator, "comparator");
+    return Collector.<T, List<Map.Entry<K, V>>, SortedMap<K, V>>of(
+            ArrayList::new,
+            (list, element) -> list.add(entry(keyMapper.apply(element), valueMapper.apply(element))),
+            (left, right) -> {
+              left.addAll(right);
+              return left;
+            },
+            list -> ImmutableSortedArrayMap.ofOwnedUnsorted(comparator, list)
+    );
+  }
+  //endregion
+
+  //region COPY OF
+
+  /**
+   * @implNote Returns {@param map} as is if it has been created by this factory. Otherwise, copies its entries without
+   * sorting them again.
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public <K, V> SortedMap<K, V> copyOf(SortedMap<K, ? extends V> map) {
+    if (map instanceof ImmutableSortedArrayMap) {
+      return (SortedMap<K, V>) map;
+    }
+    return ImmutableSortedArrayMap.copyOfSorted(map);
+  }
+
+  /**
+   * @implNote Returns {@param map} as is if it has been created by this factory with the same {@param comparator}.
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public <K, V> SortedMap<K, V> copyOf(Comparator<? super K> comparator, Map<? extends K, ? extends V> map) {
+    if (map instanceof ImmutableSortedArrayMap && ((SortedMap<K, V>) map).comparator() == comparator) {
+      return (SortedMap<K, V>) map;
+    }
+    List<Map.Entry<K, V>> entries = new ArrayList<>(map.size());
+    map.forEach((key, value) -> entries.add(entry(key, value)));
+    return ImmutableSortedArrayMap.ofOwnedUnsorted(comparator, entries);
+  }
+  //endregion
+
+  //region ENTRIES
+  @SafeVarargs
+  @Override
+  public final <K, V> SortedMap<K, V> ofEntries(Comparator<? super K> comparator,
+          Map.Entry<? extends K, ? extends V>... entries) {
+    List<Map.Entry<K, V>> entryList = new ArrayList<>(entries.length);
+    for (Map.Entry<? extends K, ? extends V> entry : entries) {
+      entryList.add(entry(entry.getKey(), entry.getValue()));
+    }
+    return ImmutableSortedArrayMap.ofOwnedUnsorted(comparator, entryList);
+  }
+  //endregion
+
+  //region OF
+  @Override
+  public <K, V> SortedMap<K, V> of(Comparator<? super K> comparator) {
+    return ImmutableSortedArrayMap.empty(comparator);
+  }
+
+  @Override
+  public <K, V> SortedMap<K, V> of(Comparator<? super K> comparator, K k1, V v1) {
+    return ImmutableSortedArrayMap.ofOwnedUnsorted(comparator, Collections.singletonList(entry(k1, v1)));
+  }
+
+  @Override
+  public <K, V> SortedMap<K, V> of(Comparator<? super K> comparator, K k1, V v1, K k2, V v2) {
+    return ImmutableSortedArrayMap.ofOwnedUnsorted(comparator, Arrays.asList(entry(k1, v1), entry(k2, v2)));
+  }
+
+  @Override
+  public <K, V> SortedMap<K, V> of(Comparator<? super K> comparator, K k1, V v1, K k2, V v2, K k3, V v3) {
+    return ImmutableSortedArrayMap.ofOwnedUnsorted(
+            comparator, Arrays.asList(entry(k1, v1), entry(k2, v2), entry(k3, v3))
+    );
+  }
+  //endregion
+
+  private static <K, V> Map.Entry<K, V> entry(K key, V value) {
+    return new AbstractMap.SimpleImmutableEntry<>(
+            Objects.requireNonNull(key, "key"), Objects.requireNonNull(value, "value")
+    );
+  }
+}
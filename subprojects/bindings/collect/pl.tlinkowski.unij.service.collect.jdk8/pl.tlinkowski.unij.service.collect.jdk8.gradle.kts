@@ -18,3 +18,7 @@
 modularity.mixedJavaRelease(8)
 
 superpom.useLombok = true
+
+dependencies {
+  implementation(project(":pl.tlinkowski.unij.service.collect.internal"))
+}
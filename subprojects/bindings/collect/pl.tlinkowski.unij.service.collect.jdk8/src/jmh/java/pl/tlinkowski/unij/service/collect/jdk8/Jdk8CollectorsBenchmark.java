@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.jdk8;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.*;
+
+import pl.tlinkowski.unij.service.collect.internal.ImmutableListN;
+import pl.tlinkowski.unij.service.collect.internal.ImmutableMapN;
+
+/**
+ * Compares the collectors of the JDK 8 binding (which reject {@code null}s in the accumulator) with the former approach
+ * (a standard mutable collector followed by a separate null-checking pass in the finisher).
+ * <p>
+ * The former finishers are reproduced as they were: the list one copied the elements out of the {@link ArrayList}
+ * (using {@link List#toArray()}) into an {@link ImmutableListN}, the set one wrapped the {@link HashSet} (without any
+ * copy), and the map one copied the entries of the {@link HashMap} into an {@link ImmutableMapN}.
+ *
+ * @author Tomasz Linkowski
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class Jdk8CollectorsBenchmark {
+
+  @Param({"1000", "100000", "10000000"})
+  public int size;
+
+  private final Jdk8UnmodifiableListFactory listFactory = new Jdk8UnmodifiableListFactory();
+  private final Jdk8UnmodifiableSetFactory setFactory = new Jdk8UnmodifiableSetFactory();
+  private final Jdk8UnmodifiableMapFactory mapFactory = new Jdk8UnmodifiableMapFactory();
+
+  private List<Integer> elements;
+
+  @Setup
+  public void setup() {
+    elements = IntStream.range(0, size).boxed().collect(Collectors.toList());
+  }
+
+  //region LIST
+  @Benchmark
+  public List<?> listWithNullCheckingFinisher() {
+    return elements.stream().collect(Collectors.collectingAndThen(Collectors.toList(), list -> {
+      Object[] ownedElements = list.toArray();
+      for (Object element : ownedElements) {
+        Objects.requireNonNull(element);
+      }
+      return ImmutableListN.ofOwned(ownedElements);
+    }));
+  }
+
+  @Benchmark
+  public List<?> listWithNullCheckingAccumulator() {
+    return elements.stream().collect(listFactory.collector());
+  }
+  //endregion
+
+  //region SET
+  @Benchmark
+  public Set<?> setWithNullCheckingFinisher() {
+    return elements.stream().collect(Collectors.collectingAndThen(Collectors.toSet(), set -> {
+      set.forEach(Objects::requireNonNull);
+      return Collections.unmodifiableSet(set);
+    }));
+  }
+
+  @Benchmark
+  public Set<?> setWithNullCheckingAccumulator() {
+    return elements.stream().collect(setFactory.collector());
+  }
+  //endregion
+
+  //region MAP
+  @Benchmark
+  public Map<?, ?> mapWithNullCheckingFinisher() {
+    Collector<Integer, ?, Map<Integer, Integer>> toMap = Collectors.toMap(Function.identity(), Function.identity());
+    return elements.stream().collect(Collectors.collectingAndThen(toMap, mapFactory::copyOf));
+  }
+
+  @Benchmark
+  public Map<?, ?> mapWithNullCheckingAccumulator() {
+    return elements.stream().collect(mapFactory.collector(Function.identity(), Function.identity()));
+  }
+  //endregion
+}
@@ -26,6 +26,7 @@ import pl.tlinkowski.unij.service.collect.jdk8.*;
 @SuppressWarnings("JavaModuleNaming")
 module pl.tlinkowski.unij.service.collect.jdk8 {
   requires pl.tlinkowski.unij.service.api;
+  requires pl.tlinkowski.unij.service.collect.internal;
   requires static pl.tlinkowski.annotation.basic;
   requires static auto.service.annotations;
   requires static lombok;
@@ -33,4 +34,11 @@ module pl.tlinkowski.unij.service.collect.jdk8 {
   provides UnmodifiableListFactory with Jdk8UnmodifiableListFactory;
   provides UnmodifiableSetFactory with Jdk8UnmodifiableSetFactory;
   provides UnmodifiableMapFactory with Jdk8UnmodifiableMapFactory;
+  provides UnmodifiableSortedSetFactory with Jdk8UnmodifiableSortedSetFactory;
+  provides UnmodifiableSortedMapFactory with Jdk8UnmodifiableSortedMapFactory;
+  provides UnmodifiableIntListFactory with Jdk8UnmodifiableIntListFactory;
+  provides UnmodifiableLongListFactory with Jdk8UnmodifiableLongListFactory;
+  provides UnmodifiableDoubleListFactory with Jdk8UnmodifiableDoubleListFactory;
+  provides UnmodifiableLongObjectMapFactory with Jdk8UnmodifiableLongObjectMapFactory;
+  provides UnmodifiableObjectIntMapFactory with Jdk8UnmodifiableObjectIntMapFactory;
 }
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.jdk8;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+/**
+ * Append-only buffer of elements stored in a linked sequence of array chunks.
+ * <p>
+ * Appending never copies previously added elements, and two buffers can be {@linkplain #addAll joined} in O(1) time,
+ * which makes it a good accumulation container for parallel streams. {@link #toArray()} copies every element exactly
+ * once.
+ *
+ * @author Tomasz Linkowski
+ */
+final class ChunkedListBuffer<E> {
+
+  private static final int MIN_CHUNK_CAPACITY = 16;
+  private static final int MAX_CHUNK_CAPACITY = 1 << 16;
+
+  @NullOr
+  private Chunk head;
+  @NullOr
+  private Chunk tail;
+  private int size;
+
+  int size() {
+    return size;
+  }
+
+  void add(E element) {
+    Chunk chunk = tail;
+    if (chunk == null || chunk.isFull()) {
+      chunk = appendChunk();
+    }
+    chunk.elements[chunk.count++] = element;
+    size++;
+  }
+
+  /**
+   * Links the chunks of {@code other} buffer after the chunks of this buffer (without copying any elements).
+   */
+  ChunkedListBuffer<E> addAll(ChunkedListBuffer<E> other) {
+    if (other.tail == null) {
+      return this;
+    } else if (tail == null) {
+      return other;
+    }
+    tail.next = other.head;
+    tail = other.tail;
+    size += other.size;
+    return this;
+  }
+
+  Object[] toArray() {
+    Object[] array = new Object[size];
+    int offset = 0;
+    for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+      System.arraycopy(chunk.elements, 0, array, offset, chunk.count);
+      offset += chunk.count;
+    }
+    return array;
+  }
+
+  private Chunk appendChunk() {
+    // grows geometrically (like ArrayList) but never copies
+    Chunk chunk = new Chunk(Math.min(MAX_CHUNK_CAPACITY, Math.max(MIN_CHUNK_CAPACITY, size)));
+    if (tail == null) {
+      head = chunk;
+    } else {
+      tail.next = chunk;
+    }
+    tail = chunk;
+    return chunk;
+  }
+
+  private static final class Chunk {
+
+    final Object[] elements;
+    int count;
+    @NullOr
+    Chunk next;
+
+    Chunk(int capacity) {
+      this.elements = new Object[capacity];
+    }
+
+    boolean isFull() {
+      return count == elements.length;
+    }
+  }
+}
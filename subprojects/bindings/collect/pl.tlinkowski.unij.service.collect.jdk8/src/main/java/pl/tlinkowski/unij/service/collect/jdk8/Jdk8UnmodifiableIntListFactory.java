@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.jdk8;
+
+import java.util.Collection;
+import java.util.stream.IntStream;
+
+import com.google.auto.service.AutoService;
+
+import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableIntList;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableIntListFactory;
+import pl.tlinkowski.unij.service.collect.internal.ImmutableIntArrayList;
+
+/**
+ * Implementation of {@link UnmodifiableIntListFactory} that returns array-based {@link ImmutableIntArrayList}s.
+ *
+ * @author Tomasz Linkowski
+ */
+@UniJService(priority = 40)
+@AutoService(UnmodifiableIntListFactory.class)
+public final class Jdk8UnmodifiableIntListFactory implements UnmodifiableIntListFactory {
+
+  //region COLLECTOR
+
+  /**
+   * @implNote Uses {@link IntStream#toArray()}, which accumulates into a growable primitive buffer (or directly into an
+   * exactly sized array if the stream is sized), and concatenates such buffers on parallel streams.
+   */
+  @Override
+  public UnmodifiableIntList collect(IntStream stream) {
+    return ImmutableIntArrayList.ofOwned(stream.toArray());
+  }
+  //endregion
+
+  //region COPY OF
+  @Override
+  public UnmodifiableIntList copyOf(int[] elements) {
+    return ImmutableIntArrayList.ofOwned(elements.clone());
+  }
+
+  /**
+   * @implNote Returns {@param coll} as is if it is an {@link ImmutableIntArrayList} (e.g. created by this factory).
+   */
+  @Override
+  public UnmodifiableIntList copyOf(Collection<Integer> coll) {
+    if (coll instanceof ImmutableIntArrayList) {
+      return (UnmodifiableIntList) coll;
+    }
+    if (coll instanceof UnmodifiableIntList) {
+      return ImmutableIntArrayList.ofOwned(((UnmodifiableIntList) coll).toIntArray());
+    }
+    Object[] boxedElements = coll.toArray();
+    int[] ownedElements = new int[boxedElements.length];
+    for (int i = 0; i < boxedElements.length; i++) {
+      ownedElements[i] = (Integer) boxedElements[i]; // throws NPE on null
+    }
+    return ImmutableIntArrayList.ofOwned(ownedElements);
+  }
+  //endregion
+
+  //region OF
+  @Override
+  public UnmodifiableIntList of(int... elements) {
+    return copyOf(elements);
+  }
+  //endregion
+}
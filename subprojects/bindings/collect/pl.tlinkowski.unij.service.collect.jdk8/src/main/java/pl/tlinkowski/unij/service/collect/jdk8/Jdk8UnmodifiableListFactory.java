@@ -24,16 +24,20 @@ import java.util.stream.Collectors;
 import com.google.auto.service.AutoService;
 import lombok.NonNull;
 
+import pl.tlinkowski.annotation.basic.NullOr;
 import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableListBuilder;
 import pl.tlinkowski.unij.service.api.collect.UnmodifiableListFactory;
+import pl.tlinkowski.unij.service.collect.internal.ImmutableList12;
+import pl.tlinkowski.unij.service.collect.internal.ImmutableListN;
 
 /**
  * Implementation of {@link UnmodifiableListFactory} following the JDK 11
  * <a href="https://docs.oracle.com/en/java/javase/11/docs/api/java.base/java/util/List.html#unmodifiable">unmodifiable
  * lists</a> specification (e.g. no {@code null} elements allowed).
  * <p>
- * This implementation returns either an {@link Arrays#asList} wrapped by {@link Collections#unmodifiableList} or a
- * {@link Collections#singletonList}.
+ * This implementation returns either a field-based {@link ImmutableList12} (for one or two elements) or an array-based
+ * {@link ImmutableListN} (for all other sizes).
  *
  * @author Tomasz Linkowski
  * @implNote To preserve good JVM behavior of this class (no <a href="https://shipilev.net/jvm/anatomy-quarks/16-megamorphic-virtual-calls/">megamorphic
@@ -44,24 +48,39 @@ import pl.tlinkowski.unij.service.api.collect.UnmodifiableListFactory;
 @AutoService(UnmodifiableListFactory.class)
 public final class Jdk8UnmodifiableListFactory implements UnmodifiableListFactory {
 
-  private static final List<Object> EMPTY_LIST = unmodArrayAsList();
-
   //region COLLECTOR
 
   /**
    * Based on {@link Collectors#toUnmodifiableList()}.
+   *
+   * @implNote Accumulates into a {@link ChunkedListBuffer}, so that combining (on parallel streams) copies no elements,
+   * and the finisher copies every element exactly once.
    */
   @Override
   public <E> Collector<E, ?, List<E>> collector() {
-    return Collectors.collectingAndThen(Collectors.toList(), this::ofTrustedArrayList);
+    return Collector.<E, ChunkedListBuffer<E>, List<E>>of(
+            ChunkedListBuffer::new,
+            (buffer, element) -> buffer.add(Objects.requireNonNull(element)),
+            ChunkedListBuffer::addAll,
+            this::ofNonNullBuffer
+    );
+  }
+
+  @SuppressWarnings("unchecked")
+  private <E> List<E> ofNonNullBuffer(ChunkedListBuffer<E> buffer) {
+    return ImmutableListN.ofOwned((E[]) buffer.toArray());
   }
+  //endregion
+
+  //region BUILDER
 
   /**
-   * @implNote We trust {@code list.toArray()} to relinquish the array to us.
+   * @implNote Accumulates straight into the array of the resulting {@link ImmutableListN} (copying it on {@code build}
+   * only if fewer elements than {@code expectedSize} were added).
    */
-  @SuppressWarnings("unchecked")
-  private <E> List<E> ofTrustedArrayList(List<E> list) {
-    return (List<E>) ofArray(list.toArray(), true);
+  @Override
+  public <E> UnmodifiableListBuilder<E> builder(int expectedSize) {
+    return new ListBuilder<>(expectedSize);
   }
   //endregion
 
@@ -70,108 +89,163 @@ public final class Jdk8UnmodifiableListFactory implements UnmodifiableListFactor
   /**
    * Based on {@link List#copyOf(Collection)}.
    *
-   * @implNote Copies {@param coll} even if it already is unmodifiable (no way to verify this).
+   * @implNote Returns {@param coll} as is if it has been created by this factory.
    */
   @SuppressWarnings("unchecked")
   @Override
   public <E> List<E> copyOf(Collection<? extends E> coll) {
-    return (List<E>) ofArray(coll.toArray(), false);
+    if (coll instanceof ImmutableList12 || coll instanceof ImmutableListN) {
+      return (List<E>) coll;
+    }
+    return (List<E>) ofArray(coll.toArray());
   }
   //endregion
 
   //region OF
-  @SuppressWarnings("unchecked")
   @Override
   public <E> List<E> of() {
-    return (List<E>) EMPTY_LIST;
+    return ImmutableListN.empty();
   }
 
   @Override
   public <E> List<E> of(@NonNull E e1) {
-    return Collections.singletonList(e1);
+    return ImmutableList12.of(e1);
   }
 
   @Override
   public <E> List<E> of(@NonNull E e1, @NonNull E e2) {
-    return unmodArrayAsList(e1, e2);
+    return ImmutableList12.of(e1, e2);
   }
 
   @Override
   public <E> List<E> of(@NonNull E e1, @NonNull E e2, @NonNull E e3) {
-    return unmodArrayAsList(e1, e2, e3);
+    return ofTrustedElements(e1, e2, e3);
   }
 
   @Override
   public <E> List<E> of(@NonNull E e1, @NonNull E e2, @NonNull E e3, @NonNull E e4) {
-    return unmodArrayAsList(e1, e2, e3, e4);
+    return ofTrustedElements(e1, e2, e3, e4);
   }
 
   @Override
   public <E> List<E> of(@NonNull E e1, @NonNull E e2, @NonNull E e3, @NonNull E e4, @NonNull E e5) {
-    return unmodArrayAsList(e1, e2, e3, e4, e5);
+    return ofTrustedElements(e1, e2, e3, e4, e5);
   }
 
   @Override
   public <E> List<E> of(@NonNull E e1, @NonNull E e2, @NonNull E e3, @NonNull E e4, @NonNull E e5, @NonNull E e6) {
-    return unmodArrayAsList(e1, e2, e3, e4, e5, e6);
+    return ofTrustedElements(e1, e2, e3, e4, e5, e6);
   }
 
   @Override
   public <E> List<E> of(@NonNull E e1, @NonNull E e2, @NonNull E e3, @NonNull E e4, @NonNull E e5, @NonNull E e6,
           @NonNull E e7) {
-    return unmodArrayAsList(e1, e2, e3, e4, e5, e6, e7);
+    return ofTrustedElements(e1, e2, e3, e4, e5, e6, e7);
   }
 
   @Override
   public <E> List<E> of(@NonNull E e1, @NonNull E e2, @NonNull E e3, @NonNull E e4, @NonNull E e5, @NonNull E e6,
           @NonNull E e7, @NonNull E e8) {
-    return unmodArrayAsList(e1, e2, e3, e4, e5, e6, e7, e8);
+    return ofTrustedElements(e1, e2, e3, e4, e5, e6, e7, e8);
   }
 
   @Override
   public <E> List<E> of(@NonNull E e1, @NonNull E e2, @NonNull E e3, @NonNull E e4, @NonNull E e5, @NonNull E e6,
           @NonNull E e7, @NonNull E e8, @NonNull E e9) {
-    return unmodArrayAsList(e1, e2, e3, e4, e5, e6, e7, e8, e9);
+    return ofTrustedElements(e1, e2, e3, e4, e5, e6, e7, e8, e9);
   }
 
   @SuppressWarnings("PMD.ExcessiveParameterList")
   @Override
   public <E> List<E> of(@NonNull E e1, @NonNull E e2, @NonNull E e3, @NonNull E e4, @NonNull E e5, @NonNull E e6,
           @NonNull E e7, @NonNull E e8, @NonNull E e9, @NonNull E e10) {
-    return unmodArrayAsList(e1, e2, e3, e4, e5, e6, e7, e8, e9, e10);
+    return ofTrustedElements(e1, e2, e3, e4, e5, e6, e7, e8, e9, e10);
   }
 
   @SafeVarargs
   @Override
   public final <E> List<E> of(E... elements) {
-    return ofArray(elements, false);
+    return ofArray(elements);
   }
   //endregion
 
   /**
    * Based on {@link List#of(Object[])}.
    */
-  private <E> List<E> ofArray(E[] elements, boolean trusted) {
+  private <E> List<E> ofArray(E[] elements) {
     switch (elements.length) {
       case 0:
         return of();
       case 1:
-        return of(elements[0]);
+        return ImmutableList12.of(elements[0]);
+      case 2:
+        return ImmutableList12.of(elements[0], elements[1]);
       default:
-        return ofAtLeastTwoElements(trusted ? elements : elements.clone());
+        return ofAtLeastThreeElements(elements.clone());
     }
   }
 
-  private <E> List<E> ofAtLeastTwoElements(E[] ownedElements) {
+  private <E> List<E> ofAtLeastThreeElements(E[] ownedElements) {
     for (Object element : ownedElements) {
       Objects.requireNonNull(element);
     }
-    return unmodArrayAsList(ownedElements);
+    return ImmutableListN.ofOwned(ownedElements);
   }
 
   // assumes elements are owned and non-null
   @SafeVarargs
-  private static <E> List<E> unmodArrayAsList(E... ownedElements) {
-    return Collections.unmodifiableList(Arrays.asList(ownedElements));
+  private static <E> List<E> ofTrustedElements(E... ownedElements) {
+    return ImmutableListN.ofOwned(ownedElements);
+  }
+
+  /**
+   * Single-use {@link UnmodifiableListBuilder} handing its array over to the resulting list.
+   */
+  private static final class ListBuilder<E> implements UnmodifiableListBuilder<E> {
+
+    @NullOr
+    private Object[] elements; // null once built
+    private int size;
+
+    ListBuilder(int expectedSize) {
+      if (expectedSize < 0) {
+        throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+      }
+      this.elements = new Object[expectedSize];
+    }
+
+    @Override
+    public UnmodifiableListBuilder<E> add(E element) {
+      Object[] array = elements();
+      if (size == array.length) {
+        array = elements = Arrays.copyOf(array, Math.max(size + (size >> 1), size + 1));
+      }
+      array[size++] = Objects.requireNonNull(element);
+      return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<E> build() {
+      Object[] array = elements();
+      elements = null;
+      switch (size) {
+        case 0:
+          return ImmutableListN.empty();
+        case 1:
+          return ImmutableList12.of((E) array[0]);
+        case 2:
+          return ImmutableList12.of((E) array[0], (E) array[1]);
+        default:
+          return ImmutableListN.ofOwned((E[]) (size == array.length ? array : Arrays.copyOf(array, size)));
+      }
+    }
+
+    private Object[] elements() {
+      if (elements == null) {
+        throw new IllegalStateException("List already built");
+      }
+      return elements;
+    }
   }
 }
@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.jdk8;
+
+import java.util.Collection;
+import java.util.stream.LongStream;
+
+import com.google.auto.service.AutoService;
+
+import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableLongList;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableLongListFactory;
+import pl.tlinkowski.unij.service.collect.internal.ImmutableLongArrayList;
+
+/**
+ * Implementation of {@link UnmodifiableLongListFactory} that returns array-based {@link ImmutableLongArrayList}s.
+ *
+ * @author Tomasz Linkowski
+ */
+@UniJService(priority = 40)
+@AutoService(UnmodifiableLongListFactory.class)
+public final class Jdk8UnmodifiableLongListFactory implements UnmodifiableLongListFactory {
+
+  //region COLLECTOR
+
+  /**
+   * @implNote Uses {@link LongStream#toArray()}, which accumulates into a growable primitive buffer (or directly into
+   * an exactly sized array if the stream is sized), and concatenates such buffers on parallel streams.
+   */
+  @Override
+  public UnmodifiableLongList collect(LongStream stream) {
+    return ImmutableLongArrayList.ofOwned(stream.toArray());
+  }
+  //endregion
+
+  //region COPY OF
+  @Override
+  public UnmodifiableLongList copyOf(long[] elements) {
+    return ImmutableLongArrayList.ofOwned(elements.clone());
+  }
+
+  /**
+   * @implNote Returns {@param coll} as is if it is an {@link ImmutableLongArrayList} (e.g. created by this factory).
+   */
+  @Override
+  public UnmodifiableLongList copyOf(Collection<Long> coll) {
+    if (coll instanceof ImmutableLongArrayList) {
+      return (UnmodifiableLongList) coll;
+    }
+    if (coll instanceof UnmodifiableLongList) {
+      return ImmutableLongArrayList.ofOwned(((UnmodifiableLongList) coll).toLongArray());
+    }
+    Object[] boxedElements = coll.toArray();
+    long[] ownedElements = new long[boxedElements.length];
+    for (int i = 0; i < boxedElements.length; i++) {
+      ownedElements[i] = (Long) boxedElements[i]; // throws NPE on null
+    }
+    return ImmutableLongArrayList.ofOwned(ownedElements);
+  }
+  //endregion
+
+  //region OF
+  @Override
+  public UnmodifiableLongList of(long... elements) {
+    return copyOf(elements);
+  }
+  //endregion
+}
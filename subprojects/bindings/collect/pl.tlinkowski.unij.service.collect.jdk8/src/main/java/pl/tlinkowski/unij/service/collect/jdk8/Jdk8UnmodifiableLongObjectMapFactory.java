@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.jdk8;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+import com.google.auto.service.AutoService;
+
+import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableLongObjectMap;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableLongObjectMapFactory;
+import pl.tlinkowski.unij.service.collect.internal.ImmutableLongObjectMap;
+
+/**
+ * Implementation of {@link UnmodifiableLongObjectMapFactory} that returns open-addressing {@link
+ * ImmutableLongObjectMap}s.
+ *
+ * @author Tomasz Linkowski
+ */
+@UniJService(priority = 40)
+@AutoService(UnmodifiableLongObjectMapFactory.class)
+public final class Jdk8UnmodifiableLongObjectMapFactory implements UnmodifiableLongObjectMapFactory {
+
+  //region COLLECTOR
+
+  /**
+   * @implNote Accumulates straight into the hash tables of the resulting map (growing them as needed).
+   */
+  @Override
+  public <T, V> Collector<T, ?, UnmodifiableLongObjectMap<V>> collector(ToLongFunction<? super T> keyMapper,
+          Function<? super T, ? extends V> valueMapper) {
+    return Collector.<T, ImmutableLongObjectMap.Builder<V>, UnmodifiableLongObjectMap<V>>of(
+            ImmutableLongObjectMap.Builder::new,
+            (builder, element) -> builder.put(keyMapper.applyAsLong(element), valueMapper.apply(element)),
+            ImmutableLongObjectMap.Builder::putAll,
+            ImmutableLongObjectMap.Builder::build
+    );
+  }
+  //endregion
+
+  //region COPY OF
+
+  /**
+   * @implNote Returns {@param map} as is if it has been created by this factory.
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public <V> UnmodifiableLongObjectMap<V> copyOf(Map<Long, ? extends V> map) {
+    if (map instanceof ImmutableLongObjectMap) {
+      return (UnmodifiableLongObjectMap<V>) map;
+    }
+    ImmutableLongObjectMap.Builder<V> builder = new ImmutableLongObjectMap.Builder<>(map.size());
+    map.forEach((key, value) -> builder.put(Objects.requireNonNull(key, "key"), value));
+    return builder.build();
+  }
+  //endregion
+
+  //region OF
+  @Override
+  public <V> UnmodifiableLongObjectMap<V> of() {
+    return ImmutableLongObjectMap.empty();
+  }
+
+  @Override
+  public <V> UnmodifiableLongObjectMap<V> of(long k1, V v1) {
+    return new ImmutableLongObjectMap.Builder<V>(1).put(k1, v1).build();
+  }
+
+  @Override
+  public <V> UnmodifiableLongObjectMap<V> of(long k1, V v1, long k2, V v2) {
+    return new ImmutableLongObjectMap.Builder<V>(2).put(k1, v1).put(k2, v2).build();
+  }
+
+  @Override
+  public <V> UnmodifiableLongObjectMap<V> of(long k1, V v1, long k2, V v2, long k3, V v3) {
+    return new ImmutableLongObjectMap.Builder<V>(3).put(k1, v1).put(k2, v2).put(k3, v3).build();
+  }
+  //endregion
+}
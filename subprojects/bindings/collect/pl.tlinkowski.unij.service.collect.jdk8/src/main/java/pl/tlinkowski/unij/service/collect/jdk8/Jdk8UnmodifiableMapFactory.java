@@ -28,7 +28,11 @@ import lombok.NonNull;
 
 import pl.tlinkowski.annotation.basic.NullOr;
 import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableMapBuilder;
 import pl.tlinkowski.unij.service.api.collect.UnmodifiableMapFactory;
+import pl.tlinkowski.unij.service.collect.internal.ImmutableEnumMap;
+import pl.tlinkowski.unij.service.collect.internal.ImmutableMapN;
+import pl.tlinkowski.unij.service.collect.internal.ImmutablePerfectHashMap;
 
 /**
  * Implementation of {@link UnmodifiableMapFactory} following the JDK 11
@@ -36,51 +40,143 @@ import pl.tlinkowski.unij.service.api.collect.UnmodifiableMapFactory;
  * maps</a> specification (e.g. no {@code null} keys nor values allowed, throws {@link IllegalArgumentException} on
  * duplicate keys).
  * <p>
- * This implementation returns either a {@link HashMap} wrapped by {@link Collections#unmodifiableMap} or a {@link
- * Collections#singletonMap}.
+ * This implementation returns either a flat, linear-probing {@link ImmutableMapN} or a {@link
+ * Collections#singletonMap}. The only exception are the maps with enum keys (see {@link #copyOfEnumMap} and {@link
+ * #copyOf}), for which it returns an ordinal-indexed {@link ImmutableEnumMap}.
  *
  * @author Tomasz Linkowski
  * @implNote To preserve good JVM behavior of this class (no <a href="https://shipilev.net/jvm/anatomy-quarks/16-megamorphic-virtual-calls/">megamorphic
- * calls</a>, only two implementations classes are ever returned from all of the methods. It aligns with JDK 9/10, which
- * returns only {@code MapN} or {@code Map1} implementation classes.
+ * calls</a>, only two implementations classes are ever returned from all of the standard methods. It aligns with JDK
+ * 9/10, which returns only {@code MapN} or {@code Map1} implementation classes. The third one, {@link
+ * ImmutableEnumMap}, is returned only when given an {@link EnumMap}, and the fourth one, {@link
+ * ImmutablePerfectHashMap}, only from {@link #copyOfStatic}.
  */
 @UniJService(priority = 40)
 @AutoService(UnmodifiableMapFactory.class)
 public final class Jdk8UnmodifiableMapFactory implements UnmodifiableMapFactory {
 
-  private static final Map<Object, Object> EMPTY_MAP = new Builder<>(0).build();
+  private static final Class<?> SINGLETON_MAP_CLASS = Collections.singletonMap(0, 0).getClass();
 
   //region COLLECTOR
 
   /**
    * Based on {@link Collectors#toUnmodifiableMap(Function, Function)}.
+   *
+   * @implNote Accumulates straight into the hash table of the resulting map (growing it as needed), null-checking
+   * every key and value on the way.
    */
   @Override
   public <T, K, V> Collector<T, ?, Map<K, V>> collector(Function<? super T, ? extends K> keyMapper,
           Function<? super T, ? extends V> valueMapper) {
-    return Collectors.collectingAndThen(Collectors.<T, K, V>toMap(keyMapper, valueMapper), this::ofTrustedHashMap);
+    return Collector.<T, Builder<K, V>, Map<K, V>>of(
+            Builder::new,
+            (builder, element) -> builder.accumulateWithNullChecks(
+                    keyMapper.apply(element), valueMapper.apply(element)
+            ),
+            Builder::accumulateAll,
+            Builder::build
+    );
   }
 
   /**
    * Based on {@link Collectors#toUnmodifiableMap(Function, Function, BinaryOperator)}.
+   *
+   * @implNote Accumulates straight into the hash table of the resulting map (growing it as needed), null-checking
+   * every key and value on the way.
    */
   @Override
   public <T, K, V> Collector<T, ?, Map<K, V>> collector(Function<? super T, ? extends K> keyMapper,
           Function<? super T, ? extends V> valueMapper, BinaryOperator<V> mergeFunction) {
+    return Collector.<T, Builder<K, V>, Map<K, V>>of(
+            Builder::new,
+            (builder, element) -> builder.mergeWithNullChecks(
+                    keyMapper.apply(element), valueMapper.apply(element), mergeFunction
+            ),
+            (left, right) -> left.mergeAll(right, mergeFunction),
+            Builder::build
+    );
+  }
+
+  @Override
+  public <T, K, V> Collector<T, ?, Map<K, V>> concurrentCollector(Function<? super T, ? extends K> keyMapper,
+          Function<? super T, ? extends V> valueMapper) {
     return Collectors.collectingAndThen(
-            Collectors.<T, K, V>toMap(keyMapper, valueMapper, mergeFunction), this::ofTrustedHashMap
+            Collectors.<T, K, V>toConcurrentMap(keyMapper, valueMapper), this::ofTrustedMap
+    );
+  }
+
+  @Override
+  public <T, K, V> Collector<T, ?, Map<K, V>> concurrentCollector(Function<? super T, ? extends K> keyMapper,
+          Function<? super T, ? extends V> valueMapper, BinaryOperator<V> mergeFunction) {
+    return Collectors.collectingAndThen(
+            Collectors.<T, K, V>toConcurrentMap(keyMapper, valueMapper, mergeFunction), this::ofTrustedMap
     );
   }
   //endregion
 
+  //region BUILDER
+
+  /**
+   * @implNote Accumulates straight into the hash table of the resulting map (growing it as needed).
+   */
+  @Override
+  public <K, V> UnmodifiableMapBuilder<K, V> builder(int expectedSize) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+    }
+    return new MapBuilder<>(new Builder<>(expectedSize));
+  }
+  //endregion
+
   //region COPY OF
 
   /**
-   * @implNote Copies {@param map} even if it already is unmodifiable (no way to verify this).
+   * Based on {@link Map#copyOf(Map)}.
+   *
+   * @implNote Returns {@param map} as is if it has been created by this factory (or is a {@link
+   * Collections#singletonMap} without a {@code null} key or value). Returns an {@link ImmutableEnumMap} if {@param
+   * map} is a non-empty {@link EnumMap}.
    */
+  @SuppressWarnings({"unchecked", "rawtypes"})
   @Override
   public <K, V> Map<K, V> copyOf(Map<? extends K, ? extends V> map) {
-    return ofTrustedHashMap(new HashMap<>(map));
+    if (isOwnMap(map)) {
+      return (Map<K, V>) map;
+    }
+    if (map instanceof EnumMap) {
+      return copyOfEnumMap((EnumMap) map);
+    }
+    return ofTrustedMap(map);
+  }
+
+  private static boolean isOwnMap(Map<?, ?> map) {
+    return map instanceof ImmutableMapN || map instanceof ImmutableEnumMap || map instanceof ImmutablePerfectHashMap
+            || map.getClass() == SINGLETON_MAP_CLASS && !map.containsKey(null) && !map.containsValue(null);
+  }
+
+  /**
+   * @implNote Copies the values of {@param map} straight into an array indexed by the ordinals of their keys.
+   */
+  @Override
+  public <K extends Enum<K>, V> Map<K, V> copyOfEnumMap(EnumMap<K, ? extends V> map) {
+    return map.isEmpty() ? of() : ImmutableEnumMap.copyOf(map);
+  }
+  //endregion
+
+  //region STATIC
+
+  /**
+   * @implNote Returns an {@link ImmutablePerfectHashMap} if {@param map} has at least two entries and is not an {@link
+   * EnumMap} (whose keys are already looked up without hashing). Falls back to {@link #copyOf} if some of the keys
+   * have equal hash codes (then, no perfect hash function exists).
+   */
+  @Override
+  public <K, V> Map<K, V> copyOfStatic(Map<? extends K, ? extends V> map) {
+    if (map.size() < 2 || map instanceof ImmutablePerfectHashMap || map instanceof EnumMap) {
+      return copyOf(map);
+    }
+    @NullOr Map<K, V> staticMap = ImmutablePerfectHashMap.tryCopyOf(map);
+    return staticMap != null ? staticMap : copyOf(map);
   }
   //endregion
 
@@ -116,7 +212,7 @@ public final class Jdk8UnmodifiableMapFactory implements UnmodifiableMapFactory
   @SuppressWarnings("unchecked")
   @Override
   public <K, V> Map<K, V> of() {
-    return (Map<K, V>) EMPTY_MAP;
+    return ImmutableMapN.empty();
   }
 
   @Override
@@ -250,19 +346,20 @@ public final class Jdk8UnmodifiableMapFactory implements UnmodifiableMapFactory
   }
   //endregion
 
-  private <K, V> Map<K, V> ofTrustedHashMap(Map<K, V> map) {
+  /**
+   * Null-checks and inserts the entries of {@code map} in a single pass.
+   */
+  private <K, V> Map<K, V> ofTrustedMap(Map<? extends K, ? extends V> map) {
     switch (map.size()) {
       case 0:
         return of();
       case 1:
-        Map.Entry<K, V> entry = map.entrySet().iterator().next();
+        Map.Entry<? extends K, ? extends V> entry = map.entrySet().iterator().next();
         return of(entry.getKey(), entry.getValue());
       default:
-        map.forEach((key, value) -> {
-          Objects.requireNonNull(key, "key");
-          Objects.requireNonNull(value, "value");
-        });
-        return Collections.unmodifiableMap((HashMap<K, V>) map);
+        Builder<K, V> builder = new Builder<>(map.size());
+        map.forEach(builder::putWithNullChecks);
+        return builder.build();
     }
   }
 
@@ -277,32 +374,241 @@ public final class Jdk8UnmodifiableMapFactory implements UnmodifiableMapFactory
   /**
    * Based on {@code java.util.ImmutableCollections.MapN} constructor.
    * <p>
-   * Throws {@link IllegalArgumentException} on duplicate elements.
+   * Throws {@link IllegalArgumentException} on duplicate keys passed to {@link #put}, and {@link IllegalStateException}
+   * on duplicate keys passed to {@link #accumulate} (like {@link Collectors#toMap(Function, Function)}). Duplicates are
+   * detected while probing for a free slot. Grows its hash table if more entries than expected are added.
    */
   private static class Builder<K, V> {
 
-    private final Map<K, V> map;
+    private static final int DEFAULT_EXPECTED_SIZE = 8;
+
+    private Object[] table;
+    private int size;
+
+    Builder() {
+      this(DEFAULT_EXPECTED_SIZE);
+    }
 
-    Builder(int size) {
-      this.map = new HashMap<>((int) (size / 0.75));
+    Builder(int expectedSize) {
+      this.table = ImmutableMapN.newTable(expectedSize);
     }
 
-    Builder<K, V> putWithNullChecks(@NonNull K key, @NonNull V value) {
-      return put(key, value);
+    //region PUT
+    Builder<K, V> putWithNullChecks(K key, V value) {
+      return put(Objects.requireNonNull(key, "key"), Objects.requireNonNull(value, "value"));
     }
 
     Builder<K, V> put(K key, V value) {
-      @NullOr V prevValue = map.put(key, value);
-      if (prevValue != null) {
-        throw new IllegalArgumentException(String.format(
-                "Duplicate key: %s (attempted merging values %s and %s)", key, prevValue, value
-        ));
+      int idx = putIfAbsent(key, value);
+      if (idx >= 0) {
+        throw new IllegalArgumentException(duplicateKeyMessage(key, table[idx + 1], value));
+      }
+      return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    Builder<K, V> putAll(Builder<K, V> other) {
+      ensureCapacity(size + other.size);
+      Object[] otherTable = other.table;
+      for (int i = 0; i < otherTable.length; i += 2) {
+        if (otherTable[i] != null) {
+          put((K) otherTable[i], (V) otherTable[i + 1]);
+        }
+      }
+      return this;
+    }
+
+    /**
+     * Returns the index of the key already present in the table, or a negative number if the entry was inserted.
+     */
+    private int putIfAbsent(K key, V value) {
+      ensureCapacity(size + 1);
+      int idx = ImmutableMapN.probe(table, key);
+      if (idx < 0) {
+        insertAt(-idx - 1, key, value);
+      }
+      return idx;
+    }
+
+    private static String duplicateKeyMessage(Object key, Object value1, Object value2) {
+      return String.format("Duplicate key: %s (attempted merging values %s and %s)", key, value1, value2);
+    }
+    //endregion
+
+    //region ACCUMULATE
+    void accumulateWithNullChecks(K key, V value) {
+      accumulate(Objects.requireNonNull(key, "key"), Objects.requireNonNull(value, "value"));
+    }
+
+    private void accumulate(K key, V value) {
+      int idx = putIfAbsent(key, value);
+      if (idx >= 0) {
+        throw new IllegalStateException(duplicateKeyMessage(key, table[idx + 1], value));
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    Builder<K, V> accumulateAll(Builder<K, V> other) {
+      ensureCapacity(size + other.size);
+      Object[] otherTable = other.table;
+      for (int i = 0; i < otherTable.length; i += 2) {
+        if (otherTable[i] != null) {
+          accumulate((K) otherTable[i], (V) otherTable[i + 1]);
+        }
       }
       return this;
     }
+    //endregion
+
+    //region MERGE
+    void mergeWithNullChecks(K key, V value, BinaryOperator<V> mergeFunction) {
+      merge(Objects.requireNonNull(key, "key"), Objects.requireNonNull(value, "value"), mergeFunction);
+    }
+
+    /**
+     * Based on {@link HashMap#merge} (i.e. removes the entry if {@code mergeFunction} returns {@code null}).
+     */
+    @SuppressWarnings("unchecked")
+    private void merge(K key, V value, BinaryOperator<V> mergeFunction) {
+      ensureCapacity(size + 1);
+      int idx = ImmutableMapN.probe(table, key);
+      if (idx < 0) {
+        insertAt(-idx - 1, key, value);
+        return;
+      }
+      @NullOr V mergedValue = mergeFunction.apply((V) table[idx + 1], value);
+      if (mergedValue != null) {
+        table[idx + 1] = mergedValue;
+      } else {
+        removeAt(idx);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    Builder<K, V> mergeAll(Builder<K, V> other, BinaryOperator<V> mergeFunction) {
+      ensureCapacity(size + other.size);
+      Object[] otherTable = other.table;
+      for (int i = 0; i < otherTable.length; i += 2) {
+        if (otherTable[i] != null) {
+          merge((K) otherTable[i], (V) otherTable[i + 1], mergeFunction);
+        }
+      }
+      return this;
+    }
+    //endregion
+
+    //region TABLE
+    private void insertAt(int idx, Object key, Object value) {
+      table[idx] = key;
+      table[idx + 1] = value;
+      size++;
+    }
+
+    /**
+     * Removes the entry at {@code idx} and shifts back the entries that follow it in its probe sequence (see Knuth's
+     * Algorithm R), so that no tombstones are needed.
+     */
+    private void removeAt(int idx) {
+      int hole = idx;
+      int next = idx;
+      while (true) {
+        next += 2;
+        if (next == table.length) {
+          next = 0;
+        }
+        Object key = table[next];
+        if (key == null) {
+          break;
+        }
+        int home = ImmutableMapN.homeIndex(table, key);
+        boolean reachableFromHome = hole < next ? hole < home && home <= next : hole < home || home <= next;
+        if (!reachableFromHome) {
+          table[hole] = key;
+          table[hole + 1] = table[next + 1];
+          hole = next;
+        }
+      }
+      table[hole] = null;
+      table[hole + 1] = null;
+      size--;
+    }
 
+    private void ensureCapacity(int expectedSize) {
+      if (ImmutableMapN.newTableLength(expectedSize) > table.length) {
+        rehash(Math.max(expectedSize, 2 * size));
+      }
+    }
+
+    private void rehash(int expectedSize) {
+      Object[] oldTable = table;
+      table = ImmutableMapN.newTable(expectedSize);
+      for (int i = 0; i < oldTable.length; i += 2) {
+        Object key = oldTable[i];
+        if (key != null) {
+          int idx = -ImmutableMapN.probe(table, key) - 1;
+          table[idx] = key;
+          table[idx + 1] = oldTable[i + 1];
+        }
+      }
+    }
+    //endregion
+
+    @SuppressWarnings("unchecked")
     Map<K, V> build() {
-      return Collections.unmodifiableMap(map);
+      switch (size) {
+        case 0:
+          return ImmutableMapN.empty();
+        case 1:
+          return singleEntryMap();
+        default:
+          if (table.length > 2 * ImmutableMapN.newTableLength(size)) {
+            rehash(size); // many entries were removed by merging
+          }
+          return ImmutableMapN.ofOwnedTable(table, size);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<K, V> singleEntryMap() {
+      for (int i = 0; i < table.length; i += 2) {
+        if (table[i] != null) {
+          return Collections.singletonMap((K) table[i], (V) table[i + 1]);
+        }
+      }
+      throw new IllegalStateException();
+    }
+  }
+
+  /**
+   * Single-use {@link UnmodifiableMapBuilder} handing the hash table of its {@link Builder} over to the resulting map.
+   */
+  private static final class MapBuilder<K, V> implements UnmodifiableMapBuilder<K, V> {
+
+    @NullOr
+    private Builder<K, V> builder; // null once built
+
+    MapBuilder(Builder<K, V> builder) {
+      this.builder = builder;
+    }
+
+    @Override
+    public UnmodifiableMapBuilder<K, V> put(K key, V value) {
+      builder().putWithNullChecks(key, value);
+      return this;
+    }
+
+    @Override
+    public Map<K, V> build() {
+      Map<K, V> map = builder().build();
+      builder = null;
+      return map;
+    }
+
+    private Builder<K, V> builder() {
+      if (builder == null) {
+        throw new IllegalStateException("Map already built");
+      }
+      return builder;
     }
   }
 }
@@ -24,8 +24,12 @@ import java.util.stream.Collectors;
 import com.google.auto.service.AutoService;
 import lombok.NonNull;
 
+import pl.tlinkowski.annotation.basic.NullOr;
 import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableSetBuilder;
 import pl.tlinkowski.unij.service.api.collect.UnmodifiableSetFactory;
+import pl.tlinkowski.unij.service.collect.internal.ImmutableEnumSet;
+import pl.tlinkowski.unij.service.collect.internal.ImmutableSetN;
 
 /**
  * Implementation of {@link UnmodifiableSetFactory} following the JDK 11
@@ -33,28 +37,53 @@ import pl.tlinkowski.unij.service.api.collect.UnmodifiableSetFactory;
  * sets</a> specification (e.g. no {@code null} elements allowed, throws {@link IllegalArgumentException} on duplicate
  * elements provided to {@code of(...)} methods).
  * <p>
- * This implementation returns either a {@link HashSet} wrapped by {@link Collections#unmodifiableSet} or a {@link
- * Collections#singleton}.
+ * This implementation returns either a flat, linear-probing {@link ImmutableSetN} or a {@link Collections#singleton}.
+ * The only exception are the sets of enum constants (see {@link #ofEnums} and {@link #copyOf}), for which it returns
+ * a bit-vector-backed {@link ImmutableEnumSet}.
  *
  * @author Tomasz Linkowski
  * @implNote To preserve good JVM behavior of this class (no <a href="https://shipilev.net/jvm/anatomy-quarks/16-megamorphic-virtual-calls/">megamorphic
- * calls</a>, only two implementations classes are ever returned from all of the methods. It aligns with JDK 9/10, which
- * returns only {@code SetN} or {@code Set12} implementation classes.
+ * calls</a>, only two implementations classes are ever returned from all of the standard methods. It aligns with JDK
+ * 9/10, which returns only {@code SetN} or {@code Set12} implementation classes. The third one, {@link
+ * ImmutableEnumSet}, is returned only when explicitly asked for an enum set (or given an {@link EnumSet}).
  */
 @UniJService(priority = 40)
 @AutoService(UnmodifiableSetFactory.class)
 public final class Jdk8UnmodifiableSetFactory implements UnmodifiableSetFactory {
 
-  private static final Set<Object> EMPTY_SET = new Builder<>(0).build();
+  private static final Class<?> SINGLETON_SET_CLASS = Collections.singleton(0).getClass();
 
   //region COLLECTOR
 
   /**
    * Based on {@link Collectors#toUnmodifiableSet()}.
+   *
+   * @implNote Accumulates straight into the hash table of the resulting set (growing it as needed), null-checking
+   * every element on the way.
    */
   @Override
   public <E> Collector<E, ?, Set<E>> collector() {
-    return Collectors.collectingAndThen(Collectors.toSet(), this::ofTrustedHashSet);
+    return Collector.<E, Builder<E>, Set<E>>of(
+            Builder::new,
+            (builder, element) -> builder.addIfAbsent(Objects.requireNonNull(element)),
+            Builder::addAllIfAbsent,
+            Builder::build,
+            Collector.Characteristics.UNORDERED
+    );
+  }
+  //endregion
+
+  //region BUILDER
+
+  /**
+   * @implNote Accumulates straight into the hash table of the resulting set (growing it as needed).
+   */
+  @Override
+  public <E> UnmodifiableSetBuilder<E> builder(int expectedSize) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+    }
+    return new SetBuilder<>(new Builder<>(expectedSize));
   }
   //endregion
 
@@ -63,19 +92,41 @@ public final class Jdk8UnmodifiableSetFactory implements UnmodifiableSetFactory
   /**
    * Based on {@link Set#copyOf(Collection)}.
    *
-   * @implNote Copies {@param coll} even if it already is unmodifiable (no way to verify this).
+   * @implNote Returns {@param coll} as is if it has been created by this factory (or is a {@link
+   * Collections#singleton} without a {@code null} element). Returns an {@link ImmutableEnumSet} if {@param coll} is a
+   * non-empty {@link EnumSet}.
    */
+  @SuppressWarnings("unchecked")
   @Override
   public <E> Set<E> copyOf(Collection<? extends E> coll) {
-    return ofTrustedHashSet(new HashSet<>(coll));
+    if (isOwnSet(coll)) {
+      return (Set<E>) coll;
+    }
+    if (coll instanceof EnumSet) {
+      return copyOfEnumSet((EnumSet<?>) coll);
+    }
+    Builder<E> builder = new Builder<>(coll.size());
+    for (E element : coll) {
+      builder.addIfAbsent(Objects.requireNonNull(element));
+    }
+    return builder.build();
+  }
+
+  private static boolean isOwnSet(Collection<?> coll) {
+    return coll instanceof ImmutableSetN || coll instanceof ImmutableEnumSet
+            || coll.getClass() == SINGLETON_SET_CLASS && !coll.contains(null);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private <E> Set<E> copyOfEnumSet(EnumSet<?> set) {
+    return set.isEmpty() ? of() : ImmutableEnumSet.copyOf((EnumSet) set);
   }
   //endregion
 
   //region OF
-  @SuppressWarnings("unchecked")
   @Override
   public <E> Set<E> of() {
-    return (Set<E>) EMPTY_SET;
+    return ImmutableSetN.empty();
   }
 
   @Override
@@ -213,17 +264,17 @@ public final class Jdk8UnmodifiableSetFactory implements UnmodifiableSetFactory
   }
   //endregion
 
-  private <E> Set<E> ofTrustedHashSet(Set<E> set) {
-    switch (set.size()) {
-      case 0:
-        return of();
-      case 1:
-        return of(set.iterator().next());
-      default:
-        set.forEach(Objects::requireNonNull);
-        return Collections.unmodifiableSet((HashSet<E>) set);
-    }
+  //region ENUMS
+
+  /**
+   * @implNote Sets the bits of the resulting {@link ImmutableEnumSet} directly (without creating an {@link EnumSet}).
+   */
+  @SafeVarargs
+  @Override
+  public final <E extends Enum<E>> Set<E> ofEnums(@NonNull E first, E... rest) {
+    return ImmutableEnumSet.of(first, rest);
   }
+  //endregion
 
   private <E> Set<E> ofAtLeastTwoElements(E[] elements) {
     Builder<E> builder = new Builder<>(elements.length);
@@ -236,25 +287,124 @@ public final class Jdk8UnmodifiableSetFactory implements UnmodifiableSetFactory
   /**
    * Based on {@code java.util.ImmutableCollections.SetN} constructor.
    * <p>
-   * Throws {@link IllegalArgumentException} on duplicate elements.
+   * Throws {@link IllegalArgumentException} on duplicate elements passed to {@link #add} (detected while probing for
+   * a free slot). Grows its hash table if more elements than expected are added.
    */
   private static class Builder<E> {
 
-    private final Set<E> set;
+    private static final int DEFAULT_EXPECTED_SIZE = 8;
+
+    private Object[] table;
+    private int size;
+
+    Builder() {
+      this(DEFAULT_EXPECTED_SIZE);
+    }
 
-    Builder(int size) {
-      this.set = new HashSet<>((int) (size / 0.75)); // based on HashSet(Collection) constructor
+    Builder(int expectedSize) {
+      this.table = ImmutableSetN.newTable(expectedSize);
     }
 
     Builder<E> add(E element) {
-      if (!set.add(element)) {
+      if (!addIfAbsent(element)) {
         throw new IllegalArgumentException("Duplicate element: " + element);
       }
       return this;
     }
 
+    boolean addIfAbsent(E element) {
+      ensureCapacity(size + 1);
+      int idx = ImmutableSetN.probe(table, element);
+      if (idx >= 0) {
+        return false;
+      }
+      table[-idx - 1] = element;
+      size++;
+      return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    Builder<E> addAllIfAbsent(Builder<E> other) {
+      ensureCapacity(size + other.size);
+      for (Object element : other.table) {
+        if (element != null) {
+          addIfAbsent((E) element);
+        }
+      }
+      return this;
+    }
+
+    private void ensureCapacity(int expectedSize) {
+      if (ImmutableSetN.newTableLength(expectedSize) > table.length) {
+        rehash(Math.max(expectedSize, 2 * size));
+      }
+    }
+
+    private void rehash(int expectedSize) {
+      Object[] oldTable = table;
+      table = ImmutableSetN.newTable(expectedSize);
+      for (Object element : oldTable) {
+        if (element != null) {
+          table[-ImmutableSetN.probe(table, element) - 1] = element;
+        }
+      }
+    }
+
     Set<E> build() {
-      return Collections.unmodifiableSet(set);
+      switch (size) {
+        case 0:
+          return ImmutableSetN.empty();
+        case 1:
+          return Collections.singleton(singleElement());
+        default:
+          if (table.length > ImmutableSetN.newTableLength(2 * size)) {
+            rehash(size); // many duplicates were skipped
+          }
+          return ImmutableSetN.ofOwnedTable(table, size);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private E singleElement() {
+      for (Object element : table) {
+        if (element != null) {
+          return (E) element;
+        }
+      }
+      throw new IllegalStateException();
+    }
+  }
+
+  /**
+   * Single-use {@link UnmodifiableSetBuilder} handing the hash table of its {@link Builder} over to the resulting set.
+   */
+  private static final class SetBuilder<E> implements UnmodifiableSetBuilder<E> {
+
+    @NullOr
+    private Builder<E> builder; // null once built
+
+    SetBuilder(Builder<E> builder) {
+      this.builder = builder;
+    }
+
+    @Override
+    public UnmodifiableSetBuilder<E> add(E element) {
+      builder().addIfAbsent(Objects.requireNonNull(element));
+      return this;
+    }
+
+    @Override
+    public Set<E> build() {
+      Set<E> set = builder().build();
+      builder = null;
+      return set;
+    }
+
+    private Builder<E> builder() {
+      if (builder == null) {
+        throw new IllegalStateException("Set already built");
+      }
+      return builder;
     }
   }
 }
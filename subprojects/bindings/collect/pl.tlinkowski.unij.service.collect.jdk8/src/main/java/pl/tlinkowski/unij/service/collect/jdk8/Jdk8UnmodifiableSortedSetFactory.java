@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.jdk8;
+
+import java.util.*;
+import java.util.stream.Collector;
+
+import com.google.auto.service.AutoService;
+
+import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableSortedSetFactory;
+import pl.tlinkowski.unij.service.collect.internal.ImmutableSortedArraySet;
+
+/**
+ * Implementation of {@link UnmodifiableSortedSetFactory} that returns {@link ImmutableSortedArraySet}s.
+ *
+ * @author Tomasz Linkowski
+ */
+@UniJService(priority = 40)
+@AutoService(UnmodifiableSortedSetFactory.class)
+public final class Jdk8UnmodifiableSortedSetFactory implements UnmodifiableSortedSetFactory {
+
+  //region COLLECTOR
+
+  /**
+   * @implNote Accumulates the elements into an {@link ArrayList} and sorts them only once (in the finisher).
+   */
+  @Override
+  public <E> Collector<E, ?, SortedSet<E>> collector(Comparator<? super E> comparator) {
+    Objects.requireNonNull(comparator, "comparator");
+    return Collector.<E, List<E>, SortedSet<E>>of(
+            ArrayList::new,
+            (list, element) -> list.add(Objects.requireNonNull(element)),
+            (left, right) -> {
+              left.addAll(right);
+              return left;
+            },
+            list -> ImmutableSortedArraySet.ofOwnedUnsorted(comparator, list.toArray(), false),
+            Collector.Characteristics.UNORDERED
+    );
+  }
+  //endregion
+
+  //region COPY OF
+
+  /**
+   * @implNote Returns {@param set} as is if it has been created by this factory. Otherwise, copies its elements without
+   * sorting them again.
+   */
+  @Override
+  public <E> SortedSet<E> copyOf(SortedSet<E> set) {
+    if (set instanceof ImmutableSortedArraySet) {
+      return set;
+    }
+    return ImmutableSortedArraySet.copyOfSorted(set);
+  }
+
+  /**
+   * @implNote Returns {@param coll} as is if it has been created by this factory with the same {@param comparator}.
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public <E> SortedSet<E> copyOf(Comparator<? super E> comparator, Collection<? extends E> coll) {
+    if (coll instanceof ImmutableSortedArraySet && ((SortedSet<E>) coll).comparator() == comparator) {
+      return (SortedSet<E>) coll;
+    }
+    return ImmutableSortedArraySet.ofOwnedUnsorted(comparator, coll.toArray(), false);
+  }
+  //endregion
+
+  //region OF
+  @SafeVarargs
+  @Override
+  public final <E> SortedSet<E> of(Comparator<? super E> comparator, E... elements) {
+    return ImmutableSortedArraySet.ofOwnedUnsorted(comparator, elements.clone(), true);
+  }
+  //endregion
+}
@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.persistent;
+
+import java.io.*;
+import java.util.Arrays;
+import java.util.Map;
+
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableMapBuilder;
+
+/**
+ * Serialization proxy for all the collections returned by the factories of this binding.
+ * <p>
+ * Based on {@code java.util.CollSer}: writes only the kind of the collection and its contents (no trie nodes), and
+ * reads them back through the factories, which rebuilds the tries (including the shared empty instances), and which
+ * validates the contents.
+ *
+ * @author Tomasz Linkowski
+ */
+final class CollSer implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+  /**
+   * Capacity of the array allocated before reading the elements from the stream.
+   */
+  private static final int MAX_INITIAL_CAPACITY = 1 << 10;
+
+  //region TAGS
+  static final int LIST = 1; // elements
+  static final int SET = 2; // elements
+  static final int MAP = 3; // keys and values interleaved
+  //endregion
+
+  private final int tag;
+  private transient Object[] array;
+
+  /**
+   * @param array array that is only read from (so it may be shared with the collection being serialized)
+   */
+  CollSer(int tag, Object[] array) {
+    this.tag = tag;
+    this.array = array;
+  }
+
+  /**
+   * Returns a new array with the keys and the values of the given map interleaved.
+   */
+  static Object[] interleave(Map<?, ?> map) {
+    Object[] keysAndValues = new Object[2 * map.size()];
+    int i = 0;
+    for (Map.Entry<?, ?> entry : map.entrySet()) {
+      keysAndValues[i++] = entry.getKey();
+      keysAndValues[i++] = entry.getValue();
+    }
+    return keysAndValues;
+  }
+
+  //region SERIALIZATION
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    out.writeInt(array.length);
+    for (Object element : array) {
+      out.writeObject(element);
+    }
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    int length = in.readInt();
+    if (length < 0) {
+      throw new InvalidObjectException("Negative length: " + length);
+    }
+    // the length comes from the stream, so the array grows only as the elements are actually read
+    Object[] elements = new Object[Math.min(length, MAX_INITIAL_CAPACITY)];
+    for (int i = 0; i < length; i++) {
+      if (i == elements.length) {
+        elements = Arrays.copyOf(elements, (int) Math.min(length, 2L * i));
+      }
+      elements[i] = in.readObject();
+    }
+    array = elements;
+  }
+
+  private Object readResolve() throws ObjectStreamException {
+    try {
+      return resolve();
+    } catch (RuntimeException ex) {
+      InvalidObjectException ioe = new InvalidObjectException("Invalid collection data (tag " + tag + ")");
+      ioe.initCause(ex);
+      throw ioe;
+    }
+  }
+  //endregion
+
+  //region RESOLUTION
+  private Object resolve() throws InvalidObjectException {
+    switch (tag) {
+      case LIST:
+        return new PersistentUnmodifiableListFactory().of(array);
+      case SET:
+        return new PersistentUnmodifiableSetFactory().of(array);
+      case MAP:
+        return toMap();
+      default:
+        throw new InvalidObjectException("Invalid tag: " + tag);
+    }
+  }
+
+  private Map<Object, Object> toMap() {
+    UnmodifiableMapBuilder<Object, Object> builder = new PersistentUnmodifiableMapFactory().builder(array.length / 2);
+    for (int i = 0; i < array.length; i += 2) {
+      builder.put(array[i], array[i + 1]);
+    }
+    return builder.build();
+  }
+  //endregion
+}
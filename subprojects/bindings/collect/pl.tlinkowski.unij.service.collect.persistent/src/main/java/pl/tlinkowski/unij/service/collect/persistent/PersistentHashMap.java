@@ -0,0 +1,536 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.persistent;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.*;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+import pl.tlinkowski.unij.service.collect.internal.AbstractImmutableMap;
+import pl.tlinkowski.unij.service.collect.internal.AbstractImmutableSet;
+
+/**
+ * Immutable, persistent {@link Map} backed by a hash array mapped trie (like Clojure's {@code PersistentHashMap}).
+ * <p>
+ * Every node of the trie consumes {@value #BITS} bits of the hash code of a key, and stores only its present slots
+ * (indexed using a bitmap). Hence, {@link #get} takes {@code O(log32(n))} time, and {@link #with}/{@link #without}
+ * copy only a single path of the trie, sharing the rest of it with this map. A new map, on the other hand, is built
+ * in a single pass by {@link #ofPairs} (without copying any path of its trie).
+ *
+ * @author Tomasz Linkowski
+ */
+final class PersistentHashMap<K, V> extends AbstractImmutableMap<K, V> implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final int BITS = 5;
+  private static final int WIDTH = 1 << BITS;
+  private static final int MASK = WIDTH - 1;
+  /**
+   * Maximum depth of the trie: seven levels of bitmap nodes (consuming all the 32 bits of the hash code) followed by
+   * a level of collision nodes.
+   */
+  private static final int MAX_DEPTH = 8;
+
+  static final PersistentHashMap<Object, Object> EMPTY = new PersistentHashMap<>(BitmapNode.EMPTY, 0);
+
+  private final Node root;
+  private final int size;
+
+  private PersistentHashMap(Node root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  /**
+   * Builds the trie from the first {@code size} (non-{@code null}) key-value pairs of the interleaved {@code
+   * keysAndValues}, ignoring the duplicate keys (the first one wins).
+   */
+  @SuppressWarnings("unchecked")
+  static <K, V> PersistentHashMap<K, V> ofPairs(Object[] keysAndValues, int size) {
+    if (size == 0) {
+      return (PersistentHashMap<K, V>) EMPTY;
+    }
+    TrieBuilder builder = new TrieBuilder(keysAndValues, size);
+    BitmapNode root = builder.bitmapNode(0, 0, size);
+    return new PersistentHashMap<>(root, builder.distinctSize);
+  }
+
+  //region QUERIES
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @SuppressWarnings("unchecked")
+  @NullOr
+  @Override
+  public V get(@NullOr Object key) {
+    return key != null ? (V) root.find(0, key.hashCode(), key) : null;
+  }
+
+  @Override
+  public boolean containsKey(@NullOr Object key) {
+    return get(key) != null;
+  }
+  //endregion
+
+  //region PERSISTENT
+
+  /**
+   * Returns a map consisting of the entries of this map with the given non-{@code null} {@code key} mapped to the
+   * given non-{@code null} {@code value}. Returns this map if it already contains such a mapping.
+   */
+  PersistentHashMap<K, V> with(K key, V value) {
+    int hash = key.hashCode();
+    @NullOr Object oldValue = root.find(0, hash, key);
+    if (oldValue == value) {
+      return this;
+    }
+    return new PersistentHashMap<>(root.with(0, hash, key, value), oldValue != null ? size : size + 1);
+  }
+
+  /**
+   * Returns a map consisting of the entries of this map except for the one with the given non-{@code null} {@code
+   * key}. Returns this map if it doesn't contain such a key.
+   */
+  @SuppressWarnings("unchecked")
+  PersistentHashMap<K, V> without(Object key) {
+    int hash = key.hashCode();
+    if (root.find(0, hash, key) == null) {
+      return this;
+    }
+    @NullOr Node newRoot = root.without(0, hash, key);
+    return newRoot != null ? new PersistentHashMap<>(newRoot, size - 1) : (PersistentHashMap<K, V>) EMPTY;
+  }
+  //endregion
+
+  //region VIEWS
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return new AbstractImmutableSet<Entry<K, V>>() {
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public Iterator<Entry<K, V>> iterator() {
+        return new TrieItr<Entry<K, V>>(root) {
+          @SuppressWarnings("unchecked")
+          @Override
+          Entry<K, V> current(Object key, Object value) {
+            return new SimpleImmutableEntry<>((K) key, (V) value);
+          }
+        };
+      }
+    };
+  }
+
+  @Override
+  protected Iterator<K> keyIterator() {
+    return new TrieItr<K>(root) {
+      @SuppressWarnings("unchecked")
+      @Override
+      K current(Object key, Object value) {
+        return (K) key;
+      }
+    };
+  }
+
+  @Override
+  protected Iterator<V> valueIterator() {
+    return new TrieItr<V>(root) {
+      @SuppressWarnings("unchecked")
+      @Override
+      V current(Object key, Object value) {
+        return (V) value;
+      }
+    };
+  }
+  //endregion
+
+  //region SERIALIZATION
+  private Object writeReplace() {
+    return new CollSer(CollSer.MAP, CollSer.interleave(this));
+  }
+
+  private void readObject(ObjectInputStream in) throws InvalidObjectException {
+    throw new InvalidObjectException("CollSer required");
+  }
+  //endregion
+
+  //region NODES
+
+  /**
+   * Node of the trie holding its slots as key-value pairs in an array (a {@code null} key means that the value is a
+   * child {@link Node}).
+   */
+  private abstract static class Node {
+
+    final Object[] array;
+
+    Node(Object[] array) {
+      this.array = array;
+    }
+
+    /**
+     * Returns the value mapped to {@code key} (or {@code null} if absent).
+     */
+    @NullOr
+    abstract Object find(int shift, int hash, Object key);
+
+    /**
+     * Returns a copy of this node where {@code key} is mapped to {@code value}.
+     */
+    abstract Node with(int shift, int hash, Object key, Object value);
+
+    /**
+     * Returns a copy of this node without the (present) {@code key}, or {@code null} if the copy would be empty.
+     */
+    @NullOr
+    abstract Node without(int shift, int hash, Object key);
+
+    static Object[] insertPair(Object[] array, int idx, Object key, Object value) {
+      Object[] newArray = new Object[array.length + 2];
+      System.arraycopy(array, 0, newArray, 0, idx);
+      newArray[idx] = key;
+      newArray[idx + 1] = value;
+      System.arraycopy(array, idx, newArray, idx + 2, array.length - idx);
+      return newArray;
+    }
+
+    static Object[] removePair(Object[] array, int idx) {
+      Object[] newArray = new Object[array.length - 2];
+      System.arraycopy(array, 0, newArray, 0, idx);
+      System.arraycopy(array, idx + 2, newArray, idx, array.length - idx - 2);
+      return newArray;
+    }
+
+    static Object[] replaceValue(Object[] array, int idx, Object value) {
+      Object[] newArray = array.clone();
+      newArray[idx + 1] = value;
+      return newArray;
+    }
+  }
+
+  /**
+   * Node storing only its present slots, as indicated by the set bits of its {@code bitmap}.
+   */
+  private static final class BitmapNode extends Node {
+
+    static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+    private final int bitmap;
+
+    BitmapNode(int bitmap, Object[] array) {
+      super(array);
+      this.bitmap = bitmap;
+    }
+
+    private static int bit(int shift, int hash) {
+      return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private int index(int bit) {
+      return 2 * Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    @NullOr
+    @Override
+    Object find(int shift, int hash, Object key) {
+      int bit = bit(shift, hash);
+      if ((bitmap & bit) == 0) {
+        return null;
+      }
+      int idx = index(bit);
+      Object slotKey = array[idx];
+      if (slotKey == null) {
+        return ((Node) array[idx + 1]).find(shift + BITS, hash, key);
+      }
+      return key.equals(slotKey) ? array[idx + 1] : null;
+    }
+
+    @Override
+    Node with(int shift, int hash, Object key, Object value) {
+      int bit = bit(shift, hash);
+      int idx = index(bit);
+      if ((bitmap & bit) == 0) {
+        return new BitmapNode(bitmap | bit, insertPair(array, idx, key, value));
+      }
+      Object slotKey = array[idx];
+      Object slotValue = array[idx + 1];
+      if (slotKey == null) {
+        Node child = ((Node) slotValue).with(shift + BITS, hash, key, value);
+        return new BitmapNode(bitmap, replaceValue(array, idx, child));
+      }
+      if (key.equals(slotKey)) {
+        return new BitmapNode(bitmap, replaceValue(array, idx, value));
+      }
+      Object[] newArray = replaceValue(array, idx, newChild(shift + BITS, slotKey, slotValue, hash, key, value));
+      newArray[idx] = null;
+      return new BitmapNode(bitmap, newArray);
+    }
+
+    private static Node newChild(int shift, Object key1, Object value1, int hash2, Object key2, Object value2) {
+      int hash1 = key1.hashCode();
+      if (hash1 == hash2) {
+        return new CollisionNode(hash1, new Object[]{key1, value1, key2, value2});
+      }
+      return EMPTY.with(shift, hash1, key1, value1).with(shift, hash2, key2, value2);
+    }
+
+    @NullOr
+    @Override
+    Node without(int shift, int hash, Object key) {
+      int bit = bit(shift, hash);
+      int idx = index(bit);
+      if (array[idx] == null) {
+        @NullOr Node child = ((Node) array[idx + 1]).without(shift + BITS, hash, key);
+        if (child != null) {
+          return new BitmapNode(bitmap, replaceValue(array, idx, child));
+        }
+      }
+      return bitmap != bit ? new BitmapNode(bitmap ^ bit, removePair(array, idx)) : null;
+    }
+  }
+
+  /**
+   * Node storing the keys that have the same hash code (compared using {@link Object#equals}).
+   */
+  private static final class CollisionNode extends Node {
+
+    private final int hash;
+
+    CollisionNode(int hash, Object[] array) {
+      super(array);
+      this.hash = hash;
+    }
+
+    private int indexOf(Object key) {
+      for (int i = 0; i < array.length; i += 2) {
+        if (key.equals(array[i])) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    @NullOr
+    @Override
+    Object find(int shift, int hash, Object key) {
+      if (hash != this.hash) {
+        return null;
+      }
+      int idx = indexOf(key);
+      return idx >= 0 ? array[idx + 1] : null;
+    }
+
+    @Override
+    Node with(int shift, int hash, Object key, Object value) {
+      if (hash != this.hash) {
+        // nest this node in a bitmap node where the two hash codes diverge
+        return new BitmapNode(BitmapNode.bit(shift, this.hash), new Object[]{null, this}).with(shift, hash, key, value);
+      }
+      int idx = indexOf(key);
+      return idx >= 0
+              ? new CollisionNode(hash, replaceValue(array, idx, value))
+              : new CollisionNode(hash, insertPair(array, array.length, key, value));
+    }
+
+    @NullOr
+    @Override
+    Node without(int shift, int hash, Object key) {
+      return array.length > 2 ? new CollisionNode(hash, removePair(array, indexOf(key))) : null;
+    }
+  }
+
+  /**
+   * Builds the trie top-down, partitioning the pairs by the consecutive {@value #BITS}-bit chunks of the hash codes of
+   * their keys (so every node gets allocated only once, with its final size).
+   */
+  private static final class TrieBuilder {
+
+    private final Object[] keysAndValues;
+    private final int[] hashes;
+    private final int[] order; // indices of the pairs, partitioned in place
+    private final int[] buffer;
+    int distinctSize;
+
+    TrieBuilder(Object[] keysAndValues, int size) {
+      this.keysAndValues = keysAndValues;
+      this.hashes = new int[size];
+      this.order = new int[size];
+      this.buffer = new int[size];
+      for (int i = 0; i < size; i++) {
+        hashes[i] = keysAndValues[2 * i].hashCode();
+        order[i] = i;
+      }
+    }
+
+    /**
+     * Builds a node holding the (at least one) pairs indexed by {@code order[from..to)}.
+     */
+    BitmapNode bitmapNode(int shift, int from, int to) {
+      int[] starts = new int[WIDTH + 1];
+      for (int i = from; i < to; i++) {
+        starts[chunk(shift, order[i]) + 1]++;
+      }
+      int bitmap = 0;
+      starts[0] = from;
+      for (int chunk = 0; chunk < WIDTH; chunk++) {
+        if (starts[chunk + 1] > 0) {
+          bitmap |= 1 << chunk;
+        }
+        starts[chunk + 1] += starts[chunk];
+      }
+      int[] positions = Arrays.copyOf(starts, WIDTH);
+      for (int i = from; i < to; i++) {
+        buffer[positions[chunk(shift, order[i])]++] = order[i];
+      }
+      System.arraycopy(buffer, from, order, from, to - from);
+
+      Object[] array = new Object[2 * Integer.bitCount(bitmap)];
+      int idx = 0;
+      for (int chunk = 0; chunk < WIDTH; chunk++) {
+        if (starts[chunk] < starts[chunk + 1]) {
+          fillSlot(array, idx, shift, starts[chunk], starts[chunk + 1]);
+          idx += 2;
+        }
+      }
+      return new BitmapNode(bitmap, array);
+    }
+
+    private int chunk(int shift, int pairIndex) {
+      return (hashes[pairIndex] >>> shift) & MASK;
+    }
+
+    private void fillSlot(Object[] array, int idx, int shift, int from, int to) {
+      if (!sameHash(from, to)) {
+        array[idx + 1] = bitmapNode(shift + BITS, from, to); // array[idx] stays null
+        return;
+      }
+      Object[] pairs = distinctPairs(from, to);
+      if (pairs.length == 2) {
+        array[idx] = pairs[0];
+        array[idx + 1] = pairs[1];
+      } else {
+        array[idx + 1] = new CollisionNode(hashes[order[from]], pairs);
+      }
+    }
+
+    private boolean sameHash(int from, int to) {
+      int hash = hashes[order[from]];
+      for (int i = from + 1; i < to; i++) {
+        if (hashes[order[i]] != hash) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private Object[] distinctPairs(int from, int to) {
+      Object[] pairs = new Object[2 * (to - from)];
+      int length = 0;
+      for (int i = from; i < to; i++) {
+        Object key = keysAndValues[2 * order[i]];
+        if (!containsKey(pairs, length, key)) {
+          pairs[length++] = key;
+          pairs[length++] = keysAndValues[2 * order[i] + 1];
+        }
+      }
+      distinctSize += length / 2;
+      return length == pairs.length ? pairs : Arrays.copyOf(pairs, length);
+    }
+
+    private static boolean containsKey(Object[] pairs, int length, Object key) {
+      for (int i = 0; i < length; i += 2) {
+        if (key.equals(pairs[i])) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+  //endregion
+
+  /**
+   * Read-only iterator walking the trie depth-first (using an explicit stack of node arrays).
+   */
+  private abstract static class TrieItr<T> implements Iterator<T> {
+
+    private final Object[][] arrays = new Object[MAX_DEPTH][];
+    private final int[] indices = new int[MAX_DEPTH];
+    private int depth;
+
+    @NullOr
+    private Object nextKey;
+    @NullOr
+    private Object nextValue;
+
+    TrieItr(Node root) {
+      arrays[0] = root.array;
+      advance();
+    }
+
+    abstract T current(Object key, Object value);
+
+    private void advance() {
+      while (depth >= 0) {
+        Object[] array = arrays[depth];
+        int idx = indices[depth];
+        if (idx == array.length) {
+          depth--;
+          continue;
+        }
+        indices[depth] = idx + 2;
+        if (array[idx] != null) {
+          nextKey = array[idx];
+          nextValue = array[idx + 1];
+          return;
+        }
+        depth++;
+        arrays[depth] = ((Node) array[idx + 1]).array;
+        indices[depth] = 0;
+      }
+      nextKey = null;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return nextKey != null;
+    }
+
+    @Override
+    public T next() {
+      if (nextKey == null || nextValue == null) {
+        throw new NoSuchElementException();
+      }
+      T current = current(nextKey, nextValue);
+      advance();
+      return current;
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.persistent;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Set;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+import pl.tlinkowski.unij.service.collect.internal.AbstractImmutableSet;
+
+/**
+ * Immutable, persistent {@link Set} backed by the hash array mapped trie of a {@link PersistentHashMap}.
+ *
+ * @author Tomasz Linkowski
+ */
+final class PersistentHashSet<E> extends AbstractImmutableSet<E> implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  static final PersistentHashSet<Object> EMPTY = new PersistentHashSet<>(PersistentHashMap.EMPTY);
+
+  private final PersistentHashMap<E, Boolean> map; // maps every element to TRUE
+
+  @SuppressWarnings("unchecked")
+  private PersistentHashSet(PersistentHashMap<?, ?> map) {
+    this.map = (PersistentHashMap<E, Boolean>) map;
+  }
+
+  /**
+   * Builds the trie from the first {@code size} (non-{@code null}) {@code elements} in a single pass (see {@link
+   * PersistentHashMap#ofPairs}), ignoring the duplicate elements.
+   */
+  @SuppressWarnings("unchecked")
+  static <E> PersistentHashSet<E> ofElements(Object[] elements, int size) {
+    if (size == 0) {
+      return (PersistentHashSet<E>) EMPTY;
+    }
+    Object[] keysAndValues = new Object[2 * size];
+    for (int i = 0; i < size; i++) {
+      keysAndValues[2 * i] = elements[i];
+      keysAndValues[2 * i + 1] = Boolean.TRUE;
+    }
+    return new PersistentHashSet<>(PersistentHashMap.ofPairs(keysAndValues, size));
+  }
+
+  //region QUERIES
+  @Override
+  public int size() {
+    return map.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return map.isEmpty();
+  }
+
+  @Override
+  public boolean contains(@NullOr Object o) {
+    return map.containsKey(o);
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return map.keyIterator();
+  }
+  //endregion
+
+  //region PERSISTENT
+
+  /**
+   * Returns a set consisting of the elements of this set and the given non-{@code null} {@code element}. Returns this
+   * set if it already contains {@code element}.
+   */
+  PersistentHashSet<E> with(E element) {
+    PersistentHashMap<E, Boolean> newMap = map.with(element, Boolean.TRUE);
+    return newMap != map ? new PersistentHashSet<>(newMap) : this;
+  }
+  //endregion
+
+  //region SERIALIZATION
+  private Object writeReplace() {
+    return new CollSer(CollSer.SET, toArray());
+  }
+
+  private void readObject(ObjectInputStream in) throws InvalidObjectException {
+    throw new InvalidObjectException("CollSer required");
+  }
+  //endregion
+}
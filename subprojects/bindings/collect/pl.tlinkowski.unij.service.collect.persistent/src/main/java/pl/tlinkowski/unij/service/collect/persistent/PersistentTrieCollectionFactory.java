@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.persistent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.auto.service.AutoService;
+
+import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.PersistentCollectionFactory;
+
+/**
+ * Implementation of {@link PersistentCollectionFactory} based on the tries of {@link PersistentVector}, {@link
+ * PersistentHashSet} and {@link PersistentHashMap}.
+ * <p>
+ * Since UniJ loads this service separately from the regular factories, it's used even if another binding (with a
+ * higher priority than the one of {@link PersistentUnmodifiableListFactory} etc.) is present at runtime.
+ *
+ * @author Tomasz Linkowski
+ */
+@UniJService(priority = 50)
+@AutoService(PersistentCollectionFactory.class)
+public final class PersistentTrieCollectionFactory implements PersistentCollectionFactory {
+
+  private final PersistentUnmodifiableListFactory listFactory = new PersistentUnmodifiableListFactory();
+  private final PersistentUnmodifiableSetFactory setFactory = new PersistentUnmodifiableSetFactory();
+  private final PersistentUnmodifiableMapFactory mapFactory = new PersistentUnmodifiableMapFactory();
+
+  /**
+   * @implNote If {@param list} has not been created by this binding, copies it into a {@link PersistentVector}, so
+   * that the calls on the returned list share its structure.
+   */
+  @Override
+  public <E> List<E> with(List<? extends E> list, E element) {
+    return listFactory.with(list, element);
+  }
+
+  /**
+   * @implNote If {@param set} has not been created by this binding, copies it into a {@link PersistentHashSet}, so
+   * that the calls on the returned set share its structure.
+   */
+  @Override
+  public <E> Set<E> with(Set<? extends E> set, E element) {
+    return setFactory.with(set, element);
+  }
+
+  /**
+   * @implNote If {@param map} has not been created by this binding, copies it into a {@link PersistentHashMap}, so
+   * that the calls on the returned map share its structure.
+   */
+  @Override
+  public <K, V> Map<K, V> with(Map<? extends K, ? extends V> map, K key, V value) {
+    return mapFactory.with(map, key, value);
+  }
+
+  /**
+   * @implNote If {@param map} has not been created by this binding, copies it into a {@link PersistentHashMap}, so
+   * that the calls on the returned map share its structure.
+   */
+  @Override
+  public <K, V> Map<K, V> without(Map<? extends K, ? extends V> map, Object key) {
+    return mapFactory.without(map, key);
+  }
+}
@@ -0,0 +1,224 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.persistent;
+
+import java.util.*;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import com.google.auto.service.AutoService;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableListBuilder;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableListFactory;
+
+/**
+ * Implementation of {@link UnmodifiableListFactory} following the JDK 11
+ * <a href="https://docs.oracle.com/en/java/javase/11/docs/api/java.base/java/util/List.html#unmodifiable">unmodifiable
+ * lists</a> specification (e.g. no {@code null} elements allowed).
+ * <p>
+ * This implementation always returns a {@link PersistentVector}, so that {@link #with} can share the structure of the
+ * given list with the returned one.
+ *
+ * @author Tomasz Linkowski
+ */
+@UniJService(priority = 50)
+@AutoService(UnmodifiableListFactory.class)
+public final class PersistentUnmodifiableListFactory implements UnmodifiableListFactory {
+
+  //region COLLECTOR
+
+  /**
+   * Based on {@link Collectors#toUnmodifiableList()}.
+   */
+  @Override
+  public <E> Collector<E, ?, List<E>> collector() {
+    return Collector.<E, List<E>, List<E>>of(
+            ArrayList::new,
+            (list, element) -> list.add(Objects.requireNonNull(element)),
+            (left, right) -> {
+              left.addAll(right);
+              return left;
+            },
+            list -> PersistentVector.copyOf(list.toArray(), list.size())
+    );
+  }
+  //endregion
+
+  //region BUILDER
+
+  /**
+   * @implNote Accumulates into an array, which is then split into the leaves of the resulting {@link
+   * PersistentVector}.
+   */
+  @Override
+  public <E> UnmodifiableListBuilder<E> builder(int expectedSize) {
+    return new ListBuilder<>(expectedSize);
+  }
+  //endregion
+
+  //region COPY OF
+
+  /**
+   * Based on {@link List#copyOf(Collection)}.
+   *
+   * @implNote Returns {@param coll} as is if it has been created by this factory.
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public <E> List<E> copyOf(Collection<? extends E> coll) {
+    if (coll instanceof PersistentVector) {
+      return (List<E>) coll;
+    }
+    return ofArray(coll.toArray());
+  }
+  //endregion
+
+  //region OF
+  @SuppressWarnings("unchecked")
+  @Override
+  public <E> List<E> of() {
+    return (List<E>) PersistentVector.EMPTY;
+  }
+
+  @Override
+  public <E> List<E> of(E e1) {
+    return ofArray(e1);
+  }
+
+  @Override
+  public <E> List<E> of(E e1, E e2) {
+    return ofArray(e1, e2);
+  }
+
+  @Override
+  public <E> List<E> of(E e1, E e2, E e3) {
+    return ofArray(e1, e2, e3);
+  }
+
+  @Override
+  public <E> List<E> of(E e1, E e2, E e3, E e4) {
+    return ofArray(e1, e2, e3, e4);
+  }
+
+  @Override
+  public <E> List<E> of(E e1, E e2, E e3, E e4, E e5) {
+    return ofArray(e1, e2, e3, e4, e5);
+  }
+
+  @Override
+  public <E> List<E> of(E e1, E e2, E e3, E e4, E e5, E e6) {
+    return ofArray(e1, e2, e3, e4, e5, e6);
+  }
+
+  @Override
+  public <E> List<E> of(E e1, E e2, E e3, E e4, E e5, E e6, E e7) {
+    return ofArray(e1, e2, e3, e4, e5, e6, e7);
+  }
+
+  @Override
+  public <E> List<E> of(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8) {
+    return ofArray(e1, e2, e3, e4, e5, e6, e7, e8);
+  }
+
+  @Override
+  public <E> List<E> of(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9) {
+    return ofArray(e1, e2, e3, e4, e5, e6, e7, e8, e9);
+  }
+
+  @SuppressWarnings("PMD.ExcessiveParameterList")
+  @Override
+  public <E> List<E> of(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9, E e10) {
+    return ofArray(e1, e2, e3, e4, e5, e6, e7, e8, e9, e10);
+  }
+
+  @SafeVarargs
+  @Override
+  public final <E> List<E> of(E... elements) {
+    return ofArray(elements);
+  }
+  //endregion
+
+  //region PERSISTENT
+
+  /**
+   * @implNote Copies only the tail of {@param list} (or a single path of its trie) if it has been created by this
+   * factory.
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public <E> List<E> with(List<? extends E> list, E element) {
+    if (list instanceof PersistentVector) {
+      return ((PersistentVector<E>) list).with(Objects.requireNonNull(element));
+    }
+    return UnmodifiableListFactory.super.with(list, element);
+  }
+  //endregion
+
+  /**
+   * Null-checks the {@code elements}, which are then copied into the leaves of the resulting {@link PersistentVector}.
+   */
+  private static <E> List<E> ofArray(Object... elements) {
+    for (Object element : elements) {
+      Objects.requireNonNull(element);
+    }
+    return PersistentVector.copyOf(elements, elements.length);
+  }
+
+  /**
+   * Single-use {@link UnmodifiableListBuilder} accumulating the elements in an array.
+   */
+  private static final class ListBuilder<E> implements UnmodifiableListBuilder<E> {
+
+    @NullOr
+    private Object[] elements; // null once built
+    private int size;
+
+    ListBuilder(int expectedSize) {
+      if (expectedSize < 0) {
+        throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+      }
+      this.elements = new Object[expectedSize];
+    }
+
+    @Override
+    public UnmodifiableListBuilder<E> add(E element) {
+      Object[] array = elements();
+      if (size == array.length) {
+        array = elements = Arrays.copyOf(array, Math.max(size + (size >> 1), size + 1));
+      }
+      array[size++] = Objects.requireNonNull(element);
+      return this;
+    }
+
+    @Override
+    public List<E> build() {
+      List<E> list = PersistentVector.copyOf(elements(), size);
+      elements = null;
+      return list;
+    }
+
+    private Object[] elements() {
+      if (elements == null) {
+        throw new IllegalStateException("List already built");
+      }
+      return elements;
+    }
+  }
+}
@@ -0,0 +1,389 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.persistent;
+
+import java.util.*;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import com.google.auto.service.AutoService;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableMapBuilder;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableMapFactory;
+
+/**
+ * Implementation of {@link UnmodifiableMapFactory} following the JDK 11
+ * <a href="https://docs.oracle.com/en/java/javase/11/docs/api/java.base/java/util/Map.html#unmodifiable">unmodifiable
+ * maps</a> specification (e.g. no {@code null} keys nor values allowed, throws {@link IllegalArgumentException} on
+ * duplicate keys).
+ * <p>
+ * This implementation always returns a {@link PersistentHashMap}, so that {@link #with} and {@link #without} can share
+ * the structure of the given map with the returned one.
+ *
+ * @author Tomasz Linkowski
+ */
+@UniJService(priority = 50)
+@AutoService(UnmodifiableMapFactory.class)
+public final class PersistentUnmodifiableMapFactory implements UnmodifiableMapFactory {
+
+  //region COLLECTOR
+
+  /**
+   * Based on {@link Collectors#toUnmodifiableMap(Function, Function)}.
+   *
+   * @implNote Accumulates into a {@link HashMap}, null-checking every key and value on the way.
+   */
+  @Override
+  public <T, K, V> Collector<T, ?, Map<K, V>> collector(Function<? super T, ? extends K> keyMapper,
+          Function<? super T, ? extends V> valueMapper) {
+    return Collector.<T, Builder<K, V>, Map<K, V>>of(
+            Builder::new,
+            (builder, element) -> builder.put(keyMapper.apply(element), valueMapper.apply(element)),
+            Builder::putAll,
+            Builder::build
+    );
+  }
+
+  /**
+   * Based on {@link Collectors#toUnmodifiableMap(Function, Function, BinaryOperator)}.
+   *
+   * @implNote Accumulates into a {@link HashMap}, null-checking every key and value on the way.
+   */
+  @Override
+  public <T, K, V> Collector<T, ?, Map<K, V>> collector(Function<? super T, ? extends K> keyMapper,
+          Function<? super T, ? extends V> valueMapper, BinaryOperator<V> mergeFunction) {
+    return Collector.<T, Builder<K, V>, Map<K, V>>of(
+            Builder::new,
+            (builder, element) -> builder.merge(keyMapper.apply(element), valueMapper.apply(element), mergeFunction),
+            (left, right) -> left.mergeAll(right, mergeFunction),
+            Builder::build
+    );
+  }
+  //endregion
+
+  //region BUILDER
+
+  /**
+   * @implNote Accumulates into a {@link HashMap} (presized for {@param expectedSize} entries), whose entries are then
+   * partitioned into the trie of the resulting {@link PersistentHashMap} in a single pass.
+   */
+  @Override
+  public <K, V> UnmodifiableMapBuilder<K, V> builder(int expectedSize) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+    }
+    return new MapBuilder<>(new Builder<>(expectedSize));
+  }
+  //endregion
+
+  //region COPY OF
+
+  /**
+   * Based on {@link Map#copyOf(Map)}.
+   *
+   * @implNote Returns {@param map} as is if it has been created by this factory.
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public <K, V> Map<K, V> copyOf(Map<? extends K, ? extends V> map) {
+    if (map instanceof PersistentHashMap) {
+      return (Map<K, V>) map;
+    }
+    Object[] keysAndValues = CollSer.interleave(map);
+    for (Object keyOrValue : keysAndValues) {
+      Objects.requireNonNull(keyOrValue);
+    }
+    return PersistentHashMap.ofPairs(keysAndValues, map.size());
+  }
+  //endregion
+
+  //region ENTRIES
+
+  /**
+   * Based on {@link Map#ofEntries(Map.Entry[])}.
+   */
+  @SafeVarargs
+  @Override
+  public final <K, V> Map<K, V> ofEntries(Map.Entry<? extends K, ? extends V>... entries) {
+    Builder<K, V> builder = new Builder<>(entries.length);
+    for (Map.Entry<? extends K, ? extends V> entry : entries) {
+      builder.put(entry.getKey(), entry.getValue());
+    }
+    return builder.build();
+  }
+
+  /**
+   * Based on {@link Map#entry}.
+   */
+  @Override
+  public <K, V> Map.Entry<K, V> entry(K k, V v) {
+    return new AbstractMap.SimpleImmutableEntry<>(Objects.requireNonNull(k), Objects.requireNonNull(v));
+  }
+  //endregion
+
+  //region OF
+  @SuppressWarnings("unchecked")
+  @Override
+  public <K, V> Map<K, V> of() {
+    return (Map<K, V>) PersistentHashMap.EMPTY;
+  }
+
+  @Override
+  public <K, V> Map<K, V> of(K k1, V v1) {
+    return new Builder<K, V>(1)
+            .put(k1, v1)
+            .build();
+  }
+
+  @Override
+  public <K, V> Map<K, V> of(K k1, V v1, K k2, V v2) {
+    return new Builder<K, V>(2)
+            .put(k1, v1)
+            .put(k2, v2)
+            .build();
+  }
+
+  @Override
+  public <K, V> Map<K, V> of(K k1, V v1, K k2, V v2, K k3, V v3) {
+    return new Builder<K, V>(3)
+            .put(k1, v1)
+            .put(k2, v2)
+            .put(k3, v3)
+            .build();
+  }
+
+  @Override
+  public <K, V> Map<K, V> of(K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4) {
+    return new Builder<K, V>(4)
+            .put(k1, v1)
+            .put(k2, v2)
+            .put(k3, v3)
+            .put(k4, v4)
+            .build();
+  }
+
+  @SuppressWarnings("PMD.ExcessiveParameterList")
+  @Override
+  public <K, V> Map<K, V> of(K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4, K k5, V v5) {
+    return new Builder<K, V>(5)
+            .put(k1, v1)
+            .put(k2, v2)
+            .put(k3, v3)
+            .put(k4, v4)
+            .put(k5, v5)
+            .build();
+  }
+
+  @SuppressWarnings("PMD.ExcessiveParameterList")
+  @Override
+  public <K, V> Map<K, V> of(K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4, K k5, V v5, K k6, V v6) {
+    return new Builder<K, V>(6)
+            .put(k1, v1)
+            .put(k2, v2)
+            .put(k3, v3)
+            .put(k4, v4)
+            .put(k5, v5)
+            .put(k6, v6)
+            .build();
+  }
+
+  @SuppressWarnings("PMD.ExcessiveParameterList")
+  @Override
+  public <K, V> Map<K, V> of(K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4, K k5, V v5, K k6, V v6, K k7, V v7) {
+    return new Builder<K, V>(7)
+            .put(k1, v1)
+            .put(k2, v2)
+            .put(k3, v3)
+            .put(k4, v4)
+            .put(k5, v5)
+            .put(k6, v6)
+            .put(k7, v7)
+            .build();
+  }
+
+  @SuppressWarnings("PMD.ExcessiveParameterList")
+  @Override
+  public <K, V> Map<K, V> of(K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4, K k5, V v5,
+          K k6, V v6, K k7, V v7, K k8, V v8) {
+    return new Builder<K, V>(8)
+            .put(k1, v1)
+            .put(k2, v2)
+            .put(k3, v3)
+            .put(k4, v4)
+            .put(k5, v5)
+            .put(k6, v6)
+            .put(k7, v7)
+            .put(k8, v8)
+            .build();
+  }
+
+  @SuppressWarnings("PMD.ExcessiveParameterList")
+  @Override
+  public <K, V> Map<K, V> of(K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4, K k5, V v5,
+          K k6, V v6, K k7, V v7, K k8, V v8, K k9, V v9) {
+    return new Builder<K, V>(9)
+            .put(k1, v1)
+            .put(k2, v2)
+            .put(k3, v3)
+            .put(k4, v4)
+            .put(k5, v5)
+            .put(k6, v6)
+            .put(k7, v7)
+            .put(k8, v8)
+            .put(k9, v9)
+            .build();
+  }
+
+  @SuppressWarnings("PMD.ExcessiveParameterList")
+  @Override
+  public <K, V> Map<K, V> of(K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4, K k5, V v5,
+          K k6, V v6, K k7, V v7, K k8, V v8, K k9, V v9, K k10, V v10) {
+    return new Builder<K, V>(10)
+            .put(k1, v1)
+            .put(k2, v2)
+            .put(k3, v3)
+            .put(k4, v4)
+            .put(k5, v5)
+            .put(k6, v6)
+            .put(k7, v7)
+            .put(k8, v8)
+            .put(k9, v9)
+            .put(k10, v10)
+            .build();
+  }
+  //endregion
+
+  //region PERSISTENT
+
+  /**
+   * @implNote Copies only a single path of the trie of {@param map} if it has been created by this factory.
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public <K, V> Map<K, V> with(Map<? extends K, ? extends V> map, K key, V value) {
+    if (map instanceof PersistentHashMap) {
+      return ((PersistentHashMap<K, V>) map).with(
+              Objects.requireNonNull(key, "key"), Objects.requireNonNull(value, "value")
+      );
+    }
+    return UnmodifiableMapFactory.super.with(map, key, value);
+  }
+
+  /**
+   * @implNote Copies only a single path of the trie of {@param map} if it has been created by this factory.
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public <K, V> Map<K, V> without(Map<? extends K, ? extends V> map, Object key) {
+    if (map instanceof PersistentHashMap) {
+      return ((PersistentHashMap<K, V>) map).without(Objects.requireNonNull(key, "key"));
+    }
+    return UnmodifiableMapFactory.super.without(map, key);
+  }
+  //endregion
+
+  /**
+   * Accumulates the entries in a {@link HashMap} (null-checking the keys and values, and throwing {@link
+   * IllegalArgumentException} on duplicate keys), and then builds the trie of a {@link PersistentHashMap} from them.
+   */
+  private static class Builder<K, V> {
+
+    private final Map<K, V> map;
+
+    Builder() {
+      map = new HashMap<>();
+    }
+
+    Builder(int expectedSize) {
+      map = new HashMap<>(PersistentUnmodifiableSetFactory.hashCapacity(expectedSize));
+    }
+
+    Builder<K, V> put(K key, V value) {
+      Objects.requireNonNull(key, "key");
+      Objects.requireNonNull(value, "value");
+      @NullOr V oldValue = map.putIfAbsent(key, value);
+      if (oldValue != null) {
+        throw new IllegalArgumentException(String.format(
+                "Duplicate key: %s (attempted merging values %s and %s)", key, oldValue, value
+        ));
+      }
+      return this;
+    }
+
+    /**
+     * Based on {@link HashMap#merge} (i.e. removes the entry if {@code mergeFunction} returns {@code null}).
+     */
+    Builder<K, V> merge(K key, V value, BinaryOperator<V> mergeFunction) {
+      Objects.requireNonNull(key, "key");
+      Objects.requireNonNull(value, "value");
+      map.merge(key, value, mergeFunction);
+      return this;
+    }
+
+    Builder<K, V> putAll(Builder<K, V> other) {
+      other.map.forEach(this::put);
+      return this;
+    }
+
+    Builder<K, V> mergeAll(Builder<K, V> other, BinaryOperator<V> mergeFunction) {
+      other.map.forEach((key, value) -> merge(key, value, mergeFunction));
+      return this;
+    }
+
+    Map<K, V> build() {
+      return PersistentHashMap.ofPairs(CollSer.interleave(map), map.size());
+    }
+  }
+
+  /**
+   * Single-use {@link UnmodifiableMapBuilder} delegating to a {@link Builder}.
+   */
+  private static final class MapBuilder<K, V> implements UnmodifiableMapBuilder<K, V> {
+
+    @NullOr
+    private Builder<K, V> builder; // null once built
+
+    MapBuilder(Builder<K, V> builder) {
+      this.builder = builder;
+    }
+
+    @Override
+    public UnmodifiableMapBuilder<K, V> put(K key, V value) {
+      builder().put(key, value);
+      return this;
+    }
+
+    @Override
+    public Map<K, V> build() {
+      Map<K, V> map = builder().build();
+      builder = null;
+      return map;
+    }
+
+    private Builder<K, V> builder() {
+      if (builder == null) {
+        throw new IllegalStateException("Map already built");
+      }
+      return builder;
+    }
+  }
+}
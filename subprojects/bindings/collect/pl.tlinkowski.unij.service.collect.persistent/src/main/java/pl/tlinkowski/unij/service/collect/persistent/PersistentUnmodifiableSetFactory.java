@@ -0,0 +1,255 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.persistent;
+
+import java.util.*;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import com.google.auto.service.AutoService;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableSetBuilder;
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableSetFactory;
+
+/**
+ * Implementation of {@link UnmodifiableSetFactory} following the JDK 11
+ * <a href="https://docs.oracle.com/en/java/javase/11/docs/api/java.base/java/util/Set.html#unmodifiable">unmodifiable
+ * sets</a> specification (e.g. no {@code null} elements allowed, throws {@link IllegalArgumentException} on duplicate
+ * elements provided to {@code of(...)} methods).
+ * <p>
+ * This implementation always returns a {@link PersistentHashSet}, so that {@link #with} can share the structure of
+ * the given set with the returned one.
+ *
+ * @author Tomasz Linkowski
+ */
+@UniJService(priority = 50)
+@AutoService(UnmodifiableSetFactory.class)
+public final class PersistentUnmodifiableSetFactory implements UnmodifiableSetFactory {
+
+  //region COLLECTOR
+
+  /**
+   * Based on {@link Collectors#toUnmodifiableSet()}.
+   */
+  @Override
+  public <E> Collector<E, ?, Set<E>> collector() {
+    return Collector.<E, Set<E>, Set<E>>of(
+            HashSet::new,
+            (set, element) -> set.add(Objects.requireNonNull(element)),
+            (left, right) -> {
+              left.addAll(right);
+              return left;
+            },
+            set -> PersistentHashSet.ofElements(set.toArray(), set.size()),
+            Collector.Characteristics.UNORDERED
+    );
+  }
+  //endregion
+
+  //region BUILDER
+
+  /**
+   * @implNote Accumulates into a {@link HashSet} (presized for {@param expectedSize} elements), whose elements are then
+   * partitioned into the trie of the resulting {@link PersistentHashSet} in a single pass.
+   */
+  @Override
+  public <E> UnmodifiableSetBuilder<E> builder(int expectedSize) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+    }
+    return new SetBuilder<>(new HashSet<>(hashCapacity(expectedSize)));
+  }
+  //endregion
+
+  //region COPY OF
+
+  /**
+   * Based on {@link Set#copyOf(Collection)}.
+   *
+   * @implNote Returns {@param coll} as is if it has been created by this factory.
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public <E> Set<E> copyOf(Collection<? extends E> coll) {
+    if (coll instanceof PersistentHashSet) {
+      return (Set<E>) coll;
+    }
+    Object[] elements = coll.toArray();
+    for (Object element : elements) {
+      Objects.requireNonNull(element);
+    }
+    return PersistentHashSet.ofElements(elements, elements.length);
+  }
+  //endregion
+
+  //region OF
+  @Override
+  public <E> Set<E> of() {
+    return empty();
+  }
+
+  @Override
+  public <E> Set<E> of(E e1) {
+    return ofArray(e1);
+  }
+
+  @Override
+  public <E> Set<E> of(E e1, E e2) {
+    return ofArray(e1, e2);
+  }
+
+  @Override
+  public <E> Set<E> of(E e1, E e2, E e3) {
+    return ofArray(e1, e2, e3);
+  }
+
+  @Override
+  public <E> Set<E> of(E e1, E e2, E e3, E e4) {
+    return ofArray(e1, e2, e3, e4);
+  }
+
+  @Override
+  public <E> Set<E> of(E e1, E e2, E e3, E e4, E e5) {
+    return ofArray(e1, e2, e3, e4, e5);
+  }
+
+  @Override
+  public <E> Set<E> of(E e1, E e2, E e3, E e4, E e5, E e6) {
+    return ofArray(e1, e2, e3, e4, e5, e6);
+  }
+
+  @Override
+  public <E> Set<E> of(E e1, E e2, E e3, E e4, E e5, E e6, E e7) {
+    return ofArray(e1, e2, e3, e4, e5, e6, e7);
+  }
+
+  @Override
+  public <E> Set<E> of(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8) {
+    return ofArray(e1, e2, e3, e4, e5, e6, e7, e8);
+  }
+
+  @Override
+  public <E> Set<E> of(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9) {
+    return ofArray(e1, e2, e3, e4, e5, e6, e7, e8, e9);
+  }
+
+  @SuppressWarnings("PMD.ExcessiveParameterList")
+  @Override
+  public <E> Set<E> of(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9, E e10) {
+    return ofArray(e1, e2, e3, e4, e5, e6, e7, e8, e9, e10);
+  }
+
+  /**
+   * Based on {@link Set#of(Object[])}.
+   */
+  @SafeVarargs
+  @Override
+  public final <E> Set<E> of(E... elements) {
+    return ofArray(elements);
+  }
+  //endregion
+
+  //region PERSISTENT
+
+  /**
+   * @implNote Copies only a single path of the trie of {@param set} if it has been created by this factory.
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public <E> Set<E> with(Set<? extends E> set, E element) {
+    if (set instanceof PersistentHashSet) {
+      return ((PersistentHashSet<E>) set).with(Objects.requireNonNull(element));
+    }
+    return UnmodifiableSetFactory.super.with(set, element);
+  }
+  //endregion
+
+  @SuppressWarnings("unchecked")
+  private static <E> PersistentHashSet<E> empty() {
+    return (PersistentHashSet<E>) PersistentHashSet.EMPTY;
+  }
+
+  /**
+   * Throws {@link IllegalArgumentException} on duplicate elements (detected when the resulting set is smaller than
+   * {@code elements}).
+   */
+  @SafeVarargs
+  private static <E> Set<E> ofArray(E... elements) {
+    for (E element : elements) {
+      Objects.requireNonNull(element);
+    }
+    PersistentHashSet<E> set = PersistentHashSet.ofElements(elements, elements.length);
+    if (set.size() < elements.length) {
+      throw new IllegalArgumentException("Duplicate element: " + findDuplicate(elements));
+    }
+    return set;
+  }
+
+  private static <E> E findDuplicate(E[] elements) {
+    Set<E> distinctElements = new HashSet<>();
+    for (E element : elements) {
+      if (!distinctElements.add(element)) {
+        return element;
+      }
+    }
+    throw new IllegalStateException("No duplicate element");
+  }
+
+  /**
+   * Single-use {@link UnmodifiableSetBuilder} accumulating the elements in a {@link HashSet}.
+   */
+  private static final class SetBuilder<E> implements UnmodifiableSetBuilder<E> {
+
+    @NullOr
+    private Set<E> set; // null once built
+
+    SetBuilder(Set<E> set) {
+      this.set = set;
+    }
+
+    @Override
+    public UnmodifiableSetBuilder<E> add(E element) {
+      set().add(Objects.requireNonNull(element));
+      return this;
+    }
+
+    @Override
+    public Set<E> build() {
+      Set<E> result = PersistentHashSet.ofElements(set().toArray(), set().size());
+      set = null;
+      return result;
+    }
+
+    private Set<E> set() {
+      if (set == null) {
+        throw new IllegalStateException("Set already built");
+      }
+      return set;
+    }
+  }
+
+  /**
+   * Returns the capacity of a {@link HashSet} or {@link HashMap} that won't need rehashing until it holds more than
+   * {@code expectedSize} elements (with the default load factor).
+   */
+  static int hashCapacity(int expectedSize) {
+    return (int) (expectedSize / 0.75f) + 1;
+  }
+}
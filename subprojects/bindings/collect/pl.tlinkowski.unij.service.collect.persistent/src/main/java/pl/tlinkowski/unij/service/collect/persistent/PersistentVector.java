@@ -0,0 +1,216 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.collect.persistent;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.Consumer;
+
+import pl.tlinkowski.unij.service.collect.internal.AbstractImmutableList;
+
+/**
+ * Immutable, persistent {@link List} backed by a bit-partitioned vector trie (like Clojure's {@code PersistentVector}).
+ * <p>
+ * The elements are stored in leaves of {@value #WIDTH} elements, except for the last (at most {@value #WIDTH})
+ * elements, which are stored in a separate tail. Hence, {@link #get} takes {@code O(log32(n))} time, and {@link
+ * #with} copies only the tail (or a single path of the trie), sharing the rest of it with this list.
+ *
+ * @author Tomasz Linkowski
+ */
+final class PersistentVector<E> extends AbstractImmutableList<E> implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final int BITS = 5;
+  private static final int WIDTH = 1 << BITS;
+  private static final int MASK = WIDTH - 1;
+
+  private static final Object[] EMPTY_NODE = new Object[0];
+
+  static final PersistentVector<Object> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, EMPTY_NODE);
+
+  private final int size;
+  private final int shift; // level of the root (leaves are at level 0)
+  private final Object[] root; // holds all the elements before the tail (in full leaves)
+  private final Object[] tail;
+
+  private PersistentVector(int size, int shift, Object[] root, Object[] tail) {
+    this.size = size;
+    this.shift = shift;
+    this.root = root;
+    this.tail = tail;
+  }
+
+  /**
+   * Builds the trie bottom-up from the first {@code size} (non-{@code null}) {@code elements}, which are copied.
+   */
+  @SuppressWarnings("unchecked")
+  static <E> PersistentVector<E> copyOf(Object[] elements, int size) {
+    if (size == 0) {
+      return (PersistentVector<E>) EMPTY;
+    }
+    int tailOffset = tailOffset(size);
+    Object[] nodes = new Object[tailOffset >>> BITS];
+    for (int i = 0; i < nodes.length; i++) {
+      nodes[i] = Arrays.copyOfRange(elements, i << BITS, (i + 1) << BITS);
+    }
+    int shift = BITS;
+    while (nodes.length > WIDTH) {
+      Object[] parents = new Object[(nodes.length + MASK) >>> BITS];
+      for (int i = 0; i < parents.length; i++) {
+        parents[i] = Arrays.copyOfRange(nodes, i << BITS, Math.min((i + 1) << BITS, nodes.length));
+      }
+      nodes = parents;
+      shift += BITS;
+    }
+    return new PersistentVector<>(size, shift, nodes, Arrays.copyOfRange(elements, tailOffset, size));
+  }
+
+  private static int tailOffset(int size) {
+    return size == 0 ? 0 : ((size - 1) >>> BITS) << BITS;
+  }
+
+  //region QUERIES
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public E get(int index) {
+    if (index < 0 || index >= size) {
+      throw outOfBounds(index);
+    }
+    return (E) leafFor(index)[index & MASK];
+  }
+
+  private Object[] leafFor(int index) {
+    if (index >= tailOffset(size)) {
+      return tail;
+    }
+    Object[] node = root;
+    for (int level = shift; level > 0; level -= BITS) {
+      node = (Object[]) node[(index >>> level) & MASK];
+    }
+    return node;
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new Itr();
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    for (int index = 0; index < size; index += WIDTH) {
+      for (Object element : leafFor(index)) {
+        action.accept((E) element);
+      }
+    }
+  }
+  //endregion
+
+  //region PERSISTENT
+
+  /**
+   * Returns a list consisting of the elements of this list followed by the given non-{@code null} {@code element}.
+   */
+  PersistentVector<E> with(E element) {
+    if (tail.length < WIDTH) {
+      Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+      newTail[tail.length] = element;
+      return new PersistentVector<>(size + 1, shift, root, newTail);
+    }
+    // the tail is full: push it into the trie, and start a new one
+    Object[] newRoot;
+    int newShift = shift;
+    if ((size >>> BITS) > (1 << shift)) {
+      newRoot = new Object[]{root, newPath(shift, tail)};
+      newShift += BITS;
+    } else {
+      newRoot = pushTail(shift, root, tail);
+    }
+    return new PersistentVector<>(size + 1, newShift, newRoot, new Object[]{element});
+  }
+
+  /**
+   * Copies the rightmost path of the trie down to the given {@code level}, and appends {@code tailNode} to it.
+   */
+  private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+    int subIdx = ((size - 1) >>> level) & MASK;
+    Object[] node = Arrays.copyOf(parent, subIdx + 1);
+    if (level == BITS) {
+      node[subIdx] = tailNode;
+    } else if (subIdx < parent.length) {
+      node[subIdx] = pushTail(level - BITS, (Object[]) parent[subIdx], tailNode);
+    } else {
+      node[subIdx] = newPath(level - BITS, tailNode);
+    }
+    return node;
+  }
+
+  private static Object[] newPath(int level, Object[] node) {
+    return level == 0 ? node : new Object[]{newPath(level - BITS, node)};
+  }
+  //endregion
+
+  //region SERIALIZATION
+  private Object writeReplace() {
+    return new CollSer(CollSer.LIST, toArray());
+  }
+
+  private void readObject(ObjectInputStream in) throws InvalidObjectException {
+    throw new InvalidObjectException("CollSer required");
+  }
+  //endregion
+
+  /**
+   * Read-only iterator walking the leaves of the trie one by one.
+   */
+  private final class Itr implements Iterator<E> {
+
+    private Object[] leaf = EMPTY_NODE;
+    private int index;
+
+    @Override
+    public boolean hasNext() {
+      return index < size;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E next() {
+      if (index >= size) {
+        throw new NoSuchElementException();
+      }
+      if ((index & MASK) == 0) {
+        leaf = leafFor(index);
+      }
+      return (E) leaf[index++ & MASK];
+    }
+  }
+}
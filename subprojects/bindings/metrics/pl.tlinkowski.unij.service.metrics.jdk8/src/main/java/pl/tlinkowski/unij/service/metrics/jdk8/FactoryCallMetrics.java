@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.metrics.jdk8;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.*;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+/**
+ * Lock-free call counters and log2 size histograms of UniJ factory methods, per facade and method.
+ * <p>
+ * All the counters are {@link LongAdder}s, so concurrent calls from multiple threads update different cells instead
+ * of contending on a single one.
+ *
+ * @author Tomasz Linkowski
+ */
+public final class FactoryCallMetrics implements FactoryCallMetricsMXBean {
+
+  public static final String OBJECT_NAME = "pl.tlinkowski.unij:type=FactoryCallMetrics";
+
+  /**
+   * Bucket {@code 0} for no elements, and buckets {@code 1..31} for {@code [2^(i-1), 2^i)} elements.
+   */
+  static final int HISTOGRAM_BUCKET_COUNT = Integer.SIZE;
+
+  private static final FactoryCallMetrics INSTANCE = new FactoryCallMetrics();
+
+  /**
+   * Facade -> method -> metrics (two levels, so that recording does not need to concatenate the names).
+   */
+  private final ConcurrentMap<String, ConcurrentMap<String, MethodMetrics>> facadeMetricsMap =
+          new ConcurrentHashMap<>();
+
+  private FactoryCallMetrics() {
+  }
+
+  public static FactoryCallMetrics getInstance() {
+    return INSTANCE;
+  }
+
+  //region RECORDING
+  void record(String facade, String method, int elementCount) {
+    MethodMetrics methodMetrics = methodMetrics(facade, method);
+    methodMetrics.callCount.increment();
+    if (elementCount >= 0) {
+      methodMetrics.sizeHistogram[histogramBucket(elementCount)].increment();
+    }
+  }
+
+  private MethodMetrics methodMetrics(String facade, String method) {
+    // get() first: on JDK 8, computeIfAbsent() locks the bin even if the key is present
+    ConcurrentMap<String, MethodMetrics> methodMetricsMap = facadeMetricsMap.get(facade);
+    if (methodMetricsMap == null) {
+      methodMetricsMap = facadeMetricsMap.computeIfAbsent(facade, key -> new ConcurrentHashMap<>());
+    }
+    MethodMetrics methodMetrics = methodMetricsMap.get(method);
+    if (methodMetrics == null) {
+      methodMetrics = methodMetricsMap.computeIfAbsent(method, key -> new MethodMetrics());
+    }
+    return methodMetrics;
+  }
+
+  static int histogramBucket(int elementCount) {
+    return Integer.SIZE - Integer.numberOfLeadingZeros(elementCount);
+  }
+  //endregion
+
+  //region READING
+  /**
+   * Returns the number of calls to the given factory method (e.g. {@code getCallCount("UniLists", "of")}).
+   */
+  public long getCallCount(String facade, String method) {
+    MethodMetrics methodMetrics = findMethodMetrics(facade, method);
+    return methodMetrics != null ? methodMetrics.callCount.sum() : 0;
+  }
+
+  /**
+   * Returns the size histogram of the given factory method (see {@link #getSizeHistograms()}).
+   */
+  public long[] getSizeHistogram(String facade, String method) {
+    MethodMetrics methodMetrics = findMethodMetrics(facade, method);
+    return methodMetrics != null ? methodMetrics.sizeHistogram() : new long[HISTOGRAM_BUCKET_COUNT];
+  }
+
+  @Override
+  public Map<String, Long> getCallCounts() {
+    Map<String, Long> callCounts = new TreeMap<>();
+    facadeMetricsMap.forEach((facade, methodMetricsMap) -> methodMetricsMap.forEach(
+            (method, methodMetrics) -> callCounts.put(facade + "." + method, methodMetrics.callCount.sum())
+    ));
+    return callCounts;
+  }
+
+  @Override
+  public Map<String, long[]> getSizeHistograms() {
+    Map<String, long[]> sizeHistograms = new TreeMap<>();
+    facadeMetricsMap.forEach((facade, methodMetricsMap) -> methodMetricsMap.forEach(
+            (method, methodMetrics) -> sizeHistograms.put(facade + "." + method, methodMetrics.sizeHistogram())
+    ));
+    return sizeHistograms;
+  }
+
+  @Override
+  public void reset() {
+    facadeMetricsMap.clear();
+  }
+
+  @NullOr
+  private MethodMetrics findMethodMetrics(String facade, String method) {
+    Map<String, MethodMetrics> methodMetricsMap = facadeMetricsMap.get(facade);
+    return methodMetricsMap != null ? methodMetricsMap.get(method) : null;
+  }
+  //endregion
+
+  //region JMX
+  void registerPlatformMBean() {
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+    } catch (InstanceAlreadyExistsException ex) {
+      // already registered (e.g. by another instance of Jdk8MetricsSink)
+    } catch (JMException ex) {
+      throw new IllegalStateException("Unable to register " + OBJECT_NAME, ex);
+    }
+  }
+  //endregion
+
+  private static final class MethodMetrics {
+
+    final LongAdder callCount = new LongAdder();
+    final LongAdder[] sizeHistogram = new LongAdder[HISTOGRAM_BUCKET_COUNT];
+
+    MethodMetrics() {
+      for (int i = 0; i < sizeHistogram.length; i++) {
+        sizeHistogram[i] = new LongAdder();
+      }
+    }
+
+    long[] sizeHistogram() {
+      return Arrays.stream(sizeHistogram).mapToLong(LongAdder::sum).toArray();
+    }
+  }
+}
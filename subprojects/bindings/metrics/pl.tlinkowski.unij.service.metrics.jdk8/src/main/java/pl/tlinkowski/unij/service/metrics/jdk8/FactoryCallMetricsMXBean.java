@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.metrics.jdk8;
+
+import java.util.Map;
+
+/**
+ * JMX interface of {@link FactoryCallMetrics} (registered as {@value FactoryCallMetrics#OBJECT_NAME}).
+ * <p>
+ * The keys of the returned maps have the form {@code <facade>.<method>} (e.g. {@code UniLists.copyOf}).
+ *
+ * @author Tomasz Linkowski
+ */
+public interface FactoryCallMetricsMXBean {
+
+  /**
+   * Returns the number of calls to each factory method.
+   */
+  Map<String, Long> getCallCounts();
+
+  /**
+   * Returns the size histogram of each factory method. Element at index {@code 0} counts the calls with no elements,
+   * and element at index {@code i > 0} counts the calls with {@code [2^(i-1), 2^i)} elements. Calls with unknown
+   * element count (e.g. collector factory methods) are not included.
+   */
+  Map<String, long[]> getSizeHistograms();
+
+  /**
+   * Resets all the metrics.
+   */
+  void reset();
+}
@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.metrics.jdk8;
+
+import com.google.auto.service.AutoService;
+
+import pl.tlinkowski.unij.service.api.UniJService;
+import pl.tlinkowski.unij.service.api.metrics.MetricsSink;
+
+/**
+ * Implementation of {@link MetricsSink} that records call counts and size histograms in {@link FactoryCallMetrics}
+ * (registered as a platform MBean on creation).
+ *
+ * @author Tomasz Linkowski
+ */
+@UniJService(priority = 40)
+@AutoService(MetricsSink.class)
+public final class Jdk8MetricsSink implements MetricsSink {
+
+  private final FactoryCallMetrics metrics = FactoryCallMetrics.getInstance();
+
+  public Jdk8MetricsSink() {
+    metrics.registerPlatformMBean();
+  }
+
+  @Override
+  public void recordFactoryCall(String facade, String method, int elementCount) {
+    metrics.record(facade, method, elementCount);
+  }
+}
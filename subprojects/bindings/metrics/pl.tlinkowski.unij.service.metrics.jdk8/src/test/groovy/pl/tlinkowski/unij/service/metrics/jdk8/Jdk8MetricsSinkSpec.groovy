@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.service.metrics.jdk8
+
+import java.lang.management.ManagementFactory
+import javax.management.ObjectName
+
+import spock.lang.Specification
+
+import pl.tlinkowski.unij.service.api.metrics.MetricsSink
+
+/**
+ * @author Tomasz Linkowski
+ */
+class Jdk8MetricsSinkSpec extends Specification {
+
+  MetricsSink sink = new Jdk8MetricsSink()
+  FactoryCallMetrics metrics = FactoryCallMetrics.instance
+
+  def setup() {
+    metrics.reset()
+  }
+
+  def "recordFactoryCall() counts calls per facade and method"() {
+    when:
+      3.times { sink.recordFactoryCall("UniLists", "of", 2) }
+      sink.recordFactoryCall("UniLists", "copyOf", 10)
+      sink.recordFactoryCall("UniCollectors", "toUnmodifiableList", MetricsSink.UNKNOWN_ELEMENT_COUNT)
+    then:
+      metrics.getCallCount("UniLists", "of") == 3
+      metrics.getCallCount("UniLists", "copyOf") == 1
+      metrics.getCallCount("UniSets", "of") == 0
+      metrics.callCounts == ["UniCollectors.toUnmodifiableList": 1L, "UniLists.copyOf": 1L, "UniLists.of": 3L]
+  }
+
+  def "recordFactoryCall() records element count in log2 histogram bucket #bucket"(int elementCount, int bucket) {
+    when:
+      sink.recordFactoryCall("UniSets", "of", elementCount)
+    then:
+      def histogram = metrics.getSizeHistogram("UniSets", "of")
+      histogram.length == FactoryCallMetrics.HISTOGRAM_BUCKET_COUNT
+      histogram[bucket] == 1
+      histogram.sum() == 1
+    where:
+      elementCount      | bucket
+      0                 | 0
+      1                 | 1
+      2                 | 2
+      3                 | 2
+      4                 | 3
+      1023              | 10
+      1024              | 11
+      Integer.MAX_VALUE | 31
+  }
+
+  def "recordFactoryCall() does not record unknown element count in histogram"() {
+    when:
+      sink.recordFactoryCall("UniCollectors", "toUnmodifiableSet", MetricsSink.UNKNOWN_ELEMENT_COUNT)
+    then:
+      metrics.getCallCount("UniCollectors", "toUnmodifiableSet") == 1
+      metrics.getSizeHistogram("UniCollectors", "toUnmodifiableSet").sum() == 0
+  }
+
+  def "metrics are readable over JMX"() {
+    given:
+      sink.recordFactoryCall("UniMaps", "copyOf", 5)
+    when:
+      def callCounts = ManagementFactory.platformMBeanServer
+              .getAttribute(new ObjectName(FactoryCallMetrics.OBJECT_NAME), "CallCounts")
+    then:
+      callCounts.get(["UniMaps.copyOf"] as Object[]).get("value") == 1L
+  }
+}
@@ -21,3 +21,10 @@ dependencies {
   implementation(project(":pl.tlinkowski.unij.service.collect.jdk10"))
   implementation(project(":pl.tlinkowski.unij.service.misc.jdk11"))
 }
+
+tasks.test {
+  // Jdk11BundleRegistryTest needs a JVM in which no UniJ service has been loaded yet
+  forkEvery = 1
+  // the tests run on the modulepath, where the bundle module does not read jdk.jfr (used by Jdk11BundleRegistryTest)
+  jvmArgs("--add-reads", "pl.tlinkowski.unij.bundle.jdk11=jdk.jfr")
+}
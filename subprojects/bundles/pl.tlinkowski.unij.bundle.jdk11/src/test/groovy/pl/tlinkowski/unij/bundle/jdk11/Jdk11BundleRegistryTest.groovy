@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.bundle.jdk11
+
+import jdk.jfr.Recording
+import jdk.jfr.consumer.RecordedEvent
+import jdk.jfr.consumer.RecordingFile
+import spock.lang.Specification
+
+import java.nio.file.Files
+
+import pl.tlinkowski.unij.api.UniLists
+import pl.tlinkowski.unij.api.UniMaps
+import pl.tlinkowski.unij.api.UniSets
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableListFactory
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableMapFactory
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableSetFactory
+
+/**
+ * Verifies that the services of this bundle are selected using the build-time registry on the modulepath (where the
+ * packages of the bindings are not exported).
+ *
+ * Must run in a JVM in which no UniJ service has been loaded yet (see {@code forkEvery} in the build script).
+ *
+ * @author Tomasz Linkowski
+ */
+class Jdk11BundleRegistryTest extends Specification {
+
+  def "services are selected using the registry on the modulepath"() {
+    given:
+      def recording = new Recording()
+      recording.start()
+    when:
+      UniLists.of()
+      UniSets.of()
+      UniMaps.of()
+      def events = stopRecording(recording)
+    then:
+      UniLists.module.named
+      UnmodifiableListFactory.module.named
+      [UnmodifiableListFactory, UnmodifiableSetFactory, UnmodifiableMapFactory].each { serviceClass ->
+        def event = events.find { it.getClass("serviceClass").name == serviceClass.name }
+        assert event != null
+        assert event.getBoolean("fromRegistry")
+        assert event.getClass("selectedClass").name.startsWith("pl.tlinkowski.unij.service.collect.jdk10.")
+      }
+  }
+
+  private static List<RecordedEvent> stopRecording(Recording recording) {
+    recording.stop()
+    def file = Files.createTempFile("unij", ".jfr")
+    try {
+      recording.dump(file)
+      RecordingFile.readAllEvents(file).findAll { it.eventType.name == "pl.tlinkowski.unij.ServiceLoad" }
+    } finally {
+      recording.close()
+      Files.delete(file)
+    }
+  }
+}
@@ -20,4 +20,12 @@ modularity.mixedJavaRelease(8)
 dependencies {
   implementation(project(":pl.tlinkowski.unij.service.collect.jdk8"))
   implementation(project(":pl.tlinkowski.unij.service.misc.jdk8"))
+
+  testRuntimeOnly(project(":pl.tlinkowski.unij.service.collect.persistent")) // for Jdk8BundlePersistentTest
+}
+
+tasks.test {
+  // lets Jdk8BundlePersistentTest inspect the tries of the persistent binding if the tests run on the modulepath
+  val persistentModule = "pl.tlinkowski.unij.service.collect.persistent"
+  jvmArgs("--add-opens", "$persistentModule/$persistentModule=pl.tlinkowski.unij.bundle.jdk8")
 }
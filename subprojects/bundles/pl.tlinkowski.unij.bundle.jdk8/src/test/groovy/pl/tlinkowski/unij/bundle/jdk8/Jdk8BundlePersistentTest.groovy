@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.bundle.jdk8
+
+import spock.lang.Specification
+
+import pl.tlinkowski.unij.api.UniLists
+import pl.tlinkowski.unij.api.UniMaps
+import pl.tlinkowski.unij.api.UniSets
+
+/**
+ * Verifies that the persistent binding (a test runtime dependency of this bundle) backs the persistent operations of
+ * the facades even though the higher-priority JDK 8 binding backs all the other ones.
+ *
+ * @author Tomasz Linkowski
+ */
+class Jdk8BundlePersistentTest extends Specification {
+
+  def "UniMaps.of uses JDK 8 binding"() {
+    expect:
+      UniMaps.of(1, 1).getClass().name.startsWith("java.util.")
+  }
+
+  def "UniLists.with, UniSets.with and UniMaps.with use persistent binding"() {
+    expect:
+      UniLists.with(UniLists.of(1), 2).getClass().simpleName == "PersistentVector"
+      UniSets.with(UniSets.of(1), 2).getClass().simpleName == "PersistentHashSet"
+      UniMaps.with(UniMaps.of(1, 1), 2, 2).getClass().simpleName == "PersistentHashMap"
+      UniMaps.without(UniMaps.of(1, 1, 2, 2), 2).getClass().simpleName == "PersistentHashMap"
+  }
+
+  def "UniMaps.with shares structure"() {
+    given:
+      Map<Integer, Integer> map = UniMaps.of()
+      (0..<1000).each { map = UniMaps.with(map, it, it) }
+    when:
+      def result = UniMaps.with(map, 1000, 1000)
+    then:
+      result.size() == 1001
+      map.size() == 1000
+      def children = rootChildren(map)
+      def resultChildren = rootChildren(result)
+      children.size() > 1
+      resultChildren.count { child -> children.any { it.is(child) } } == resultChildren.size() - 1
+  }
+
+  private static List<Object> rootChildren(Map<?, ?> map) {
+    def rootField = map.getClass().getDeclaredField("root")
+    rootField.accessible = true
+    def root = rootField.get(map)
+    def arrayField = root.getClass().superclass.getDeclaredField("array")
+    arrayField.accessible = true
+    def array = (Object[]) arrayField.get(root)
+    // a null key means that the value is a child node
+    (0..<array.length).step(2).findAll { array[it] == null }.collect { array[it + 1] }
+  }
+}
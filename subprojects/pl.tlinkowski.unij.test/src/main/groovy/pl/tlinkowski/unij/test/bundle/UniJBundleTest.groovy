@@ -53,6 +53,55 @@ abstract class UniJBundleTest extends Specification {
       noExceptionThrown()
   }
 
+  def "UnmodifiableSortedSetFactory implementation found"() {
+    when:
+      UniSortedSets.of(Comparator.naturalOrder())
+    then:
+      noExceptionThrown()
+  }
+
+  def "UnmodifiableSortedMapFactory implementation found"() {
+    when:
+      UniSortedMaps.of(Comparator.naturalOrder())
+    then:
+      noExceptionThrown()
+  }
+
+  def "UnmodifiableIntListFactory implementation found"() {
+    when:
+      UniIntLists.of()
+    then:
+      noExceptionThrown()
+  }
+
+  def "UnmodifiableLongListFactory implementation found"() {
+    when:
+      UniLongLists.of()
+    then:
+      noExceptionThrown()
+  }
+
+  def "UnmodifiableDoubleListFactory implementation found"() {
+    when:
+      UniDoubleLists.of()
+    then:
+      noExceptionThrown()
+  }
+
+  def "UnmodifiableLongObjectMapFactory implementation found"() {
+    when:
+      UniLongObjectMaps.of()
+    then:
+      noExceptionThrown()
+  }
+
+  def "UnmodifiableObjectIntMapFactory implementation found"() {
+    when:
+      UniObjectIntMaps.of()
+    then:
+      noExceptionThrown()
+  }
+
   def "MiscellaneousApiProvider implementation found"() {
     when:
       UniCollectors.filtering({ true }, Collectors.toList())
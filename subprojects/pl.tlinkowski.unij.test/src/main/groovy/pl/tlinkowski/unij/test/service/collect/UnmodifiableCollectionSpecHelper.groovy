@@ -22,7 +22,8 @@ import groovy.transform.PackageScope
 import java.util.stream.Collector
 
 /**
- * Helper class for the {@link List}/{@link Set} specs.
+ * Helper class for the {@link List}/{@link Set} specs (and for the {@link Map} spec, as far as serialization is
+ * concerned).
  *
  * Includes data pipes: http://spockframework.org/spock/docs/1.3/data_driven_testing.html#_data_pipes
  *
@@ -71,4 +72,12 @@ class UnmodifiableCollectionSpecHelper {
     list.stream().collect(collector)
   }
   //endregion
+
+  //region SERIALIZATION
+  static <T> T roundTrip(T object) {
+    def bytes = new ByteArrayOutputStream()
+    new ObjectOutputStream(bytes).withCloseable { it.writeObject(object) }
+    new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).withCloseable { (T) it.readObject() }
+  }
+  //endregion
 }
@@ -0,0 +1,209 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.test.service.collect
+
+import static pl.tlinkowski.unij.test.service.collect.UnmodifiableCollectionSpecHelper.*
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.stream.DoubleStream
+
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableDoubleListFactory
+
+/**
+ * Specification for {@link UnmodifiableDoubleListFactory}.
+ *
+ * Inheriting classes should initialize {@code factory} in the {@code setupSpec} method.
+ *
+ * @author Tomasz Linkowski
+ */
+abstract class UnmodifiableDoubleListFactorySpec extends Specification {
+
+  @Shared
+  protected UnmodifiableDoubleListFactory factory
+
+  def "proper service is registered on classpath"() {
+    when:
+      def registered = ServiceLoader.load(UnmodifiableDoubleListFactory).first()
+    then:
+      registered.class == factory.class
+  }
+
+  //region STANDARD CONTRACT
+  def "collect"(List<Double> list) {
+    given:
+      double[] array = list
+    expect:
+      factory.collect(DoubleStream.of(array)) == List.copyOf(list)
+    where:
+      list << doubleLists()
+  }
+
+  def "collect parallel stream"() {
+    given:
+      double[] array = (0..<10_000).collect { it as Double }
+    expect:
+      factory.collect(DoubleStream.of(array).parallel()).toDoubleArray() == array
+  }
+
+  def "collect unsized parallel stream"() {
+    given:
+      double[] array = (0..<10_000).collect { it as Double }
+    expect:
+      factory.collect(DoubleStream.of(array).parallel().filter { it % 3 == 0 }).toDoubleArray() ==
+              array.findAll { it % 3 == 0 } as double[]
+  }
+
+  def "copyOf(array)"(List<Double> list) {
+    given:
+      double[] array = list
+    expect:
+      factory.copyOf(array) == List.copyOf(list)
+    where:
+      list << doubleLists()
+  }
+
+  def "copyOf(collection)"(List<Double> list) {
+    expect:
+      factory.copyOf(list) == List.copyOf(list)
+    where:
+      list << doubleLists()
+  }
+
+  def "of(...)"(List<Double> list) {
+    given:
+      double[] array = list
+    expect:
+      factory.of(array) == List.copyOf(list)
+    where:
+      list << doubleLists()
+  }
+
+  def "getDouble"(List<Double> list) {
+    given:
+      def actual = factory.copyOf(list)
+    expect:
+      (0..<list.size()).every { actual.getDouble(it) == list[it] }
+    where:
+      list << doubleLists()
+  }
+
+  def "toDoubleArray"(List<Double> list) {
+    expect:
+      factory.copyOf(list).toDoubleArray() == (double[]) list
+    where:
+      list << doubleLists()
+  }
+
+  def "doubleStream"(List<Double> list) {
+    expect:
+      factory.copyOf(list).doubleStream().toArray() == (double[]) list
+    where:
+      list << doubleLists()
+  }
+
+  def "hashCode"(List<Double> list) {
+    expect:
+      factory.copyOf(list).hashCode() == list.hashCode()
+    where:
+      list << doubleLists()
+  }
+  //endregion
+
+  //region NULLABILITY CONTRACT
+  def "copyOf(collection) throws NPE"(List<Double> list) {
+    when:
+      factory.copyOf(list)
+    then:
+      thrown(NullPointerException)
+    where:
+      list << listsWithNull()
+  }
+  //endregion
+
+  //region IMMUTABILITY CONTRACT
+  def "copyOf(array) copies the array"() {
+    given:
+      double[] array = [1, 2, 3]
+      def list = factory.copyOf(array)
+    when:
+      array[0] = 0
+    then:
+      list.getDouble(0) == 1
+  }
+
+  def "of(...) copies the array"() {
+    given:
+      double[] array = [1, 2, 3]
+      def list = factory.of(array)
+    when:
+      array[0] = 0
+    then:
+      list.getDouble(0) == 1
+  }
+
+  def "toDoubleArray returns a new array"() {
+    given:
+      def list = factory.of(1, 2, 3)
+    when:
+      list.toDoubleArray()[0] = 0
+    then:
+      list.getDouble(0) == 1
+  }
+
+  def "add throws UOE"() {
+    when:
+      factory.of(1, 2, 3).add(4)
+    then:
+      thrown(UnsupportedOperationException)
+  }
+
+  def "set throws UOE"() {
+    when:
+      factory.of(1, 2, 3).set(0, 4)
+    then:
+      thrown(UnsupportedOperationException)
+  }
+  //endregion
+
+  //region CONSISTENCY CONTRACT
+  def "empty list has only one instance"() {
+    when:
+      def actual = factory.of()
+    then:
+      actual.is(factory.copyOf(new double[0]))
+      actual.is(factory.copyOf([]))
+      actual.is(factory.collect(DoubleStream.empty()))
+  }
+  //endregion
+
+  //region IDENTITY CONTRACT
+  def "copyOf returns unmodifiable list of this factory as is"(List<Double> list) {
+    given:
+      def actual = factory.copyOf(list)
+    expect:
+      factory.copyOf(actual).is(actual)
+    where:
+      list << doubleLists()
+  }
+  //endregion
+
+  private static List<List<Double>> doubleLists() {
+    lists().collect { list -> list.collect { it as Double } }
+  }
+}
@@ -0,0 +1,209 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.test.service.collect
+
+import static pl.tlinkowski.unij.test.service.collect.UnmodifiableCollectionSpecHelper.*
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.stream.IntStream
+
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableIntListFactory
+
+/**
+ * Specification for {@link UnmodifiableIntListFactory}.
+ *
+ * Inheriting classes should initialize {@code factory} in the {@code setupSpec} method.
+ *
+ * @author Tomasz Linkowski
+ */
+abstract class UnmodifiableIntListFactorySpec extends Specification {
+
+  @Shared
+  protected UnmodifiableIntListFactory factory
+
+  def "proper service is registered on classpath"() {
+    when:
+      def registered = ServiceLoader.load(UnmodifiableIntListFactory).first()
+    then:
+      registered.class == factory.class
+  }
+
+  //region STANDARD CONTRACT
+  def "collect"(List<Integer> list) {
+    given:
+      int[] array = list
+    expect:
+      factory.collect(IntStream.of(array)) == List.copyOf(list)
+    where:
+      list << intLists()
+  }
+
+  def "collect parallel stream"() {
+    given:
+      int[] array = (0..<10_000).collect { it as Integer }
+    expect:
+      factory.collect(IntStream.of(array).parallel()).toIntArray() == array
+  }
+
+  def "collect unsized parallel stream"() {
+    given:
+      int[] array = (0..<10_000).collect { it as Integer }
+    expect:
+      factory.collect(IntStream.of(array).parallel().filter { it % 3 == 0 }).toIntArray() ==
+              array.findAll { it % 3 == 0 } as int[]
+  }
+
+  def "copyOf(array)"(List<Integer> list) {
+    given:
+      int[] array = list
+    expect:
+      factory.copyOf(array) == List.copyOf(list)
+    where:
+      list << intLists()
+  }
+
+  def "copyOf(collection)"(List<Integer> list) {
+    expect:
+      factory.copyOf(list) == List.copyOf(list)
+    where:
+      list << intLists()
+  }
+
+  def "of(...)"(List<Integer> list) {
+    given:
+      int[] array = list
+    expect:
+      factory.of(array) == List.copyOf(list)
+    where:
+      list << intLists()
+  }
+
+  def "getInt"(List<Integer> list) {
+    given:
+      def actual = factory.copyOf(list)
+    expect:
+      (0..<list.size()).every { actual.getInt(it) == list[it] }
+    where:
+      list << intLists()
+  }
+
+  def "toIntArray"(List<Integer> list) {
+    expect:
+      factory.copyOf(list).toIntArray() == (int[]) list
+    where:
+      list << intLists()
+  }
+
+  def "intStream"(List<Integer> list) {
+    expect:
+      factory.copyOf(list).intStream().toArray() == (int[]) list
+    where:
+      list << intLists()
+  }
+
+  def "hashCode"(List<Integer> list) {
+    expect:
+      factory.copyOf(list).hashCode() == list.hashCode()
+    where:
+      list << intLists()
+  }
+  //endregion
+
+  //region NULLABILITY CONTRACT
+  def "copyOf(collection) throws NPE"(List<Integer> list) {
+    when:
+      factory.copyOf(list)
+    then:
+      thrown(NullPointerException)
+    where:
+      list << listsWithNull()
+  }
+  //endregion
+
+  //region IMMUTABILITY CONTRACT
+  def "copyOf(array) copies the array"() {
+    given:
+      int[] array = [1, 2, 3]
+      def list = factory.copyOf(array)
+    when:
+      array[0] = 0
+    then:
+      list.getInt(0) == 1
+  }
+
+  def "of(...) copies the array"() {
+    given:
+      int[] array = [1, 2, 3]
+      def list = factory.of(array)
+    when:
+      array[0] = 0
+    then:
+      list.getInt(0) == 1
+  }
+
+  def "toIntArray returns a new array"() {
+    given:
+      def list = factory.of(1, 2, 3)
+    when:
+      list.toIntArray()[0] = 0
+    then:
+      list.getInt(0) == 1
+  }
+
+  def "add throws UOE"() {
+    when:
+      factory.of(1, 2, 3).add(4)
+    then:
+      thrown(UnsupportedOperationException)
+  }
+
+  def "set throws UOE"() {
+    when:
+      factory.of(1, 2, 3).set(0, 4)
+    then:
+      thrown(UnsupportedOperationException)
+  }
+  //endregion
+
+  //region CONSISTENCY CONTRACT
+  def "empty list has only one instance"() {
+    when:
+      def actual = factory.of()
+    then:
+      actual.is(factory.copyOf(new int[0]))
+      actual.is(factory.copyOf([]))
+      actual.is(factory.collect(IntStream.empty()))
+  }
+  //endregion
+
+  //region IDENTITY CONTRACT
+  def "copyOf returns unmodifiable list of this factory as is"(List<Integer> list) {
+    given:
+      def actual = factory.copyOf(list)
+    expect:
+      factory.copyOf(actual).is(actual)
+    where:
+      list << intLists()
+  }
+  //endregion
+
+  private static List<List<Integer>> intLists() {
+    lists().collect { list -> list.collect { it as Integer } }
+  }
+}
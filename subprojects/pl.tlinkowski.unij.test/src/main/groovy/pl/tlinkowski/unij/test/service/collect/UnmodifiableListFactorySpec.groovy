@@ -359,4 +359,115 @@ abstract class UnmodifiableListFactorySpec extends Specification {
     collect(factory.collector(), args(size))
   }
   //endregion
+
+  //region IDENTITY CONTRACT
+  def "copyOf returns unmodifiable list of this factory as is"(int size) {
+    given:
+      def lists = [ofSized(size), copyOfSized(size), collectSized(size)]
+    expect:
+      lists.every { factory.copyOf(it).is(it) }
+    where:
+      size << [0, 1, 2, 3, 10, 11]
+  }
+  //endregion
+
+  //region BUILDER CONTRACT
+  def "builder"(List<Integer> list, int expectedSize) {
+    given:
+      def builder = factory.<Integer> builder(expectedSize)
+      list.each { builder.add(it) }
+    expect:
+      builder.build() == List.copyOf(list)
+    where:
+      [list, expectedSize] << [lists(), [0, 2, 100]].combinations()
+  }
+
+  def "builder addAll"(List<Integer> list) {
+    expect:
+      factory.<Integer> builder(list.size()).addAll(list).build() == List.copyOf(list)
+    where:
+      list << lists()
+  }
+
+  def "builder throws NPE"() {
+    when:
+      factory.builder(1).add(null)
+    then:
+      thrown(NullPointerException)
+  }
+
+  def "builder throws IAE on negative expected size"() {
+    when:
+      factory.builder(-1)
+    then:
+      thrown(IllegalArgumentException)
+  }
+
+  def "builder builds empty list of only one instance"() {
+    expect:
+      factory.builder(0).build().is(factory.of())
+      factory.builder(10).build().is(factory.of())
+  }
+
+  def "builder throws ISE when used after build"() {
+    given:
+      def builder = factory.builder(1).add(1)
+      builder.build()
+    when:
+      builder.add(2)
+    then:
+      thrown(IllegalStateException)
+  }
+  //endregion
+
+  //region PERSISTENT CONTRACT
+  def "with"(List<Integer> list) {
+    given:
+      def original = factory.copyOf(list)
+    expect:
+      factory.with(original, 99) == List.copyOf(list + 99)
+      original == List.copyOf(list)
+    where:
+      list << lists()
+  }
+
+  def "with on many versions"() {
+    given:
+      def versions = [factory.<Integer> of()]
+      (0..<2_000).each { versions << factory.with(versions.last(), it) }
+    expect:
+      (0..2_000).every { n -> versions[n] == (0..<n).toList() }
+  }
+
+  def "with accepts foreign list"() {
+    expect:
+      factory.with([1, 2], 3) == List.of(1, 2, 3)
+  }
+
+  def "with throws NPE"() {
+    when:
+      factory.with(factory.of(1), null)
+    then:
+      thrown(NullPointerException)
+  }
+  //endregion
+
+  //region SERIALIZATION CONTRACT
+  def "serialization round trip"(List<Integer> list) {
+    given:
+      def original = factory.copyOf(list)
+    when:
+      def deserialized = roundTrip(original)
+    then:
+      deserialized == original
+      deserialized.class == original.class
+    where:
+      list << lists()
+  }
+
+  def "serialization round trip keeps empty list of only one instance"() {
+    expect:
+      roundTrip(factory.of()).is(factory.of())
+  }
+  //endregion
 }
@@ -0,0 +1,209 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pl.tlinkowski.unij.test.service.collect
+
+import static pl.tlinkowski.unij.test.service.collect.UnmodifiableCollectionSpecHelper.*
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.stream.LongStream
+
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableLongListFactory
+
+/**
+ * Specification for {@link UnmodifiableLongListFactory}.
+ *
+ * Inheriting classes should initialize {@code factory} in the {@code setupSpec} method.
+ *
+ * @author Tomasz Linkowski
+ */
+abstract class UnmodifiableLongListFactorySpec extends Specification {
+
+  @Shared
+  protected UnmodifiableLongListFactory factory
+
+  def "proper service is registered on classpath"() {
+    when:
+      def registered = ServiceLoader.load(UnmodifiableLongListFactory).first()
+    then:
+      registered.class == factory.class
+  }
+
+  //region STANDARD CONTRACT
+  def "collect"(List<Long> list) {
+    given:
+      long[] array = list
+    expect:
+      factory.collect(LongStream.of(array)) == List.copyOf(list)
+    where:
+      list << longLists()
+  }
+
+  def "collect parallel stream"() {
+    given:
+      long[] array = (0..<10_000).collect { it as Long }
+    expect:
+      factory.collect(LongStream.of(array).parallel()).toLongArray() == array
+  }
+
+  def "collect unsized parallel stream"() {
+    given:
+      long[] array = (0..<10_000).collect { it as Long }
+    expect:
+      factory.collect(LongStream.of(array).parallel().filter { it % 3 == 0 }).toLongArray() ==
+              array.findAll { it % 3 == 0 } as long[]
+  }
+
+  def "copyOf(array)"(List<Long> list) {
+    given:
+      long[] array = list
+    expect:
+      factory.copyOf(array) == List.copyOf(list)
+    where:
+      list << longLists()
+  }
+
+  def "copyOf(collection)"(List<Long> list) {
+    expect:
+      factory.copyOf(list) == List.copyOf(list)
+    where:
+      list << longLists()
+  }
+
+  def "of(...)"(List<Long> list) {
+    given:
+      long[] array = list
+    expect:
+      factory.of(array) == List.copyOf(list)
+    where:
+      list << longLists()
+  }
+
+  def "getLong"(List<Long> list) {
+    given:
+      def actual = factory.copyOf(list)
+    expect:
+      (0..<list.size()).every { actual.getLong(it) == list[it] }
+    where:
+      list << longLists()
+  }
+
+  def "toLongArray"(List<Long> list) {
+    expect:
+      factory.copyOf(list).toLongArray() == (long[]) list
+    where:
+      list << longLists()
+  }
+
+  def "longStream"(List<Long> list) {
+    expect:
+      factory.copyOf(list).longStream().toArray() == (long[]) list
+    where:
+      list << longLists()
+  }
+
+  def "hashCode"(List<Long> list) {
+    expect:
+      factory.copyOf(list).hashCode() == list.hashCode()
+    where:
+      list << longLists()
+  }
+  //endregion
+
+  //region NULLABILITY CONTRACT
+  def "copyOf(collection) throws NPE"(List<Long> list) {
+    when:
+      factory.copyOf(list)
+    then:
+      thrown(NullPointerException)
+    where:
+      list << listsWithNull()
+  }
+  //endregion
+
+  //region IMMUTABILITY CONTRACT
+  def "copyOf(array) copies the array"() {
+    given:
+      long[] array = [1, 2, 3]
+      def list = factory.copyOf(array)
+    when:
+      array[0] = 0
+    then:
+      list.getLong(0) == 1
+  }
+
+  def "of(...) copies the array"() {
+    given:
+      long[] array = [1, 2, 3]
+      def list = factory.of(array)
+    when:
+      array[0] = 0
+    then:
+      list.getLong(0) == 1
+  }
+
+  def "toLongArray returns a new array"() {
+    given:
+      def list = factory.of(1, 2, 3)
+    when:
+      list.toLongArray()[0] = 0
+    then:
+      list.getLong(0) == 1
+  }
+
+  def "add throws UOE"() {
+    when:
+      factory.of(1, 2, 3).add(4)
+    then:
+      thrown(UnsupportedOperationException)
+  }
+
+  def "set throws UOE"() {
+    when:
+      factory.of(1, 2, 3).set(0, 4)
+    then:
+      thrown(UnsupportedOperationException)
+  }
+  //endregion
+
+  //region CONSISTENCY CONTRACT
+  def "empty list has only one instance"() {
+    when:
+      def actual = factory.of()
+    then:
+      actual.is(factory.copyOf(new long[0]))
+      actual.is(factory.copyOf([]))
+      actual.is(factory.collect(LongStream.empty()))
+  }
+  //endregion
+
+  //region IDENTITY CONTRACT
+  def "copyOf returns unmodifiable list of this factory as is"(List<Long> list) {
+    given:
+      def actual = factory.copyOf(list)
+    expect:
+      factory.copyOf(actual).is(actual)
+    where:
+      list << longLists()
+  }
+  //endregion
+
+  private static List<List<Long>> longLists() {
+    lists().collect { list -> list.collect { it as Long } }
+  }
+}
@@ -0,0 +1,209 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+package pl.tlinkowski.unij.test.service.collect
+
+import spock.lang.Shared
+import spock.lang.Specification
+
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableLongObjectMapFactory
+
+/**
+ * Specification for {@link UnmodifiableLongObjectMapFactory}.
+ *
+ * Inheriting classes should initialize {@code factory} in the {@code setupSpec} method.
+ *
+ * @author Tomasz Linkowski
+ */
+abstract class UnmodifiableLongObjectMapFactorySpec extends Specification {
+
+  @Shared
+  protected UnmodifiableLongObjectMapFactory factory
+
+  def "proper service is registered on classpath"() {
+    when:
+      def registered = ServiceLoader.load(UnmodifiableLongObjectMapFactory).first()
+    then:
+      registered.class == factory.class
+  }
+
+  //region STANDARD CONTRACT
+  def "collector"(Map<Long, String> map) {
+    expect:
+      collect(map) == map
+    where:
+      map << longObjectMaps()
+  }
+
+  def "collector on parallel stream"() {
+    given:
+      def map = sized(10_000)
+    expect:
+      map.entrySet().parallelStream().collect(factory.collector({ it.key }, { it.value })) == map
+  }
+
+  def "copyOf"(Map<Long, String> map) {
+    expect:
+      factory.copyOf(map) == map
+    where:
+      map << longObjectMaps()
+  }
+
+  def "of(n=0)"() {
+    expect:
+      factory.of() == Map.of()
+  }
+
+  def "of(n=1)"() {
+    expect:
+      factory.of(1L, "a") == Map.of(1L, "a")
+  }
+
+  def "of(n=2)"() {
+    expect:
+      factory.of(1L, "a", 2L, "b") == Map.of(1L, "a", 2L, "b")
+  }
+
+  def "of(n=3)"() {
+    expect:
+      factory.of(1L, "a", 2L, "b", 3L, "c") == Map.of(1L, "a", 2L, "b", 3L, "c")
+  }
+
+  def "get(long) and containsKey(long)"(Map<Long, String> map) {
+    given:
+      def actual = factory.copyOf(map)
+    expect:
+      map.every { key, value -> actual.get(key as long) == value && actual.containsKey(key as long) }
+      actual.get(Long.MIN_VALUE) == null
+      !actual.containsKey(Long.MIN_VALUE)
+    where:
+      map << longObjectMaps()
+  }
+
+  def "get(Object) and containsKey(Object) with foreign keys"() {
+    given:
+      def actual = factory.of(1L, "a")
+    expect:
+      actual.get((Object) 1) == null
+      !actual.containsKey((Object) 1)
+      actual.get(null) == null
+      !actual.containsKey(null)
+  }
+
+  def "hashCode"(Map<Long, String> map) {
+    expect:
+      factory.copyOf(map).hashCode() == map.hashCode()
+    where:
+      map << longObjectMaps()
+  }
+  //endregion
+
+  //region NULLABILITY CONTRACT
+  def "copyOf throws NPE"(Map<Long, String> map) {
+    when:
+      factory.copyOf(map)
+    then:
+      thrown(NullPointerException)
+    where:
+      map << [[(1L): null], [(1L): "a", (null): "b"]]
+  }
+
+  def "of(n=1) throws NPE"() {
+    when:
+      factory.of(1L, null)
+    then:
+      thrown(NullPointerException)
+  }
+
+  def "collector throws NPE"() {
+    when:
+      collect([(1L): "a", (2L): null])
+    then:
+      thrown(NullPointerException)
+  }
+  //endregion
+
+  //region IMMUTABILITY CONTRACT
+  def "put throws UOE"() {
+    when:
+      factory.of(1L, "a").put(2L, "b")
+    then:
+      thrown(UnsupportedOperationException)
+  }
+
+  def "remove throws UOE"() {
+    when:
+      factory.of(1L, "a").remove(1L)
+    then:
+      thrown(UnsupportedOperationException)
+  }
+  //endregion
+
+  //region CONSISTENCY CONTRACT
+  def "empty map has only one instance"() {
+    when:
+      def actual = factory.of()
+    then:
+      actual.is(factory.copyOf([:]))
+      actual.is(collect([:]))
+  }
+  //endregion
+
+  //region IDENTITY CONTRACT
+  def "copyOf returns unmodifiable map of this factory as is"(Map<Long, String> map) {
+    given:
+      def actual = factory.copyOf(map)
+    expect:
+      factory.copyOf(actual).is(actual)
+    where:
+      map << longObjectMaps()
+  }
+  //endregion
+
+  //region DUPLICATION CONTRACT
+  def "of(n=2) throws on duplicates"() {
+    when:
+      factory.of(1L, "a", 1L, "b")
+    then:
+      Exception e = thrown()
+      isDuplicateException(e)
+  }
+
+  def "collector throws on duplicates"() {
+    when:
+      [1L, 2L, 1L].stream().collect(factory.collector({ it }, { it.toString() }))
+    then:
+      Exception e = thrown()
+      isDuplicateException(e)
+  }
+
+  private static boolean isDuplicateException(Exception e) {
+    (e instanceof IllegalArgumentException || e instanceof IllegalStateException) && e.message.contains("key")
+  }
+  //endregion
+
+  private Map<Long, String> collect(Map<Long, String> map) {
+    map.entrySet().stream().collect(factory.collector({ it.key }, { it.value }))
+  }
+
+  private static List<Map<Long, String>> longObjectMaps() {
+    [0, 1, 2, 3, 10, 100].collect { sized(it) } + [[(Long.MIN_VALUE + 1): "min", (0L): "zero", (-1L): "minus one"]]
+  }
+
+  private static Map<Long, String> sized(int size) {
+    size == 0 ? [:] : (1..size).collectEntries { [(it * 1024L): "v$it".toString()] }
+  }
+}
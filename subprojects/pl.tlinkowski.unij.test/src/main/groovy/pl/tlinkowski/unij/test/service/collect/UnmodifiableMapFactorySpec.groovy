@@ -17,10 +17,12 @@
  */
 package pl.tlinkowski.unij.test.service.collect
 
+import static pl.tlinkowski.unij.test.service.collect.UnmodifiableCollectionSpecHelper.roundTrip
 import static pl.tlinkowski.unij.test.service.collect.UnmodifiableMapSpecHelper.*
 import spock.lang.Shared
 import spock.lang.Specification
 
+import java.util.concurrent.TimeUnit
 import java.util.stream.Collectors
 
 import pl.tlinkowski.unij.service.api.collect.UnmodifiableMapFactory
@@ -63,6 +65,24 @@ abstract class UnmodifiableMapFactorySpec extends Specification {
       [[a: 1, b: 2], [b: 3]] | _
   }
 
+  def "concurrentCollector(keyMapper,valueMapper)"(Map<String, Integer> map) {
+    expect:
+      collect(collector2(factory.&concurrentCollector), map) == collect(collector2(Collectors.&toUnmodifiableMap), map)
+    where:
+      map << maps()
+  }
+
+  def "concurrentCollector(keyMapper,valueMapper,mergeFunction)"(List<Map<String, Integer>> maps) {
+    expect:
+      collect(collector3(factory.&concurrentCollector), maps) == collect(collector3(Collectors.&toUnmodifiableMap), maps)
+    where:
+      maps                   | _
+      []                     | _
+      [[a: 1]]               | _
+      [[a: 1], [b: 2]]       | _
+      [[a: 1, b: 2], [b: 3]] | _
+  }
+
   def "copyOf"(Map<String, Integer> map) {
     expect:
       factory.copyOf(map) == Map.copyOf(map)
@@ -167,6 +187,24 @@ abstract class UnmodifiableMapFactorySpec extends Specification {
       map << mapsWithNull()
   }
 
+  def "concurrentCollector(keyMapper,valueMapper) throws NPE"(Map<String, Integer> map) {
+    when:
+      collect(collector2(factory.&concurrentCollector), map)
+    then:
+      thrown(NullPointerException)
+    where:
+      map << mapsWithNull()
+  }
+
+  def "concurrentCollector(keyMapper,valueMapper,mergeFunction) throws NPE"(Map<String, Integer> map) {
+    when:
+      collect(collector3(factory.&concurrentCollector), map)
+    then:
+      thrown(NullPointerException)
+    where:
+      map << mapsWithNull()
+  }
+
   def "copyOf throws NPE"(Map<String, Integer> map) {
     when:
       factory.copyOf(map)
@@ -401,6 +439,17 @@ abstract class UnmodifiableMapFactorySpec extends Specification {
   }
   //endregion
 
+  //region IDENTITY CONTRACT
+  def "copyOf returns unmodifiable map of this factory as is"(int size) {
+    given:
+      def maps = [ofEntriesSized(size), copyOfSized(size), collect2Sized(size), collect3Sized(size)]
+    expect:
+      maps.every { factory.copyOf(it).is(it) }
+    where:
+      size << [0, 1, 2, 3, 10, 11]
+  }
+  //endregion
+
   //region DUPLICATION CONTRACT
   def "collector(key,value) throws on duplicates"(List<Map<String, Integer>> maps) {
     when:
@@ -413,6 +462,17 @@ abstract class UnmodifiableMapFactorySpec extends Specification {
       [[a: 1, b: 2], [b: 3]] | _
   }
 
+  def "concurrentCollector(key,value) throws on duplicates"(List<Map<String, Integer>> maps) {
+    when:
+      collect(collector2(factory.&concurrentCollector), maps)
+    then:
+      Exception e = thrown()
+      isDuplicateException(e)
+    where:
+      maps                   | _
+      [[a: 1, b: 2], [b: 3]] | _
+  }
+
   def "ofEntries throws on duplicates"(List<Map<String, Integer>> maps) {
     given:
       Map.Entry<String, Integer>[] entries = maps.collectMany { it.entrySet() }
@@ -517,4 +577,277 @@ abstract class UnmodifiableMapFactorySpec extends Specification {
     (e instanceof IllegalArgumentException || e instanceof IllegalStateException) && e.message.contains("key")
   }
   //endregion
+
+  //region ENUM CONTRACT
+
+  /**
+   * Whether the {@code factory} returns maps specialized for enums (which iterate in the natural order of the enum).
+   */
+  protected boolean isEnumSpecialized() {
+    true
+  }
+
+  def "copyOfEnumMap"(EnumMap<TimeUnit, Integer> map) {
+    given:
+      def actual = factory.copyOfEnumMap(map)
+    expect:
+      actual == map
+      !enumSpecialized || actual.keySet().toList() == map.keySet().toList() // same order
+      actual.hashCode() == map.hashCode()
+      actual.get("SECONDS") == null
+    where:
+      map << enumMaps()
+  }
+
+  def "copyOf(EnumMap)"(EnumMap<TimeUnit, Integer> map) {
+    given:
+      def actual = factory.copyOf(map)
+    expect:
+      actual == map
+      factory.copyOf(actual).is(actual)
+    where:
+      map << enumMaps()
+  }
+
+  def "copyOfEnumMap throws NPE"() {
+    given:
+      def map = new EnumMap<TimeUnit, Integer>([(TimeUnit.SECONDS): 1, (TimeUnit.DAYS): null])
+    when:
+      factory.copyOfEnumMap(map)
+    then:
+      thrown(NullPointerException)
+  }
+
+  private static List<EnumMap<TimeUnit, Integer>> enumMaps() {
+    [
+            new EnumMap<TimeUnit, Integer>(TimeUnit),
+            new EnumMap<TimeUnit, Integer>([(TimeUnit.SECONDS): 1]),
+            new EnumMap<TimeUnit, Integer>([(TimeUnit.DAYS): 1, (TimeUnit.NANOSECONDS): 2]),
+            new EnumMap<TimeUnit, Integer>(TimeUnit.values().collectEntries { [(it): it.ordinal()] })
+    ]
+  }
+  //endregion
+
+  //region BUILDER CONTRACT
+  def "builder"(Map<String, Integer> map, int expectedSize) {
+    given:
+      def builder = factory.<String, Integer> builder(expectedSize)
+      map.each { k, v -> builder.put(k, v) }
+    expect:
+      builder.build() == Map.copyOf(map)
+    where:
+      [map, expectedSize] << [maps(), [0, 2, 100]].combinations()
+  }
+
+  def "builder putAll"(Map<String, Integer> map) {
+    expect:
+      factory.<String, Integer> builder(map.size()).putAll(map).build() == Map.copyOf(map)
+    where:
+      map << maps()
+  }
+
+  def "builder throws NPE"(String key, Integer value) {
+    when:
+      factory.builder(1).put(key, value)
+    then:
+      thrown(NullPointerException)
+    where:
+      key  | value
+      null | 1
+      "a"  | null
+  }
+
+  def "builder throws on duplicate keys"() {
+    when:
+      factory.builder(2).put("a", 1).put("a", 2).build()
+    then:
+      Exception e = thrown()
+      isDuplicateException(e)
+  }
+
+  def "builder throws IAE on negative expected size"() {
+    when:
+      factory.builder(-1)
+    then:
+      thrown(IllegalArgumentException)
+  }
+
+  def "builder builds empty map of only one instance"() {
+    expect:
+      factory.builder(0).build().is(factory.of())
+      factory.builder(10).build().is(factory.of())
+  }
+
+  def "builder throws ISE when used after build"() {
+    given:
+      def builder = factory.builder(1).put("a", 1)
+      builder.build()
+    when:
+      builder.put("b", 2)
+    then:
+      thrown(IllegalStateException)
+  }
+  //endregion
+
+  //region PERSISTENT CONTRACT
+  def "with"(Map<String, Integer> map) {
+    given:
+      def original = factory.copyOf(map)
+    expect:
+      factory.with(original, "new", 99) == Map.copyOf(map + [new: 99])
+      original == Map.copyOf(map)
+    where:
+      map << maps()
+  }
+
+  def "with replaces value"() {
+    given:
+      def original = factory.of("a", 1, "b", 2)
+    expect:
+      factory.with(original, "a", 3) == Map.of("a", 3, "b", 2)
+      original == Map.of("a", 1, "b", 2)
+  }
+
+  def "without"(Map<String, Integer> map) {
+    given:
+      def original = factory.copyOf(map)
+      def key = map.keySet().first()
+    expect:
+      factory.without(original, key) == Map.copyOf(map.findAll { it.key != key })
+      factory.without(original, "absent") == original
+      original == Map.copyOf(map)
+    where:
+      map << maps().findAll { !it.isEmpty() }
+  }
+
+  def "without last key returns empty map of only one instance"() {
+    expect:
+      factory.without(factory.of("a", 1), "a").is(factory.of())
+  }
+
+  def "with and without on many versions"() {
+    given:
+      def versions = [factory.<Integer, Integer> of()]
+      (0..<2_000).each { versions << factory.with(versions.last(), it, it) }
+      def shrunk = (0..<1_000).inject(versions.last()) { map, key -> factory.without(map, key) }
+    expect:
+      (0..2_000).every { n -> versions[n] == (0..<n).collectEntries { [it, it] } }
+      shrunk == (1_000..<2_000).collectEntries { [it, it] }
+  }
+
+  def "with accepts foreign map"() {
+    expect:
+      factory.with([a: 1], "b", 2) == Map.of("a", 1, "b", 2)
+      factory.without([a: 1, b: 2], "a") == Map.of("b", 2)
+  }
+
+  def "with throws NPE"(String key, Integer value) {
+    when:
+      factory.with(factory.of("a", 1), key, value)
+    then:
+      thrown(NullPointerException)
+    where:
+      key  | value
+      null | 1
+      "b"  | null
+  }
+  //endregion
+
+  //region STATIC CONTRACT
+  def "copyOfStatic"(Map<String, Integer> map) {
+    given:
+      def actual = factory.copyOfStatic(map)
+    expect:
+      actual == Map.copyOf(map)
+      map.every { k, v -> actual.get(k) == v && actual.containsKey(k) }
+      !actual.containsKey("absent")
+      actual.get("absent") == null
+    where:
+      map << maps()
+  }
+
+  def "copyOfStatic large map"() {
+    given:
+      def map = (0..<10_000).collectEntries { ["key$it".toString(), it] }
+      def actual = factory.copyOfStatic(map)
+    expect:
+      actual == map
+      (0..<10_000).every { actual.get("key$it".toString()) == it }
+      (10_000..<11_000).every { !actual.containsKey("key$it".toString()) }
+  }
+
+  def "copyOfStatic with equal hash codes"() {
+    given:
+      def map = ["Aa": 1, "BB": 2, "C": 3] // "Aa" and "BB" have equal hash codes
+    expect:
+      factory.copyOfStatic(map) == map
+  }
+
+  def "copyOfStatic throws NPE"(Map<String, Integer> map) {
+    when:
+      factory.copyOfStatic(map)
+    then:
+      thrown(NullPointerException)
+    where:
+      map << mapsWithNull()
+  }
+
+  def "copyOfStatic returns its own result as is"(Map<String, Integer> map) {
+    given:
+      def actual = factory.copyOfStatic(map)
+    expect:
+      factory.copyOfStatic(actual).is(actual)
+      factory.copyOf(actual).is(actual)
+    where:
+      map << maps()
+  }
+
+  def "ofStatic"(Map<String, Integer> map) {
+    given:
+      Map.Entry<String, Integer>[] entries = map.collect { k, v -> factory.entry(k, v) }
+    expect:
+      factory.ofStatic(entries) == Map.copyOf(map)
+    where:
+      map << maps()
+  }
+
+  def "ofStatic throws on duplicates"() {
+    when:
+      factory.ofStatic(factory.entry("a", 1), factory.entry("a", 2))
+    then:
+      Exception e = thrown()
+      isDuplicateException(e)
+  }
+  //endregion
+
+  //region SERIALIZATION CONTRACT
+  def "serialization round trip"(Map<String, Integer> map) {
+    given:
+      def original = factory.copyOf(map)
+    when:
+      def deserialized = roundTrip(original)
+    then:
+      deserialized == original
+      deserialized.class == original.class
+    where:
+      map << maps()
+  }
+
+  def "serialization round trip of copyOfStatic"(Map<String, Integer> map) {
+    given:
+      def original = factory.copyOfStatic(map)
+    when:
+      def deserialized = roundTrip(original)
+    then:
+      deserialized == original
+      deserialized.class == original.class
+    where:
+      map << maps()
+  }
+
+  def "serialization round trip keeps empty map of only one instance"() {
+    expect:
+      roundTrip(factory.of()).is(factory.of())
+  }
+  //endregion
 }
@@ -0,0 +1,207 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+package pl.tlinkowski.unij.test.service.collect
+
+import static pl.tlinkowski.unij.test.service.collect.UnmodifiableMapSpecHelper.*
+import spock.lang.Shared
+import spock.lang.Specification
+
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableObjectIntMapFactory
+
+/**
+ * Specification for {@link UnmodifiableObjectIntMapFactory}.
+ *
+ * Inheriting classes should initialize {@code factory} in the {@code setupSpec} method.
+ *
+ * @author Tomasz Linkowski
+ */
+abstract class UnmodifiableObjectIntMapFactorySpec extends Specification {
+
+  @Shared
+  protected UnmodifiableObjectIntMapFactory factory
+
+  def "proper service is registered on classpath"() {
+    when:
+      def registered = ServiceLoader.load(UnmodifiableObjectIntMapFactory).first()
+    then:
+      registered.class == factory.class
+  }
+
+  //region STANDARD CONTRACT
+  def "collector"(Map<String, Integer> map) {
+    expect:
+      collect(map) == map
+    where:
+      map << maps()
+  }
+
+  def "collector on parallel stream"() {
+    given:
+      Map<String, Integer> map = (0..<10_000).collectEntries { [("k$it".toString()): it] }
+    expect:
+      map.entrySet().parallelStream().collect(factory.collector({ it.key }, { it.value })) == map
+  }
+
+  def "copyOf"(Map<String, Integer> map) {
+    expect:
+      factory.copyOf(map) == map
+    where:
+      map << maps()
+  }
+
+  def "of(n=0)"() {
+    expect:
+      factory.of() == Map.of()
+  }
+
+  def "of(n=1)"() {
+    expect:
+      factory.of("a", 1) == Map.of("a", 1)
+  }
+
+  def "of(n=2)"() {
+    expect:
+      factory.of("a", 1, "b", 2) == Map.of("a", 1, "b", 2)
+  }
+
+  def "of(n=3)"() {
+    expect:
+      factory.of("a", 1, "b", 2, "c", 3) == Map.of("a", 1, "b", 2, "c", 3)
+  }
+
+  def "getIntOrDefault"(Map<String, Integer> map) {
+    given:
+      def actual = factory.copyOf(map)
+    expect:
+      map.every { key, value -> actual.getIntOrDefault(key, -1) == value }
+      actual.getIntOrDefault("z", -1) == -1
+      actual.getIntOrDefault(null, -1) == -1
+    where:
+      map << maps()
+  }
+
+  def "get(Object) and containsKey(Object)"(Map<String, Integer> map) {
+    given:
+      def actual = factory.copyOf(map)
+    expect:
+      map.every { key, value -> actual.get(key) == value && actual.containsKey(key) }
+      actual.get("z") == null
+      !actual.containsKey("z")
+      actual.get(null) == null
+      !actual.containsKey(null)
+    where:
+      map << maps()
+  }
+
+  def "hashCode"(Map<String, Integer> map) {
+    expect:
+      factory.copyOf(map).hashCode() == map.hashCode()
+    where:
+      map << maps()
+  }
+  //endregion
+
+  //region NULLABILITY CONTRACT
+  def "copyOf throws NPE"(Map<String, Integer> map) {
+    when:
+      factory.copyOf(map)
+    then:
+      thrown(NullPointerException)
+    where:
+      map << mapsWithNull()
+  }
+
+  def "of(n=1) throws NPE"() {
+    when:
+      factory.of(null, 1)
+    then:
+      thrown(NullPointerException)
+  }
+
+  def "collector throws NPE"(Map<String, Integer> map) {
+    when:
+      collect(map)
+    then:
+      thrown(NullPointerException)
+    where:
+      map << mapsWithNull().findAll { it.containsKey(null) } // null values are rejected by the value mapper itself
+  }
+  //endregion
+
+  //region IMMUTABILITY CONTRACT
+  def "put throws UOE"() {
+    when:
+      factory.of("a", 1).put("b", 2)
+    then:
+      thrown(UnsupportedOperationException)
+  }
+
+  def "remove throws UOE"() {
+    when:
+      factory.of("a", 1).remove("a")
+    then:
+      thrown(UnsupportedOperationException)
+  }
+  //endregion
+
+  //region CONSISTENCY CONTRACT
+  def "empty map has only one instance"() {
+    when:
+      def actual = factory.of()
+    then:
+      actual.is(factory.copyOf([:]))
+      actual.is(collect([:]))
+  }
+  //endregion
+
+  //region IDENTITY CONTRACT
+  def "copyOf returns unmodifiable map of this factory as is"(Map<String, Integer> map) {
+    given:
+      def actual = factory.copyOf(map)
+    expect:
+      factory.copyOf(actual).is(actual)
+    where:
+      map << maps()
+  }
+  //endregion
+
+  //region DUPLICATION CONTRACT
+  def "of(n=2) throws on duplicates"() {
+    when:
+      factory.of("a", 1, "a", 2)
+    then:
+      Exception e = thrown()
+      isDuplicateException(e)
+  }
+
+  def "collector throws on duplicates"() {
+    when:
+      ["a", "b", "a"].stream().collect(factory.collector({ it }, { it.length() }))
+    then:
+      Exception e = thrown()
+      isDuplicateException(e)
+  }
+
+  private static boolean isDuplicateException(Exception e) {
+    (e instanceof IllegalArgumentException || e instanceof IllegalStateException) && e.message.contains("key")
+  }
+  //endregion
+
+  private Map<String, Integer> collect(Map<String, Integer> map) {
+    map.entrySet().stream().collect(factory.collector({ it.key }, { it.value }))
+  }
+}
@@ -21,6 +21,7 @@ import static pl.tlinkowski.unij.test.service.collect.UnmodifiableCollectionSpec
 import spock.lang.Shared
 import spock.lang.Specification
 
+import java.util.concurrent.TimeUnit
 import java.util.stream.Collectors
 
 import pl.tlinkowski.unij.service.api.collect.UnmodifiableSetFactory
@@ -360,6 +361,17 @@ abstract class UnmodifiableSetFactorySpec extends Specification {
   }
   //endregion
 
+  //region IDENTITY CONTRACT
+  def "copyOf returns unmodifiable set of this factory as is"(int size) {
+    given:
+      def sets = [ofSized(size), copyOfSized(size), collectSized(size)]
+    expect:
+      sets.every { factory.copyOf(it).is(it) }
+    where:
+      size << [0, 1, 2, 3, 10, 11]
+  }
+  //endregion
+
   //region DUPLICATION CONTRACT
   def "of(n=2) throws on duplicates"() {
     when:
@@ -445,4 +457,173 @@ abstract class UnmodifiableSetFactorySpec extends Specification {
     e instanceof IllegalArgumentException && e.message.contains("element")
   }
   //endregion
+
+  //region ENUM CONTRACT
+
+  /**
+   * Whether the {@code factory} returns sets specialized for enums (which iterate in the natural order of the enum).
+   */
+  protected boolean isEnumSpecialized() {
+    true
+  }
+
+  def "ofEnums"() {
+    expect:
+      factory.ofEnums(TimeUnit.SECONDS, TimeUnit.DAYS, TimeUnit.SECONDS) == EnumSet.of(TimeUnit.SECONDS, TimeUnit.DAYS)
+  }
+
+  def "ofEnums throws NPE"() {
+    when:
+      factory.ofEnums(TimeUnit.SECONDS, TimeUnit.DAYS, null)
+    then:
+      thrown(NullPointerException)
+  }
+
+  def "copyOf(EnumSet)"(EnumSet<?> set) {
+    given:
+      def actual = factory.copyOf(set)
+    expect:
+      actual == set
+      !enumSpecialized || actual.toList() == set.toList() // same order
+      actual.hashCode() == set.hashCode()
+      !actual.contains("SECONDS")
+    where:
+      set << enumSets()
+  }
+
+  def "copyOf(EnumSet) returns unmodifiable set of this factory as is"(EnumSet<?> set) {
+    given:
+      def actual = factory.copyOf(set)
+    expect:
+      factory.copyOf(actual).is(actual)
+    where:
+      set << enumSets()
+  }
+
+  private static List<EnumSet<?>> enumSets() {
+    [
+            EnumSet.noneOf(TimeUnit),
+            EnumSet.of(TimeUnit.SECONDS),
+            EnumSet.of(TimeUnit.NANOSECONDS, TimeUnit.DAYS),
+            EnumSet.allOf(TimeUnit),
+            // more than 64 constants
+            EnumSet.of(Character.UnicodeScript.COMMON, Character.UnicodeScript.LATIN, Character.UnicodeScript.UNKNOWN),
+            EnumSet.allOf(Character.UnicodeScript)
+    ]
+  }
+  //endregion
+
+  //region BUILDER CONTRACT
+  def "builder"(List<Integer> list, int expectedSize) {
+    given:
+      def builder = factory.<Integer> builder(expectedSize)
+      list.each { builder.add(it) }
+    expect:
+      builder.build() == Set.copyOf(list)
+    where:
+      [list, expectedSize] << [lists(), [0, 2, 100]].combinations()
+  }
+
+  def "builder addAll"(List<Integer> list) {
+    expect:
+      factory.<Integer> builder(list.size()).addAll(list).build() == Set.copyOf(list)
+    where:
+      list << lists()
+  }
+
+  def "builder throws NPE"() {
+    when:
+      factory.builder(1).add(null)
+    then:
+      thrown(NullPointerException)
+  }
+
+  def "builder throws IAE on negative expected size"() {
+    when:
+      factory.builder(-1)
+    then:
+      thrown(IllegalArgumentException)
+  }
+
+  def "builder builds empty set of only one instance"() {
+    expect:
+      factory.builder(0).build().is(factory.of())
+      factory.builder(10).build().is(factory.of())
+  }
+
+  def "builder throws ISE when used after build"() {
+    given:
+      def builder = factory.builder(1).add(1)
+      builder.build()
+    when:
+      builder.add(2)
+    then:
+      thrown(IllegalStateException)
+  }
+
+  def "builder ignores duplicates"() {
+    expect:
+      factory.builder(3).add(1).add(2).add(1).build() == Set.of(1, 2)
+  }
+  //endregion
+
+  //region PERSISTENT CONTRACT
+  def "with"(List<Integer> list) {
+    given:
+      def original = factory.copyOf(list)
+    expect:
+      factory.with(original, 99) == Set.copyOf(list + 99)
+      original == Set.copyOf(list)
+    where:
+      list << lists()
+  }
+
+  def "with present element"(List<Integer> list) {
+    given:
+      def original = factory.copyOf(list)
+    expect:
+      factory.with(original, list[0]) == original
+    where:
+      list << lists().findAll { !it.empty }
+  }
+
+  def "with on many versions"() {
+    given:
+      def versions = [factory.<Integer> of()]
+      (0..<2_000).each { versions << factory.with(versions.last(), it) }
+    expect:
+      (0..2_000).every { n -> versions[n] == (0..<n).toSet() }
+  }
+
+  def "with accepts foreign set"() {
+    expect:
+      factory.with([1, 2] as Set, 3) == Set.of(1, 2, 3)
+  }
+
+  def "with throws NPE"() {
+    when:
+      factory.with(factory.of(1), null)
+    then:
+      thrown(NullPointerException)
+  }
+  //endregion
+
+  //region SERIALIZATION CONTRACT
+  def "serialization round trip"(List<Integer> list) {
+    given:
+      def original = factory.copyOf(list)
+    when:
+      def deserialized = roundTrip(original)
+    then:
+      deserialized == original
+      deserialized.class == original.class
+    where:
+      list << lists()
+  }
+
+  def "serialization round trip keeps empty set of only one instance"() {
+    expect:
+      roundTrip(factory.of()).is(factory.of())
+  }
+  //endregion
 }
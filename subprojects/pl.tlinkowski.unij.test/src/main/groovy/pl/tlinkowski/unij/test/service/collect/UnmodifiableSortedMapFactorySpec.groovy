@@ -0,0 +1,256 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+package pl.tlinkowski.unij.test.service.collect
+
+import spock.lang.Shared
+import spock.lang.Specification
+
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableSortedMapFactory
+
+/**
+ * Specification for {@link UnmodifiableSortedMapFactory}.
+ *
+ * Inheriting classes should initialize {@code factory} in the {@code setupSpec} method.
+ *
+ * @author Tomasz Linkowski
+ */
+abstract class UnmodifiableSortedMapFactorySpec extends Specification {
+
+  private static final Comparator<String> NATURAL = Comparator.naturalOrder()
+  private static final Comparator<String> REVERSE = Comparator.reverseOrder()
+
+  @Shared
+  protected UnmodifiableSortedMapFactory factory
+
+  def "proper service is registered on classpath"() {
+    when:
+      def registered = ServiceLoader.load(UnmodifiableSortedMapFactory).first()
+    then:
+      registered.class == factory.class
+  }
+
+  //region STANDARD CONTRACT
+  def "collector"(Map<String, Integer> map, Comparator<String> comparator) {
+    expect:
+      entries(collect(map, comparator)) == sortedEntries(map, comparator)
+    where:
+      [map, comparator] << [shuffledMaps(), [NATURAL, REVERSE]].combinations()
+  }
+
+  def "collector on parallel stream"() {
+    given:
+      Map<String, Integer> map = (0..<10_000).collectEntries { [(it.toString()): it] }
+    expect:
+      map.entrySet().parallelStream().collect(factory.collector(NATURAL, { it.key }, { it.value })) == map
+  }
+
+  def "copyOf(sortedMap)"(Map<String, Integer> map, Comparator<String> comparator) {
+    given:
+      def treeMap = new TreeMap<String, Integer>(comparator)
+      treeMap.putAll(map)
+    expect:
+      entries(factory.copyOf(treeMap)) == sortedEntries(map, comparator)
+      factory.copyOf(treeMap) == treeMap
+    where:
+      [map, comparator] << [shuffledMaps(), [NATURAL, REVERSE]].combinations()
+  }
+
+  def "copyOf(comparator,map)"(Map<String, Integer> map, Comparator<String> comparator) {
+    expect:
+      entries(factory.copyOf(comparator, map)) == sortedEntries(map, comparator)
+    where:
+      [map, comparator] << [shuffledMaps(), [NATURAL, REVERSE]].combinations()
+  }
+
+  def "ofEntries(comparator,...)"(Map<String, Integer> map, Comparator<String> comparator) {
+    given:
+      Map.Entry<String, Integer>[] entryArray = map.entrySet().collect { Map.entry(it.key, it.value) }
+    expect:
+      entries(factory.ofEntries(comparator, entryArray)) == sortedEntries(map, comparator)
+    where:
+      [map, comparator] << [shuffledMaps(), [NATURAL, REVERSE]].combinations()
+  }
+
+  def "of(comparator)"() {
+    expect:
+      factory.of(NATURAL) == [:]
+  }
+
+  def "of(comparator,...)"() {
+    expect:
+      entries(factory.of(REVERSE, "a", 1)) == [["a", 1]]
+      entries(factory.of(REVERSE, "a", 1, "b", 2)) == [["b", 2], ["a", 1]]
+      entries(factory.of(REVERSE, "a", 1, "c", 3, "b", 2)) == [["c", 3], ["b", 2], ["a", 1]]
+  }
+
+  def "get and containsKey"(Map<String, Integer> map) {
+    given:
+      def actual = factory.copyOf(NATURAL, map)
+    expect:
+      map.every { key, value -> actual.get(key) == value && actual.containsKey(key) }
+      actual.get("z") == null
+      !actual.containsKey("z")
+    where:
+      map << shuffledMaps()
+  }
+
+  def "firstKey and lastKey"() {
+    given:
+      def actual = factory.of(NATURAL, "c", 3, "a", 1, "b", 2)
+    expect:
+      actual.firstKey() == "a"
+      actual.lastKey() == "c"
+  }
+
+  def "subMap, headMap and tailMap"(Map<String, Integer> map) {
+    given:
+      def expected = new TreeMap<String, Integer>(map)
+      def actual = factory.copyOf(NATURAL, map)
+    expect:
+      entries(actual.subMap("b", "f")) == entries(expected.subMap("b", "f"))
+      entries(actual.headMap("d")) == entries(expected.headMap("d"))
+      entries(actual.tailMap("d")) == entries(expected.tailMap("d"))
+      entries(actual.subMap("b", "f").headMap("d")) == entries(expected.subMap("b", "d"))
+    where:
+      map << shuffledMaps()
+  }
+
+  def "keySet and values"(Map<String, Integer> map) {
+    given:
+      def expected = new TreeMap<String, Integer>(map)
+      def actual = factory.copyOf(NATURAL, map)
+    expect:
+      new ArrayList<>(actual.keySet()) == new ArrayList<>(expected.keySet())
+      new ArrayList<>(actual.values()) == new ArrayList<>(expected.values())
+    where:
+      map << shuffledMaps()
+  }
+
+  def "hashCode"(Map<String, Integer> map) {
+    expect:
+      factory.copyOf(NATURAL, map).hashCode() == map.hashCode()
+    where:
+      map << shuffledMaps()
+  }
+  //endregion
+
+  //region NULLABILITY CONTRACT
+  def "copyOf(comparator,map) throws NPE"(Map<String, Integer> map) {
+    when:
+      factory.copyOf(NATURAL, map)
+    then:
+      thrown(NullPointerException)
+    where:
+      map << [[a: null], [a: 1, b: null], [(null): 1]]
+  }
+
+  def "collector throws NPE"(Map<String, Integer> map) {
+    when:
+      collect(map, NATURAL)
+    then:
+      thrown(NullPointerException)
+    where:
+      map << [[a: null], [a: 1, b: null], [(null): 1]]
+  }
+
+  def "of(comparator,...) throws NPE"(String key, Integer value) {
+    when:
+      factory.of(NATURAL, key, value)
+    then:
+      thrown(NullPointerException)
+    where:
+      key  | value
+      null | 1
+      "a"  | null
+  }
+  //endregion
+
+  //region IMMUTABILITY CONTRACT
+  def "put throws UOE"() {
+    when:
+      factory.of(NATURAL, "a", 1).put("b", 2)
+    then:
+      thrown(UnsupportedOperationException)
+  }
+
+  def "remove throws UOE"() {
+    when:
+      factory.of(NATURAL, "a", 1).remove("a")
+    then:
+      thrown(UnsupportedOperationException)
+  }
+  //endregion
+
+  //region IDENTITY CONTRACT
+  def "copyOf returns unmodifiable sorted map of this factory as is"(Map<String, Integer> map) {
+    given:
+      def actual = factory.copyOf(NATURAL, map)
+    expect:
+      factory.copyOf(actual).is(actual)
+    where:
+      map << shuffledMaps()
+  }
+  //endregion
+
+  //region DUPLICATION CONTRACT
+  def "of(comparator,...) throws on duplicates"() {
+    when:
+      factory.of(NATURAL, "a", 1, "a", 2)
+    then:
+      Exception e = thrown()
+      isDuplicateException(e)
+  }
+
+  def "copyOf(comparator,map) throws on keys that the comparator considers equal"() {
+    when:
+      factory.copyOf(String.CASE_INSENSITIVE_ORDER, [a: 1, A: 2])
+    then:
+      Exception e = thrown()
+      isDuplicateException(e)
+  }
+
+  def "collector throws on duplicates"() {
+    when:
+      ["a", "b", "a"].stream().collect(factory.collector(NATURAL, { it }, { it.length() }))
+    then:
+      Exception e = thrown()
+      isDuplicateException(e)
+  }
+
+  private static boolean isDuplicateException(Exception e) {
+    (e instanceof IllegalArgumentException || e instanceof IllegalStateException) && e.message.contains("key")
+  }
+  //endregion
+
+  private SortedMap<String, Integer> collect(Map<String, Integer> map, Comparator<String> comparator) {
+    map.entrySet().stream().collect(factory.collector(comparator, { it.key }, { it.value }))
+  }
+
+  private static List<List<Object>> entries(Map<String, Integer> map) {
+    map.collect { key, value -> [key, value] }
+  }
+
+  private static List<List<Object>> sortedEntries(Map<String, Integer> map, Comparator<String> comparator) {
+    def treeMap = new TreeMap<String, Integer>(comparator)
+    treeMap.putAll(map)
+    entries(treeMap)
+  }
+
+  private static List<Map<String, Integer>> shuffledMaps() {
+    [[:], [a: 1], [b: 2, a: 1], [c: 3, a: 1, b: 2], [e: 5, b: 2, g: 7, a: 1, d: 4, c: 3, f: 6]]
+  }
+}
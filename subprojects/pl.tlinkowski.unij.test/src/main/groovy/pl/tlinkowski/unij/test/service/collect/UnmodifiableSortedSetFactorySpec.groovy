@@ -0,0 +1,214 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2021 Tomasz Linkowski.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+package pl.tlinkowski.unij.test.service.collect
+
+import spock.lang.Shared
+import spock.lang.Specification
+
+import pl.tlinkowski.unij.service.api.collect.UnmodifiableSortedSetFactory
+
+/**
+ * Specification for {@link UnmodifiableSortedSetFactory}.
+ *
+ * Inheriting classes should initialize {@code factory} in the {@code setupSpec} method.
+ *
+ * @author Tomasz Linkowski
+ */
+abstract class UnmodifiableSortedSetFactorySpec extends Specification {
+
+  private static final Comparator<Integer> NATURAL = Comparator.naturalOrder()
+  private static final Comparator<Integer> REVERSE = Comparator.reverseOrder()
+
+  @Shared
+  protected UnmodifiableSortedSetFactory factory
+
+  def "proper service is registered on classpath"() {
+    when:
+      def registered = ServiceLoader.load(UnmodifiableSortedSetFactory).first()
+    then:
+      registered.class == factory.class
+  }
+
+  //region STANDARD CONTRACT
+  def "collector"(List<Integer> list, Comparator<Integer> comparator) {
+    expect:
+      ordered(list.stream().collect(factory.collector(comparator))) == sorted(list, comparator)
+    where:
+      [list, comparator] << [shuffledLists(), [NATURAL, REVERSE]].combinations()
+  }
+
+  def "collector on parallel stream"() {
+    given:
+      def list = (0..<10_000).collect { it % 5_000 }
+    expect:
+      ordered(list.parallelStream().collect(factory.collector(NATURAL))) == (0..<5_000).toList()
+  }
+
+  def "copyOf(sortedSet)"(List<Integer> list, Comparator<Integer> comparator) {
+    given:
+      def treeSet = new TreeSet<Integer>(comparator)
+      treeSet.addAll(list)
+    expect:
+      ordered(factory.copyOf(treeSet)) == sorted(list, comparator)
+      factory.copyOf(treeSet) == treeSet
+    where:
+      [list, comparator] << [shuffledLists(), [NATURAL, REVERSE]].combinations()
+  }
+
+  def "copyOf(comparator,collection)"(List<Integer> list, Comparator<Integer> comparator) {
+    expect:
+      ordered(factory.copyOf(comparator, list + list)) == sorted(list, comparator)
+    where:
+      [list, comparator] << [shuffledLists(), [NATURAL, REVERSE]].combinations()
+  }
+
+  def "of(comparator,...)"(List<Integer> list, Comparator<Integer> comparator) {
+    expect:
+      ordered(factory.of(comparator, list as Integer[])) == sorted(list, comparator)
+    where:
+      [list, comparator] << [shuffledLists(), [NATURAL, REVERSE]].combinations()
+  }
+
+  def "contains"(List<Integer> list) {
+    given:
+      def actual = factory.copyOf(NATURAL, list)
+    expect:
+      list.every { actual.contains(it) }
+      !actual.contains(-1)
+    where:
+      list << shuffledLists()
+  }
+
+  def "first and last"() {
+    given:
+      def actual = factory.of(NATURAL, 3, 1, 2)
+    expect:
+      actual.first() == 1
+      actual.last() == 3
+  }
+
+  def "subSet, headSet and tailSet"(List<Integer> list) {
+    given:
+      def expected = new TreeSet<Integer>(list)
+      def actual = factory.copyOf(NATURAL, list)
+    expect:
+      ordered(actual.subSet(2, 7)) == ordered(expected.subSet(2, 7))
+      ordered(actual.headSet(5)) == ordered(expected.headSet(5))
+      ordered(actual.tailSet(5)) == ordered(expected.tailSet(5))
+      ordered(actual.subSet(2, 7).headSet(5)) == ordered(expected.subSet(2, 5))
+    where:
+      list << shuffledLists()
+  }
+
+  def "hashCode"(List<Integer> list) {
+    expect:
+      factory.copyOf(NATURAL, list).hashCode() == new HashSet<>(list).hashCode()
+    where:
+      list << shuffledLists()
+  }
+  //endregion
+
+  //region NULLABILITY CONTRACT
+  def "collector throws NPE"() {
+    when:
+      [1, null].stream().collect(factory.collector(NATURAL))
+    then:
+      thrown(NullPointerException)
+  }
+
+  def "copyOf(comparator,collection) throws NPE"() {
+    when:
+      factory.copyOf(NATURAL, [1, null])
+    then:
+      thrown(NullPointerException)
+  }
+
+  def "of(comparator,...) throws NPE"() {
+    when:
+      factory.of(NATURAL, 1, null)
+    then:
+      thrown(NullPointerException)
+  }
+  //endregion
+
+  //region IMMUTABILITY CONTRACT
+  def "add throws UOE"() {
+    when:
+      factory.of(NATURAL, 1, 2, 3).add(4)
+    then:
+      thrown(UnsupportedOperationException)
+  }
+
+  def "remove throws UOE"() {
+    when:
+      factory.of(NATURAL, 1, 2, 3).remove(1)
+    then:
+      thrown(UnsupportedOperationException)
+  }
+
+  def "of(comparator,...) copies the array"() {
+    given:
+      Integer[] array = [1, 2, 3]
+      def set = factory.of(NATURAL, array)
+    when:
+      array[0] = 4
+    then:
+      ordered(set) == [1, 2, 3]
+  }
+  //endregion
+
+  //region IDENTITY CONTRACT
+  def "copyOf returns unmodifiable sorted set of this factory as is"(List<Integer> list) {
+    given:
+      def actual = factory.copyOf(NATURAL, list)
+    expect:
+      factory.copyOf(actual).is(actual)
+    where:
+      list << shuffledLists()
+  }
+  //endregion
+
+  //region DUPLICATION CONTRACT
+  def "of(comparator,...) throws on duplicates"() {
+    when:
+      factory.of(NATURAL, 1, 2, 1)
+    then:
+      Exception e = thrown()
+      e instanceof IllegalArgumentException
+  }
+
+  def "of(comparator,...) throws on elements that the comparator considers equal"() {
+    when:
+      factory.of(Comparator.comparingInt { Integer it -> it % 2 }, 1, 3)
+    then:
+      Exception e = thrown()
+      e instanceof IllegalArgumentException
+  }
+  //endregion
+
+  private static List<Integer> ordered(SortedSet<Integer> set) {
+    new ArrayList<>(set)
+  }
+
+  private static List<Integer> sorted(List<Integer> list, Comparator<Integer> comparator) {
+    list.toUnique().sort(false, comparator)
+  }
+
+  private static List<List<Integer>> shuffledLists() {
+    [[], [1], [2, 1], [3, 1, 2], [9, 4, 1, 7, 3, 0, 8, 2, 6, 5]]
+  }
+}